@@ -31,6 +31,7 @@ import cz.cvut.kbss.jopa.sessions.CriteriaBuilder;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -71,6 +72,43 @@ public interface EntityManager {
      */
     void persist(final Object entity, final Descriptor descriptor);
 
+    /**
+     * Makes all the specified instances managed and persistent.
+     * <p>
+     * The entities are persisted into the default context.
+     *
+     * @param entities entity instances
+     * @throws OWLEntityExistsException     if any of the entities already exists
+     * @throws IllegalArgumentException     if any of the instances is not an entity
+     * @throws NullPointerException         If {@code entities} or any of its elements is {@code null}
+     * @throws TransactionRequiredException if invoked on a container-managed entity manager of type
+     *                                      PersistenceContextType.TRANSACTION and there is no transaction.
+     * @see #persistAll(Collection, Descriptor)
+     */
+    @NonJPA
+    void persistAll(final Collection<?> entities);
+
+    /**
+     * Makes all the specified instances managed and persistent.
+     * <p>
+     * This method is equivalent to calling {@link #persist(Object, Descriptor)} for each of the entities, but the
+     * entity axioms are written into the storage in batches instead of one entity at a time, which is considerably
+     * faster when persisting large numbers of entities.
+     * <p>
+     * The descriptor is used for all the entities.
+     *
+     * @param entities   entity instances
+     * @param descriptor Entity descriptor
+     * @throws OWLEntityExistsException     if any of the entities already exists
+     * @throws IllegalArgumentException     if any of the instances is not an entity
+     * @throws NullPointerException         If {@code entities}, any of its elements or {@code descriptor} is {@code
+     *                                      null}
+     * @throws TransactionRequiredException if invoked on a container-managed entity manager of type
+     *                                      PersistenceContextType.TRANSACTION and there is no transaction.
+     */
+    @NonJPA
+    void persistAll(final Collection<?> entities, final Descriptor descriptor);
+
     /**
      * Merge the state of the given entity into the current persistence context.
      * <p>
@@ -143,6 +181,26 @@ public interface EntityManager {
     <T> T find(final Class<T> entityClass, final Object identifier,
                final Descriptor descriptor);
 
+    /**
+     * Find by identifier, loading the attributes specified by the fetch graph.
+     * <p>
+     * Behaves as {@link #find(Class, Object, Descriptor)}, but attributes contained in the specified fetch graph (and
+     * attributes of referenced entities contained in its subgraphs) are loaded eagerly, regardless of their fetch type.
+     * If the entity instance is already contained in the persistence context, it is returned from there as is.
+     *
+     * @param entityClass Entity class
+     * @param identifier  Entity identifier
+     * @param descriptor  Entity descriptor
+     * @param fetchGraph  Graph specifying attributes to load
+     * @return the found entity instance or {@code null} if the entity does not exist in the given ontology context
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or the second argument is
+     *                                  not a valid type for that entity’s identifier
+     * @throws NullPointerException     If any of the arguments is {@code null}
+     * @see FetchGraph
+     */
+    <T> T find(final Class<T> entityClass, final Object identifier, final Descriptor descriptor,
+               final FetchGraph fetchGraph);
+
     // TODO JPA 2.0 find with properties
 
     // TODO JPA 2.0 find with lock mode
@@ -0,0 +1,137 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Specifies which attributes of an entity (and of entities it references) should be loaded together with the entity.
+ * <p>
+ * A fetch graph allows overriding the static {@link cz.cvut.kbss.jopa.model.annotations.FetchType} of attributes for a
+ * single {@link EntityManager#find(Class, Object, cz.cvut.kbss.jopa.model.descriptors.Descriptor, FetchGraph)} call or
+ * a single typed query. Attributes contained in the graph are loaded eagerly, attributes not contained in the graph are
+ * loaded according to their fetch type (i.e., the graph acts as a load graph).
+ * <p>
+ * A subgraph can be specified for an attribute referencing other entities. Entities referenced by such an attribute
+ * are then loaded according to the subgraph. Referenced entities on the same level of the graph are loaded from the
+ * storage together, so that a graph is loaded using roughly one storage call per level, instead of one call per
+ * referenced entity.
+ * <p>
+ * Attributes are identified by their names, i.e., names of the corresponding entity class fields. Names not
+ * corresponding to any attribute of the entity are ignored.
+ * <p>
+ * For example, loading reports together with their authors and the authors' organizations:
+ * <pre>{@code
+ * final FetchGraph graph = new FetchGraph();
+ * graph.addSubgraph("authors").addAttributeNodes("organization");
+ * final Report report = em.find(Report.class, id, new EntityDescriptor(), graph);
+ * }</pre>
+ */
+public class FetchGraph {
+
+    private final Map<String, FetchGraph> attributes = new LinkedHashMap<>();
+
+    /**
+     * Adds the specified attributes to this graph.
+     * <p>
+     * Entities referenced by the attributes are loaded according to the static fetch types of their attributes.
+     *
+     * @param attributeNames Names of attributes to add
+     * @return This graph
+     */
+    public FetchGraph addAttributeNodes(String... attributeNames) {
+        for (String name : attributeNames) {
+            attributes.putIfAbsent(Objects.requireNonNull(name), null);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the specified attribute to this graph and returns a subgraph determining how entities referenced by the
+     * attribute are loaded.
+     * <p>
+     * If a subgraph for the attribute already exists, it is returned.
+     *
+     * @param attributeName Name of the attribute referencing other entities
+     * @return Subgraph for the specified attribute
+     */
+    public FetchGraph addSubgraph(String attributeName) {
+        Objects.requireNonNull(attributeName);
+        FetchGraph subgraph = attributes.get(attributeName);
+        if (subgraph == null) {
+            subgraph = new FetchGraph();
+            attributes.put(attributeName, subgraph);
+        }
+        return subgraph;
+    }
+
+    /**
+     * Gets names of attributes contained in this graph.
+     *
+     * @return Unmodifiable set of attribute names
+     */
+    public Set<String> getAttributeNames() {
+        return Collections.unmodifiableSet(attributes.keySet());
+    }
+
+    /**
+     * Checks whether this graph contains an attribute with the specified name.
+     *
+     * @param attributeName Attribute name
+     * @return {@code true} if the attribute is in this graph, {@code false} otherwise
+     */
+    public boolean contains(String attributeName) {
+        return attributes.containsKey(attributeName);
+    }
+
+    /**
+     * Gets subgraph of the attribute with the specified name, if present.
+     *
+     * @param attributeName Attribute name
+     * @return Subgraph of the attribute, empty if the attribute is not in this graph or has no subgraph
+     */
+    public Optional<FetchGraph> getSubgraph(String attributeName) {
+        return Optional.ofNullable(attributes.get(attributeName));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FetchGraph)) {
+            return false;
+        }
+        return attributes.equals(((FetchGraph) o).attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return attributes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FetchGraph" + attributes;
+    }
+}
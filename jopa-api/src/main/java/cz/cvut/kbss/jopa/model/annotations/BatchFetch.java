@@ -0,0 +1,47 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that lazily loaded values of the annotated attribute should be fetched in batches.
+ * <p>
+ * When the attribute value of an entity is first accessed, the value is loaded also for up to {@link #size()} - 1
+ * other instances of the same entity type managed by the persistence context whose value of the attribute has not
+ * been loaded yet. All the values are retrieved from the storage in a single call.
+ * <p>
+ * This reduces the number of storage calls when iterating over many entities and accessing their lazily loaded
+ * attributes. It has no effect on eagerly loaded attributes.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BatchFetch {
+
+    /**
+     * Maximum number of instances whose attribute value is loaded at once.
+     *
+     * @return Batch size, must be positive
+     */
+    int size();
+}
@@ -68,6 +68,30 @@ public interface CacheManager extends Cache {
      */
     void setInferredClasses(Set<Class<?>> inferredClasses);
 
+    /**
+     * Records that instances which were not found in the cache have been loaded from the storage.
+     * <p>
+     * The load time is part of the cache statistics.
+     *
+     * @param count    Number of loaded instances
+     * @param loadTime Total time spent loading the instances, in nanoseconds
+     * @see #getStatistics()
+     */
+    default void recordLoad(int count, long loadTime) {
+        // Do nothing by default
+    }
+
+    /**
+     * Gets a snapshot of the statistics of this cache.
+     * <p>
+     * Caches which do not collect statistics return empty statistics.
+     *
+     * @return Cache statistics
+     */
+    default CacheStatistics getStatistics() {
+        return CacheStatistics.empty();
+    }
+
     /**
      * Closes the cache.
      */
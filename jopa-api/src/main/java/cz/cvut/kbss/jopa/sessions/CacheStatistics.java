@@ -0,0 +1,129 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+/**
+ * Immutable snapshot of second level cache statistics.
+ * <p>
+ * Hits and misses are counted by instance lookups. Evictions count only instances removed by the cache policy itself
+ * (e.g., because of capacity limit or expiration), not instances explicitly evicted by the application or removed
+ * because of changes in the repository. Loads are reported by the persistence context when instances missing in the
+ * cache are loaded from the storage.
+ */
+public final class CacheStatistics {
+
+    private static final CacheStatistics EMPTY = new CacheStatistics(0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final long totalLoadTime;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadTime) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.totalLoadTime = totalLoadTime;
+    }
+
+    /**
+     * Gets statistics with all values set to zero.
+     *
+     * @return Empty statistics
+     */
+    public static CacheStatistics empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Number of lookups which found the requested instance in the cache.
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of lookups which did not find the requested instance in the cache.
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Ratio of cache hits to all lookups.
+     *
+     * @return Hit rate, {@code 1.0} if there have been no lookups
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Number of instances removed by the cache policy.
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Number of instances loaded from the storage after they were not found in the cache.
+     *
+     * @return Load count
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Total time spent loading instances from the storage, in nanoseconds.
+     *
+     * @return Total load time
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Average time spent loading an instance from the storage, in nanoseconds.
+     *
+     * @return Average load time, {@code 0.0} if no instances have been loaded
+     */
+    public double getAverageLoadTime() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", loadCount=" + loadCount +
+                ", totalLoadTime=" + totalLoadTime +
+                '}';
+    }
+}
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
@@ -137,6 +138,62 @@ public interface UnitOfWork extends Session {
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves object with the specified identifier, loading attributes specified by the fetch graph.
+     * <p>
+     * Behaves as {@link #readObject(Class, Object, Descriptor)}, but attributes in the specified fetch graph are loaded
+     * eagerly. Objects already managed by this Unit of Work are returned as they are.
+     *
+     * @param cls        The type of the returned object
+     * @param identifier Instance identifier
+     * @param descriptor Entity descriptor
+     * @param fetchGraph Graph specifying attributes to load, possibly {@code null}
+     * @param <T>        Entity type
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException    If {@code cls}, {@code identifier} or {@code repository} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     * @see FetchGraph
+     */
+    <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph);
+
+    /**
+     * Retrieves objects with the specified identifiers.
+     * <p>
+     * This method is semantically equivalent to calling {@link #readObject(Class, Object, Descriptor)} for each of the
+     * specified identifiers, but instances which are not yet managed by this Unit of Work are loaded from the storage
+     * together, possibly in a single storage call.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @param <T>         Entity type
+     * @return List of retrieved objects in the order of the specified identifiers. An element is {@code null} if there
+     * is no object with the corresponding identifier in the specified repository
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
+    /**
+     * Retrieves objects with the specified identifiers, loading attributes specified by the fetch graph.
+     * <p>
+     * Behaves as {@link #readObjects(Class, List, Descriptor)}, but attributes in the specified fetch graph are loaded
+     * eagerly. Objects already managed by this Unit of Work are returned as they are.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @param fetchGraph  Graph specifying attributes to load, possibly {@code null}
+     * @param <T>         Entity type
+     * @return List of retrieved objects in the order of the specified identifiers. An element is {@code null} if there
+     * is no object with the corresponding identifier in the specified repository
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     * @see FetchGraph
+     */
+    <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor, FetchGraph fetchGraph);
+
     /**
      * Retrieves a reference to an object with the specified identifier.
      * <p>
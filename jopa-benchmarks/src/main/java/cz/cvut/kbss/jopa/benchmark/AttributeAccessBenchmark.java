@@ -0,0 +1,85 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compares attribute access through {@link FieldAccessor} with plain reflection.
+ * <p>
+ * Each benchmark copies all attribute values of an entity into a new instance (as when cloning an entity into a
+ * persistence context) and then compares the values of the two instances (as when computing changes on commit).
+ */
+@State(Scope.Benchmark)
+public class AttributeAccessBenchmark {
+
+    private Field[] fields;
+    private FieldAccessor[] accessors;
+
+    private Item original;
+
+    @Setup
+    public void setUp() {
+        this.fields = Arrays.stream(Item.class.getDeclaredFields())
+                            .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic() &&
+                                    !f.getName().startsWith("ajc$"))
+                            .toArray(Field[]::new);
+        for (Field f : fields) {
+            f.setAccessible(true);
+        }
+        this.accessors = Arrays.stream(fields).map(FieldAccessor::create).toArray(FieldAccessor[]::new);
+        this.original = DataGenerator.generateItem(1);
+    }
+
+    @Benchmark
+    public boolean cloneAndDiffWithReflection() throws IllegalAccessException {
+        final Item clone = new Item();
+        for (Field f : fields) {
+            f.set(clone, f.get(original));
+        }
+        boolean changed = false;
+        for (Field f : fields) {
+            changed |= !Objects.equals(f.get(original), f.get(clone));
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public boolean cloneAndDiffWithFieldAccessor() {
+        final Item clone = new Item();
+        for (FieldAccessor a : accessors) {
+            a.setValue(clone, a.getValue(original));
+        }
+        boolean changed = false;
+        for (FieldAccessor a : accessors) {
+            changed |= !Objects.equals(a.getValue(original), a.getValue(clone));
+        }
+        return changed;
+    }
+}
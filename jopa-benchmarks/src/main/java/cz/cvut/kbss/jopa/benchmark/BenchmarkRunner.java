@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the benchmarks and stores their results in a machine-readable format.
+ * <p>
+ * Accepts the standard JMH command line options (run with {@code -h} to list them), e.g., a regular expression
+ * selecting the benchmarks to run or {@code -p storage=RDF4J} to restrict the benchmarks to a single storage. Unless
+ * specified otherwise on the command line, results are written in JSON into {@value #DEFAULT_RESULT_FILE} and the
+ * benchmarks report average time per operation in microseconds.
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jopa-benchmark-results.json";
+
+    private static final int DEFAULT_FORKS = 1;
+    private static final int DEFAULT_WARMUP_ITERATIONS = 3;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 5;
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark");
+        }
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (cmdOptions.getBenchModes().isEmpty()) {
+            builder.mode(Mode.AverageTime);
+        }
+        if (!cmdOptions.getTimeUnit().hasValue()) {
+            builder.timeUnit(TimeUnit.MICROSECONDS);
+        }
+        if (!cmdOptions.getForkCount().hasValue()) {
+            builder.forks(DEFAULT_FORKS);
+        }
+        if (!cmdOptions.getWarmupIterations().hasValue()) {
+            builder.warmupIterations(DEFAULT_WARMUP_ITERATIONS);
+        }
+        if (!cmdOptions.getMeasurementIterations().hasValue()) {
+            builder.measurementIterations(DEFAULT_MEASUREMENT_ITERATIONS);
+        }
+        new Runner(builder.build()).run();
+    }
+}
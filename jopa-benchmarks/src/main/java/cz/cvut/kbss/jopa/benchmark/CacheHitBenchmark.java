@@ -0,0 +1,116 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Container;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loading of entities present in the second level cache.
+ * <p>
+ * Every invocation uses a new persistence context, so the measured path is the cache lookup and cloning of the cached
+ * instance into the persistence context.
+ */
+@State(Scope.Benchmark)
+public class CacheHitBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+    private static final int CONTAINER_COUNT = 100;
+    private static final int ITEMS_PER_CONTAINER = 20;
+
+    @Param({"RDF4J", "JENA"})
+    public Storage storage;
+
+    @Param({"ttl", "lru", "concurrent", "weighted"})
+    public String cacheType;
+
+    private EntityManagerFactory emf;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(storage, true,
+                Map.of(JOPAPersistenceProperties.CACHE_TYPE, cacheType));
+        final List<Item> items = DataGenerator.generateItems(0, ITEM_COUNT);
+        final List<Object> toPersist = new ArrayList<>(items);
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            final int start = (i * ITEMS_PER_CONTAINER) % ITEM_COUNT;
+            toPersist.add(DataGenerator.generateContainer(i, items.subList(start, start + ITEMS_PER_CONTAINER)));
+        }
+        PersistenceFactory.persistInTransaction(emf, toPersist);
+        warmUpCache();
+    }
+
+    private void warmUpCache() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                em.find(Item.class, DataGenerator.itemUri(i));
+            }
+            for (int i = 0; i < CONTAINER_COUNT; i++) {
+                em.find(Container.class, DataGenerator.containerUri(i));
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public Item findCachedItem() {
+        index = (index + 1) % ITEM_COUNT;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(Item.class, DataGenerator.itemUri(index));
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public Container findCachedContainer() {
+        index = (index + 1) % CONTAINER_COUNT;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(Container.class, DataGenerator.containerUri(index));
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Container;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loading of entities by identifier, with the second level cache disabled.
+ * <p>
+ * Every invocation uses a new persistence context, so the entity is always loaded from the storage.
+ */
+@State(Scope.Benchmark)
+public class FindBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+    private static final int CONTAINER_COUNT = 100;
+    private static final int ITEMS_PER_CONTAINER = 20;
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Storage storage;
+
+    private EntityManagerFactory emf;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(storage, false, Collections.emptyMap());
+        final List<Item> items = DataGenerator.generateItems(0, ITEM_COUNT);
+        final List<Object> toPersist = new ArrayList<>(items);
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            final int start = (i * ITEMS_PER_CONTAINER) % ITEM_COUNT;
+            toPersist.add(DataGenerator.generateContainer(i, items.subList(start, start + ITEMS_PER_CONTAINER)));
+        }
+        PersistenceFactory.persistInTransaction(emf, toPersist);
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public Item findById() {
+        index = (index + 1) % ITEM_COUNT;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(Item.class, DataGenerator.itemUri(index));
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public Container findWithEagerCollection() {
+        index = (index + 1) % CONTAINER_COUNT;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final Container result = em.find(Container.class, DataGenerator.containerUri(index));
+            assert result.getItems().size() == ITEMS_PER_CONTAINER;
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+}
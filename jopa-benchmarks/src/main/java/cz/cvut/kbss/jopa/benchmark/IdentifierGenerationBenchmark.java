@@ -0,0 +1,93 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Vocabulary;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.DataSource;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Driver-level generation of identifiers of new individuals by the supported identifier generation strategies.
+ * <p>
+ * The storage contains a number of individuals of the class for which identifiers are generated, so that the
+ * uniqueness checks performed by the drivers have some data to work with.
+ */
+@State(Scope.Benchmark)
+public class IdentifierGenerationBenchmark {
+
+    private static final int INDIVIDUAL_COUNT = 10_000;
+    private static final URI CLASS_URI = URI.create(Vocabulary.C_ITEM);
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Storage storage;
+
+    @Param({OntoDriverProperties.IDENTIFIER_GENERATION_RANDOM, OntoDriverProperties.IDENTIFIER_GENERATION_TIME_BASED_UUID})
+    public String strategy;
+
+    private DataSource dataSource;
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws OntoDriverException {
+        this.dataSource = PersistenceFactory.createDataSource(storage,
+                Map.of(OntoDriverProperties.IDENTIFIER_GENERATION_STRATEGY, strategy));
+        this.connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        final Assertion classAssertion = Assertion.createClassAssertion(false);
+        final List<AxiomValueDescriptor> descriptors = new ArrayList<>(INDIVIDUAL_COUNT);
+        for (int i = 0; i < INDIVIDUAL_COUNT; i++) {
+            final AxiomValueDescriptor descriptor =
+                    new AxiomValueDescriptor(NamedResource.create(CLASS_URI + "_instance" + i));
+            descriptor.addAssertionValue(classAssertion, new Value<>(NamedResource.create(CLASS_URI)));
+            descriptors.add(descriptor);
+        }
+        connection.persistAll(descriptors);
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.rollback();
+        connection.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public URI generateIdentifier() throws OntoDriverException {
+        return connection.generateIdentifier(CLASS_URI);
+    }
+}
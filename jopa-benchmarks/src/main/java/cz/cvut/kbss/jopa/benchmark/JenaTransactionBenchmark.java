@@ -0,0 +1,95 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Latency of a short read-write transaction over the Jena in-memory storage, depending on the size of the dataset and
+ * the transaction isolation strategy.
+ */
+@State(Scope.Benchmark)
+public class JenaTransactionBenchmark {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    /**
+     * Isolation strategy. {@literal snapshot-read-transaction} is the snapshot strategy based on read transactions of
+     * the dataset.
+     */
+    @Param({JenaOntoDriverProperties.READ_COMMITTED, JenaOntoDriverProperties.SNAPSHOT, "snapshot-read-transaction"})
+    public String isolation;
+
+    @Param({"1000", "10000", "100000"})
+    public int datasetSize;
+
+    private EntityManagerFactory emf;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        final Map<String, String> properties = new HashMap<>();
+        if (JenaOntoDriverProperties.READ_COMMITTED.equals(isolation)) {
+            properties.put(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY, JenaOntoDriverProperties.READ_COMMITTED);
+        } else {
+            properties.put(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY, JenaOntoDriverProperties.SNAPSHOT);
+            properties.put(JenaOntoDriverProperties.JENA_SNAPSHOT_READ_TRANSACTION,
+                    Boolean.toString(!JenaOntoDriverProperties.SNAPSHOT.equals(isolation)));
+        }
+        this.emf = PersistenceFactory.createEntityManagerFactory(Storage.JENA, false, properties);
+        for (int i = 0; i < datasetSize; i += CHUNK_SIZE) {
+            PersistenceFactory.persistInTransaction(emf,
+                    DataGenerator.generateItems(i, Math.min(CHUNK_SIZE, datasetSize - i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public void findUpdateAndCommit() {
+        index = (index + 1) % datasetSize;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final Item item = em.find(Item.class, DataGenerator.itemUri(index));
+            item.setRank(item.getRank() + 1);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Container;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loading and updating of simple and referenced lists of different lengths, with the second level cache disabled.
+ * <p>
+ * The update benchmarks prepend an item to the list. The prepended item is removed after each invocation (outside the
+ * measured time), so that the list length stays the same.
+ */
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Storage storage;
+
+    @Param({"10", "100", "1000"})
+    public int listLength;
+
+    private EntityManagerFactory emf;
+
+    private URI containerUri;
+    private URI firstItemUri;
+    private int nextIndex;
+    private boolean prepended;
+
+    @Setup
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(storage, false, Collections.emptyMap());
+        final List<Item> items = DataGenerator.generateItems(0, listLength);
+        final Container container = DataGenerator.generateContainer(0, items);
+        container.setItems(null);
+        final List<Object> toPersist = new ArrayList<>(items);
+        toPersist.add(container);
+        PersistenceFactory.persistInTransaction(emf, toPersist);
+        this.containerUri = container.getUri();
+        this.firstItemUri = items.get(0).getUri();
+        this.nextIndex = listLength;
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public int loadSimpleList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(Container.class, containerUri).getSimpleList().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public int loadReferencedList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(Container.class, containerUri).getReferencedList().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void prependToSimpleList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final Item item = DataGenerator.generateItem(nextIndex++);
+            em.persist(item);
+            em.find(Container.class, containerUri).getSimpleList().add(0, item);
+            em.getTransaction().commit();
+            this.prepended = true;
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void prependToReferencedList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final Item item = DataGenerator.generateItem(nextIndex++);
+            em.persist(item);
+            em.find(Container.class, containerUri).getReferencedList().add(0, item);
+            em.getTransaction().commit();
+            this.prepended = true;
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void removePrependedItems() {
+        if (!prepended) {
+            return;
+        }
+        this.prepended = false;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final Container container = em.find(Container.class, containerUri);
+            if (!container.getSimpleList().get(0).getUri().equals(firstItemUri)) {
+                container.getSimpleList().remove(0);
+            }
+            if (!container.getReferencedList().get(0).getUri().equals(firstItemUri)) {
+                container.getReferencedList().remove(0);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Vocabulary;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.DataSource;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Driver-level lookup of axioms in a transaction with many pending changes.
+ * <p>
+ * Half of the pending changes are additions of new statements, half are removals of statements committed before the
+ * transaction started. Lookups alternate between subjects of both kinds, so they have to be combined with the
+ * transactional changes tracked by the driver.
+ */
+@State(Scope.Benchmark)
+public class PendingChangesBenchmark {
+
+    private static final Assertion LABEL = Assertion.createDataPropertyAssertion(URI.create(Vocabulary.P_LABEL), false);
+    private static final Assertion RANK = Assertion.createDataPropertyAssertion(URI.create(Vocabulary.P_RANK), false);
+
+    @Param({"RDF4J", "JENA"})
+    public Storage storage;
+
+    @Param({"1000", "100000"})
+    public int pendingChanges;
+
+    private DataSource dataSource;
+    private Connection connection;
+
+    private int index;
+
+    @Setup
+    public void setUp() throws OntoDriverException {
+        this.dataSource = PersistenceFactory.createDataSource(storage, Collections.emptyMap());
+        this.connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        final int half = pendingChanges / 2;
+        connection.persistAll(valueDescriptors(0, half));
+        connection.commit();
+
+        connection.persistAll(valueDescriptors(half, half));
+        for (int i = 0; i < half; i++) {
+            final AxiomDescriptor descriptor = new AxiomDescriptor(subject(i));
+            descriptor.addAssertion(LABEL);
+            connection.remove(descriptor);
+        }
+    }
+
+    private static List<AxiomValueDescriptor> valueDescriptors(int start, int count) {
+        final List<AxiomValueDescriptor> result = new ArrayList<>(count);
+        for (int i = start; i < start + count; i++) {
+            final AxiomValueDescriptor descriptor = new AxiomValueDescriptor(subject(i));
+            descriptor.addAssertionValue(LABEL, new Value<>("Subject " + i));
+            descriptor.addAssertionValue(RANK, new Value<>(i));
+            result.add(descriptor);
+        }
+        return result;
+    }
+
+    private static NamedResource subject(int index) {
+        return NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "subject-" + index);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.rollback();
+        connection.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Collection<Axiom<?>> find() throws OntoDriverException {
+        index = (index + 1) % pendingChanges;
+        final AxiomDescriptor descriptor = new AxiomDescriptor(subject(index));
+        descriptor.addAssertion(LABEL);
+        descriptor.addAssertion(RANK);
+        return connection.find(descriptor);
+    }
+}
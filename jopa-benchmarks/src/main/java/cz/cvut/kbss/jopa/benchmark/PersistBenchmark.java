@@ -0,0 +1,118 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Persisting and merging of batches of entities, each batch in its own transaction.
+ * <p>
+ * A new storage is used for each iteration, so that the amount of data accumulated by the persist benchmarks does not
+ * distort later iterations too much.
+ */
+@State(Scope.Benchmark)
+public class PersistBenchmark {
+
+    @Param({"RDF4J", "JENA", "OWLAPI"})
+    public Storage storage;
+
+    @Param({"10", "100"})
+    public int batchSize;
+
+    private EntityManagerFactory emf;
+
+    private List<Item> detached;
+    private int nextIndex;
+    private int revision;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(storage, false, Collections.emptyMap());
+        this.detached = DataGenerator.generateItems(0, batchSize);
+        PersistenceFactory.persistInTransaction(emf, detached);
+        this.nextIndex = batchSize;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public void persistAndCommit() {
+        final List<Item> items = nextBatch();
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            items.forEach(em::persist);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void persistAllAndCommit() {
+        final List<Item> items = nextBatch();
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persistAll(items);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void mergeAndCommit() {
+        revision++;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (Item item : detached) {
+                item.setDescription("Revision " + revision);
+                em.merge(item);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private List<Item> nextBatch() {
+        final List<Item> items = DataGenerator.generateItems(nextIndex, batchSize);
+        nextIndex += batchSize;
+        return items;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DataGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.benchmark.model.Vocabulary;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Query evaluation and mapping of query results, with the second level cache disabled.
+ */
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+    private static final int RESULT_COUNT = 100;
+    private static final int QUERIES_PER_TRANSACTION = 50;
+
+    private static final String SOQL_QUERY = "SELECT i FROM Item i WHERE i.rank < :rank";
+    private static final String SPARQL_ENTITY_QUERY =
+            "SELECT ?x WHERE { ?x a <" + Vocabulary.C_ITEM + "> ; <" + Vocabulary.P_RANK + "> ?rank . " +
+                    "FILTER (?rank < ?limit) }";
+    private static final String SPARQL_LABEL_QUERY = "SELECT ?label WHERE { ?x <" + Vocabulary.P_LABEL + "> ?label . }";
+
+    @Param({"RDF4J", "JENA"})
+    public Storage storage;
+
+    private EntityManagerFactory emf;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(storage, false, Collections.emptyMap());
+        PersistenceFactory.persistInTransaction(emf, DataGenerator.generateItems(0, ITEM_COUNT));
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public List<Item> soqlEntityQuery() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final List<Item> result = em.createQuery(SOQL_QUERY, Item.class).setParameter("rank", RESULT_COUNT)
+                                        .getResultList();
+            assert result.size() == RESULT_COUNT;
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<Item> sparqlEntityQuery() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final List<Item> result = em.createNativeQuery(SPARQL_ENTITY_QUERY, Item.class)
+                                        .setParameter("limit", RESULT_COUNT).getResultList();
+            assert result.size() == RESULT_COUNT;
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Executes the same parameterized query repeatedly in one transaction, which allows the driver to reuse the
+     * prepared query.
+     */
+    @Benchmark
+    public void repeatedSparqlQueryInTransaction(Blackhole blackhole) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < QUERIES_PER_TRANSACTION; i++) {
+                index = (index + 1) % ITEM_COUNT;
+                final URI itemUri = DataGenerator.itemUri(index);
+                blackhole.consume(em.createNativeQuery(SPARQL_LABEL_QUERY, String.class).setParameter("x", itemUri)
+                                    .getSingleResult());
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceFactory;
+import cz.cvut.kbss.jopa.benchmark.environment.Storage;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+
+/**
+ * Creation of queries, i.e., parsing SOQL, translating it to SPARQL and binding parameters, without executing them.
+ * <p>
+ * The benchmark alternates between two queries. With query cache capacity {@literal 1}, every query creation misses
+ * the cache of parsed query templates.
+ */
+@State(Scope.Benchmark)
+public class QueryTemplateCacheBenchmark {
+
+    private static final String[] QUERIES = {
+            "SELECT i FROM Item i WHERE i.rank < :rank AND i.label = :label",
+            "SELECT i FROM Item i WHERE i.rank > :rank AND i.label = :label ORDER BY i.rank"
+    };
+
+    @Param({"256", "1"})
+    public String queryCacheCapacity;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        this.emf = PersistenceFactory.createEntityManagerFactory(Storage.RDF4J, false,
+                Map.of(JOPAPersistenceProperties.QUERY_CACHE_CAPACITY, queryCacheCapacity));
+        this.em = emf.createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Benchmark
+    public TypedQuery<Item> createSoqlQuery() {
+        index = (index + 1) % QUERIES.length;
+        return em.createQuery(QUERIES[index], Item.class).setParameter("rank", 100).setParameter("label", "Item", "en");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.benchmark.model.Container;
+import cz.cvut.kbss.jopa.benchmark.model.Item;
+import cz.cvut.kbss.jopa.benchmark.model.Vocabulary;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates benchmark data.
+ * <p>
+ * Identifiers are derived from indexes, so benchmarks can address the generated instances without keeping references
+ * to them.
+ */
+public final class DataGenerator {
+
+    public static final String TYPE_PREFIX = Vocabulary.CLASS_IRI_BASE + "Type";
+
+    private DataGenerator() {
+        throw new AssertionError();
+    }
+
+    public static URI itemUri(int index) {
+        return URI.create(Vocabulary.INDIVIDUAL_IRI_BASE + "item-" + index);
+    }
+
+    public static URI containerUri(int index) {
+        return URI.create(Vocabulary.INDIVIDUAL_IRI_BASE + "container-" + index);
+    }
+
+    /**
+     * Generates an item with all attributes set.
+     *
+     * @param index Item index, used to derive its identifier and attribute values
+     * @return New item
+     */
+    public static Item generateItem(int index) {
+        final Item item = new Item(itemUri(index));
+        item.setLabel("Item " + index);
+        item.setDescription("Description of benchmark item number " + index);
+        item.setRank(index);
+        item.setCreated(new Date(1_600_000_000_000L + index * 1000L));
+        item.setTypes(new HashSet<>(Set.of(TYPE_PREFIX + (index % 10))));
+        return item;
+    }
+
+    /**
+     * Generates items with indexes starting at the specified value.
+     *
+     * @param startIndex Index of the first item
+     * @param count      Number of items to generate
+     * @return List of new items
+     */
+    public static List<Item> generateItems(int startIndex, int count) {
+        final List<Item> result = new ArrayList<>(count);
+        for (int i = startIndex; i < startIndex + count; i++) {
+            result.add(generateItem(i));
+        }
+        return result;
+    }
+
+    /**
+     * Generates a container referencing the specified items in its item set and in both of its lists.
+     *
+     * @param index Container index, used to derive its identifier
+     * @param items Items to reference
+     * @return New container
+     */
+    public static Container generateContainer(int index, List<Item> items) {
+        final Container container = new Container(containerUri(index));
+        container.setLabel("Container " + index);
+        container.setItems(new HashSet<>(items));
+        container.setSimpleList(new ArrayList<>(items));
+        container.setReferencedList(new ArrayList<>(items));
+        return container;
+    }
+}
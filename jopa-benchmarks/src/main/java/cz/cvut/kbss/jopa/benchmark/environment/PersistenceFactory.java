@@ -0,0 +1,117 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.ontodriver.DataSource;
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates persistence units and data sources over fresh storages.
+ */
+public final class PersistenceFactory {
+
+    private static final String MODEL_PACKAGE = "cz.cvut.kbss.jopa.benchmark.model";
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private PersistenceFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a persistence unit over a new, empty storage.
+     *
+     * @param storage      Storage type
+     * @param cacheEnabled Whether to enable the second level cache
+     * @param properties   Additional configuration, overrides the defaults
+     * @return New entity manager factory
+     */
+    public static EntityManagerFactory createEntityManagerFactory(Storage storage, boolean cacheEnabled,
+                                                                  Map<String, String> properties) {
+        final String name = nextName(storage);
+        final Map<String, String> config = storage.createConfiguration(name);
+        config.put(JOPAPersistenceProperties.SCAN_PACKAGE, MODEL_PACKAGE);
+        config.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        config.put(JOPAPersistenceProperties.LANG, "en");
+        config.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.toString(cacheEnabled));
+        config.putAll(properties);
+        return Persistence.createEntityManagerFactory(name, config);
+    }
+
+    /**
+     * Creates a driver data source over a new, empty storage.
+     * <p>
+     * This allows to measure driver operations without the overhead of the object-ontology mapping.
+     *
+     * @param storage    Storage type
+     * @param properties Additional driver configuration, overrides the defaults
+     * @return New data source
+     */
+    public static DataSource createDataSource(Storage storage, Map<String, String> properties) {
+        final String name = nextName(storage);
+        final Map<String, String> config = new HashMap<>(storage.createConfiguration(name));
+        config.putAll(properties);
+        try {
+            final DataSource dataSource = (DataSource) Class.forName(storage.getDriverClass()).getDeclaredConstructor()
+                                                            .newInstance();
+            dataSource.setStorageProperties(OntologyStorageProperties.driver(storage.getDriverClass())
+                                                                     .ontologyUri(config.get(
+                                                                             JOPAPersistenceProperties.ONTOLOGY_URI_KEY))
+                                                                     .physicalUri(URI.create(config.get(
+                                                                             JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY)))
+                                                                     .build());
+            dataSource.setProperties(config);
+            return dataSource;
+        } catch (ReflectiveOperationException | OntoDriverException e) {
+            throw new IllegalStateException("Unable to create data source for storage " + storage, e);
+        }
+    }
+
+    /**
+     * Persists the specified entities in a single transaction.
+     *
+     * @param emf      Persistence unit to use
+     * @param entities Entities to persist
+     */
+    public static void persistInTransaction(EntityManagerFactory emf, Collection<?> entities) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persistAll(entities);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static String nextName(Storage storage) {
+        return "benchmark-" + storage.name().toLowerCase() + "-" + COUNTER.incrementAndGet();
+    }
+}
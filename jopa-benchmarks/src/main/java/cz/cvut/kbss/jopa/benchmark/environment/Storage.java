@@ -0,0 +1,124 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storages the benchmarks run against.
+ * <p>
+ * All the storages keep their data in memory (OWLAPI saves the ontology into a temporary file on commit), so the
+ * results reflect the overhead of JOPA and the drivers rather than disk access.
+ */
+public enum Storage {
+
+    /**
+     * In-memory RDF4J repository.
+     */
+    RDF4J("cz.cvut.kbss.ontodriver.rdf4j.Rdf4jDataSource") {
+        @Override
+        String physicalUri(String name) {
+            return name;
+        }
+
+        @Override
+        void addDriverProperties(Map<String, String> properties) {
+            properties.put(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            properties.put(Rdf4jOntoDriverProperties.USE_INFERENCE, Boolean.FALSE.toString());
+        }
+    },
+    /**
+     * In-memory Jena dataset.
+     */
+    JENA("cz.cvut.kbss.ontodriver.jena.JenaDataSource") {
+        @Override
+        String physicalUri(String name) {
+            return name;
+        }
+
+        @Override
+        void addDriverProperties(Map<String, String> properties) {
+            properties.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
+        }
+    },
+    /**
+     * OWLAPI ontology stored in a temporary file.
+     */
+    OWLAPI("cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource") {
+        @Override
+        String physicalUri(String name) {
+            try {
+                final File dir = Files.createTempDirectory("jopa-benchmark").toFile();
+                dir.deleteOnExit();
+                final File file = new File(dir, name + ".owl");
+                file.deleteOnExit();
+                return file.toURI().toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to create OWLAPI storage file.", e);
+            }
+        }
+
+        @Override
+        void addDriverProperties(Map<String, String> properties) {
+            properties.put(OntoDriverProperties.REASONER_FACTORY_CLASS, OPENLLET_REASONER_FACTORY);
+        }
+    };
+
+    private static final String ONTOLOGY_IRI_BASE = "https://onto.fel.cvut.cz/ontologies/jopa/benchmark/";
+    private static final String OPENLLET_REASONER_FACTORY = "openllet.owlapi.OpenlletReasonerFactory";
+
+    private final String driverClass;
+
+    Storage(String driverClass) {
+        this.driverClass = driverClass;
+    }
+
+    public String getDriverClass() {
+        return driverClass;
+    }
+
+    /**
+     * Creates configuration of a new storage with the specified name.
+     *
+     * @param name Storage name, used to create logical and physical URI of the storage
+     * @return Persistence unit and driver configuration
+     */
+    public Map<String, String> createConfiguration(String name) {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, driverClass);
+        properties.put(JOPAPersistenceProperties.ONTOLOGY_URI_KEY, ONTOLOGY_IRI_BASE + name);
+        properties.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, physicalUri(name));
+        properties.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        addDriverProperties(properties);
+        return properties;
+    }
+
+    abstract String physicalUri(String name);
+
+    abstract void addDriverProperties(Map<String, String> properties);
+}
@@ -0,0 +1,109 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.model;
+
+import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
+import cz.cvut.kbss.jopa.model.annotations.Sequence;
+import cz.cvut.kbss.jopa.model.annotations.SequenceType;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entity referencing {@link Item}s through an eagerly loaded set and two lazily loaded lists.
+ */
+@OWLClass(iri = Vocabulary.C_CONTAINER)
+public class Container {
+
+    @Id(generated = true)
+    private URI uri;
+
+    @OWLDataProperty(iri = Vocabulary.P_LABEL)
+    private String label;
+
+    @OWLObjectProperty(iri = Vocabulary.P_HAS_ITEM, fetch = FetchType.EAGER)
+    private Set<Item> items;
+
+    @Sequence(type = SequenceType.simple)
+    @OWLObjectProperty(iri = Vocabulary.P_HAS_SIMPLE_LIST)
+    private List<Item> simpleList;
+
+    @Sequence
+    @OWLObjectProperty(iri = Vocabulary.P_HAS_REFERENCED_LIST)
+    private List<Item> referencedList;
+
+    public Container() {
+    }
+
+    public Container(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public Set<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(Set<Item> items) {
+        this.items = items;
+    }
+
+    public List<Item> getSimpleList() {
+        return simpleList;
+    }
+
+    public void setSimpleList(List<Item> simpleList) {
+        this.simpleList = simpleList;
+    }
+
+    public List<Item> getReferencedList() {
+        return referencedList;
+    }
+
+    public void setReferencedList(List<Item> referencedList) {
+        this.referencedList = referencedList;
+    }
+
+    @Override
+    public String toString() {
+        return "Container{" +
+                "uri=" + uri +
+                ", label='" + label + '\'' +
+                '}';
+    }
+}
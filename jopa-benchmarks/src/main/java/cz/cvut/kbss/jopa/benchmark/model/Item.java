@@ -0,0 +1,116 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.model;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+import cz.cvut.kbss.jopa.model.annotations.Types;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Simple entity with a handful of data properties.
+ */
+@OWLClass(iri = Vocabulary.C_ITEM)
+public class Item {
+
+    @Id(generated = true)
+    private URI uri;
+
+    @OWLDataProperty(iri = Vocabulary.P_LABEL)
+    private String label;
+
+    @OWLDataProperty(iri = Vocabulary.P_DESCRIPTION)
+    private String description;
+
+    @OWLDataProperty(iri = Vocabulary.P_RANK)
+    private Integer rank;
+
+    @OWLDataProperty(iri = Vocabulary.P_CREATED)
+    private Date created;
+
+    @Types
+    private Set<String> types;
+
+    public Item() {
+    }
+
+    public Item(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public Set<String> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Set<String> types) {
+        this.types = types;
+    }
+
+    @Override
+    public String toString() {
+        return "Item{" +
+                "uri=" + uri +
+                ", label='" + label + '\'' +
+                ", rank=" + rank +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.benchmark.model;
+
+public class Vocabulary {
+
+    public static final String CLASS_IRI_BASE = "https://onto.fel.cvut.cz/ontologies/jopa/benchmark/types#";
+    public static final String ATTRIBUTE_IRI_BASE = "https://onto.fel.cvut.cz/ontologies/jopa/benchmark/attributes#";
+    public static final String INDIVIDUAL_IRI_BASE = "https://onto.fel.cvut.cz/ontologies/jopa/benchmark/entities#";
+
+    public static final String C_ITEM = CLASS_IRI_BASE + "Item";
+    public static final String C_CONTAINER = CLASS_IRI_BASE + "Container";
+
+    public static final String P_LABEL = ATTRIBUTE_IRI_BASE + "label";
+    public static final String P_DESCRIPTION = ATTRIBUTE_IRI_BASE + "description";
+    public static final String P_RANK = ATTRIBUTE_IRI_BASE + "rank";
+    public static final String P_CREATED = ATTRIBUTE_IRI_BASE + "created";
+    public static final String P_HAS_ITEM = ATTRIBUTE_IRI_BASE + "hasItem";
+    public static final String P_HAS_SIMPLE_LIST = ATTRIBUTE_IRI_BASE + "hasSimpleList";
+    public static final String P_HAS_REFERENCED_LIST = ATTRIBUTE_IRI_BASE + "hasReferencedList";
+
+    private Vocabulary() {
+        throw new AssertionError();
+    }
+}
@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -111,6 +112,7 @@ abstract class AbstractQuery implements Query {
         ensureOpen();
         try (final Statement stmt = initQueryStatement()) {
             stmt.executeUpdate(query.assembleQuery());
+            connection.updateExecuted();
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -285,16 +287,45 @@ abstract class AbstractQuery implements Query {
     }
 
     <R> Stream<R> executeQueryForStream(Function<ResultRow, Optional<R>> function) throws OntoDriverException {
+        return executeQueryForStream((rows, onClose) -> new QueryResultSpliterator<>(rows, function, onClose));
+    }
+
+    /**
+     * Executes the query and returns a stream backed by a spliterator created by the specified factory.
+     * <p>
+     * The factory is invoked after query hints have been applied. It receives a spliterator over the result rows and a
+     * handler releasing the underlying statement and result set. The handler may be invoked repeatedly, the statement
+     * is closed only once. It is also invoked when the returned stream is closed, so that short-circuited streams
+     * release the statement as well.
+     *
+     * @param spliteratorFactory Creates spliterator of the resulting stream
+     * @return Stream of query results
+     * @throws OntoDriverException When query evaluation fails
+     */
+    <R> Stream<R> executeQueryForStream(
+            BiFunction<Spliterator<ResultRow>, Procedure, Spliterator<R>> spliteratorFactory)
+            throws OntoDriverException {
         final Statement stmt = initQueryStatement();
         final ResultSet rs = stmt.executeQuery(query.assembleQuery());
-        return StreamSupport.stream(new QueryResultSpliterator<>(rs.spliterator(), function, () -> {
-            try {
-                stmt.close();
-            } catch (OntoDriverException e) {
-                markTransactionForRollback();
-                throw new OWLPersistenceException(e);
+        final Procedure onClose = new Procedure() {
+            private boolean closed;
+
+            @Override
+            public void execute() {
+                if (closed) {
+                    return;
+                }
+                this.closed = true;
+                try {
+                    stmt.close();
+                } catch (OntoDriverException e) {
+                    markTransactionForRollback();
+                    throw new OWLPersistenceException(e);
+                }
             }
-        }), false);
+        };
+        return StreamSupport.stream(spliteratorFactory.apply(rs.spliterator(), onClose), false)
+                            .onClose(onClose::execute);
     }
 
     boolean exceptionCausesRollback(RuntimeException e) {
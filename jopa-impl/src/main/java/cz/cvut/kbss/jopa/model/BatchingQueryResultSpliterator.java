@@ -0,0 +1,128 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.utils.Procedure;
+import cz.cvut.kbss.ontodriver.iteration.ResultRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator for streaming entity results of a {@link cz.cvut.kbss.jopa.model.query.TypedQuery}.
+ * <p>
+ * Instead of loading result entities one by one, this spliterator prefetches identifiers from the underlying result set
+ * in chunks of the specified size and loads the entities of each chunk together. Entities of a chunk may be released
+ * (e.g., detached from the persistence context) once the stream has moved past the chunk.
+ * <p>
+ * The {@code onClose} handler, which releases the underlying statement and result set, is invoked as soon as the last
+ * result row has been read, i.e., possibly before the entities of the last chunk are processed. It is also invoked
+ * when processing fails.
+ *
+ * @param <K> Type of the identifiers extracted from result rows
+ * @param <X> Type of the streamed entities
+ */
+class BatchingQueryResultSpliterator<K, X> extends Spliterators.AbstractSpliterator<X> {
+
+    private final Spliterator<ResultRow> resultSetSpliterator;
+    private final Function<ResultRow, K> identifierExtractor;
+    private final Function<List<K>, List<X>> chunkLoader;
+    private final int chunkSize;
+    private final Consumer<X> onProcessed;
+    private final Procedure onClose;
+
+    private List<X> currentChunk = Collections.emptyList();
+    private Iterator<X> currentIterator = Collections.emptyIterator();
+    private boolean exhausted;
+
+    /**
+     * Creates a new spliterator.
+     *
+     * @param resultSetSpliterator Spliterator over query result rows
+     * @param identifierExtractor  Extracts entity identifier from a result row
+     * @param chunkLoader          Loads entities with the specified identifiers. Returned {@code null} elements are
+     *                             skipped
+     * @param chunkSize            Number of identifiers prefetched and loaded together
+     * @param onProcessed          Invoked for every entity of a chunk once the stream has moved past the chunk, may be
+     *                             {@code null}
+     * @param onClose              Releases the underlying statement and result set
+     */
+    BatchingQueryResultSpliterator(Spliterator<ResultRow> resultSetSpliterator, Function<ResultRow, K> identifierExtractor,
+                                   Function<List<K>, List<X>> chunkLoader, int chunkSize, Consumer<X> onProcessed,
+                                   Procedure onClose) {
+        super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+        assert chunkSize > 0;
+        this.resultSetSpliterator = resultSetSpliterator;
+        this.identifierExtractor = identifierExtractor;
+        this.chunkLoader = chunkLoader;
+        this.chunkSize = chunkSize;
+        this.onProcessed = onProcessed;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super X> action) {
+        try {
+            while (!currentIterator.hasNext()) {
+                releaseCurrentChunk();
+                if (exhausted) {
+                    return false;
+                }
+                loadNextChunk();
+            }
+            action.accept(currentIterator.next());
+            return true;
+        } catch (RuntimeException e) {
+            onClose.execute();
+            throw e;
+        }
+    }
+
+    private void releaseCurrentChunk() {
+        if (onProcessed != null) {
+            currentChunk.forEach(onProcessed);
+        }
+        this.currentChunk = Collections.emptyList();
+    }
+
+    private void loadNextChunk() {
+        final List<K> identifiers = new ArrayList<>(chunkSize);
+        while (identifiers.size() < chunkSize &&
+                resultSetSpliterator.tryAdvance(row -> identifiers.add(identifierExtractor.apply(row)))) {
+            // Read identifiers until the chunk is full or the result set is exhausted
+        }
+        if (identifiers.size() < chunkSize) {
+            this.exhausted = true;
+            onClose.execute();
+        }
+        if (identifiers.isEmpty()) {
+            return;
+        }
+        final List<X> loaded = new ArrayList<>(chunkLoader.apply(identifiers));
+        loaded.removeIf(Objects::isNull);
+        this.currentChunk = loaded;
+        this.currentIterator = loaded.iterator();
+    }
+}
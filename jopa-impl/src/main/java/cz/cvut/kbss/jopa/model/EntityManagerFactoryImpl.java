@@ -178,7 +178,7 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Persisten
     public Object getIdentifier(Object entity) {
         Objects.requireNonNull(entity);
         final EntityType<?> et = getMetamodel().entity(entity.getClass());
-        return EntityPropertiesUtils.getFieldValue(et.getIdentifier().getJavaField(), entity);
+        return EntityPropertiesUtils.getAttributeValue(et.getIdentifier(), entity);
     }
 
     @Override
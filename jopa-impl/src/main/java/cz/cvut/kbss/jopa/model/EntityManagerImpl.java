@@ -106,6 +106,31 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public void persistAll(final Collection<?> entities) {
+        persistAll(entities, new EntityDescriptor());
+    }
+
+    @Override
+    public void persistAll(final Collection<?> entities, final Descriptor descriptor) {
+        Objects.requireNonNull(entities, ErrorUtils.getNPXMessageSupplier("entities"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+        LOG.trace("Persisting {} instances.", entities.size());
+        ensureOpen();
+        final UnitOfWorkImpl uow = getCurrentPersistenceContext();
+        uow.startPersistBatch();
+        try {
+            for (Object entity : entities) {
+                persist(entity, descriptor);
+            }
+            uow.finishPersistBatch();
+        } catch (RuntimeException e) {
+            uow.cancelPersistBatch();
+            markTransactionForRollback();
+            throw e;
+        }
+    }
+
     private void checkClassIsValidEntity(Class<?> cls) {
         getMetamodel().entity(cls);
     }
@@ -237,7 +262,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         } else {
             attVal = mergeInternal(attVal, descriptor);
         }
-        EntityPropertiesUtils.setFieldValue(at.getJavaField(), merged, attVal);
+        EntityPropertiesUtils.setAttributeValue(at, merged, attVal);
     }
 
     @Override
@@ -296,6 +321,27 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public <T> T find(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph) {
+        try {
+            Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+            Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+            Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+            Objects.requireNonNull(fetchGraph, ErrorUtils.getNPXMessageSupplier("fetchGraph"));
+            ensureOpen();
+            checkClassIsValidEntity(cls);
+
+            LOG.trace("Finding instance of {} with identifier {} in context {} using fetch graph {}.", cls, identifier,
+                      descriptor, fetchGraph);
+            final URI uri = (identifier instanceof URI) ? (URI) identifier : URI.create(identifier.toString());
+
+            return getCurrentPersistenceContext().readObject(cls, uri, descriptor, fetchGraph);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        }
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass, Object identifier) {
         try {
@@ -60,7 +60,14 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru},
+     * {@literal concurrent} and {@literal weighted}.
+     * <p>
+     * The {@literal concurrent} cache is unbounded and does not lock the whole cache on writes, which makes it suitable
+     * for applications with many concurrently working persistence contexts.
+     * <p>
+     * The {@literal weighted} cache is bounded by the estimated size of the cached instances (see {@link
+     * #WEIGHTED_CACHE_MAX_SIZE}) and uses a frequency-aware eviction policy.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
@@ -69,6 +76,50 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
+    /**
+     * Maximum estimated size of the weighted second level cache, in bytes.
+     */
+    public static final String WEIGHTED_CACHE_MAX_SIZE = "cz.cvut.jopa.cache.weighted.maxSize";
+
+    /**
+     * Maximum number of parsed queries kept in the query cache shared by all persistence contexts of a persistence
+     * unit.
+     */
+    public static final String QUERY_CACHE_CAPACITY = "cz.cvut.jopa.query.cache.capacity";
+
+    /**
+     * How long values of {@link cz.cvut.kbss.jopa.model.annotations.Sparql} query attributes of instances in the second
+     * level cache remain valid. In seconds.
+     * <p>
+     * Valid values are reused when an instance is retrieved from the cache, older values are re-evaluated. {@literal 0}
+     * means query attributes are re-evaluated on every cache hit. Values of all instances are invalidated whenever a
+     * transaction which changed data or executed a SPARQL update commits. Changes made outside this persistence unit
+     * are not detected, so reused values may be stale for up to the configured time.
+     * <p>
+     * Defaults to {@link cz.cvut.kbss.jopa.utils.Constants#DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL}, i.e., values are not
+     * reused.
+     */
+    public static final String QUERY_ATTRIBUTE_CACHE_TTL = "cz.cvut.jopa.cache.queryAttributes.ttl";
+
+    /**
+     * Maximum number of new entities whose axioms are buffered by {@link EntityManager#persistAll(java.util.Collection,
+     * cz.cvut.kbss.jopa.model.descriptors.Descriptor)} before they are written into the storage in a single call.
+     * <p>
+     * Defaults to {@link cz.cvut.kbss.jopa.utils.Constants#DEFAULT_PERSIST_BATCH_SIZE}.
+     */
+    public static final String PERSIST_BATCH_SIZE = "cz.cvut.jopa.persist.batchSize";
+
+    /**
+     * Whether changes of attribute values of managed entities should be written into the storage lazily.
+     * <p>
+     * When enabled, setting an attribute of a managed entity only records the change. Changes of the same attribute
+     * are coalesced and all recorded changes are written into the storage in a single batch when the transaction is
+     * committed, when the persistence context is flushed or before the storage is read (e.g., by a query).
+     * <p>
+     * Defaults to {@code false}, i.e., every attribute change is written into the storage immediately.
+     */
+    public static final String WRITE_BEHIND = "cz.cvut.jopa.writeBehind";
+
     /**
      * Disable integrity constraints validation on entity/field load.
      */
@@ -95,6 +95,9 @@ public class QueryHintsHandler {
         static {
             registerHint(new DisableInferenceHint());
             registerHint(new TargetOntologyHint());
+            registerHint(new EntityLoadingBatchSizeHint());
+            registerHint(new DetachStreamedEntitiesHint());
+            registerHint(new FetchGraphHint());
         }
 
         Hint(String name, Object defaultValue) {
@@ -201,4 +204,73 @@ public class QueryHintsHandler {
             statement.useOntology((Statement.StatementOntology) hintValue);
         }
     }
+
+    /**
+     * Allows loading typed query result entities in batches.
+     *
+     * @see QueryHints#ENTITY_LOADING_BATCH_SIZE
+     */
+    protected static class EntityLoadingBatchSizeHint extends Hint {
+        EntityLoadingBatchSizeHint() {
+            super(QueryHints.ENTITY_LOADING_BATCH_SIZE, 1);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            final int batchSize;
+            try {
+                batchSize = hintValue instanceof Number ? ((Number) hintValue).intValue() :
+                            Integer.parseInt(hintValue.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.", e);
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Value of hint '" + name + "' must be a positive integer.");
+            }
+            if (query instanceof TypedQueryImpl) {
+                ((TypedQueryImpl<?>) query).setEntityLoadingBatchSize(batchSize);
+            }
+        }
+    }
+
+    /**
+     * Allows detaching processed entities when streaming typed query results.
+     *
+     * @see QueryHints#DETACH_STREAMED_ENTITIES
+     */
+    protected static class DetachStreamedEntitiesHint extends Hint {
+        DetachStreamedEntitiesHint() {
+            super(QueryHints.DETACH_STREAMED_ENTITIES, Boolean.FALSE);
+            this.valueArray =
+                    new Object[][]{{Boolean.TRUE.toString(), Boolean.TRUE}, {Boolean.FALSE.toString(), Boolean.FALSE}};
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            if (query instanceof TypedQueryImpl) {
+                ((TypedQueryImpl<?>) query).setDetachStreamedEntities(Boolean.TRUE == hintValue);
+            }
+        }
+    }
+
+    /**
+     * Allows specifying fetch graph for loading typed query result entities.
+     *
+     * @see QueryHints#FETCH_GRAPH
+     */
+    protected static class FetchGraphHint extends Hint {
+        FetchGraphHint() {
+            super(QueryHints.FETCH_GRAPH, null);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            if (hintValue != null && !(hintValue instanceof FetchGraph)) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.");
+            }
+            if (query instanceof TypedQueryImpl) {
+                ((TypedQueryImpl<?>) query).setFetchGraph((FetchGraph) hintValue);
+            }
+        }
+    }
 }
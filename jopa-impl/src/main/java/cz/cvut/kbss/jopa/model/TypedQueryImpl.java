@@ -27,16 +27,19 @@ import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
-import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
@@ -44,10 +47,16 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     private final Class<X> resultType;
     private final MetamodelProvider metamodelProvider;
 
-    private UnitOfWork uow;
+    private UnitOfWorkImpl uow;
 
     private Descriptor descriptor = new EntityDescriptor();
 
+    private int entityLoadingBatchSize = 1;
+
+    private boolean detachStreamedEntities;
+
+    private FetchGraph fetchGraph;
+
     public TypedQueryImpl(final QueryHolder query, final Class<X> resultType,
                           final ConnectionWrapper connection, MetamodelProvider metamodelProvider) {
         super(query, connection);
@@ -56,7 +65,7 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
                 .requireNonNull(metamodelProvider, ErrorUtils.getNPXMessageSupplier("metamodelProvider"));
     }
 
-    public void setUnitOfWork(UnitOfWork uow) {
+    public void setUnitOfWork(UnitOfWorkImpl uow) {
         this.uow = uow;
     }
 
@@ -77,13 +86,23 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     private List<X> getResultListImpl() throws OntoDriverException {
         final boolean isEntityType = metamodelProvider.isEntityType(resultType);
         final List<X> res = new ArrayList<>();
+        final List<URI> batch = new ArrayList<>();
         executeQuery(rs -> {
             if (isEntityType) {
-                loadEntityInstance(rs, descriptor).ifPresent(res::add);
+                // Batch size is resolved only after query hints have been applied
+                if (entityLoadingBatchSize > 1) {
+                    batch.add(getEntityIdentifier(rs));
+                    if (batch.size() >= entityLoadingBatchSize) {
+                        loadEntityBatch(batch, descriptor, res);
+                    }
+                } else {
+                    loadEntityInstance(rs, descriptor).ifPresent(res::add);
+                }
             } else {
                 loadResultValue(rs).ifPresent(res::add);
             }
         });
+        loadEntityBatch(batch, descriptor, res);
         return res;
     }
 
@@ -91,19 +110,76 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return descriptor;
     }
 
+    /**
+     * Sets the number of result entities loaded from the storage together.
+     *
+     * @param entityLoadingBatchSize Batch size, values lower than two mean that entities are loaded one by one
+     * @see cz.cvut.kbss.jopa.query.QueryHints#ENTITY_LOADING_BATCH_SIZE
+     */
+    void setEntityLoadingBatchSize(int entityLoadingBatchSize) {
+        this.entityLoadingBatchSize = entityLoadingBatchSize;
+    }
+
+    /**
+     * Sets whether entities processed by a result stream should be detached from the persistence context.
+     *
+     * @param detachStreamedEntities Whether to detach streamed entities
+     * @see cz.cvut.kbss.jopa.query.QueryHints#DETACH_STREAMED_ENTITIES
+     */
+    void setDetachStreamedEntities(boolean detachStreamedEntities) {
+        this.detachStreamedEntities = detachStreamedEntities;
+    }
+
+    /**
+     * Sets fetch graph used when loading result entities.
+     *
+     * @param fetchGraph Fetch graph, {@code null} to load entities according to fetch types of their attributes
+     * @see cz.cvut.kbss.jopa.query.QueryHints#FETCH_GRAPH
+     */
+    void setFetchGraph(FetchGraph fetchGraph) {
+        this.fetchGraph = fetchGraph;
+    }
+
     private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
+        ensureUnitOfWork();
+        final URI uri = getEntityIdentifier(resultRow);
+        return Optional.ofNullable(fetchGraph != null ? uow.readObject(resultType, uri, instanceDescriptor, fetchGraph) :
+                                   uow.readObject(resultType, uri, instanceDescriptor));
+    }
+
+    private List<X> loadEntities(List<URI> identifiers, Descriptor instanceDescriptor) {
+        return fetchGraph != null ? uow.readObjects(resultType, identifiers, instanceDescriptor, fetchGraph) :
+               uow.readObjects(resultType, identifiers, instanceDescriptor);
+    }
+
+    private void ensureUnitOfWork() {
         if (uow == null) {
             throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
         }
+    }
+
+    private URI getEntityIdentifier(ResultRow resultRow) {
         try {
             assert resultRow.isBound(0);
-            final URI uri = URI.create(resultRow.getString(0));
-            return Optional.ofNullable(uow.readObject(resultType, uri, instanceDescriptor));
+            return URI.create(resultRow.getString(0));
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException("Unable to load query result as entity of type " + resultType, e);
         }
     }
 
+    /**
+     * Loads entities with identifiers in the specified batch, adds them to the specified result and clears the
+     * batch.
+     */
+    private void loadEntityBatch(List<URI> batch, Descriptor instanceDescriptor, List<X> result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ensureUnitOfWork();
+        loadEntities(batch, instanceDescriptor).stream().filter(Objects::nonNull).forEach(result::add);
+        batch.clear();
+    }
+
     private Optional<X> loadResultValue(ResultRow resultRow) {
         try {
             return Optional.of(resultRow.getObject(0, resultType));
@@ -139,12 +215,28 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     public Stream<X> getResultStream() {
         final boolean isEntityType = metamodelProvider.isEntityType(resultType);
         try {
-            return executeQueryForStream(row -> {
-                if (isEntityType) {
-                    return loadEntityInstance(row, descriptor);
-                } else {
-                    return loadResultValue(row);
+            return executeQueryForStream((rows, onClose) -> {
+                // Batch size and detaching are resolved only after query hints have been applied
+                if (isEntityType && (entityLoadingBatchSize > 1 || detachStreamedEntities)) {
+                    ensureUnitOfWork();
+                    final Descriptor instanceDescriptor = descriptor;
+                    if (!detachStreamedEntities) {
+                        return new BatchingQueryResultSpliterator<>(rows, this::getEntityIdentifier,
+                                ids -> loadEntities(ids, instanceDescriptor), entityLoadingBatchSize, null, onClose);
+                    }
+                    // Only entities loaded into the persistence context by the stream itself are detached
+                    final Set<X> loadedByStream = Collections.newSetFromMap(new IdentityHashMap<>());
+                    return new BatchingQueryResultSpliterator<>(rows, this::getEntityIdentifier,
+                            ids -> loadEntitiesForDetaching(ids, instanceDescriptor, loadedByStream),
+                            entityLoadingBatchSize, e -> detachStreamedEntity(e, loadedByStream), onClose);
                 }
+                return new QueryResultSpliterator<>(rows, row -> {
+                    if (isEntityType) {
+                        return loadEntityInstance(row, descriptor);
+                    } else {
+                        return loadResultValue(row);
+                    }
+                }, onClose);
             });
         } catch (OntoDriverException e) {
             markTransactionForRollback();
@@ -157,6 +249,31 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         }
     }
 
+    /**
+     * Loads entities with the specified identifiers and records those which were not managed before into the
+     * specified set.
+     */
+    private List<X> loadEntitiesForDetaching(List<URI> identifiers, Descriptor instanceDescriptor,
+                                             Set<X> loadedByStream) {
+        final boolean[] managed = new boolean[identifiers.size()];
+        for (int i = 0; i < managed.length; i++) {
+            managed[i] = uow.isIdentifierManaged(identifiers.get(i));
+        }
+        final List<X> result = loadEntities(identifiers, instanceDescriptor);
+        for (int i = 0; i < managed.length; i++) {
+            if (!managed[i] && result.get(i) != null) {
+                loadedByStream.add(result.get(i));
+            }
+        }
+        return result;
+    }
+
+    private void detachStreamedEntity(X entity, Set<X> loadedByStream) {
+        if (loadedByStream.remove(entity) && uow.isObjectManaged(entity)) {
+            uow.unregisterObject(entity);
+        }
+    }
+
     @Override
     public TypedQuery<X> setMaxResults(int maxResults) {
         ensureOpen();
@@ -26,7 +26,7 @@ import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 
-public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
+public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y>, FieldAccessorProvider {
 
     private final PropertyInfo propertyInfo;
 
@@ -58,6 +58,10 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
 
     private final ConverterWrapper converter;
 
+    private final int batchFetchSize;
+
+    private FieldAccessor accessor;
+
     AbstractAttribute(AbstractAttributeBuilder<X, Y> builder) {
         this.propertyInfo = builder.propertyInfo;
         this.declaringType = builder.declaringType;
@@ -74,6 +78,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         this.simpleLiteral = builder.simpleLiteral;
         this.language = builder.language;
         this.datatype = builder.datatype;
+        this.batchFetchSize = builder.batchFetchSize;
     }
 
     @Override
@@ -116,6 +121,15 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return propertyInfo.getField();
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        // Benign race, the accessor is immutable and creating it more than once is harmless
+        if (accessor == null) {
+            this.accessor = FieldAccessor.create(getJavaField());
+        }
+        return accessor;
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
@@ -160,6 +174,17 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return converter;
     }
 
+    /**
+     * Gets the maximum number of instances whose value of this attribute is loaded together when the value is loaded
+     * lazily.
+     *
+     * @return Batch fetch size, {@code 1} if batch fetching is not configured
+     * @see cz.cvut.kbss.jopa.model.annotations.BatchFetch
+     */
+    public int getBatchFetchSize() {
+        return batchFetchSize;
+    }
+
     @Override
     public String toString() {
         return declaringType.getJavaType().getSimpleName() + "." + getName();
@@ -186,6 +211,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         private String language;
         private ParticipationConstraint[] constraints;
         private ConverterWrapper converter;
+        private int batchFetchSize = 1;
 
         FieldMappingValidator mappingValidator;
 
@@ -200,6 +226,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
             this.simpleLiteral = config.isSimpleLiteral();
             this.datatype = config.hasDatatype() ? config.getDatatype() : null;
             this.language = config.getLanguage();
+            this.batchFetchSize = config.getBatchFetchSize();
             this.mappingValidator = config.validator;
             return this;
         }
@@ -30,7 +30,7 @@ import java.lang.reflect.Member;
  * @param <X> The represented type that contains the attribute
  * @param <Y> The type of the represented attribute
  */
-public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X, Y> {
+public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X, Y>, FieldAccessorProvider {
 
     /**
      * Name of the variable which may be used in the query and would be replaced by the identifier of the entity owning
@@ -52,6 +52,8 @@ public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X,
 
     private final ConverterWrapper converter;
 
+    private FieldAccessor accessor;
+
     public AbstractQueryAttribute(String query, boolean enableReferencingAttributes, Field field,
                                   ManagedType<X> declaringType, FetchType fetchType,
                                   ParticipationConstraint[] constraints, ConverterWrapper converter) {
@@ -94,6 +96,14 @@ public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X,
         return field;
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        if (accessor == null) {
+            this.accessor = FieldAccessor.create(getJavaField());
+        }
+        return accessor;
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
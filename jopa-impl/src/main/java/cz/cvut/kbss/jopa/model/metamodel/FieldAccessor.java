@@ -0,0 +1,145 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Provides fast access to the value of a field of a managed type.
+ * <p>
+ * The accessor is based on method handles resolved once, when the accessor is created. Contrary to reflective {@link
+ * Field#get(Object)} and {@link Field#set(Object, Object)} calls, it does not need to check accessibility of the field
+ * on every access.
+ * <p>
+ * If method handles cannot be obtained for the field (e.g., because it is declared in a module which is not open to
+ * JOPA or because it is {@code final}), the accessor falls back to reflection.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates an accessor of the specified field.
+     *
+     * @param field Field to access
+     * @return New field accessor
+     */
+    public static FieldAccessor create(Field field) {
+        Objects.requireNonNull(field);
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        try {
+            final MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            if (!Modifier.isFinal(field.getModifiers())) {
+                setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            // Fall back to reflection
+        }
+        if (getter == null || setter == null) {
+            field.setAccessible(true);
+        }
+        return new FieldAccessor(field, getter, setter);
+    }
+
+    /**
+     * Gets the field this accessor provides access to.
+     *
+     * @return Java field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets value of the field from the specified instance.
+     *
+     * @param instance Instance containing the field
+     * @return Field value
+     */
+    public Object getValue(Object instance) {
+        if (getter == null) {
+            try {
+                return field.get(instance);
+            } catch (IllegalAccessException e) {
+                throw new OWLPersistenceException("Unable to extract field value.", e);
+            }
+        }
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(
+                    "Cannot get value of field " + field + " from an instance of " + instance.getClass(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OWLPersistenceException("Unable to extract field value.", e);
+        }
+    }
+
+    /**
+     * Sets value of the field on the specified instance.
+     *
+     * @param instance Target instance
+     * @param value    The value to set, possibly {@code null}
+     */
+    public void setValue(Object instance, Object value) {
+        if (setter == null) {
+            try {
+                field.set(instance, value);
+                return;
+            } catch (IllegalAccessException e) {
+                throw new OWLPersistenceException("Unable to set field value.", e);
+            }
+        }
+        if (value == null && field.getType().isPrimitive()) {
+            throw new IllegalArgumentException("Cannot set null value to primitive field " + field);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Cannot set value " + value + " to field " + field, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OWLPersistenceException("Unable to set field value.", e);
+        }
+    }
+}
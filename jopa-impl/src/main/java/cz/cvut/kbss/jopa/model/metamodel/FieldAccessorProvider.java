@@ -0,0 +1,35 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+/**
+ * Implemented by field specifications which provide a precomputed accessor of the field value.
+ * <p>
+ * The accessor allows reading and writing attribute values without the overhead of reflection.
+ *
+ * @see cz.cvut.kbss.jopa.utils.EntityPropertiesUtils#getAttributeValue(FieldSpecification, Object)
+ */
+public interface FieldAccessorProvider {
+
+    /**
+     * Gets accessor of the value of the field represented by this specification.
+     *
+     * @return Field accessor
+     */
+    FieldAccessor getAccessor();
+}
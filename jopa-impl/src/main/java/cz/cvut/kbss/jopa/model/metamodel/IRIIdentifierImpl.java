@@ -21,13 +21,15 @@ import cz.cvut.kbss.jopa.model.annotations.FetchType;
 
 import java.lang.reflect.Field;
 
-public class IRIIdentifierImpl<T> implements IRIIdentifier {
+public class IRIIdentifierImpl<T> implements IRIIdentifier, FieldAccessorProvider {
 
     private final ManagedType<T> declaringType;
     private final Field javaField;
 
     private final boolean generated;
 
+    private FieldAccessor accessor;
+
     public IRIIdentifierImpl(ManagedType<T> declaringType, final Field javaField, final boolean generated) {
         this.declaringType = declaringType;
         this.javaField = javaField;
@@ -49,6 +51,14 @@ public class IRIIdentifierImpl<T> implements IRIIdentifier {
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        if (accessor == null) {
+            this.accessor = FieldAccessor.create(getJavaField());
+        }
+        return accessor;
+    }
+
     @Override
     public FetchType getFetchType() {
         return FetchType.EAGER;
@@ -21,10 +21,13 @@ import cz.cvut.kbss.jopa.model.annotations.FetchType;
 
 import java.lang.reflect.Field;
 
-public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecification<X, Y, K, V> {
+public class PropertiesSpecificationImpl<X, Y, K, V>
+        implements PropertiesSpecification<X, Y, K, V>, FieldAccessorProvider {
     private final ManagedType<X> declaringType;
     private final FetchType fetchType;
     private final Field javaField;
+
+    private FieldAccessor accessor;
     private final Class<Y> javaType;
     private final boolean inferred;
     private final Class<K> propertyIdType;
@@ -55,6 +58,14 @@ public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecif
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        if (accessor == null) {
+            this.accessor = FieldAccessor.create(getJavaField());
+        }
+        return accessor;
+    }
+
     @Override
     public Class<Y> getJavaType() {
         return javaType;
@@ -17,8 +17,10 @@
  */
 package cz.cvut.kbss.jopa.model.metamodel;
 
+import cz.cvut.kbss.jopa.exception.InvalidFieldMappingException;
 import cz.cvut.kbss.jopa.model.IRI;
 import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.model.annotations.BatchFetch;
 import cz.cvut.kbss.jopa.model.annotations.CascadeType;
 import cz.cvut.kbss.jopa.model.annotations.EnumType;
 import cz.cvut.kbss.jopa.model.annotations.Enumerated;
@@ -47,6 +49,7 @@ abstract class PropertyAttributes {
     private boolean nonEmpty = false;
     private ParticipationConstraint[] participationConstraints = new ParticipationConstraint[]{};
     private EnumType enumType = null;
+    private int batchFetchSize = 1;
 
     PropertyAttributes(FieldMappingValidator validator) {
         this.validator = validator;
@@ -106,9 +109,26 @@ abstract class PropertyAttributes {
     public EnumType getEnumType() {
         return enumType;
     }
+
+    int getBatchFetchSize() {
+        return batchFetchSize;
+    }
+
     void resolve(PropertyInfo propertyInfo, MetamodelBuilder metamodelBuilder, Class<?> fieldValueCls) {
         resolveParticipationConstraints(propertyInfo);
         resolveEnumType(propertyInfo, fieldValueCls);
+        resolveBatchFetchSize(propertyInfo);
+    }
+
+    private void resolveBatchFetchSize(PropertyInfo propertyInfo) {
+        final BatchFetch batchFetch = propertyInfo.getAnnotation(BatchFetch.class);
+        if (batchFetch != null) {
+            if (batchFetch.size() < 1) {
+                throw new InvalidFieldMappingException(propertyInfo.getField(),
+                        "@BatchFetch size must be positive, got " + batchFetch.size());
+            }
+            this.batchFetchSize = batchFetch.size();
+        }
     }
 
     private void resolveParticipationConstraints(PropertyInfo propertyInfo) {
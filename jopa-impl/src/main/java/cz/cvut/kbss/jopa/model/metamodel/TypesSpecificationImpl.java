@@ -22,10 +22,12 @@ import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import java.lang.reflect.Field;
 import java.util.Set;
 
-public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y> {
+public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y>, FieldAccessorProvider {
     private final ManagedType<X> declaringType;
     private final FetchType fetchType;
     private final Field javaField;
+
+    private FieldAccessor accessor;
     private final Class<Y> elementType;
     private final boolean inferred;
 
@@ -54,6 +56,14 @@ public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y> {
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        if (accessor == null) {
+            this.accessor = FieldAccessor.create(getJavaField());
+        }
+        return accessor;
+    }
+
     @Override
     public Class<Set> getJavaType() {
         return Set.class;
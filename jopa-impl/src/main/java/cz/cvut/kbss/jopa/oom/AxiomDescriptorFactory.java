@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.SequenceType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.AbstractIdentifiableType;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
@@ -27,6 +28,7 @@ import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.PropertiesSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.Type;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
@@ -37,6 +39,9 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static cz.cvut.kbss.ontodriver.model.Assertion.createAnnotationPropertyAssertion;
@@ -52,7 +57,7 @@ class AxiomDescriptorFactory {
         addForTypes(loadingParams, et, descriptor);
         addForProperties(loadingParams, et, descriptor);
         for (Attribute<?, ?> att : et.getAttributes()) {
-            if (!shouldLoad(att.getFetchType(), loadingParams.isForceEager())) {
+            if (!shouldLoad(att, loadingParams)) {
                 continue;
             }
             final Assertion a = createAssertion(att, loadingParams.getDescriptor().getAttributeDescriptor(att));
@@ -61,9 +66,66 @@ class AxiomDescriptorFactory {
         return descriptor;
     }
 
+    /**
+     * Creates descriptor for loading an instance whose entity type is the specified root entity type or any of its
+     * subtypes.
+     * <p>
+     * The descriptor is a union of entity loading descriptors of all the entity types in the hierarchy, so that the
+     * actual entity type can be resolved from the loaded class assertion axioms and the instance reconstructed from the
+     * same axioms.
+     * <p>
+     * An empty result is returned if such a descriptor cannot be created, i.e., when entity types in the hierarchy map
+     * the same property differently, or when the descriptor would include inferred class assertions (those would make
+     * resolution of the actual entity type unreliable).
+     *
+     * @param loadingParams Instance loading parameters
+     * @param rootEt        Root of the entity type hierarchy
+     * @return Loading descriptor, empty if the hierarchy cannot be loaded using a single descriptor
+     */
+    Optional<AxiomDescriptor> createForPolymorphicEntityLoading(LoadingParameters<?> loadingParams,
+                                                                AbstractIdentifiableType<?> rootEt) {
+        final AxiomDescriptor descriptor = new AxiomDescriptor(NamedResource.create(loadingParams.getIdentifier()));
+        loadingParams.getDescriptor().getContexts().forEach(descriptor::addSubjectContext);
+        final Map<URI, Assertion> propertyAssertions = new HashMap<>();
+        if (!addHierarchyAssertions(loadingParams, rootEt, descriptor, propertyAssertions)) {
+            return Optional.empty();
+        }
+        final boolean includesInferredTypes = descriptor.getAssertions().stream().anyMatch(
+                a -> a.isInferred() && (a.isClassAssertion() || a.getType() == Assertion.AssertionType.PROPERTY));
+        return includesInferredTypes ? Optional.empty() : Optional.of(descriptor);
+    }
+
+    private boolean addHierarchyAssertions(LoadingParameters<?> loadingParams, AbstractIdentifiableType<?> type,
+                                           AxiomDescriptor target, Map<URI, Assertion> propertyAssertions) {
+        if (type.getPersistenceType() == Type.PersistenceType.ENTITY) {
+            final AxiomDescriptor etDescriptor = createForEntityLoading(loadingParams, (EntityType<?>) type);
+            for (Assertion a : etDescriptor.getAssertions()) {
+                final Assertion existing = propertyAssertions.putIfAbsent(a.getIdentifier(), a);
+                if (existing == null) {
+                    target.addAssertion(a);
+                    final Set<URI> contexts = etDescriptor.getAssertionContexts(a);
+                    if (contexts.isEmpty()) {
+                        target.addAssertionContext(a, null);
+                    } else {
+                        contexts.forEach(ctx -> target.addAssertionContext(a, ctx));
+                    }
+                } else if (!existing.equals(a) || !target.getAssertionContexts(a)
+                                                         .equals(etDescriptor.getAssertionContexts(a))) {
+                    return false;
+                }
+            }
+        }
+        for (AbstractIdentifiableType<?> subtype : type.getSubtypes()) {
+            if (!addHierarchyAssertions(loadingParams, subtype, target, propertyAssertions)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void addForTypes(LoadingParameters<?> loadingParams, EntityType<?> et, AxiomDescriptor descriptor) {
         final TypesSpecification<?, ?> types = et.getTypes();
-        if (types != null && shouldLoad(types.getFetchType(), loadingParams.isForceEager())) {
+        if (types != null && shouldLoad(types, loadingParams)) {
             final Descriptor entityDesc = loadingParams.getDescriptor();
             final Assertion typesAssertion =
                     Assertion.createClassAssertion(includeInferred(types, entityDesc.getAttributeDescriptor(types)));
@@ -71,8 +133,9 @@ class AxiomDescriptorFactory {
         }
     }
 
-    private static boolean shouldLoad(FetchType fetchType, boolean forceLoad) {
-        return fetchType != FetchType.LAZY || forceLoad;
+    private static boolean shouldLoad(FieldSpecification<?, ?> fs, LoadingParameters<?> loadingParams) {
+        return fs.getFetchType() != FetchType.LAZY || loadingParams.isForceEager() ||
+                (loadingParams.getFetchGraph() != null && loadingParams.getFetchGraph().contains(fs.getName()));
     }
 
     private void addAssertionToDescriptor(Descriptor entityDescriptor, FieldSpecification<?, ?> att,
@@ -89,7 +152,7 @@ class AxiomDescriptorFactory {
 
     private void addForProperties(LoadingParameters<?> loadingParams, EntityType<?> et, AxiomDescriptor descriptor) {
         final PropertiesSpecification<?, ?, ?, ?> props = et.getProperties();
-        if (props != null && shouldLoad(props.getFetchType(), loadingParams.isForceEager())) {
+        if (props != null && shouldLoad(props, loadingParams)) {
             final Descriptor entityDesc = loadingParams.getDescriptor();
             final Assertion propsAssertion = Assertion.createUnspecifiedPropertyAssertion(
                     includeInferred(props, entityDesc.getAttributeDescriptor(props)));
@@ -124,47 +124,99 @@ class AxiomValueGatherer {
     void persist(Connection connection) {
         try {
             connection.persist(axiomDescriptor);
-            if (typesToAdd != null) {
-                connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
-            }
-            if (propertiesToAdd != null) {
-                connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
-            }
-            for (SimpleListValueDescriptor d : simpleListDescriptors) {
-                connection.lists().persistSimpleList(d);
-            }
-            for (ReferencedListValueDescriptor d : referencedListDescriptors) {
-                connection.lists().persistReferencedList(d);
+            persistAdditionalValues(connection);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Persists values gathered by the specified gatherers.
+     * <p>
+     * The basic axioms of all the gatherers are passed to the connection in a single call. Types, unmapped properties
+     * and lists are then persisted for each gatherer separately.
+     *
+     * @param gatherers  Gatherers whose values to persist
+     * @param connection Storage connection
+     */
+    static void persistAll(List<AxiomValueGatherer> gatherers, Connection connection) {
+        final List<AxiomValueDescriptor> descriptors = new ArrayList<>(gatherers.size());
+        gatherers.forEach(g -> descriptors.add(g.axiomDescriptor));
+        try {
+            connection.persistAll(descriptors);
+            for (AxiomValueGatherer g : gatherers) {
+                g.persistAdditionalValues(connection);
             }
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
     }
 
+    private void persistAdditionalValues(Connection connection) throws OntoDriverException {
+        if (typesToAdd != null) {
+            connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
+        }
+        if (propertiesToAdd != null) {
+            connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
+        }
+        for (SimpleListValueDescriptor d : simpleListDescriptors) {
+            connection.lists().persistSimpleList(d);
+        }
+        for (ReferencedListValueDescriptor d : referencedListDescriptors) {
+            connection.lists().persistReferencedList(d);
+        }
+    }
+
     void update(Connection connection) {
         try {
             connection.update(axiomDescriptor);
-            if (typesToAdd != null) {
-                connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
-            }
-            if (typesToRemove != null) {
-                connection.types().removeTypes(axiomDescriptor.getSubject(), typesContext, typesToRemove);
-            }
-            if (propertiesToAdd != null) {
-                connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
-            }
-            if (propertiesToRemove != null) {
-                connection.properties()
-                          .removeProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToRemove);
-            }
-            for (SimpleListValueDescriptor d : simpleListDescriptors) {
-                connection.lists().updateSimpleList(d);
-            }
-            for (ReferencedListValueDescriptor d : referencedListDescriptors) {
-                connection.lists().updateReferencedList(d);
+            updateAdditionalValues(connection);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Updates values gathered by the specified gatherers.
+     * <p>
+     * The basic axioms of all the gatherers are passed to the connection in a single call. Types, unmapped properties
+     * and lists are then updated for each gatherer separately.
+     *
+     * @param gatherers  Gatherers whose values to update
+     * @param connection Storage connection
+     */
+    static void updateAll(List<AxiomValueGatherer> gatherers, Connection connection) {
+        final List<AxiomValueDescriptor> descriptors = new ArrayList<>(gatherers.size());
+        gatherers.forEach(g -> descriptors.add(g.axiomDescriptor));
+        try {
+            connection.updateAll(descriptors);
+            for (AxiomValueGatherer g : gatherers) {
+                g.updateAdditionalValues(connection);
             }
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
     }
+
+    private void updateAdditionalValues(Connection connection) throws OntoDriverException {
+        if (typesToAdd != null) {
+            connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
+        }
+        if (typesToRemove != null) {
+            connection.types().removeTypes(axiomDescriptor.getSubject(), typesContext, typesToRemove);
+        }
+        if (propertiesToAdd != null) {
+            connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
+        }
+        if (propertiesToRemove != null) {
+            connection.properties()
+                      .removeProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToRemove);
+        }
+        for (SimpleListValueDescriptor d : simpleListDescriptors) {
+            connection.lists().updateSimpleList(d);
+        }
+        for (ReferencedListValueDescriptor d : referencedListDescriptors) {
+            connection.lists().updateReferencedList(d);
+        }
+    }
 }
@@ -162,15 +162,34 @@ class EntityConstructor {
      * @param <T>      the entity class
      */
     public <T> void populateQueryAttributes(final T instance, EntityType<T> et) {
-        final SparqlQueryFactory queryFactory = mapper.getUow().getQueryFactory();
-
         final Set<QueryAttribute<? super T, ?>> queryAttributes = et.getQueryAttributes();
+        if (queryAttributes.isEmpty()) {
+            return;
+        }
+        final SparqlQueryFactory queryFactory = mapper.getUow().getQueryFactory();
 
         for (QueryAttribute<? super T, ?> queryAttribute : queryAttributes) {
             if (queryAttribute.getFetchType() != FetchType.LAZY) {
                 populateQueryAttribute(instance, queryAttribute, queryFactory, et);
             }
         }
+        mapper.getUow().getQueryAttributeCache().recordEvaluation(instance);
+    }
+
+    /**
+     * Populates query attributes of the specified instance retrieved from the second level cache, unless their values
+     * are still valid.
+     *
+     * @param instance Cached instance
+     * @param et       Entity type of the instance
+     * @param <T>      Entity type
+     * @see cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache
+     */
+    <T> void refreshQueryAttributes(T instance, EntityType<T> et) {
+        if (et.getQueryAttributes().isEmpty() || mapper.getUow().getQueryAttributeCache().isValid(instance)) {
+            return;
+        }
+        populateQueryAttributes(instance, et);
     }
 
     private <T> void populateQueryAttribute(T instance, QueryAttribute<? super T, ?> queryAttribute,
@@ -20,13 +20,10 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
-import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
-import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.oom.exceptions.EntityReconstructionException;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -35,8 +32,6 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
-import java.util.IdentityHashMap;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -48,7 +43,7 @@ abstract class EntityInstanceLoader {
     final MetamodelImpl metamodel;
 
     final CacheManager cache;
-    private final AxiomDescriptorFactory descriptorFactory;
+    final AxiomDescriptorFactory descriptorFactory;
     final EntityConstructor entityBuilder;
 
     EntityInstanceLoader(EntityInstanceLoaderBuilder builder) {
@@ -92,10 +87,16 @@ abstract class EntityInstanceLoader {
         if (isCached(loadingParameters, et)) {
             return loadCached(et, identifier, descriptor);
         }
+        final long loadStart = System.nanoTime();
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(loadingParameters, et);
         try {
             final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
-            return axioms.isEmpty() ? null : entityBuilder.reconstructEntity(identifier, et, descriptor, axioms);
+            if (axioms.isEmpty()) {
+                return null;
+            }
+            final U result = entityBuilder.reconstructEntity(identifier, et, descriptor, axioms);
+            cache.recordLoad(1, System.nanoTime() - loadStart);
+            return result;
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
@@ -108,41 +109,19 @@ abstract class EntityInstanceLoader {
                 cache.contains(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
     }
 
-    <T> T loadCached(EntityType<T> et, URI identifier, Descriptor descriptor) {
-        final T cached = cache.get(et.getJavaType(), identifier, descriptor);
-        recursivelyReloadQueryAttributes(cached, et, new IdentityHashMap<>());
-        return cached;
-    }
-
     /**
-     * Recursively reloads query attribute values.
-     *
-     * @param instance Instance whose query attributes should be reloaded
-     * @param et       Entity type of the instance
-     * @param visited  Map of already visited objects to prevent infinite recursion
+     * Gets an instance from the second level cache.
+     * <p>
+     * Query attributes of the instance are re-evaluated only if their cached values are not valid anymore. Query
+     * attributes of instances referenced by the cached instance are not re-evaluated here, stale values are evaluated
+     * lazily when accessed in the persistence context.
      */
-    private void recursivelyReloadQueryAttributes(Object instance, EntityType<?> et, Map<Object, Object> visited) {
-        if (visited.containsKey(instance)) {
-            return;
+    <T> T loadCached(EntityType<T> et, URI identifier, Descriptor descriptor) {
+        final T cached = cache.get(et.getJavaType(), identifier, descriptor);
+        if (cached != null) {
+            entityBuilder.refreshQueryAttributes(cached, et);
         }
-        visited.put(instance, null);
-        entityBuilder.populateQueryAttributes(instance, (EntityType<Object>) et);
-        et.getAttributes().stream().filter(Attribute::isAssociation).forEach(att -> {
-            final Class<?> cls = att.isCollection() ? ((PluralAttribute) att).getElementType()
-                    .getJavaType() : att.getJavaType();
-            if (!metamodel.isEntityType(cls)) {
-                return;
-            }
-            final Object value = EntityPropertiesUtils.getAttributeValue(att, instance);
-            if (value != null) {
-                // Resolve the value class instead of using the attribute type, as it may be a subclass at runtime
-                if (att.isCollection()) {
-                    ((Collection<?>) value).forEach(el -> recursivelyReloadQueryAttributes(el, metamodel.entity(el.getClass()), visited));
-                } else {
-                    recursivelyReloadQueryAttributes(value, metamodel.entity(value.getClass()), visited);
-                }
-            }
-        });
+        return cached;
     }
 
     <T> T loadReferenceInstance(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
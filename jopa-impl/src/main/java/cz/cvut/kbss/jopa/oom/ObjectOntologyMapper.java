@@ -24,6 +24,8 @@ import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface ObjectOntologyMapper {
@@ -46,6 +48,18 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadEntity(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs multiple entities from the ontology.
+     * <p>
+     * Where possible, the axioms of all the entities are retrieved from the storage in a single call.
+     *
+     * @param loadingParameters Loading parameters of the entities to load
+     * @param <T>               Entity type
+     * @return List of reconstructed entities in the order corresponding to the loading parameters. An element is
+     * {@code null} if the corresponding entity does not exist
+     */
+    <T> List<T> loadEntities(List<LoadingParameters<T>> loadingParameters);
+
     /**
      * Loads a reference to an entity corresponding to the specified parameters.
      * <p>
@@ -67,6 +81,16 @@ public interface ObjectOntologyMapper {
      */
     <T> void loadFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
 
+    /**
+     * Loads value of the specified field for all the specified entities and sets it on them.
+     * <p>
+     * The values are retrieved from the storage in a single call.
+     *
+     * @param entities  Map of entities on which the field value will be set to their descriptors
+     * @param fieldSpec The field to load
+     */
+    <T> void loadFieldValues(Map<T, Descriptor> entities, FieldSpecification<? super T, ?> fieldSpec);
+
     /**
      * Persists the specified entity into the underlying ontology.
      *
@@ -76,6 +100,33 @@ public interface ObjectOntologyMapper {
      */
     <T> void persistEntity(URI identifier, T entity, Descriptor descriptor);
 
+    /**
+     * Starts buffering of persisted entities.
+     * <p>
+     * Until {@link #finishPersistBatch()} is called, axioms of entities passed to {@link #persistEntity(URI, Object,
+     * Descriptor)} are not written into the storage immediately. Instead, they are buffered and written in chunks of
+     * the specified size.
+     *
+     * @param batchSize Maximum number of buffered entities, after which the buffer is written into the storage
+     */
+    void startPersistBatch(int batchSize);
+
+    /**
+     * Writes any buffered entities into the storage and stops buffering.
+     * <p>
+     * Does nothing if no persist batch is active.
+     *
+     * @see #startPersistBatch(int)
+     */
+    void finishPersistBatch();
+
+    /**
+     * Discards any buffered entities without writing them into the storage and stops buffering.
+     * <p>
+     * This is intended for cleanup when persisting a batch fails.
+     */
+    void cancelPersistBatch();
+
     /**
      * Removes entity with specified identifier from the ontology.
      *
@@ -101,6 +152,33 @@ public interface ObjectOntologyMapper {
      */
     <T> void updateFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
 
+    /**
+     * Registers a change of value of the specified field, to be written into the storage later.
+     * <p>
+     * Changes registered for the same entity and field are coalesced, so the field value is written only once, when
+     * {@link #flushPendingUpdates()} is invoked or before the mapper accesses the storage.
+     *
+     * @param entity     Entity containing the field
+     * @param fieldSpec  The changed field
+     * @param descriptor Optionally specifies context
+     */
+    <T> void registerPendingUpdate(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
+
+    /**
+     * Writes field values registered via {@link #registerPendingUpdate(Object, FieldSpecification, Descriptor)} into
+     * the storage.
+     * <p>
+     * The basic axioms of all the pending updates are written in a single storage call.
+     */
+    void flushPendingUpdates();
+
+    /**
+     * Discards pending field updates without writing them into the storage.
+     * <p>
+     * This is intended for cleanup when the transaction is rolled back.
+     */
+    void discardPendingUpdates();
+
     /**
      * Extracts the value of the specified field from the specified entity and transforms it to axioms.
      *
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.*;
 import cz.cvut.kbss.jopa.oom.exceptions.EntityDeconstructionException;
@@ -52,8 +53,15 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     private final EntityConstructor entityBuilder;
     private final EntityDeconstructor entityBreaker;
     private Map<URI, Object> instanceRegistry;
+    private final Map<URI, PrefetchedInstance> prefetchedInstances = new HashMap<>();
     private final PendingReferenceRegistry pendingReferences;
 
+    private List<AxiomValueGatherer> persistBuffer;
+    private int persistBatchSize;
+
+    private final Map<Object, PendingUpdate<?>> pendingUpdates = new IdentityHashMap<>();
+    private final List<PendingUpdate<?>> pendingUpdateOrder = new ArrayList<>();
+
     private final EntityInstanceLoader defaultInstanceLoader;
     private final EntityInstanceLoader twoStepInstanceLoader;
 
@@ -83,6 +91,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         assert identifier != null;
         assert descriptor != null;
 
+        flushPendingChanges();
         final EntityType<T> et = getEntityType(cls);
         final NamedResource classUri = NamedResource.create(et.getIRI().toURI());
         final Axiom<NamedResource> ax = new AxiomImpl<>(NamedResource.create(identifier),
@@ -98,10 +107,184 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     public <T> T loadEntity(LoadingParameters<T> loadingParameters) {
         assert loadingParameters != null;
 
+        if (loadingParameters.getFetchGraph() != null) {
+            return loadEntities(Collections.singletonList(loadingParameters)).get(0);
+        }
+        flushPendingChanges();
         this.instanceRegistry = new HashMap<>();
         return loadEntityInternal(loadingParameters);
     }
 
+    @Override
+    public <T> List<T> loadEntities(List<LoadingParameters<T>> loadingParameters) {
+        assert loadingParameters != null;
+
+        flushPendingChanges();
+        this.instanceRegistry = new HashMap<>();
+        long loadStart = System.nanoTime();
+        final Map<NamedResource, Collection<Axiom<?>>> axioms = findAxiomsForBatchLoading(loadingParameters);
+        long loadTime = System.nanoTime() - loadStart;
+        final List<T> result = new ArrayList<>(loadingParameters.size());
+        try {
+            prefetchFetchGraphs(loadingParameters, axioms);
+            for (LoadingParameters<T> params : loadingParameters) {
+                final NamedResource subject = NamedResource.create(params.getIdentifier());
+                if (axioms.containsKey(subject)) {
+                    loadStart = System.nanoTime();
+                    result.add(reconstructLoadedEntity(params, axioms.get(subject)));
+                    loadTime += System.nanoTime() - loadStart;
+                } else {
+                    // Cached instances and instances requiring polymorphic loading are handled individually
+                    result.add(loadEntityInternal(params));
+                }
+            }
+        } finally {
+            prefetchedInstances.clear();
+        }
+        if (!axioms.isEmpty()) {
+            cache.recordLoad(axioms.size(), loadTime);
+        }
+        return result;
+    }
+
+    private <T> Map<NamedResource, Collection<Axiom<?>>> findAxiomsForBatchLoading(
+            List<LoadingParameters<T>> loadingParameters) {
+        final List<AxiomDescriptor> descriptors = new ArrayList<>(loadingParameters.size());
+        for (LoadingParameters<T> params : loadingParameters) {
+            final IdentifiableEntityType<T> et = getEntityType(params.getEntityType());
+            // Instances loaded with a fetch graph bypass the cache, the cached instance need not have the graph loaded
+            if (et.hasSubtypes() || (params.getFetchGraph() == null && defaultInstanceLoader.isCached(params, et))) {
+                continue;
+            }
+            descriptors.add(descriptorFactory.createForEntityLoading(params, et));
+        }
+        return findAll(descriptors);
+    }
+
+    private Map<NamedResource, Collection<Axiom<?>>> findAll(List<AxiomDescriptor> descriptors) {
+        if (descriptors.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return storageConnection.findAll(descriptors);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Loads axioms of instances referenced by the specified loaded instances via attributes with a fetch subgraph.
+     * <p>
+     * The referenced instances are loaded level by level, each level of the fetch graph using a single storage call.
+     * The loaded axioms are stored in {@link #prefetchedInstances} and used when the referenced instances are
+     * reconstructed.
+     *
+     * @param loaded Loading parameters of the loaded instances
+     * @param axioms Axioms of the loaded instances
+     */
+    private void prefetchFetchGraphs(List<? extends LoadingParameters<?>> loaded,
+                                     Map<NamedResource, Collection<Axiom<?>>> axioms) {
+        final Set<URI> visited = new HashSet<>();
+        loaded.forEach(params -> visited.add(params.getIdentifier()));
+        List<? extends LoadingParameters<?>> level = loaded;
+        Map<NamedResource, Collection<Axiom<?>>> levelAxioms = axioms;
+        while (!level.isEmpty()) {
+            final Map<URI, LoadingParameters<?>> nextLevel = new LinkedHashMap<>();
+            for (LoadingParameters<?> params : level) {
+                final Collection<Axiom<?>> subjectAxioms = levelAxioms.get(NamedResource.create(params.getIdentifier()));
+                if (params.getFetchGraph() != null && subjectAxioms != null) {
+                    collectSubgraphReferences(params, subjectAxioms, visited, nextLevel);
+                }
+            }
+            final List<LoadingParameters<?>> toLoad = new ArrayList<>(nextLevel.size());
+            final List<AxiomDescriptor> descriptors = new ArrayList<>(nextLevel.size());
+            for (LoadingParameters<?> params : nextLevel.values()) {
+                final IdentifiableEntityType<?> et = getEntityType(params.getEntityType());
+                // Instances requiring polymorphic loading are loaded individually, but still using their subgraph
+                prefetchedInstances.put(params.getIdentifier(), new PrefetchedInstance(params, null));
+                if (!et.hasSubtypes()) {
+                    toLoad.add(params);
+                    descriptors.add(descriptorFactory.createForEntityLoading(params, et));
+                }
+            }
+            levelAxioms = findAll(descriptors);
+            for (LoadingParameters<?> params : toLoad) {
+                prefetchedInstances.put(params.getIdentifier(), new PrefetchedInstance(params, levelAxioms.getOrDefault(
+                        NamedResource.create(params.getIdentifier()), Collections.emptyList())));
+            }
+            level = toLoad;
+        }
+    }
+
+    private <T> void collectSubgraphReferences(LoadingParameters<T> params, Collection<Axiom<?>> axioms,
+                                               Set<URI> visited, Map<URI, LoadingParameters<?>> target) {
+        final EntityType<T> et = getEntityType(params.getEntityType());
+        final FetchGraph graph = params.getFetchGraph();
+        for (Attribute<? super T, ?> att : et.getAttributes()) {
+            final Optional<FetchGraph> subgraph = graph.getSubgraph(att.getName());
+            if (!subgraph.isPresent() || !isPrefetchable(att)) {
+                continue;
+            }
+            final Class<?> targetType =
+                    att.isCollection() ? ((PluralAttribute<?, ?, ?>) att).getBindableJavaType() : att.getJavaType();
+            final Descriptor targetDescriptor = params.getDescriptor().getAttributeDescriptor(att);
+            final URI property = att.getIRI().toURI();
+            axioms.stream().filter(ax -> ax.getAssertion().getIdentifier().equals(property))
+                  .map(ax -> ax.getValue().getValue())
+                  .filter(NamedResource.class::isInstance)
+                  .map(v -> ((NamedResource) v).getIdentifier())
+                  .filter(id -> isPrefetchRequired(targetType, id, targetDescriptor, subgraph.get()) &&
+                          visited.add(id))
+                  .forEach(id -> target.put(id,
+                                            new LoadingParameters<>(targetType, id, targetDescriptor, subgraph.get())));
+        }
+    }
+
+    private boolean isPrefetchable(Attribute<?, ?> att) {
+        if (att.getPersistentAttributeType() != Attribute.PersistentAttributeType.OBJECT) {
+            return false;
+        }
+        if (att.isCollection()) {
+            final PluralAttribute<?, ?, ?> pluralAtt = (PluralAttribute<?, ?, ?>) att;
+            // List elements are not direct values of the attribute property
+            return pluralAtt.getCollectionType() != CollectionType.LIST && isManagedType(pluralAtt.getBindableJavaType());
+        }
+        return isManagedType(att.getJavaType());
+    }
+
+    private boolean isPrefetchRequired(Class<?> cls, URI identifier, Descriptor descriptor, FetchGraph subgraph) {
+        if (instanceRegistry.containsKey(identifier) || uow.getManagedOriginal(cls, identifier, descriptor) != null) {
+            return false;
+        }
+        return !subgraph.getAttributeNames().isEmpty() || !cache.contains(cls, identifier, descriptor);
+    }
+
+    private <T> T reconstructLoadedEntity(LoadingParameters<T> loadingParameters, Collection<Axiom<?>> axioms) {
+        final URI identifier = loadingParameters.getIdentifier();
+        final Class<T> cls = loadingParameters.getEntityType();
+        if (instanceRegistry.containsKey(identifier)) {
+            // The instance has already been loaded as a reference from another instance in the batch
+            final Object existing = instanceRegistry.get(identifier);
+            if (!cls.isAssignableFrom(existing.getClass())) {
+                throw individualAlreadyManaged(identifier);
+            }
+            return cls.cast(existing);
+        }
+        if (axioms.isEmpty()) {
+            return null;
+        }
+        try {
+            final T result = entityBuilder.reconstructEntity(identifier, getEntityType(cls),
+                                                             loadingParameters.getDescriptor(), axioms);
+            if (result != null) {
+                cache.add(identifier, result, loadingParameters.getDescriptor());
+            }
+            return result;
+        } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
     private <T> T loadEntityInternal(LoadingParameters<T> loadingParameters) {
         final IdentifiableEntityType<T> et = getEntityType(loadingParameters.getEntityType());
         final T result;
@@ -120,6 +303,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     public <T> T loadReference(LoadingParameters<T> loadingParameters) {
         assert loadingParameters != null;
 
+        flushPendingChanges();
         final IdentifiableEntityType<T> et = getEntityType(loadingParameters.getEntityType());
         if (et.hasSubtypes()) {
             return twoStepInstanceLoader.loadReference(loadingParameters);
@@ -144,6 +328,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         assert fieldSpec != null;
         assert descriptor != null;
 
+        flushPendingChanges();
         LOG.trace("Lazily loading value of field {} of entity {}.", fieldSpec, entity);
 
         final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
@@ -167,6 +352,45 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    @Override
+    public <T> void loadFieldValues(Map<T, Descriptor> entities, FieldSpecification<? super T, ?> fieldSpec) {
+        assert entities != null;
+        assert fieldSpec != null;
+
+        flushPendingChanges();
+        LOG.trace("Batch loading value of field {} of {} entities.", fieldSpec, entities.size());
+        final Map<NamedResource, AxiomDescriptor> descriptors = new LinkedHashMap<>(entities.size());
+        final Map<T, NamedResource> batch = new IdentityHashMap<>(entities.size());
+        // The same individual may be managed in different contexts, such instances are loaded separately
+        final List<T> loadSeparately = new ArrayList<>();
+        entities.forEach((entity, descriptor) -> {
+            final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+            final URI identifier = EntityPropertiesUtils.getIdentifier(entity, et);
+            final NamedResource subject = NamedResource.create(identifier);
+            if (descriptors.containsKey(subject)) {
+                loadSeparately.add(entity);
+            } else {
+                descriptors.put(subject, descriptorFactory.createForFieldLoading(identifier, fieldSpec, descriptor, et));
+                batch.put(entity, subject);
+            }
+        });
+        try {
+            final Map<NamedResource, Collection<Axiom<?>>> axioms = storageConnection.findAll(descriptors.values());
+            for (Map.Entry<T, NamedResource> e : batch.entrySet()) {
+                final T entity = e.getKey();
+                final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+                entityBuilder.setFieldValue(entity, fieldSpec, axioms.getOrDefault(e.getValue(),
+                                                                                   Collections.emptyList()), et,
+                                            entities.get(entity));
+            }
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (IllegalArgumentException e) {
+            throw new EntityReconstructionException(e);
+        }
+        loadSeparately.forEach(entity -> loadFieldValue(entity, fieldSpec, entities.get(entity)));
+    }
+
     @Override
     public <T> void persistEntity(URI identifier, T entity, Descriptor descriptor) {
         assert entity != null;
@@ -181,13 +405,69 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
             }
             entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
             final AxiomValueGatherer axiomBuilder = entityBreaker.mapEntityToAxioms(identifier, entity, et, descriptor);
-            axiomBuilder.persist(storageConnection);
+            if (persistBuffer != null) {
+                bufferPersist(axiomBuilder);
+            } else {
+                axiomBuilder.persist(storageConnection);
+            }
             persistPendingReferences(entity, axiomBuilder.getSubjectIdentifier());
         } catch (IllegalArgumentException e) {
             throw new EntityDeconstructionException("Unable to deconstruct entity " + entity, e);
         }
     }
 
+    private void bufferPersist(AxiomValueGatherer axiomBuilder) {
+        persistBuffer.add(axiomBuilder);
+        if (persistBuffer.size() >= persistBatchSize) {
+            flushPersistBuffer();
+        }
+    }
+
+    private void flushPersistBuffer() {
+        if (persistBuffer.isEmpty()) {
+            return;
+        }
+        LOG.trace("Writing {} buffered entities into the storage.", persistBuffer.size());
+        AxiomValueGatherer.persistAll(persistBuffer, storageConnection);
+        persistBuffer.clear();
+    }
+
+    /**
+     * Writes buffered entities and pending field updates into the storage so that subsequent storage reads see them.
+     */
+    private void flushPendingChanges() {
+        if (persistBuffer != null) {
+            flushPersistBuffer();
+        }
+        flushPendingUpdates();
+    }
+
+    @Override
+    public void startPersistBatch(int batchSize) {
+        assert batchSize > 0;
+        if (persistBuffer == null) {
+            this.persistBuffer = new ArrayList<>(batchSize);
+        }
+        this.persistBatchSize = batchSize;
+    }
+
+    @Override
+    public void finishPersistBatch() {
+        if (persistBuffer == null) {
+            return;
+        }
+        try {
+            flushPersistBuffer();
+        } finally {
+            this.persistBuffer = null;
+        }
+    }
+
+    @Override
+    public void cancelPersistBatch() {
+        this.persistBuffer = null;
+    }
+
     @Override
     public URI generateIdentifier(EntityType<?> et) {
         try {
@@ -230,6 +510,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         if (orig != null) {
             return orig;
         }
+        final PrefetchedInstance prefetched = prefetchedInstances.remove(identifier);
+        if (prefetched != null && !instanceRegistry.containsKey(identifier)) {
+            return loadPrefetchedInstance(prefetched, cls, identifier, descriptor);
+        }
         if (cache.contains(cls, identifier, descriptor)) {
             return defaultInstanceLoader.loadCached(getEntityType(cls), identifier, descriptor);
         } else if (instanceRegistry.containsKey(identifier)) {
@@ -244,6 +528,17 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    private <T> T loadPrefetchedInstance(PrefetchedInstance prefetched, Class<T> cls, URI identifier,
+                                         Descriptor descriptor) {
+        final LoadingParameters<T> params =
+                new LoadingParameters<>(cls, identifier, descriptor, prefetched.params.getFetchGraph());
+        if (prefetched.axioms != null && prefetched.params.getEntityType().equals(cls) &&
+                prefetched.params.getDescriptor().equals(descriptor)) {
+            return reconstructLoadedEntity(params, prefetched.axioms);
+        }
+        return loadEntityInternal(params);
+    }
+
     @Override
     public <T> T getOriginalInstance(T clone) {
         assert clone != null;
@@ -277,6 +572,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public <T> void removeEntity(URI identifier, Class<T> cls, Descriptor descriptor) {
+        flushPendingChanges();
         final EntityType<T> et = getEntityType(cls);
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(
                 new LoadingParameters<>(cls, identifier, descriptor, true), et);
@@ -291,15 +587,55 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     @Override
     public <T> void updateFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec,
                                      Descriptor entityDescriptor) {
+        flushPendingChanges();
+        mapFieldValue(entity, fieldSpec, entityDescriptor).update(storageConnection);
+    }
+
+    private <T> AxiomValueGatherer mapFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec,
+                                                 Descriptor entityDescriptor) {
         @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
         final URI pkUri = EntityPropertiesUtils.getIdentifier(entity, et);
 
         entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
         // It is OK to do it like this, because if necessary, the mapping will re-register a pending assertion
         removePendingAssertions(fieldSpec, pkUri);
-        final AxiomValueGatherer axiomBuilder =
-                entityBreaker.mapFieldToAxioms(pkUri, entity, fieldSpec, et, entityDescriptor);
-        axiomBuilder.update(storageConnection);
+        return entityBreaker.mapFieldToAxioms(pkUri, entity, fieldSpec, et, entityDescriptor);
+    }
+
+    @Override
+    public <T> void registerPendingUpdate(T entity, FieldSpecification<? super T, ?> fieldSpec,
+                                          Descriptor entityDescriptor) {
+        assert entity != null;
+        assert fieldSpec != null;
+
+        @SuppressWarnings("unchecked") PendingUpdate<T> update = (PendingUpdate<T>) pendingUpdates.get(entity);
+        if (update == null) {
+            update = new PendingUpdate<>(entity, entityDescriptor);
+            pendingUpdates.put(entity, update);
+            pendingUpdateOrder.add(update);
+        }
+        update.fields.add(fieldSpec);
+    }
+
+    @Override
+    public void flushPendingUpdates() {
+        if (pendingUpdateOrder.isEmpty()) {
+            return;
+        }
+        final List<AxiomValueGatherer> gatherers = new ArrayList<>();
+        try {
+            pendingUpdateOrder.forEach(update -> update.mapFieldValues(gatherers));
+        } finally {
+            discardPendingUpdates();
+        }
+        LOG.trace("Writing {} pending attribute updates into the storage.", gatherers.size());
+        AxiomValueGatherer.updateAll(gatherers, storageConnection);
+    }
+
+    @Override
+    public void discardPendingUpdates() {
+        pendingUpdates.clear();
+        pendingUpdateOrder.clear();
     }
 
     private <T> void removePendingAssertions(FieldSpecification<? super T, ?> fs, URI identifier) {
@@ -343,6 +679,7 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public boolean isInferred(Axiom<?> axiom, URI context) {
+        flushPendingChanges();
         try {
             return storageConnection.isInferred(axiom, context != null ? Collections.singleton(context) :
                                                        Collections.emptySet());
@@ -371,4 +708,36 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
     public UnitOfWorkImpl getUow() {
         return uow;
     }
+
+    /**
+     * Attributes of an entity whose values have changed, but have not been written into the storage yet.
+     */
+    private final class PendingUpdate<T> {
+        private final T entity;
+        private final Descriptor descriptor;
+        private final Set<FieldSpecification<? super T, ?>> fields = new LinkedHashSet<>();
+
+        private PendingUpdate(T entity, Descriptor descriptor) {
+            this.entity = entity;
+            this.descriptor = descriptor;
+        }
+
+        private void mapFieldValues(List<AxiomValueGatherer> target) {
+            fields.forEach(fs -> target.add(mapFieldValue(entity, fs, descriptor)));
+        }
+    }
+
+    /**
+     * Instance whose axioms were loaded in advance as part of a fetch graph.
+     */
+    private static final class PrefetchedInstance {
+        private final LoadingParameters<?> params;
+        // Null if the instance has to be loaded individually
+        private final Collection<Axiom<?>> axioms;
+
+        private PrefetchedInstance(LoadingParameters<?> params, Collection<Axiom<?>> axioms) {
+            this.params = params;
+            this.axioms = axioms;
+        }
+    }
 }
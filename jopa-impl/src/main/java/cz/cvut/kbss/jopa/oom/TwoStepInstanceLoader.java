@@ -19,18 +19,36 @@ package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.exception.InstantiationException;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.metamodel.AbstractIdentifiableType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
+import cz.cvut.kbss.jopa.model.metamodel.Type;
 import cz.cvut.kbss.jopa.oom.exceptions.EntityReconstructionException;
 import cz.cvut.kbss.jopa.oom.metamodel.PolymorphicEntityTypeResolver;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.AxiomImpl;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Loads instances of entity types with subtypes, i.e., where the actual entity type has to be resolved from the types
+ * of the loaded individual.
+ * <p>
+ * Where possible, the types of the individual and the values of attributes of all entity types in the hierarchy are
+ * loaded in a single storage call, the actual entity type is resolved from them and the instance is reconstructed from
+ * the same axioms. Otherwise, the types are loaded first and the instance is then loaded for the resolved entity type.
+ */
 class TwoStepInstanceLoader extends EntityInstanceLoader {
 
     private TwoStepInstanceLoader(TwoStepInstanceLoaderBuilder builder) {
@@ -41,6 +59,11 @@ class TwoStepInstanceLoader extends EntityInstanceLoader {
     <T> T loadEntity(LoadingParameters<T> loadingParameters) {
         final IdentifiableEntityType<T> rootEt = metamodel.entity(loadingParameters.getEntityType());
         try {
+            final Optional<AxiomDescriptor> hierarchyDescriptor =
+                    descriptorFactory.createForPolymorphicEntityLoading(loadingParameters, rootEt);
+            if (hierarchyDescriptor.isPresent()) {
+                return loadInstanceOfHierarchy(loadingParameters, rootEt, hierarchyDescriptor.get());
+            }
             final EntityType<? extends T> et = resolveEntityType(loadingParameters, rootEt);
             if (et == null) {
                 return null;
@@ -48,7 +71,77 @@ class TwoStepInstanceLoader extends EntityInstanceLoader {
             return loadInstance(loadingParameters, et);
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
+        } catch (InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
+    private <T> T loadInstanceOfHierarchy(LoadingParameters<T> loadingParameters, IdentifiableEntityType<T> rootEt,
+                                          AxiomDescriptor descriptor) throws OntoDriverException {
+        final EntityType<? extends T> cachedEt = findCachedEntityType(loadingParameters, rootEt);
+        if (cachedEt != null) {
+            return loadCached(cachedEt, loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
+        }
+        final long loadStart = System.nanoTime();
+        final Collection<Axiom<?>> axioms = storageConnection.find(descriptor);
+        if (axioms.isEmpty()) {
+            return null;
+        }
+        final NamedResource individual = NamedResource.create(loadingParameters.getIdentifier());
+        final Set<Axiom<URI>> types = axioms.stream().filter(MappingUtils::isClassAssertion)
+                                            .map(ax -> new AxiomImpl<>(individual, ax.getAssertion(),
+                                                    new Value<>(URI.create(ax.getValue().stringValue()))))
+                                            .collect(Collectors.toSet());
+        final EntityType<? extends T> et =
+                new PolymorphicEntityTypeResolver<>(individual, rootEt, types).determineActualEntityType();
+        if (et == null) {
+            return null;
+        }
+        final T result = entityBuilder.reconstructEntity(loadingParameters.getIdentifier(), et,
+                loadingParameters.getDescriptor(), filterAxiomsOfEntityType(loadingParameters, et, axioms));
+        cache.recordLoad(1, System.nanoTime() - loadStart);
+        return result;
+    }
+
+    /**
+     * Finds a unique entity type from the hierarchy for which an instance with the specified identifier is cached.
+     */
+    private <T> EntityType<? extends T> findCachedEntityType(LoadingParameters<T> loadingParameters,
+                                                             AbstractIdentifiableType<? extends T> type) {
+        if (loadingParameters.shouldBypassCache()) {
+            return null;
+        }
+        final Set<EntityType<? extends T>> cached = new HashSet<>(2);
+        collectCachedEntityTypes(loadingParameters, type, cached);
+        return cached.size() == 1 ? cached.iterator().next() : null;
+    }
+
+    private <T> void collectCachedEntityTypes(LoadingParameters<T> loadingParameters,
+                                              AbstractIdentifiableType<? extends T> type,
+                                              Set<EntityType<? extends T>> cached) {
+        if (type.getPersistenceType() == Type.PersistenceType.ENTITY && !type.isAbstract() &&
+                isCached(loadingParameters, (EntityType<? extends T>) type)) {
+            cached.add((EntityType<? extends T>) type);
+        }
+        type.getSubtypes().forEach(subtype -> collectCachedEntityTypes(loadingParameters, subtype, cached));
+    }
+
+    /**
+     * Retains only axioms which would be loaded for the specified entity type alone.
+     * <p>
+     * This prevents values of properties mapped by other entity types in the hierarchy from being processed as
+     * unmapped properties of the resolved entity type.
+     */
+    private <T> Collection<Axiom<?>> filterAxiomsOfEntityType(LoadingParameters<T> loadingParameters,
+                                                              EntityType<? extends T> et,
+                                                              Collection<Axiom<?>> axioms) {
+        final Set<Assertion> assertions = descriptorFactory.createForEntityLoading(loadingParameters, et)
+                                                           .getAssertions();
+        if (assertions.stream().anyMatch(a -> a.getType() == Assertion.AssertionType.PROPERTY)) {
+            // Unmapped property values belong to the properties field
+            return axioms;
         }
+        return axioms.stream().filter(ax -> assertions.contains(ax.getAssertion())).collect(Collectors.toList());
     }
 
     @Override
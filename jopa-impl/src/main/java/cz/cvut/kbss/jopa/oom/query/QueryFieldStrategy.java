@@ -65,7 +65,7 @@ public abstract class QueryFieldStrategy<T extends AbstractQueryAttribute<? supe
      * Note that this method assumes the value and the field are of compatible types, no check is done here.
      */
     void setValueOnInstance(Object instance, Object value) {
-        EntityPropertiesUtils.setFieldValue(attribute.getJavaField(), instance, value);
+        EntityPropertiesUtils.setAttributeValue(attribute, instance, value);
     }
 
     boolean isValidRange(Object value) {
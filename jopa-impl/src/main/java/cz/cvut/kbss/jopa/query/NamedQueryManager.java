@@ -17,16 +17,27 @@
  */
 package cz.cvut.kbss.jopa.query;
 
+import cz.cvut.kbss.jopa.exception.QueryParserException;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Manages named queries in the persistence unit.
+ * <p>
+ * Named queries are parsed when they are added, so that creating a named query does not require parsing it again.
  */
 public class NamedQueryManager {
 
+    private static final Logger LOG = LoggerFactory.getLogger(NamedQueryManager.class);
+
     private final Map<String, String> queryMap = new HashMap<>();
+    private final Map<String, SparqlQueryTemplate> templates = new HashMap<>();
 
     /**
      * Adds a named query mapping.
@@ -42,6 +53,12 @@ public class NamedQueryManager {
             throw new IllegalArgumentException("Query with name " + name + " already exists in this persistence unit.");
         }
         queryMap.put(name, query);
+        try {
+            templates.put(name, parseTemplate(query));
+        } catch (QueryParserException e) {
+            // Let the error be reported when the query is actually used
+            LOG.warn("Unable to parse named query {}.", name, e);
+        }
     }
 
     /**
@@ -57,4 +74,22 @@ public class NamedQueryManager {
         }
         return queryMap.get(name);
     }
+
+    /**
+     * Gets parsed template of a query mapped by the specified name.
+     *
+     * @param name Query name
+     * @return Query template
+     * @throws IllegalArgumentException If a query has not been defined with the given name
+     * @throws QueryParserException     If the query cannot be parsed
+     */
+    public SparqlQueryTemplate getTemplate(String name) {
+        final SparqlQueryTemplate template = templates.get(name);
+        return template != null ? template : parseTemplate(getQuery(name));
+    }
+
+    private static SparqlQueryTemplate parseTemplate(String query) {
+        // Template parsing does not require parameter value factory. The parser is stateful, so a new one is used
+        return new SparqlQueryParser(null).parseTemplate(query);
+    }
 }
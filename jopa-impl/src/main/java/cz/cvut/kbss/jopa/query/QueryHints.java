@@ -41,6 +41,45 @@ public class QueryHints {
      */
     public static final String TARGET_ONTOLOGY = "cz.cvut.kbss.jopa.query.targetOntology";
 
+    /**
+     * Allows to specify the number of entities loaded together when mapping results of a typed query to entities.
+     * <p>
+     * By default, each query result row is loaded as an entity separately. When a value greater than one is specified,
+     * identifiers of the result entities are collected in batches of the specified size and the entities in each batch
+     * are loaded from the storage together, which reduces the number of storage round trips.
+     * <p>
+     * When the query results are streamed ({@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()}), the
+     * identifiers are prefetched from the query result in chunks of the specified size and the entities of each chunk
+     * are loaded together.
+     * <p>
+     * The value is a positive integer, either as a number or as its string representation.
+     */
+    public static final String ENTITY_LOADING_BATCH_SIZE = "cz.cvut.kbss.jopa.query.entityLoadingBatchSize";
+
+    /**
+     * Indicates that entities streamed by {@link cz.cvut.kbss.jopa.model.query.TypedQuery#getResultStream()} should be
+     * detached from the persistence context once they have been processed.
+     * <p>
+     * This keeps memory consumption of the persistence context flat when streaming large query results. Entities are
+     * detached in chunks (see {@link #ENTITY_LOADING_BATCH_SIZE}), when the stream moves past the chunk they belong
+     * to. Changes made to the detached entities are not tracked and thus not written into the storage on commit.
+     * Instances newly persisted in the current persistence context are not detached.
+     * <p>
+     * Valid values are {@literal true} and {@literal false} (default).
+     */
+    public static final String DETACH_STREAMED_ENTITIES = "cz.cvut.kbss.jopa.query.detachStreamedEntities";
+
+    /**
+     * Allows to specify a fetch graph used when loading entities resulting from a typed query.
+     * <p>
+     * Attributes contained in the fetch graph are loaded together with the result entities, regardless of their fetch
+     * type. Referenced entities on the same level of the graph are loaded together. Combined with {@link
+     * #ENTITY_LOADING_BATCH_SIZE}, the graph is loaded for the whole batch of result entities at once.
+     * <p>
+     * The value is an instance of {@link cz.cvut.kbss.jopa.model.FetchGraph}.
+     */
+    public static final String FETCH_GRAPH = "cz.cvut.kbss.jopa.query.fetchGraph";
+
     private QueryHints() {
         throw new AssertionError();
     }
@@ -0,0 +1,188 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed query templates shared by all persistence contexts of a persistence unit.
+ * <p>
+ * Each distinct query string is parsed (and, in case of SOQL, translated to SPARQL) only once, persistence contexts
+ * then just instantiate query holders from the cached template. Templates are keyed by the query string and its
+ * language. The result class of a typed query does not influence parsing, so it is not part of the key.
+ * <p>
+ * When the capacity is exceeded, the least recently used template is evicted.
+ *
+ * @see JOPAPersistenceProperties#QUERY_CACHE_CAPACITY
+ */
+public class QueryTemplateCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryTemplateCache.class);
+
+    /**
+     * Default number of cached query templates.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Language of the cached query.
+     */
+    public enum QueryLanguage {
+        SPARQL, SOQL
+    }
+
+    private final int capacity;
+    private final Map<Key, SparqlQueryTemplate> templates;
+
+    private long hitCount;
+    private long missCount;
+
+    public QueryTemplateCache() {
+        this(Collections.emptyMap());
+    }
+
+    public QueryTemplateCache(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.capacity = properties.containsKey(JOPAPersistenceProperties.QUERY_CACHE_CAPACITY) ?
+                        resolveCapacitySetting(properties) : DEFAULT_CAPACITY;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SparqlQueryTemplate> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private static int resolveCapacitySetting(Map<String, String> properties) {
+        int capacitySetting = DEFAULT_CAPACITY;
+        try {
+            capacitySetting = Integer.parseInt(properties.get(JOPAPersistenceProperties.QUERY_CACHE_CAPACITY));
+            if (capacitySetting <= 0) {
+                LOG.warn("Invalid query cache capacity value {}. Using default value.", capacitySetting);
+                capacitySetting = DEFAULT_CAPACITY;
+            }
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query cache capacity setting. Using default capacity {}.", DEFAULT_CAPACITY);
+        }
+        return capacitySetting;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets template of the specified query, parsing it using the specified parser if it is not cached yet.
+     * <p>
+     * Parsing is done outside of the cache lock, so concurrent requests for the same uncached query may parse it
+     * multiple times. This is harmless as the resulting templates are equivalent.
+     *
+     * @param language Language of the query
+     * @param query    Query string
+     * @param parser   Parses the query string into a template
+     * @return Query template
+     */
+    public SparqlQueryTemplate get(QueryLanguage language, String query,
+                                   Function<String, SparqlQueryTemplate> parser) {
+        final Key key = new Key(language, query);
+        synchronized (this) {
+            final SparqlQueryTemplate cached = templates.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+        final SparqlQueryTemplate template = parser.apply(query);
+        synchronized (this) {
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Gets the number of cached templates.
+     *
+     * @return Cache size
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * Gets the number of query creations served from the cache.
+     *
+     * @return Number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of query creations which required the query to be parsed.
+     *
+     * @return Number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Evicts all the cached templates.
+     */
+    public synchronized void evictAll() {
+        templates.clear();
+    }
+
+    private static final class Key {
+
+        private final QueryLanguage language;
+        private final String query;
+
+        private Key(QueryLanguage language, String query) {
+            this.language = language;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return language == key.language && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(language, query);
+        }
+    }
+}
@@ -47,7 +47,7 @@ class ObjectPropertyFieldResultMapper extends FieldResultMapper {
         final Optional<Object> id = getVariableValue(resultRow);
         id.ifPresent(idValue -> {
             final Object value = resolveValue(uow, idValue);
-            EntityPropertiesUtils.setFieldValue(getFieldSpecification().getJavaField(), target, value);
+            EntityPropertiesUtils.setAttributeValue(getFieldSpecification(), target, value);
         });
     }
 
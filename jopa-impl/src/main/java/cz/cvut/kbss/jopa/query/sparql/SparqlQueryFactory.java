@@ -20,7 +20,9 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
+import cz.cvut.kbss.jopa.query.QueryHolder;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache.QueryLanguage;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
@@ -36,36 +38,50 @@ public class SparqlQueryFactory implements QueryFactory {
     private final UnitOfWorkImpl uow;
     private final ConnectionWrapper connection;
 
-    private final QueryParser queryParser;
+    private final ParameterValueFactory parameterValueFactory;
+    private final SparqlQueryParser queryParser;
     private final SoqlQueryParser soqlQueryParser;
+    private final QueryTemplateCache templateCache;
 
     public SparqlQueryFactory(UnitOfWorkImpl uow, ConnectionWrapper connection) {
         assert uow != null;
         assert connection != null;
         this.uow = uow;
         this.connection = connection;
-        this.queryParser = new SparqlQueryParser(new ParameterValueFactory(uow));
+        this.parameterValueFactory = new ParameterValueFactory(uow);
+        this.queryParser = new SparqlQueryParser(parameterValueFactory);
         this.soqlQueryParser = new SoqlQueryParser(queryParser, uow.getMetamodel());
+        this.templateCache = uow.getQueryTemplateCache();
+    }
+
+    private QueryHolder parseSparql(String sparql) {
+        return templateCache.get(QueryLanguage.SPARQL, sparql, queryParser::parseTemplate)
+                            .instantiate(parameterValueFactory);
+    }
+
+    private QueryHolder parseSoql(String soql) {
+        return templateCache.get(QueryLanguage.SOQL, soql,
+                                 q -> queryParser.parseTemplate(soqlQueryParser.translateToSparql(q)))
+                            .instantiate(parameterValueFactory);
     }
 
     @Override
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        return new QueryImpl(queryParser.parseQuery(sparql), connection);
+        return new QueryImpl(parseSparql(sparql), connection);
     }
 
     @Override
     public <T> TypedQueryImpl<T> createNativeQuery(String sparql, Class<T> resultClass) {
         Objects.requireNonNull(sparql, ErrorUtils.getNPXMessageSupplier("sparql"));
+        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
 
-        return createQueryImpl(sparql, resultClass, queryParser);
+        return createQueryImpl(parseSparql(sparql), resultClass);
     }
 
-    private <T> TypedQueryImpl<T> createQueryImpl(String query, Class<T> resultClass, QueryParser parser) {
-        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
-
-        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(parser.parseQuery(query), resultClass, connection, uow);
+    private <T> TypedQueryImpl<T> createQueryImpl(QueryHolder queryHolder, Class<T> resultClass) {
+        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(queryHolder, resultClass, connection, uow);
         tq.setUnitOfWork(uow);
         return tq;
     }
@@ -76,31 +92,33 @@ public class SparqlQueryFactory implements QueryFactory {
         Objects.requireNonNull(resultSetMapping, ErrorUtils.getNPXMessageSupplier("resultSetMapping"));
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        return new ResultSetMappingQuery(queryParser.parseQuery(sparql), connection, mapper, uow);
+        return new ResultSetMappingQuery(parseSparql(sparql), connection, mapper, uow);
     }
 
     @Override
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        return new QueryImpl(soqlQueryParser.parseQuery(query), connection);
+        return new QueryImpl(parseSoql(query), connection);
     }
 
     @Override
     public <T> TypedQueryImpl<T> createQuery(String query, Class<T> resultClass) {
         Objects.requireNonNull(query, ErrorUtils.getNPXMessageSupplier("query"));
-        return createQueryImpl(query, resultClass, soqlQueryParser);
+        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
+        return createQueryImpl(parseSoql(query), resultClass);
     }
 
     @Override
     public QueryImpl createNamedQuery(String name) {
-        final String query = uow.getNamedQueryManager().getQuery(name);
-        return createNativeQuery(query);
+        final SparqlQueryTemplate template = uow.getNamedQueryManager().getTemplate(name);
+        return new QueryImpl(template.instantiate(parameterValueFactory), connection);
     }
 
     @Override
     public <T> TypedQueryImpl<T> createNamedQuery(String name, Class<T> resultClass) {
-        final String query = uow.getNamedQueryManager().getQuery(name);
-        return createNativeQuery(query, resultClass);
+        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
+        final SparqlQueryTemplate template = uow.getNamedQueryManager().getTemplate(name);
+        return createQueryImpl(template.instantiate(parameterValueFactory), resultClass);
     }
 }
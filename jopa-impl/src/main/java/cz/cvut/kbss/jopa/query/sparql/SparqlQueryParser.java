@@ -18,14 +18,13 @@
 package cz.cvut.kbss.jopa.query.sparql;
 
 import cz.cvut.kbss.jopa.exception.QueryParserException;
-import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * A simplified SPARQL query parser.
@@ -34,6 +33,9 @@ import java.util.Map;
  * into chunks delimited by variable occurrences, so that the variables can be bound using parameters in the query API.
  * <p>
  * More diligent query parsing is left to the engine used to execute the resulting query.
+ * <p>
+ * The result of the parsing is an immutable {@link SparqlQueryTemplate}, which can be shared and instantiated into query
+ * holders repeatedly.
  */
 public class SparqlQueryParser implements QueryParser {
 
@@ -41,11 +43,12 @@ public class SparqlQueryParser implements QueryParser {
 
     private String query;
 
-    private Map<Object, QueryParameter<?>> uniqueParams;
+    private Set<Object> uniqueParams;
+    private Set<Object> projectedParams;
     private Integer positionalCounter;
 
     private List<String> queryParts;
-    private List<QueryParameter<?>> parameters;
+    private List<Object> parameters;
     private boolean inParam;
     private boolean inSQString; // In apostrophe string (')
     private boolean inDQString; // In double-quoted string (")
@@ -66,9 +69,23 @@ public class SparqlQueryParser implements QueryParser {
 
     @Override
     public SparqlQueryHolder parseQuery(String query) {
+        return parseTemplate(query).instantiate(parameterValueFactory);
+    }
+
+    /**
+     * Parses the specified query string into a template from which query holders can be created.
+     * <p>
+     * Unlike {@link #parseQuery(String)}, this method does not use the parameter value factory of this parser, so the
+     * resulting template is independent of any persistence context.
+     *
+     * @param query The query to parse
+     * @return Parsed query template
+     */
+    public SparqlQueryTemplate parseTemplate(String query) {
         this.query = query;
         this.queryParts = new ArrayList<>();
-        this.uniqueParams = new HashMap<>();
+        this.uniqueParams = new HashSet<>();
+        this.projectedParams = new HashSet<>();
         this.positionalCounter = 1;
         this.parameters = new ArrayList<>();
         this.inSQString = false;
@@ -132,7 +149,7 @@ public class SparqlQueryParser implements QueryParser {
         } else {
             queryParts.add(query.substring(lastParamEndIndex));
         }
-        return new SparqlQueryHolder(query, queryParts, parameters);
+        return new SparqlQueryTemplate(query, queryParts, parameters, projectedParams);
     }
 
     private void parameterStart(int index, ParamType paramType) {
@@ -151,8 +168,8 @@ public class SparqlQueryParser implements QueryParser {
         parameters.add(resolveParamIdentification(param));
     }
 
-    private QueryParameter<?> resolveParamIdentification(String identification) {
-        final QueryParameter<?> queryParameter;
+    private Object resolveParamIdentification(String identification) {
+        final Object queryParameter;
         if (identification.isEmpty()) {
             if (currentParamType == ParamType.POSITIONAL) {
                 queryParameter = getQueryParameter(positionalCounter++);
@@ -175,23 +192,19 @@ public class SparqlQueryParser implements QueryParser {
         return queryParameter;
     }
 
-    private QueryParameter<?> getQueryParameter(String name) {
-        // We want to reuse the param instances, so that changes to them apply throughout the whole query
-        if (!uniqueParams.containsKey(name)) {
-            final QueryParameter<?> qp = new QueryParameter<>(name, parameterValueFactory);
-            qp.setProjected(inProjection);
-            uniqueParams.put(name, qp);
+    private Object getQueryParameter(String name) {
+        // Projection is determined by the first occurrence of the parameter
+        if (uniqueParams.add(name) && inProjection) {
+            projectedParams.add(name);
         }
-        return uniqueParams.get(name);
+        return name;
     }
 
-    private QueryParameter<?> getQueryParameter(Integer position) {
-        if (uniqueParams.containsKey(position)) {
+    private Object getQueryParameter(Integer position) {
+        if (!uniqueParams.add(position)) {
             throw new QueryParserException("Parameter with position " + position + " already found in query " + query);
         }
-        final QueryParameter<?> qp = new QueryParameter<>(position, parameterValueFactory);
-        uniqueParams.put(position, qp);
-        return qp;
+        return position;
     }
 
     private void wordEnd() {
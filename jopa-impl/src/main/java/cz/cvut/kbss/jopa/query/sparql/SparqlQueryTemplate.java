@@ -0,0 +1,88 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.QueryParameter;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable representation of a parsed SPARQL query.
+ * <p>
+ * The template contains the query split into parts delimited by parameter occurrences. It does not hold any parameter
+ * values, so it can be shared by multiple persistence contexts. Query holders with their own parameter instances are
+ * created from it using {@link #instantiate(ParameterValueFactory)}.
+ */
+public class SparqlQueryTemplate {
+
+    private final String query;
+    private final List<String> queryParts;
+    // Parameter identifiers (names or positions) in order matching the query parts, can appear multiple times
+    private final List<Object> parameters;
+    private final Set<Object> projectedParameters;
+
+    SparqlQueryTemplate(String query, List<String> queryParts, List<Object> parameters,
+                        Set<Object> projectedParameters) {
+        this.query = query;
+        this.queryParts = Collections.unmodifiableList(new ArrayList<>(queryParts));
+        this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+        this.projectedParameters = Collections.unmodifiableSet(new HashSet<>(projectedParameters));
+    }
+
+    /**
+     * Gets the original query string.
+     *
+     * @return Query string
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Creates a new query holder based on this template.
+     * <p>
+     * Each holder gets its own parameter instances, all occurrences of a parameter in the query share the same
+     * instance.
+     *
+     * @param valueFactory Factory of parameter values used by the holder's parameters
+     * @return New query holder
+     */
+    public SparqlQueryHolder instantiate(ParameterValueFactory valueFactory) {
+        final Map<Object, QueryParameter<?>> uniqueParams = new HashMap<>();
+        final List<QueryParameter<?>> queryParameters = new ArrayList<>(parameters.size());
+        for (Object identifier : parameters) {
+            queryParameters.add(uniqueParams.computeIfAbsent(identifier, id -> createParameter(id, valueFactory)));
+        }
+        return new SparqlQueryHolder(query, queryParts, queryParameters);
+    }
+
+    private QueryParameter<?> createParameter(Object identifier, ParameterValueFactory valueFactory) {
+        final QueryParameter<?> qp = identifier instanceof Integer ?
+                                     new QueryParameter<>((Integer) identifier, valueFactory) :
+                                     new QueryParameter<>((String) identifier, valueFactory);
+        qp.setProjected(projectedParameters.contains(identifier));
+        return qp;
+    }
+}
@@ -61,13 +61,16 @@ abstract class AbstractInstanceBuilder {
 
     /**
      * Merges changes from clone to the original.
+     * <p>
+     * The result is not set on the object owning the field, this is left to the caller, which can use the metamodel
+     * attribute accessor where one is available.
      *
      * @param field         The field we are merging
-     * @param target        target object on which the values are merged
      * @param originalValue The original value
      * @param cloneValue    The clone value
+     * @return Value to set as the new value of the field on the original object
      */
-    abstract void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue);
+    abstract Object mergeChanges(Field field, Object originalValue, Object cloneValue);
 
     /**
      * Return the declared constructor for the specified class. If the constructor is not accessible, it is set
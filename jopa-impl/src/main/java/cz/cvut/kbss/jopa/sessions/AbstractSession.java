@@ -19,7 +19,9 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,4 +93,18 @@ public abstract class AbstractSession implements Session, MetamodelProvider, Con
      * @return {@link ResultSetMappingManager}
      */
     public abstract ResultSetMappingManager getResultSetMappingManager();
+
+    /**
+     * Gets the cache of parsed queries shared by all persistence contexts of this persistence unit.
+     *
+     * @return {@link QueryTemplateCache}
+     */
+    public abstract QueryTemplateCache getQueryTemplateCache();
+
+    /**
+     * Gets the tracker of query attribute values of instances in the second level cache.
+     *
+     * @return {@link QueryAttributeCache}
+     */
+    public abstract QueryAttributeCache getQueryAttributeCache();
 }
@@ -124,7 +124,7 @@ public class CloneBuilderImpl implements CloneBuilder {
                 continue;   // Already cloned
             }
             final Field f = fs.getJavaField();
-            final Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            final Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             if (origVal == null) {
                 continue;
             }
@@ -158,14 +158,14 @@ public class CloneBuilderImpl implements CloneBuilder {
                     }
                 }
             }
-            EntityPropertiesUtils.setFieldValue(f, clone, clonedValue);
+            EntityPropertiesUtils.setAttributeValue(fs, clone, clonedValue);
         }
     }
 
     private static void cloneIdentifier(Object original, Object clone, EntityType<?> et) {
         final Identifier<?, ?> identifier = et.getIdentifier();
-        final Object idValue = EntityPropertiesUtils.getFieldValue(identifier.getJavaField(), original);
-        EntityPropertiesUtils.setFieldValue(identifier.getJavaField(), clone, idValue);
+        final Object idValue = EntityPropertiesUtils.getAttributeValue(identifier, original);
+        EntityPropertiesUtils.setAttributeValue(identifier, clone, idValue);
     }
 
     private Descriptor getFieldDescriptor(Field field, Class<?> entityClass, Descriptor entityDescriptor) {
@@ -206,18 +206,20 @@ public class CloneBuilderImpl implements CloneBuilder {
         final Object original = changeSet.getChangedObject();
         try {
             for (ChangeRecord change : changeSet.getChanges()) {
-                Field f = change.getAttribute().getJavaField();
+                final FieldSpecification<?, ?> fs = change.getAttribute();
+                Field f = fs.getJavaField();
                 if (isImmutable(f.getType())) {
-                    EntityPropertiesUtils.setFieldValue(f, original, change.getNewValue());
+                    EntityPropertiesUtils.setAttributeValue(fs, original, change.getNewValue());
                     continue;
                 }
-                Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+                Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
                 Object newVal = change.getNewValue();
                 if (newVal == null) {
-                    EntityPropertiesUtils.setFieldValue(f, original, null);
+                    EntityPropertiesUtils.setAttributeValue(fs, original, null);
                     continue;
                 }
-                getInstanceBuilder(newVal).mergeChanges(f, original, origVal, newVal);
+                EntityPropertiesUtils.setAttributeValue(fs, original,
+                                                        getInstanceBuilder(newVal).mergeChanges(f, origVal, newVal));
             }
         } catch (SecurityException e) {
             throw new OWLPersistenceException(e);
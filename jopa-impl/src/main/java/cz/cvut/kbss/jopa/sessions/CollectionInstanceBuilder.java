@@ -22,7 +22,6 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Types;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.utils.CollectionFactory;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -198,7 +197,7 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    Object mergeChanges(Field field, Object originalValue, Object cloneValue) {
         assert originalValue == null || originalValue instanceof Collection;
         assert cloneValue instanceof Collection;
 
@@ -213,10 +212,8 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
             final Optional<Collection<?>> origOpt = createNewInstance(clone.getClass(), clone.size());
             orig = (Collection<Object>) origOpt.orElse(createDefaultCollection(clone.getClass()));
         }
-        EntityPropertiesUtils.setFieldValue(field, target, orig);
-
         if (clone.isEmpty()) {
-            return;
+            return orig;
         }
         for (Object cl : clone) {
             orig.add(uow.contains(cl) ? builder.getOriginal(cl) : cl);
@@ -225,6 +222,7 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         if (types != null) {
             MetamodelUtils.checkForModuleSignatureExtension(orig, builder.getMetamodel());
         }
+        return orig;
     }
 
     private static Collection<Object> createDefaultCollection(Class<?> cls) {
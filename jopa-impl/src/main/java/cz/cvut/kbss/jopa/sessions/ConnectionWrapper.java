@@ -31,11 +31,13 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ConnectionWrapper implements Wrapper {
 
     private final Connection connection;
+    private UnitOfWorkImpl uow;
     private ObjectOntologyMapper mapper;
 
     public ConnectionWrapper(Connection connection) {
@@ -43,6 +45,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     void setUnitOfWork(UnitOfWorkImpl uow) {
+        this.uow = uow;
         this.mapper = new ObjectOntologyMapperImpl(uow, connection);
     }
 
@@ -59,6 +62,10 @@ public class ConnectionWrapper implements Wrapper {
         return mapper.loadEntity(loadingParameters);
     }
 
+    public <T> List<T> findAll(List<LoadingParameters<T>> loadingParameters) {
+        return mapper.loadEntities(loadingParameters);
+    }
+
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
         return mapper.loadReference(loadingParameters);
     }
@@ -67,11 +74,40 @@ public class ConnectionWrapper implements Wrapper {
         mapper.updateFieldValue(entity, fieldSpec, descriptor);
     }
 
+    public <T> void deferMerge(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor) {
+        mapper.registerPendingUpdate(entity, fieldSpec, descriptor);
+    }
+
+    public void flushPendingMerges() {
+        mapper.flushPendingUpdates();
+    }
+
+    /**
+     * Notifies this connection that a SPARQL update has been executed through it.
+     */
+    public void updateExecuted() {
+        if (uow != null) {
+            uow.markUpdateExecuted();
+        }
+    }
+
     public <T> void persist(Object identifier, T entity, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
         mapper.persistEntity(idUri, entity, descriptor);
     }
 
+    public void startPersistBatch(int batchSize) {
+        mapper.startPersistBatch(batchSize);
+    }
+
+    public void finishPersistBatch() {
+        mapper.finishPersistBatch();
+    }
+
+    public void cancelPersistBatch() {
+        mapper.cancelPersistBatch();
+    }
+
     public <T> void remove(Object identifier, Class<T> cls, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
         mapper.removeEntity(idUri, cls, descriptor);
@@ -81,6 +117,10 @@ public class ConnectionWrapper implements Wrapper {
         mapper.loadFieldValue(entity, fieldSpec, descriptor);
     }
 
+    public <T> void loadFieldValues(Map<T, Descriptor> entities, FieldSpecification<? super T, ?> fieldSpec) {
+        mapper.loadFieldValues(entities, fieldSpec);
+    }
+
     public <T> Set<Axiom<?>> getAttributeAxioms(T entity, FieldSpecification<? super T, ?> fieldSpec,
                                                 Descriptor entityDescriptor) {
         return mapper.getAttributeAxioms(entity, fieldSpec, entityDescriptor);
@@ -93,6 +133,7 @@ public class ConnectionWrapper implements Wrapper {
 
     public void commit() {
         try {
+            mapper.flushPendingUpdates();
             mapper.checkForUnpersistedChanges();
             connection.commit();
         } catch (OntoDriverException e) {
@@ -101,6 +142,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public void rollback() {
+        mapper.discardPendingUpdates();
         try {
             connection.rollback();
         } catch (OntoDriverException e) {
@@ -117,6 +159,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public boolean isConsistent(URI context) {
+        mapper.flushPendingUpdates();
         try {
             return connection.isConsistent(context);
         } catch (OntoDriverException e) {
@@ -125,6 +168,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public boolean isInferred(Axiom<?> axiom, Set<URI> contexts) {
+        mapper.flushPendingUpdates();
         try {
             return connection.isInferred(axiom, contexts);
         } catch (OntoDriverException e) {
@@ -133,6 +177,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public List<URI> getContexts() {
+        mapper.flushPendingUpdates();
         try {
             return connection.getContexts();
         } catch (OntoDriverException e) {
@@ -141,6 +186,8 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public Statement createStatement() {
+        // Queries have to see changes made in the current transaction
+        mapper.flushPendingUpdates();
         try {
             return connection.createStatement();
         } catch (OntoDriverException e) {
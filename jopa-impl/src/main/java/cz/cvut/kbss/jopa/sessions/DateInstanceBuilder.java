@@ -17,7 +17,6 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 import java.util.Date;
@@ -38,8 +37,8 @@ class DateInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
-        EntityPropertiesUtils.setFieldValue(field, target, cloneValue);
+    Object mergeChanges(Field field, Object originalValue, Object cloneValue) {
+        return cloneValue;
     }
 
     @Override
@@ -118,23 +118,23 @@ class DefaultInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    Object mergeChanges(Field field, Object originalValue, Object cloneValue) {
         if (originalValue == null) {
-            Object clOrig = builder.getOriginal(cloneValue);
-            if (clOrig == null) {
-                clOrig = cloneValue;
-            }
-            EntityPropertiesUtils.setFieldValue(field, target, clOrig);
-            return;
+            final Object clOrig = builder.getOriginal(cloneValue);
+            return clOrig != null ? clOrig : cloneValue;
         }
         Class<?> cls = originalValue.getClass();
         if (builder.isTypeManaged(cls) && builder.getOriginal(cloneValue) != null) {
-            EntityPropertiesUtils.setFieldValue(field, target, builder.getOriginal(cloneValue));
-        } else {
-            mergeFieldChanges(originalValue, cloneValue, cls);
+            return builder.getOriginal(cloneValue);
         }
+        mergeFieldChanges(originalValue, cloneValue, cls);
+        return originalValue;
     }
 
+    /**
+     * Merges fields of a value whose class is not part of the metamodel, so its fields have to be accessed
+     * reflectively.
+     */
     private void mergeFieldChanges(Object originalValue, Object cloneValue, Class<?> cls) {
         List<Field> fields = EntityPropertiesUtils.getAllFields(cls);
         for (Field f : fields) {
@@ -143,7 +143,8 @@ class DefaultInstanceBuilder extends AbstractInstanceBuilder {
             if (!(clVal instanceof Collection) && !builder.isOriginalInUoW(origVal)) {
                 EntityPropertiesUtils.setFieldValue(f, originalValue, clVal);
             } else {
-                builder.getInstanceBuilder(origVal).mergeChanges(f, originalValue, origVal, clVal);
+                EntityPropertiesUtils.setFieldValue(f, originalValue,
+                        builder.getInstanceBuilder(origVal).mergeChanges(f, origVal, clVal));
             }
         }
     }
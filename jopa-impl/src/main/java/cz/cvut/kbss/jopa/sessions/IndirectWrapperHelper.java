@@ -53,6 +53,9 @@ class IndirectWrapperHelper {
      */
     Object createIndirectWrapper(Object wrapped, Object owner, Field field) {
         assert requiresIndirectWrapper(wrapped);
+        if (owner != null) {
+            uow.registerIndirectWrapperOwner(owner);
+        }
         if (wrapped instanceof List) {
             return new IndirectList<>(owner, field, uow, (List<?>) wrapped);
         } else if (wrapped instanceof Set) {
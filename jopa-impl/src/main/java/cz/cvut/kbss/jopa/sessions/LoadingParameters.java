@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 
 import java.net.URI;
@@ -28,6 +29,7 @@ public final class LoadingParameters<T> {
     private final URI identifier;
     private final Descriptor descriptor;
     private final boolean forceEager;
+    private final FetchGraph fetchGraph;
     private boolean bypassCache;
 
     public LoadingParameters(Class<T> cls, URI identifier, Descriptor descriptor) {
@@ -35,6 +37,7 @@ public final class LoadingParameters<T> {
         this.identifier = identifier;
         this.descriptor = descriptor;
         this.forceEager = false;
+        this.fetchGraph = null;
         assert paramsLoaded();
     }
 
@@ -43,6 +46,16 @@ public final class LoadingParameters<T> {
         this.identifier = identifier;
         this.descriptor = descriptor;
         this.forceEager = forceEager;
+        this.fetchGraph = null;
+        assert paramsLoaded();
+    }
+
+    public LoadingParameters(Class<T> cls, URI identifier, Descriptor descriptor, FetchGraph fetchGraph) {
+        this.cls = cls;
+        this.identifier = identifier;
+        this.descriptor = descriptor;
+        this.forceEager = false;
+        this.fetchGraph = fetchGraph;
         assert paramsLoaded();
     }
 
@@ -66,6 +79,15 @@ public final class LoadingParameters<T> {
         return forceEager;
     }
 
+    /**
+     * Gets fetch graph specifying attributes which should be loaded regardless of their fetch type.
+     *
+     * @return Fetch graph, {@code null} if none was specified
+     */
+    public FetchGraph getFetchGraph() {
+        return fetchGraph;
+    }
+
     public boolean shouldBypassCache() {
         return bypassCache;
     }
@@ -90,7 +112,7 @@ public final class LoadingParameters<T> {
             return false;
         }
         return Objects.equals(cls, that.cls) && Objects.equals(identifier, that.identifier) &&
-                Objects.equals(descriptor, that.descriptor);
+                Objects.equals(descriptor, that.descriptor) && Objects.equals(fetchGraph, that.fetchGraph);
     }
 
     @Override
@@ -99,6 +121,7 @@ public final class LoadingParameters<T> {
         result = 31 * result + identifier.hashCode();
         result = 31 * result + descriptor.hashCode();
         result = 31 * result + (forceEager ? 1 : 0);
+        result = 31 * result + Objects.hashCode(fetchGraph);
         result = 31 * result + (bypassCache ? 1 : 0);
         return result;
     }
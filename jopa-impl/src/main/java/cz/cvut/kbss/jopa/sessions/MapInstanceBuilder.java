@@ -19,7 +19,6 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -163,7 +162,7 @@ class MapInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    Object mergeChanges(Field field, Object originalValue, Object cloneValue) {
         assert (originalValue == null) || (originalValue instanceof Map);
         assert cloneValue instanceof Map;
 
@@ -177,11 +176,10 @@ class MapInstanceBuilder extends AbstractInstanceBuilder {
             if (orig == null) {
                 orig = createDefaultMap(clone.size());
             }
-            EntityPropertiesUtils.setFieldValue(field, target, orig);
         }
         orig.clear();
         if (clone.isEmpty()) {
-            return;
+            return orig;
         }
         for (Entry<?, ?> e : clone.entrySet()) {
             final Object key = e.getKey();
@@ -190,6 +188,7 @@ class MapInstanceBuilder extends AbstractInstanceBuilder {
             final Object valueToPut = uow.contains(value) ? builder.getOriginal(value) : value;
             orig.put(keyToPut, valueToPut);
         }
+        return orig;
     }
 
     private static Map<Object, Object> createDefaultMap(int size) {
@@ -19,7 +19,6 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.adapters.IndirectMultilingualString;
 import cz.cvut.kbss.jopa.model.MultilingualString;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
 import java.lang.reflect.Field;
 
@@ -39,17 +38,16 @@ class MultilingualStringInstanceBuilder extends AbstractInstanceBuilder {
         if (orig instanceof IndirectMultilingualString) {
             orig = ((IndirectMultilingualString) orig).unwrap();
         }
-        return new IndirectMultilingualString(cloneOwner, field, uow, new MultilingualString(orig.getValue()));
+        return uow.createIndirectCollection(new MultilingualString(orig.getValue()), cloneOwner, field);
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    Object mergeChanges(Field field, Object originalValue, Object cloneValue) {
         MultilingualString clone = (MultilingualString) cloneValue;
         if (clone instanceof IndirectMultilingualString) {
             clone = ((IndirectMultilingualString) clone).unwrap();
         }
-        EntityPropertiesUtils
-                .setFieldValue(field, target, clone != null ? new MultilingualString(clone.getValue()) : null);
+        return clone != null ? new MultilingualString(clone.getValue()) : null;
     }
 
     @Override
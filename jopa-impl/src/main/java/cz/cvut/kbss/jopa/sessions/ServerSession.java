@@ -23,8 +23,10 @@ import cz.cvut.kbss.jopa.model.AbstractEntityManager;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.Wrapper;
@@ -47,6 +49,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
     private final MetamodelImpl metamodel;
 
     private CacheManager liveObjectCache;
+    private QueryTemplateCache queryTemplateCache;
+    private QueryAttributeCache queryAttributeCache;
     private StorageAccessor storageAccessor;
 
     private Map<EntityTransaction, AbstractEntityManager> runningTransactions;
@@ -54,6 +58,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
     ServerSession() {
         super(new Configuration(Collections.emptyMap()));
         this.metamodel = null;
+        this.queryTemplateCache = new QueryTemplateCache();
+        this.queryAttributeCache = new QueryAttributeCache();
     }
 
     public ServerSession(OntologyStorageProperties storageProperties, Configuration configuration,
@@ -78,6 +84,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
         this.runningTransactions = new ConcurrentHashMap<>();
         this.liveObjectCache = CacheFactory.createCache(configuration.getProperties());
         liveObjectCache.setInferredClasses(metamodel.getInferredClasses());
+        this.queryTemplateCache = new QueryTemplateCache(configuration.getProperties());
+        this.queryAttributeCache = new QueryAttributeCache(configuration.getProperties());
         this.storageAccessor = new DefaultStorageAccessor(storageProperties, configuration.getProperties());
     }
 
@@ -120,6 +128,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
             }
         }
         liveObjectCache.close();
+        queryTemplateCache.evictAll();
+        queryAttributeCache.evictAll();
     }
 
     @Override
@@ -147,6 +157,16 @@ public class ServerSession extends AbstractSession implements Wrapper {
         return metamodel.getResultSetMappingManager();
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
+    @Override
+    public QueryAttributeCache getQueryAttributeCache() {
+        return queryAttributeCache;
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         Objects.requireNonNull(cls);
@@ -154,6 +174,8 @@ public class ServerSession extends AbstractSession implements Wrapper {
             return cls.cast(this);
         } else if (cls.isAssignableFrom(liveObjectCache.getClass())) {
             return cls.cast(liveObjectCache);
+        } else if (cls.isAssignableFrom(queryTemplateCache.getClass())) {
+            return cls.cast(queryTemplateCache);
         }
         return storageAccessor.unwrap(cls);
     }
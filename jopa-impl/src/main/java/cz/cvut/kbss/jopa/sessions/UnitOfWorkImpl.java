@@ -24,18 +24,23 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
 import cz.cvut.kbss.jopa.model.BeanListenerAspect;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.lifecycle.PostLoadInvoker;
+import cz.cvut.kbss.jopa.model.metamodel.AbstractAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaBuilderImpl;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecordImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
@@ -44,15 +49,18 @@ import cz.cvut.kbss.jopa.sessions.descriptor.InstanceDescriptorFactory;
 import cz.cvut.kbss.jopa.sessions.validator.AttributeModificationValidator;
 import cz.cvut.kbss.jopa.sessions.validator.InferredAttributeChangeValidator;
 import cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import org.aspectj.lang.Aspects;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -75,11 +83,15 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
     private final Map<Object, Object> newObjectsCloneToOriginal;
     private final Map<Object, Object> newObjectsKeyToClone = new HashMap<>();
     private final Map<Object, InstanceDescriptor> instanceDescriptors;
+    // Instances holding indirect wrappers, only these have to be unwrapped when detached
+    private final Set<Object> indirectWrapperOwners = Collections.newSetFromMap(new IdentityHashMap<>());
     private RepositoryMap repoMap;
 
     private boolean hasChanges;
     private boolean hasNew;
     private boolean hasDeleted;
+    private boolean updateExecuted;
+    private boolean writeBehind;
     private boolean shouldReleaseAfterCommit;
     private boolean shouldClearCacheAfterCommit;
 
@@ -122,6 +134,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.mergeManager = new MergeManagerImpl(this);
         this.changeManager = new ChangeManagerImpl(this);
         this.inferredAttributeChangeValidator = new InferredAttributeChangeValidator(storage);
+        this.writeBehind = configuration.is(JOPAPersistenceProperties.WRITE_BEHIND);
         this.isActive = true;
     }
 
@@ -143,14 +156,19 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
 
     @Override
     public <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor) {
+        return readObject(cls, identifier, descriptor, null);
+    }
+
+    @Override
+    public <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph) {
         Objects.requireNonNull(cls);
         Objects.requireNonNull(identifier);
         Objects.requireNonNull(descriptor);
 
-        return readObjectInternal(cls, identifier, descriptor);
+        return readObjectInternal(cls, identifier, descriptor, fetchGraph);
     }
 
-    private <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor) {
+    private <T> T readObjectInternal(Class<T> cls, Object identifier, Descriptor descriptor, FetchGraph fetchGraph) {
         assert cls != null;
         assert identifier != null;
         assert descriptor != null;
@@ -158,17 +176,63 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (result != null) {
             return result;
         }
-        result = storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor));
+        result = storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor, fetchGraph));
 
         if (result == null) {
             return null;
         }
-        final Object clone = registerExistingObject(result, descriptor,
+        return registerLoadedObject(cls, result, descriptor);
+    }
+
+    private <T> T registerLoadedObject(Class<T> cls, T original, Descriptor descriptor) {
+        final Object clone = registerExistingObject(original, descriptor,
                 Collections.singletonList(new PostLoadInvoker(getMetamodel())));
         checkForIndirectObjects(clone);
         return cls.cast(clone);
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        return readObjects(cls, identifiers, descriptor, null);
+    }
+
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor, FetchGraph fetchGraph) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        final List<T> result = new ArrayList<>(identifiers.size());
+        final Map<URI, LoadingParameters<T>> toLoad = new LinkedHashMap<>();
+        for (Object identifier : identifiers) {
+            Objects.requireNonNull(identifier);
+            final T managed = readManagedObject(cls, identifier, descriptor);
+            result.add(managed);
+            if (managed == null) {
+                final URI idUri = getValueAsURI(identifier);
+                toLoad.putIfAbsent(idUri, new LoadingParameters<>(cls, idUri, descriptor, fetchGraph));
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+        final List<LoadingParameters<T>> params = new ArrayList<>(toLoad.values());
+        final List<T> loaded = storage.findAll(params);
+        final Map<URI, T> clones = new HashMap<>(loaded.size());
+        for (int i = 0; i < params.size(); i++) {
+            final T original = loaded.get(i);
+            if (original != null) {
+                clones.put(params.get(i).getIdentifier(), registerLoadedObject(cls, original, descriptor));
+            }
+        }
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == null) {
+                result.set(i, clones.get(getValueAsURI(identifiers.get(i))));
+            }
+        }
+        return result;
+    }
+
     private <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // First try to find the object among new uncommitted objects
         Object result = newObjectsKeyToClone.get(identifier);
@@ -266,9 +330,11 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         newObjectsCloneToOriginal.clear();
         newObjectsKeyToClone.clear();
         instanceDescriptors.clear();
+        indirectWrapperOwners.clear();
         this.hasChanges = false;
         this.hasDeleted = false;
         this.hasNew = false;
+        this.updateExecuted = false;
         cloneBuilder.reset();
         this.repoMap = new RepositoryMap();
         repoMap.initDescriptors();
@@ -473,6 +539,16 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.hasChanges = true;
     }
 
+    /**
+     * Records that a SPARQL update has been executed in this persistence context.
+     * <p>
+     * The update may have changed any data, so query attribute values of cached instances cannot be reused after
+     * commit.
+     */
+    void markUpdateExecuted() {
+        this.updateExecuted = true;
+    }
+
     @Override
     public CacheManager getLiveObjectCache() {
         return parent.getLiveObjectCache();
@@ -511,8 +587,25 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
                 newObjectsCloneToOriginal.containsKey(entity);
     }
 
+    /**
+     * Checks whether an instance with the specified identifier is managed by this persistence context.
+     * <p>
+     * Both instances loaded from the storage and newly persisted instances are considered.
+     *
+     * @param identifier Instance identifier
+     * @return {@code true} if an instance with the specified identifier is managed, {@code false} otherwise
+     */
+    public boolean isIdentifierManaged(Object identifier) {
+        Objects.requireNonNull(identifier);
+        return keysToClones.containsKey(identifier) || newObjectsKeyToClone.containsKey(identifier);
+    }
+
     /**
      * Persists changed value of the specified field.
+     * <p>
+     * If {@link JOPAPersistenceProperties#WRITE_BEHIND} is enabled, the change is only recorded and the value is
+     * written into the storage together with other recorded changes before the storage is read or when the
+     * transaction is committed.
      *
      * @param entity Entity with changes (the clone)
      * @param f      The field whose value has changed
@@ -530,10 +623,14 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
             inferredAttributeChangeValidator.validateChange(entity, getOriginal(entity), fieldSpec, descriptor);
         }
         et.getLifecycleListenerManager().invokePreUpdateCallbacks(entity);
-        storage.merge(entity, fieldSpec, descriptor);
+        if (writeBehind) {
+            storage.deferMerge(entity, fieldSpec, descriptor);
+        } else {
+            storage.merge(entity, fieldSpec, descriptor);
+        }
         createAndRegisterChangeRecord(entity, fieldSpec, descriptor);
         setHasChanges();
-        setIndirectObjectIfPresent(entity, f);
+        setIndirectObjectIfPresent(entity, fieldSpec);
         et.getLifecycleListenerManager().invokePostUpdateCallbacks(entity);
         instanceDescriptors.get(entity).setLoaded(fieldSpec, LoadState.LOADED);
     }
@@ -545,8 +642,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
             return;
         }
         final ChangeRecord record = new ChangeRecordImpl(fieldSpec,
-                EntityPropertiesUtils.getFieldValue(fieldSpec.getJavaField(),
-                        clone));
+                EntityPropertiesUtils.getAttributeValue(fieldSpec, clone));
         preventCachingIfReferenceIsNotLoaded(record);
         registerChangeRecord(clone, orig, descriptor, record);
     }
@@ -574,6 +670,10 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (hasChanges()) {
             mergeManager.mergeChangesFromChangeSet(uowChangeSet);
         }
+        if (hasChanges() || updateExecuted) {
+            // Query attributes may depend on any data, not just on the instances changed by this transaction
+            getQueryAttributeCache().evictAll();
+        }
         evictPossiblyUpdatedReferencesFromCache();
     }
 
@@ -697,6 +797,16 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         return parent.getNamedQueryManager();
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return parent.getQueryTemplateCache();
+    }
+
+    @Override
+    public QueryAttributeCache getQueryAttributeCache() {
+        return parent.getQueryAttributeCache();
+    }
+
     @Override
     public ResultSetMappingManager getResultSetMappingManager() {
         return parent.getResultSetMappingManager();
@@ -728,12 +838,27 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         cloneToOriginals.put(clone, original);
         final Object identifier = EntityPropertiesUtils.getIdentifier(clone, getMetamodel());
         keysToClones.put(identifier, clone);
-        final InstanceDescriptor<?> instanceDesc = identifier != null ? InstanceDescriptorFactory.create(clone, (EntityType<Object>) entityType(clone.getClass())) : InstanceDescriptorFactory.createAllLoaded(clone, (EntityType<Object>) entityType(clone.getClass()));
+        final EntityType<Object> et = (EntityType<Object>) entityType(clone.getClass());
+        final InstanceDescriptor<Object> instanceDesc = identifier != null ? InstanceDescriptorFactory.create(clone, et) : InstanceDescriptorFactory.createAllLoaded(clone, et);
+        markStaleQueryAttributes(original, et, instanceDesc);
         instanceDescriptors.put(clone, instanceDesc);
         registerEntityWithPersistenceContext(clone);
         registerEntityWithOntologyContext(clone, descriptor);
     }
 
+    /**
+     * Marks query attributes whose values in the specified original are not valid anymore as having unknown load
+     * state, so that they are re-evaluated only when accessed.
+     */
+    private void markStaleQueryAttributes(Object original, EntityType<Object> et,
+                                          InstanceDescriptor<Object> instanceDesc) {
+        if (original == null || et.getQueryAttributes().isEmpty() || getQueryAttributeCache().isValid(original)) {
+            return;
+        }
+        et.getQueryAttributes().stream().filter(qa -> qa.getFetchType() != FetchType.LAZY)
+          .forEach(qa -> instanceDesc.setLoaded(qa, LoadState.UNKNOWN));
+    }
+
     /**
      * Release this Unit of Work. Releasing an active Unit of Work with uncommitted changes causes all pending changes
      * to be discarded.
@@ -797,6 +922,51 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         registerNewObjectInternal(entity, descriptor);
     }
 
+    /**
+     * Starts buffering of new objects registered in this Unit of Work.
+     * <p>
+     * Until {@link #finishPersistBatch()} is invoked, axioms of objects passed to {@link #registerNewObject(Object,
+     * Descriptor)} are written into the storage in chunks, whose size is given by {@link
+     * JOPAPersistenceProperties#PERSIST_BATCH_SIZE}.
+     */
+    public void startPersistBatch() {
+        storage.startPersistBatch(resolvePersistBatchSize());
+    }
+
+    private int resolvePersistBatchSize() {
+        final String setting = getConfiguration().get(JOPAPersistenceProperties.PERSIST_BATCH_SIZE);
+        if (setting == null) {
+            return Constants.DEFAULT_PERSIST_BATCH_SIZE;
+        }
+        try {
+            final int batchSize = Integer.parseInt(setting);
+            if (batchSize > 0) {
+                return batchSize;
+            }
+            LOG.warn("Invalid persist batch size value {}. Using default value.", batchSize);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse persist batch size setting. Using default value {}.",
+                    Constants.DEFAULT_PERSIST_BATCH_SIZE);
+        }
+        return Constants.DEFAULT_PERSIST_BATCH_SIZE;
+    }
+
+    /**
+     * Writes any objects buffered since {@link #startPersistBatch()} into the storage and stops buffering.
+     */
+    public void finishPersistBatch() {
+        storage.finishPersistBatch();
+    }
+
+    /**
+     * Stops buffering of new objects, discarding the buffered ones.
+     * <p>
+     * Used when persisting a batch fails and the transaction is going to be rolled back anyway.
+     */
+    public void cancelPersistBatch() {
+        storage.cancelPersistBatch();
+    }
+
     /**
      * Registers the specified entity for persist in this Unit of Work.
      *
@@ -910,10 +1080,14 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.entityManager = entityManager;
         // TODO This is a temporary workaround, configuration should be provided in constructor
         this.configuration = entityManager.getConfiguration();
+        this.writeBehind = configuration.is(JOPAPersistenceProperties.WRITE_BEHIND);
     }
 
     @Override
     public void writeUncommittedChanges() {
+        if (writeBehind) {
+            storage.flushPendingMerges();
+        }
         if (hasChanges()) {
             commitUnitOfWork();
         }
@@ -965,15 +1139,55 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
             return;
         }
 
-        storage.loadFieldValue(entity, fieldSpec, entityDescriptor);
-        final Object orig = EntityPropertiesUtils.getFieldValue(field, entity);
+        final int batchSize = fieldSpec instanceof AbstractAttribute ?
+                              ((AbstractAttribute<? super T, ?>) fieldSpec).getBatchFetchSize() : 1;
+        if (batchSize > 1) {
+            final Map<T, Descriptor> batch = findInstancesForBatchFetch(entity, fieldSpec, batchSize);
+            storage.loadFieldValues(batch, fieldSpec);
+            batch.forEach((instance, descriptor) -> initLoadedFieldValue(instance, field, fieldSpec, descriptor));
+        } else {
+            storage.loadFieldValue(entity, fieldSpec, entityDescriptor);
+            initLoadedFieldValue(entity, field, fieldSpec, entityDescriptor);
+        }
+    }
+
+    /**
+     * Finds managed instances of the same type as the specified entity whose value of the specified field has not been
+     * loaded yet, so that the field can be loaded for all of them at once.
+     * <p>
+     * The result always contains the specified entity.
+     */
+    private <T> Map<T, Descriptor> findInstancesForBatchFetch(T entity, FieldSpecification<? super T, ?> fieldSpec,
+                                                              int batchSize) {
+        final Map<T, Descriptor> batch = new IdentityHashMap<>(batchSize);
+        batch.put(entity, getDescriptor(entity));
+        for (Object instance : cloneMapping) {
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            if (instance.getClass() != entity.getClass() || instance == entity ||
+                    deletedObjects.containsKey(instance)) {
+                continue;
+            }
+            final InstanceDescriptor<?> instanceDescriptor = instanceDescriptors.get(instance);
+            if (instanceDescriptor == null || instanceDescriptor.isLoaded(fieldSpec) == LoadState.LOADED) {
+                continue;
+            }
+            batch.put((T) instance, getDescriptor(instance));
+        }
+        return batch;
+    }
+
+    private <T> void initLoadedFieldValue(T entity, Field field, FieldSpecification<? super T, ?> fieldSpec,
+                                          Descriptor entityDescriptor) {
+        final Object orig = EntityPropertiesUtils.getAttributeValue(fieldSpec, entity);
         final Object entityOriginal = getOriginal(entity);
         if (entityOriginal != null) {
-            EntityPropertiesUtils.setFieldValue(field, entityOriginal, orig);
+            EntityPropertiesUtils.setAttributeValue(fieldSpec, entityOriginal, orig);
         }
         final Descriptor fieldDescriptor = getFieldDescriptor(entity, field, entityDescriptor);
         final Object clone = cloneLoadedFieldValue(entity, field, fieldDescriptor, orig);
-        EntityPropertiesUtils.setFieldValue(field, entity, clone);
+        EntityPropertiesUtils.setAttributeValue(fieldSpec, entity, clone);
         instanceDescriptors.get(entity).setLoaded(fieldSpec, LoadState.LOADED);
     }
 
@@ -1059,7 +1273,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         assert entity != null;
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fieldSpec : et.getFieldSpecifications()) {
-            setIndirectObjectIfPresent(entity, fieldSpec.getJavaField());
+            setIndirectObjectIfPresent(entity, fieldSpec);
         }
     }
 
@@ -1069,21 +1283,21 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
      * If the specified field is of Collection type and it is not already an indirect collection, create new one and set
      * it as the value of the specified field on the specified entity.
      *
-     * @param entity The entity collection will be set on
-     * @param field  The field to set
+     * @param entity    The entity collection will be set on
+     * @param fieldSpec The attribute to set
      * @throws IllegalArgumentException Reflection
      */
-    private void setIndirectObjectIfPresent(Object entity, Field field) {
+    private void setIndirectObjectIfPresent(Object entity, FieldSpecification<?, ?> fieldSpec) {
         assert entity != null;
-        assert field != null;
+        assert fieldSpec != null;
 
-        final Object value = EntityPropertiesUtils.getFieldValue(field, entity);
+        final Object value = EntityPropertiesUtils.getAttributeValue(fieldSpec, entity);
         if (value instanceof IndirectWrapper) {
             return;
         }
         if (IndirectWrapperHelper.requiresIndirectWrapper(value)) {
-            EntityPropertiesUtils
-                    .setFieldValue(field, entity, indirectWrapperHelper.createIndirectWrapper(value, entity, field));
+            EntityPropertiesUtils.setAttributeValue(fieldSpec, entity, indirectWrapperHelper
+                    .createIndirectWrapper(value, entity, fieldSpec.getJavaField()));
         }
     }
 
@@ -1100,19 +1314,33 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         return indirectWrapperHelper.createIndirectWrapper(collection, owner, field);
     }
 
+    /**
+     * Records that an indirect wrapper has been created for an attribute of the specified instance.
+     *
+     * @param owner Instance owning the indirect wrapper
+     */
+    void registerIndirectWrapperOwner(Object owner) {
+        indirectWrapperOwners.add(owner);
+    }
+
     /**
      * Removes {@link IndirectWrapper} instances from the specified entity (if present).
+     * <p>
+     * Instances for which no indirect wrapper has been created are skipped without inspecting their attributes.
      *
      * @param entity The entity to remove indirect wrappers from
      */
     private void removeIndirectWrappers(Object entity) {
         assert entity != null;
+        if (!indirectWrapperOwners.remove(entity)) {
+            return;
+        }
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
-            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
+            final Object value = EntityPropertiesUtils.getAttributeValue(fs, entity);
             if (value instanceof IndirectWrapper) {
                 IndirectWrapper indirectWrapper = (IndirectWrapper) value;
-                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indirectWrapper.unwrap());
+                EntityPropertiesUtils.setAttributeValue(fs, entity, indirectWrapper.unwrap());
             }
         }
     }
@@ -34,6 +34,8 @@ public abstract class CacheFactory {
 
     private static final String LRU_CACHE = "lru";
     private static final String TTL_CACHE = "ttl";
+    private static final String CONCURRENT_CACHE = "concurrent";
+    private static final String WEIGHTED_CACHE = "weighted";
 
     private CacheFactory() {
         throw new AssertionError();
@@ -64,6 +66,12 @@ public abstract class CacheFactory {
             case TTL_CACHE:
                 LOG.debug("Using TTL cache.");
                 return new TtlCacheManager(properties);
+            case CONCURRENT_CACHE:
+                LOG.debug("Using concurrent cache.");
+                return new ConcurrentCacheManager();
+            case WEIGHTED_CACHE:
+                LOG.debug("Using weighted cache.");
+                return new WeightedCacheManager(properties);
             default:
                 throw new IllegalArgumentException("Invalid second level cache type " + cacheType);
         }
@@ -0,0 +1,216 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+import cz.cvut.kbss.jopa.utils.ErrorUtils;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Second level cache partitioned by repository contexts and built on concurrent maps.
+ * <p>
+ * Unlike {@link LruCacheManager} and {@link TtlCacheManager}, this implementation does not use a cache-wide lock.
+ * Reads are lock-free. Writes lock only the hash bin of the affected individual in the affected context partition,
+ * so concurrent updates of different individuals (or different contexts) do not block each other.
+ * <p>
+ * Eviction of a whole context is atomic, i.e., a concurrent reader sees either the whole context content or nothing
+ * from it.
+ * <p>
+ * This cache is unbounded, entries are removed only by explicit eviction.
+ */
+public class ConcurrentCacheManager implements CacheManager {
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    private final ConcurrentMap<URI, ContextPartition> partitions = new ConcurrentHashMap<>();
+    private final URI defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    private volatile Set<Class<?>> inferredClasses = Collections.emptySet();
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("identifier"));
+        Objects.requireNonNull(entity, ErrorUtils.getNPXMessageSupplier("entity"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+
+        if (descriptor.getContexts().size() > 1) {
+            return;
+        }
+        final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
+        partitions.computeIfAbsent(ctx, k -> new ContextPartition())
+                  .put(identifier, entity.getClass(), new CacheEntry(entity, descriptor));
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = find(cls, identifier, descriptor);
+        statsCounter.recordGet(entry);
+        return entry != null ? cls.cast(entry.instance) : null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        final boolean result = find(cls, identifier, descriptor) != null;
+        statsCounter.recordContains(result);
+        return result;
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        for (URI ctx : contexts) {
+            final ContextPartition partition = partitions.get(ctx);
+            if (partition == null) {
+                continue;
+            }
+            final CacheEntry entry = partition.get(identifier, cls);
+            if (entry != null && entry.descriptor.equals(descriptor)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+
+        final ContextPartition partition = partitions.get(context != null ? context : defaultContext);
+        if (partition != null) {
+            partition.remove(identifier, cls);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        partitions.values().forEach(p -> p.removeAll(cls));
+    }
+
+    @Override
+    public void evict(URI context) {
+        partitions.remove(context != null ? context : defaultContext);
+    }
+
+    @Override
+    public void evictAll() {
+        partitions.clear();
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        inferredClasses.forEach(this::evict);
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses != null ? inferredClasses : Collections.emptySet();
+    }
+
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statsCounter.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statsCounter.snapshot();
+    }
+
+    @Override
+    public void close() {
+        evictAll();
+    }
+
+    /**
+     * Gets descriptors of all the cached instances.
+     *
+     * @return Identity-based map of cached instances to their descriptors
+     */
+    Map<Object, Descriptor> getDescriptors() {
+        final Map<Object, Descriptor> result = new IdentityHashMap<>();
+        partitions.values().forEach(p -> p.individuals.values().forEach(
+                m -> m.values().forEach(e -> result.put(e.instance, e.descriptor))));
+        return result;
+    }
+
+    /**
+     * Cache content of a single repository context.
+     * <p>
+     * All modifications of an individual's entry are performed atomically with respect to that individual.
+     */
+    private static final class ContextPartition {
+
+        private final ConcurrentMap<Object, Map<Class<?>, CacheEntry>> individuals = new ConcurrentHashMap<>();
+
+        CacheEntry get(Object identifier, Class<?> cls) {
+            final Map<Class<?>, CacheEntry> m = individuals.get(identifier);
+            return m != null ? m.get(cls) : null;
+        }
+
+        void put(Object identifier, Class<?> cls, CacheEntry entry) {
+            individuals.compute(identifier, (id, m) -> {
+                final Map<Class<?>, CacheEntry> result = m != null ? m : new ConcurrentHashMap<>(2);
+                result.put(cls, entry);
+                return result;
+            });
+        }
+
+        void remove(Object identifier, Class<?> cls) {
+            individuals.computeIfPresent(identifier, (id, m) -> {
+                m.remove(cls);
+                return m.isEmpty() ? null : m;
+            });
+        }
+
+        void removeAll(Class<?> cls) {
+            individuals.keySet().forEach(id -> remove(id, cls));
+        }
+    }
+
+    /**
+     * Immutable pair of a cached instance and the descriptor it was loaded with.
+     * <p>
+     * Keeping the descriptor together with the instance allows readers to access both without any locking.
+     */
+    private static final class CacheEntry {
+
+        private final Object instance;
+        private final Descriptor descriptor;
+
+        private CacheEntry(Object instance, Descriptor descriptor) {
+            this.instance = instance;
+            this.descriptor = descriptor;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.MultilingualString;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the heap size retained by a cached instance.
+ * <p>
+ * The estimate is deliberately shallow. It accounts for strings, identifiers, collections, maps (e.g., values of
+ * {@link cz.cvut.kbss.jopa.model.annotations.Properties} fields) and multilingual strings held by the instance's
+ * fields, because these are what makes one cached instance orders of magnitude larger than another. Other objects
+ * referenced by the instance, most notably other entities, are counted only as references, since they are cached (and
+ * weighed) separately.
+ * <p>
+ * The estimated sizes correspond roughly to a 64-bit JVM with compressed object pointers. They need not be exact, they
+ * only have to be proportional to the actual memory footprint.
+ */
+class EntityWeigher {
+
+    static final int OBJECT_OVERHEAD = 16;
+    static final int REFERENCE_SIZE = 8;
+    static final int STRING_OVERHEAD = 40;
+    static final int COLLECTION_OVERHEAD = 48;
+    static final int ENTRY_OVERHEAD = 32;
+
+    /**
+     * Maximum depth of nested collections whose content is examined, e.g., {@code Map<String, Set<String>>} requires
+     * depth 2.
+     */
+    private static final int MAX_DEPTH = 3;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return resolveFields(type);
+        }
+    };
+
+    /**
+     * Estimates the retained size of the specified instance.
+     *
+     * @param instance Instance to weigh
+     * @return Estimated size in bytes, always positive
+     */
+    long weigh(Object instance) {
+        assert instance != null;
+
+        long weight = OBJECT_OVERHEAD;
+        for (Field f : FIELDS.get(instance.getClass())) {
+            weight += REFERENCE_SIZE;
+            if (f.getType().isPrimitive()) {
+                continue;
+            }
+            try {
+                weight += weighValue(f.get(instance), 0);
+            } catch (IllegalAccessException e) {
+                // Cannot happen, the field has been made accessible when resolved
+                throw new IllegalStateException(e);
+            }
+        }
+        return weight;
+    }
+
+    private static Field[] resolveFields(Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field f : current.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic()) {
+                    continue;
+                }
+                // Fields of classes from modules not opened to JOPA (e.g., JDK classes) are skipped
+                if (f.trySetAccessible()) {
+                    fields.add(f);
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private long weighValue(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return weighString((String) value);
+        }
+        if (value instanceof URI || value instanceof URL) {
+            // URI keeps its string representation and its components
+            return OBJECT_OVERHEAD + 2 * weighString(value.toString());
+        }
+        if (value instanceof MultilingualString) {
+            return OBJECT_OVERHEAD + weighValue(((MultilingualString) value).getValue(), depth);
+        }
+        if (value instanceof Collection) {
+            return weighCollection((Collection<?>) value, depth);
+        }
+        if (value instanceof Map) {
+            return weighMap((Map<?, ?>) value, depth);
+        }
+        if (value.getClass().isArray()) {
+            return weighArray(value, depth);
+        }
+        // Boxed primitives, dates and references to other objects
+        return OBJECT_OVERHEAD;
+    }
+
+    private static long weighString(String value) {
+        // Upper estimate, strings containing only Latin-1 characters use one byte per character
+        return STRING_OVERHEAD + 2L * value.length();
+    }
+
+    private long weighCollection(Collection<?> value, int depth) {
+        long weight = COLLECTION_OVERHEAD + (long) value.size() * ENTRY_OVERHEAD;
+        if (depth >= MAX_DEPTH) {
+            return weight;
+        }
+        for (Object element : value) {
+            weight += weighValue(element, depth + 1);
+        }
+        return weight;
+    }
+
+    private long weighMap(Map<?, ?> value, int depth) {
+        long weight = COLLECTION_OVERHEAD + (long) value.size() * ENTRY_OVERHEAD;
+        if (depth >= MAX_DEPTH) {
+            return weight;
+        }
+        for (Map.Entry<?, ?> e : value.entrySet()) {
+            weight += weighValue(e.getKey(), depth + 1) + weighValue(e.getValue(), depth + 1);
+        }
+        return weight;
+    }
+
+    private long weighArray(Object value, int depth) {
+        final int length = Array.getLength(value);
+        final Class<?> componentType = value.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            return OBJECT_OVERHEAD + (long) length * REFERENCE_SIZE;
+        }
+        long weight = OBJECT_OVERHEAD + (long) length * REFERENCE_SIZE;
+        if (depth >= MAX_DEPTH) {
+            return weight;
+        }
+        for (int i = 0; i < length; i++) {
+            weight += weighValue(Array.get(value, i), depth + 1);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+/**
+ * Probabilistic estimator of the popularity of cache entries.
+ * <p>
+ * This is a count-min sketch with four 4-bit counters per entry packed in a {@code long} array. To keep the estimates
+ * fresh, all counters are halved once the number of recorded accesses reaches a sample size proportional to the
+ * expected number of entries, so that entries which were popular long ago gradually lose their advantage.
+ * <p>
+ * This class is not thread-safe.
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNTER = 15;
+    private static final int SAMPLE_MULTIPLIER = 10;
+    private static final int MAX_TABLE_SIZE = 1 << 24;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * Creates a sketch for the specified expected number of cache entries.
+     *
+     * @param expectedSize Expected maximum number of entries in the cache
+     */
+    FrequencySketch(long expectedSize) {
+        final int tableSize = tableSizeFor(expectedSize);
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (int) Math.min((long) SAMPLE_MULTIPLIER * tableSize, Integer.MAX_VALUE);
+    }
+
+    private static int tableSizeFor(long expectedSize) {
+        final int capped = (int) Math.max(16, Math.min(expectedSize, MAX_TABLE_SIZE));
+        return Integer.highestOneBit(capped - 1) << 1;
+    }
+
+    /**
+     * Gets the estimated number of recent accesses of the specified element.
+     *
+     * @param element Element to estimate frequency of
+     * @return Estimated frequency, between 0 and 15
+     */
+    int frequency(Object element) {
+        final int hash = spread(element.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = MAX_COUNTER;
+        for (int i = 0; i < 4; i++) {
+            final int index = indexOf(hash, i);
+            final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the specified element.
+     *
+     * @param element Accessed element
+     */
+    void increment(Object element) {
+        final int hash = spread(element.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves all the counters.
+     */
+    private void reset() {
+        int oddCount = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCount += Long.bitCount(table[i] & 0x1111111111111111L);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        this.size = (size >>> 1) - (oddCount >>> 2);
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
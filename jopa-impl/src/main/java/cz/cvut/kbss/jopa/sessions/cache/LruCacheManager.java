@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.sessions.cache;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,8 @@ public class LruCacheManager implements CacheManager {
     private final Lock readLock;
     private final Lock writeLock;
 
+    private final StatsCounter statsCounter = new StatsCounter();
+
     private LruEntityCache entityCache;
 
     private Set<Class<?>> inferredClasses;
@@ -65,7 +68,7 @@ public class LruCacheManager implements CacheManager {
         final ReadWriteLock rwLock = new ReentrantReadWriteLock();
         this.readLock = rwLock.readLock();
         this.writeLock = rwLock.writeLock();
-        this.entityCache = new LruEntityCache(capacity);
+        this.entityCache = new LruEntityCache(capacity, statsCounter);
     }
 
     private static int resolveCapacitySetting(Map<String, String> properties) {
@@ -107,7 +110,9 @@ public class LruCacheManager implements CacheManager {
         }
         readLock.lock();
         try {
-            return entityCache.get(cls, primaryKey, descriptor);
+            final T result = entityCache.get(cls, primaryKey, descriptor);
+            statsCounter.recordGet(result);
+            return result;
         } finally {
             readLock.unlock();
         }
@@ -147,12 +152,24 @@ public class LruCacheManager implements CacheManager {
         }
         readLock.lock();
         try {
-            return entityCache.contains(cls, identifier, descriptor);
+            final boolean result = entityCache.contains(cls, identifier, descriptor);
+            statsCounter.recordContains(result);
+            return result;
         } finally {
             readLock.unlock();
         }
     }
 
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statsCounter.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statsCounter.snapshot();
+    }
+
     @Override
     public void evict(Class<?> cls, Object identifier, URI context) {
         Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
@@ -192,7 +209,7 @@ public class LruCacheManager implements CacheManager {
     public void evictAll() {
         writeLock.lock();
         try {
-            this.entityCache = new LruEntityCache(capacity);
+            this.entityCache = new LruEntityCache(capacity, statsCounter);
         } finally {
             writeLock.unlock();
         }
@@ -203,13 +220,16 @@ public class LruCacheManager implements CacheManager {
         private static final Object NULL_VALUE = null;
 
         private final LruCache cache;
+        private final StatsCounter statsCounter;
 
-        LruEntityCache(int capacity) {
+        LruEntityCache(int capacity, StatsCounter statsCounter) {
             this.cache = new LruCache(capacity, this);
+            this.statsCounter = statsCounter;
         }
 
         @Override
         public void accept(LruCache.CacheNode cacheNode) {
+            statsCounter.recordEvictions(1);
             super.evict(cacheNode.getCls(), cacheNode.getIdentifier(), cacheNode.getContext());
         }
 
@@ -0,0 +1,173 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.utils.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks validity of query attribute values of instances in the second level cache.
+ * <p>
+ * Query attribute values are stored in the cached instances themselves. This class records when they were evaluated,
+ * so that they can be reused by subsequent cache hits until they expire (see {@link
+ * JOPAPersistenceProperties#QUERY_ATTRIBUTE_CACHE_TTL}) or are invalidated.
+ * <p>
+ * Instances are tracked by identity and are referenced weakly, so that entries of instances evicted from the second
+ * level cache do not prevent their garbage collection.
+ */
+public class QueryAttributeCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryAttributeCache.class);
+
+    private final long timeToLive;
+
+    private final Map<InstanceKey, Long> evaluations = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    public QueryAttributeCache() {
+        this(Collections.emptyMap());
+    }
+
+    public QueryAttributeCache(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.timeToLive = TimeUnit.SECONDS.toNanos(resolveTimeToLive(properties));
+    }
+
+    private static long resolveTimeToLive(Map<String, String> properties) {
+        if (!properties.containsKey(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL)) {
+            return Constants.DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL;
+        }
+        final String value = properties.get(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL);
+        try {
+            final long ttl = Long.parseLong(value);
+            if (ttl < 0) {
+                LOG.warn("Invalid query attribute cache time to live value {}. Using default value.", ttl);
+                return Constants.DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL;
+            }
+            return ttl;
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query attribute cache time to live setting value {}. Using default value {}.",
+                    value, Constants.DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL);
+            return Constants.DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL;
+        }
+    }
+
+    /**
+     * Records that query attributes of the specified instance have just been evaluated.
+     *
+     * @param instance Instance whose query attributes were evaluated
+     */
+    public void recordEvaluation(Object instance) {
+        Objects.requireNonNull(instance);
+        expungeCollected();
+        if (timeToLive > 0) {
+            evaluations.put(new InstanceKey(instance, collected), System.nanoTime());
+        }
+    }
+
+    /**
+     * Checks whether query attribute values of the specified instance are valid, i.e., they have been evaluated and
+     * neither expired nor been invalidated since.
+     *
+     * @param instance Instance to check
+     * @return {@code true} if the query attribute values can be reused, {@code false} if they need to be evaluated
+     */
+    public boolean isValid(Object instance) {
+        Objects.requireNonNull(instance);
+        final Long evaluated = evaluations.get(new InstanceKey(instance));
+        return evaluated != null && System.nanoTime() - evaluated < timeToLive;
+    }
+
+    /**
+     * Invalidates query attribute values of the specified instance.
+     * <p>
+     * This is intended to be called when the instance is modified by a committed transaction.
+     *
+     * @param instance Instance whose query attribute values are no longer valid
+     */
+    public void invalidate(Object instance) {
+        Objects.requireNonNull(instance);
+        evaluations.remove(new InstanceKey(instance));
+    }
+
+    /**
+     * Invalidates query attribute values of all instances.
+     */
+    public void evictAll() {
+        evaluations.clear();
+        expungeCollected();
+    }
+
+    int size() {
+        expungeCollected();
+        return evaluations.size();
+    }
+
+    private void expungeCollected() {
+        Reference<?> ref;
+        while ((ref = collected.poll()) != null) {
+            evaluations.remove(ref);
+        }
+    }
+
+    /**
+     * Weak reference to an instance with identity-based equality.
+     */
+    private static final class InstanceKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private InstanceKey(Object instance) {
+            super(instance);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        private InstanceKey(Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceKey)) {
+                return false;
+            }
+            final Object instance = get();
+            return instance != null && instance == ((InstanceKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
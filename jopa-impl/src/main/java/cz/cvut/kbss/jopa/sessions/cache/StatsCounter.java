@@ -0,0 +1,83 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator of second level cache statistics.
+ */
+class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * Records the result of a {@code get} lookup.
+     *
+     * @param result Lookup result, {@code null} represents a miss
+     */
+    void recordGet(Object result) {
+        if (result != null) {
+            recordHit();
+        } else {
+            recordMiss();
+        }
+    }
+
+    /**
+     * Records the result of a {@code contains} lookup.
+     * <p>
+     * Only negative results are recorded, because a positive one is normally followed by a {@code get} lookup of the
+     * same instance, which is counted as a hit.
+     *
+     * @param result Lookup result
+     */
+    void recordContains(boolean result) {
+        if (!result) {
+            recordMiss();
+        }
+    }
+
+    void recordEvictions(long count) {
+        evictionCount.add(count);
+    }
+
+    void recordLoad(int count, long loadTime) {
+        loadCount.add(count);
+        totalLoadTime.add(loadTime);
+    }
+
+    CacheStatistics snapshot() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), loadCount.sum(),
+                totalLoadTime.sum());
+    }
+}
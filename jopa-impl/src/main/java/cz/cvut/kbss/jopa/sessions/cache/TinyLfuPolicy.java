@@ -0,0 +1,284 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Weight-bounded eviction policy in the style of W-TinyLFU.
+ * <p>
+ * New entries are placed into a small LRU admission window. When an entry falls out of the window, it is admitted into
+ * the main space only if its estimated access frequency is higher than that of the entry which would be evicted from
+ * the main space instead. The main space is a segmented LRU, entries accessed again while in its probationary segment
+ * are promoted to the protected segment. Thanks to this, a burst of one-off loads (e.g., a query returning many
+ * entities) does not flush frequently used entries from the cache, as it would in a plain LRU cache.
+ * <p>
+ * The policy tracks only the keys and weights of the entries, the entries themselves are stored elsewhere. The
+ * specified callback is notified whenever an entry is evicted so that it can be removed from the storage.
+ * <p>
+ * This class is not thread-safe.
+ */
+class TinyLfuPolicy {
+
+    /**
+     * Percentage of the maximum weight reserved for the admission window.
+     */
+    private static final int WINDOW_PERCENTAGE = 1;
+    /**
+     * Percentage of the main space weight reserved for the protected segment.
+     */
+    private static final int PROTECTED_PERCENTAGE = 80;
+    /**
+     * Assumed average entry weight, used to size the frequency sketch.
+     */
+    private static final int AVERAGE_ENTRY_WEIGHT = 1024;
+
+    private enum Segment {WINDOW, PROBATION, PROTECTED}
+
+    private static final class Node {
+        private long weight;
+        private Segment segment;
+
+        private Node(long weight, Segment segment) {
+            this.weight = weight;
+            this.segment = segment;
+        }
+    }
+
+    private final long maxWeight;
+    private final long maxWindowWeight;
+    private final long maxProtectedWeight;
+
+    private final Map<LruCache.CacheNode, Node> nodes = new HashMap<>();
+    // Insertion ordered sets, the first element is the least recently used one
+    private final LinkedHashSet<LruCache.CacheNode> window = new LinkedHashSet<>();
+    private final LinkedHashSet<LruCache.CacheNode> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<LruCache.CacheNode> protectedSegment = new LinkedHashSet<>();
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private final FrequencySketch sketch;
+    private final Consumer<LruCache.CacheNode> evictionCallback;
+
+    TinyLfuPolicy(long maxWeight, Consumer<LruCache.CacheNode> evictionCallback) {
+        assert maxWeight > 0;
+        this.maxWeight = maxWeight;
+        this.maxWindowWeight = Math.max(1, maxWeight * WINDOW_PERCENTAGE / 100);
+        this.maxProtectedWeight = (maxWeight - maxWindowWeight) * PROTECTED_PERCENTAGE / 100;
+        this.sketch = new FrequencySketch(maxWeight / AVERAGE_ENTRY_WEIGHT);
+        this.evictionCallback = evictionCallback;
+    }
+
+    long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Gets the total weight of entries currently tracked by this policy.
+     *
+     * @return Total weight
+     */
+    long getWeight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    boolean contains(LruCache.CacheNode key) {
+        return nodes.containsKey(key);
+    }
+
+    /**
+     * Records addition (or replacement) of an entry with the specified key and weight.
+     * <p>
+     * This may cause eviction of other entries or even of the added entry itself.
+     *
+     * @param key    Entry key
+     * @param weight Entry weight
+     */
+    void add(LruCache.CacheNode key, long weight) {
+        sketch.increment(key);
+        final Node existing = nodes.get(key);
+        if (existing != null) {
+            addWeight(existing.segment, weight - existing.weight);
+            existing.weight = weight;
+            onHit(key, existing);
+        } else if (weight > maxWeight) {
+            // The entry would never fit, do not bother admitting it
+            evictionCallback.accept(key);
+            return;
+        } else {
+            nodes.put(key, new Node(weight, Segment.WINDOW));
+            window.add(key);
+            windowWeight += weight;
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * Records a cache hit of the entry with the specified key.
+     *
+     * @param key Entry key
+     */
+    void recordAccess(LruCache.CacheNode key) {
+        sketch.increment(key);
+        final Node node = nodes.get(key);
+        if (node != null) {
+            onHit(key, node);
+            evictIfNecessary();
+        }
+    }
+
+    /**
+     * Stops tracking the entry with the specified key.
+     * <p>
+     * The eviction callback is not notified.
+     *
+     * @param key Entry key
+     */
+    void remove(LruCache.CacheNode key) {
+        final Node node = nodes.remove(key);
+        if (node != null) {
+            segment(node.segment).remove(key);
+            addWeight(node.segment, -node.weight);
+        }
+    }
+
+    private void onHit(LruCache.CacheNode key, Node node) {
+        switch (node.segment) {
+            case WINDOW:
+            case PROTECTED:
+                // Move to the most recently used position
+                segment(node.segment).remove(key);
+                segment(node.segment).add(key);
+                break;
+            case PROBATION:
+                probation.remove(key);
+                probationWeight -= node.weight;
+                node.segment = Segment.PROTECTED;
+                protectedSegment.add(key);
+                protectedWeight += node.weight;
+                demoteProtectedOverflow();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported segment " + node.segment);
+        }
+    }
+
+    private void demoteProtectedOverflow() {
+        while (protectedWeight > maxProtectedWeight && protectedSegment.size() > 1) {
+            final LruCache.CacheNode key = removeFirst(protectedSegment);
+            final Node node = nodes.get(key);
+            protectedWeight -= node.weight;
+            node.segment = Segment.PROBATION;
+            probation.add(key);
+            probationWeight += node.weight;
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (windowWeight > maxWindowWeight && !window.isEmpty()) {
+            final LruCache.CacheNode candidate = removeFirst(window);
+            final Node node = nodes.get(candidate);
+            windowWeight -= node.weight;
+            node.segment = Segment.PROBATION;
+            probation.add(candidate);
+            probationWeight += node.weight;
+            admit(candidate);
+        }
+        while (getWeight() > maxWeight) {
+            final LruCache.CacheNode victim = mainVictim(null);
+            evict(victim != null ? victim : window.iterator().next());
+        }
+    }
+
+    /**
+     * Makes space in the main segments for an entry moved there from the admission window, or evicts the entry
+     * itself if it is not popular enough.
+     */
+    private void admit(LruCache.CacheNode candidate) {
+        while (getWeight() > maxWeight && nodes.containsKey(candidate)) {
+            final LruCache.CacheNode victim = mainVictim(candidate);
+            if (victim == null) {
+                evict(candidate);
+            } else if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    /**
+     * Gets the least recently used entry of the main space, preferring the probationary segment.
+     */
+    private LruCache.CacheNode mainVictim(LruCache.CacheNode exclude) {
+        for (LruCache.CacheNode key : probation) {
+            // The excluded candidate is the most recently added one, so this loop ends after at most two iterations
+            if (!key.equals(exclude)) {
+                return key;
+            }
+        }
+        return protectedSegment.isEmpty() ? null : protectedSegment.iterator().next();
+    }
+
+    private void evict(LruCache.CacheNode key) {
+        remove(key);
+        evictionCallback.accept(key);
+    }
+
+    private LinkedHashSet<LruCache.CacheNode> segment(Segment segment) {
+        switch (segment) {
+            case WINDOW:
+                return window;
+            case PROBATION:
+                return probation;
+            case PROTECTED:
+                return protectedSegment;
+            default:
+                throw new IllegalStateException("Unsupported segment " + segment);
+        }
+    }
+
+    private void addWeight(Segment segment, long delta) {
+        switch (segment) {
+            case WINDOW:
+                windowWeight += delta;
+                break;
+            case PROBATION:
+                probationWeight += delta;
+                break;
+            case PROTECTED:
+                protectedWeight += delta;
+                break;
+            default:
+                throw new IllegalStateException("Unsupported segment " + segment);
+        }
+    }
+
+    private static LruCache.CacheNode removeFirst(LinkedHashSet<LruCache.CacheNode> set) {
+        final Iterator<LruCache.CacheNode> it = set.iterator();
+        final LruCache.CacheNode first = it.next();
+        it.remove();
+        return first;
+    }
+}
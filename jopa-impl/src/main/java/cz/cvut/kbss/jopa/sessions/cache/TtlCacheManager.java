@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.sessions.cache;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +63,8 @@ public class TtlCacheManager implements CacheManager {
 
     private TtlCache cache;
 
+    private final StatsCounter statsCounter = new StatsCounter();
+
     // Each repository can have its own lock and they could be acquired by this
     // instance itself, no need to pass this burden to callers
     private final Lock readLock;
@@ -168,7 +171,9 @@ public class TtlCacheManager implements CacheManager {
         }
         acquireReadLock();
         try {
-            return cache.get(cls, primaryKey, descriptor);
+            final T result = cache.get(cls, primaryKey, descriptor);
+            statsCounter.recordGet(result);
+            return result;
         } finally {
             releaseReadLock();
         }
@@ -208,12 +213,24 @@ public class TtlCacheManager implements CacheManager {
         }
         acquireReadLock();
         try {
-            return cache.contains(cls, primaryKey, descriptor);
+            final boolean result = cache.contains(cls, primaryKey, descriptor);
+            statsCounter.recordContains(result);
+            return result;
         } finally {
             releaseReadLock();
         }
     }
 
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statsCounter.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statsCounter.snapshot();
+    }
+
     @Override
     public void evict(Class<?> cls) {
         Objects.requireNonNull(cls);
@@ -296,7 +313,10 @@ public class TtlCacheManager implements CacheManager {
                     }
                 }
                 // Evict them
-                toEvict.forEach(TtlCacheManager.this::evict);
+                toEvict.forEach(ctx -> {
+                    statsCounter.recordEvictions(cache.size(ctx));
+                    TtlCacheManager.this.evict(ctx);
+                });
             } finally {
                 TtlCacheManager.this.sweepRunning = false;
                 TtlCacheManager.this.releaseWriteLock();
@@ -326,6 +346,15 @@ public class TtlCacheManager implements CacheManager {
             return getInternal(cls, identifier, descriptor, this::updateTimeToLive);
         }
 
+        /**
+         * Gets the number of instances cached in the specified context.
+         */
+        private long size(URI context) {
+            final Map<Object, Map<Class<?>, Object>> contextCache = repoCache.getOrDefault(context,
+                    Collections.emptyMap());
+            return contextCache.values().stream().mapToLong(Map::size).sum();
+        }
+
         private void updateTimeToLive(URI context) {
             assert context != null;
 
@@ -0,0 +1,312 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+import cz.cvut.kbss.jopa.utils.ErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Second level cache bounded by the estimated size of the cached instances.
+ * <p>
+ * Unlike {@link LruCacheManager}, which limits only the number of cached instances, this cache weighs each instance by
+ * its estimated retained size (taking into account the size of collections and strings in its attributes), so that a
+ * few instances with huge plural attributes cannot exhaust the heap.
+ * <p>
+ * Eviction is governed by a frequency-aware admission policy (see {@link TinyLfuPolicy}), which retains frequently
+ * used instances even when many instances are loaded only once.
+ * <p>
+ * Since reads update the eviction policy, all operations are guarded by a single lock.
+ */
+public class WeightedCacheManager implements CacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WeightedCacheManager.class);
+
+    /**
+     * Default maximum estimated cache size in bytes (64 MB).
+     */
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private final long maxSize;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final EntityWeigher weigher = new EntityWeigher();
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    private WeightedEntityCache entityCache;
+
+    private Set<Class<?>> inferredClasses;
+
+    WeightedCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    WeightedCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.maxSize = properties.containsKey(JOPAPersistenceProperties.WEIGHTED_CACHE_MAX_SIZE) ?
+                resolveMaxSizeSetting(properties) : DEFAULT_MAX_SIZE;
+        this.entityCache = new WeightedEntityCache(maxSize, weigher, statsCounter);
+    }
+
+    private static long resolveMaxSizeSetting(Map<String, String> properties) {
+        long maxSizeSetting = DEFAULT_MAX_SIZE;
+        try {
+            maxSizeSetting = Long.parseLong(properties.get(JOPAPersistenceProperties.WEIGHTED_CACHE_MAX_SIZE));
+            if (maxSizeSetting <= 0) {
+                LOG.warn("Invalid weighted cache maximum size value {}. Using default value.", maxSizeSetting);
+                maxSizeSetting = DEFAULT_MAX_SIZE;
+            }
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse weighted cache maximum size setting. Using default value {}.", DEFAULT_MAX_SIZE);
+        }
+        return maxSizeSetting;
+    }
+
+    long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the estimated size of the instances currently in the cache.
+     *
+     * @return Estimated size in bytes
+     */
+    long getSize() {
+        lock.lock();
+        try {
+            return entityCache.policy.getWeight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("identifier"));
+        Objects.requireNonNull(entity, ErrorUtils.getNPXMessageSupplier("entity"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+
+        lock.lock();
+        try {
+            entityCache.put(identifier, entity, descriptor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            final T result = entityCache.get(cls, identifier, descriptor);
+            statsCounter.recordGet(result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            final boolean result = entityCache.contains(cls, identifier, descriptor);
+            statsCounter.recordContains(result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        lock.lock();
+        try {
+            getInferredClasses().forEach(this::evict);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<Class<?>> getInferredClasses() {
+        if (inferredClasses == null) {
+            return Collections.emptySet();
+        }
+        return inferredClasses;
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+
+        lock.lock();
+        try {
+            entityCache.evict(cls, identifier, context);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+
+        lock.lock();
+        try {
+            entityCache.evict(cls);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(URI context) {
+        lock.lock();
+        try {
+            entityCache.evict(context);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        lock.lock();
+        try {
+            this.entityCache = new WeightedEntityCache(maxSize, weigher, statsCounter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statsCounter.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statsCounter.snapshot();
+    }
+
+    @Override
+    public void close() {
+        evictAll();
+    }
+
+    static final class WeightedEntityCache extends EntityCache implements Consumer<LruCache.CacheNode> {
+
+        private final TinyLfuPolicy policy;
+        private final EntityWeigher weigher;
+        private final StatsCounter statsCounter;
+
+        WeightedEntityCache(long maxSize, EntityWeigher weigher, StatsCounter statsCounter) {
+            this.policy = new TinyLfuPolicy(maxSize, this);
+            this.weigher = weigher;
+            this.statsCounter = statsCounter;
+        }
+
+        @Override
+        public void accept(LruCache.CacheNode cacheNode) {
+            statsCounter.recordEvictions(1);
+            super.evict(cacheNode.getCls(), cacheNode.getIdentifier(), cacheNode.getContext());
+        }
+
+        @Override
+        void put(Object identifier, Object entity, Descriptor descriptor) {
+            if (!isCacheable(descriptor)) {
+                return;
+            }
+            final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
+            super.put(identifier, entity, descriptor);
+            policy.add(new LruCache.CacheNode(ctx, entity.getClass(), identifier), weigher.weigh(entity));
+        }
+
+        @Override
+        <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+            return getInternal(cls, identifier, descriptor,
+                    ctx -> policy.recordAccess(new LruCache.CacheNode(ctx, cls, identifier)));
+        }
+
+        @Override
+        void evict(Class<?> cls, Object identifier, URI context) {
+            final URI ctx = context != null ? context : defaultContext;
+            super.evict(cls, identifier, ctx);
+            policy.remove(new LruCache.CacheNode(ctx, cls, identifier));
+        }
+
+        @Override
+        void evict(URI context) {
+            final URI ctx = context != null ? context : defaultContext;
+            final Map<Object, Map<Class<?>, Object>> ctxContent = repoCache.get(ctx);
+            if (ctxContent == null) {
+                return;
+            }
+            ctxContent.forEach((identifier, instances) -> instances.keySet().forEach(
+                    cls -> policy.remove(new LruCache.CacheNode(ctx, cls, identifier))));
+            super.evict(ctx);
+        }
+
+        @Override
+        void evict(Class<?> cls) {
+            final Iterator<Map.Entry<URI, Map<Object, Map<Class<?>, Object>>>> repoIt = repoCache.entrySet().iterator();
+            while (repoIt.hasNext()) {
+                final Map.Entry<URI, Map<Object, Map<Class<?>, Object>>> e = repoIt.next();
+                final URI ctx = e.getKey();
+                final Iterator<Map.Entry<Object, Map<Class<?>, Object>>> it = e.getValue().entrySet().iterator();
+                while (it.hasNext()) {
+                    final Map.Entry<Object, Map<Class<?>, Object>> idEntry = it.next();
+                    final Object instance = idEntry.getValue().remove(cls);
+                    if (instance != null) {
+                        descriptors.remove(instance);
+                        policy.remove(new LruCache.CacheNode(ctx, cls, idEntry.getKey()));
+                    }
+                    if (idEntry.getValue().isEmpty()) {
+                        it.remove();
+                    }
+                }
+                if (e.getValue().isEmpty()) {
+                    repoIt.remove();
+                }
+            }
+        }
+    }
+}
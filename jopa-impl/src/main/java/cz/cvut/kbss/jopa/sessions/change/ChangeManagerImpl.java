@@ -25,7 +25,6 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -73,9 +72,8 @@ public class ChangeManagerImpl implements ChangeManager {
         }
         final Class<?> cls = clone.getClass();
         for (FieldSpecification<?, ?> fs : getFields(cls)) {
-            final Field f = fs.getJavaField();
-            final Object clVal = EntityPropertiesUtils.getFieldValue(f, clone);
-            final Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            final Object clVal = EntityPropertiesUtils.getAttributeValue(fs, clone);
+            final Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             final boolean valueChanged = valueChanged(origVal, clVal);
             if (valueChanged) {
                 return true;
@@ -110,9 +108,8 @@ public class ChangeManagerImpl implements ChangeManager {
         Object clone = changeSet.getCloneObject();
         boolean changes = false;
         for (FieldSpecification<?, ?> fs : getFields(clone.getClass())) {
-            final Field f = fs.getJavaField();
-            Object clVal = EntityPropertiesUtils.getFieldValue(f, clone);
-            Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            Object clVal = EntityPropertiesUtils.getAttributeValue(fs, clone);
+            Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             if (clVal == null && origVal == null) {
                 continue;
             }
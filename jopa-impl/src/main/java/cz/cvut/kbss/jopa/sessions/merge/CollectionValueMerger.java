@@ -45,7 +45,7 @@ class CollectionValueMerger implements ValueMerger {
         final FieldSpecification<?, ?> att = changeRecord.getAttribute();
         final Collection<?> mergedCol = (Collection<?>) changeRecord.getNewValue();
         if (mergedCol == null) {
-            EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, null);
+            EntityPropertiesUtils.setAttributeValue(att, target, null);
             return;
         }
 
@@ -56,7 +56,7 @@ class CollectionValueMerger implements ValueMerger {
             newValue.add(elemTypeManaged ? managedTypeMerger.getValueToSet(item, attributeDescriptor) : item);
         }
         extendModuleExtractionSignature(att, newValue);
-        EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, newValue);
+        EntityPropertiesUtils.setAttributeValue(att, target, newValue);
     }
 
     private boolean isElementTypeManaged(FieldSpecification<?, ?> att) {
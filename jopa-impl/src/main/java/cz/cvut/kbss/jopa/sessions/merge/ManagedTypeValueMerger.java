@@ -34,7 +34,7 @@ class ManagedTypeValueMerger implements ValueMerger {
     public void mergeValue(Object target, ChangeRecord changeRecord, Descriptor attributeDescriptor) {
         final Object mergedValue = changeRecord.getNewValue();
         final Object toSet = getValueToSet(mergedValue, attributeDescriptor);
-        EntityPropertiesUtils.setFieldValue(changeRecord.getAttribute().getJavaField(), target, toSet);
+        EntityPropertiesUtils.setAttributeValue(changeRecord.getAttribute(), target, toSet);
         // Replace the value in the change record as the mergedValue may not have been managed
         changeRecord.setNewValue(toSet);
     }
@@ -29,6 +29,23 @@ public class Constants {
      */
     public static final InheritanceType DEFAULT_INHERITANCE_TYPE = InheritanceType.TWO_STEP;
 
+    /**
+     * Default number of new entities whose axioms are buffered by {@link cz.cvut.kbss.jopa.model.EntityManager#persistAll(java.util.Collection, cz.cvut.kbss.jopa.model.descriptors.Descriptor)}
+     * before they are written into the storage.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#PERSIST_BATCH_SIZE
+     */
+    public static final int DEFAULT_PERSIST_BATCH_SIZE = 1000;
+
+    /**
+     * Default time (in seconds) for which query attribute values of cached instances remain valid.
+     * <p>
+     * Query attribute values are not reused by default.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#QUERY_ATTRIBUTE_CACHE_TTL
+     */
+    public static final long DEFAULT_QUERY_ATTRIBUTE_CACHE_TTL = 0;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -21,6 +21,8 @@ import cz.cvut.kbss.jopa.exception.IdentifierNotSetException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Transient;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessorProvider;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
@@ -110,8 +112,32 @@ public class EntityPropertiesUtils {
      */
     public static Object getAttributeValue(FieldSpecification<?, ?> attribute, Object instance) {
         Objects.requireNonNull(attribute);
-        final Field field = attribute.getJavaField();
-        return getFieldValue(field, instance);
+        final FieldAccessor accessor = getAccessor(attribute);
+        return accessor != null ? accessor.getValue(instance) : getFieldValue(attribute.getJavaField(), instance);
+    }
+
+    /**
+     * Sets value of the specified attribute.
+     * <p>
+     * Prefer this method to {@link #setFieldValue(Field, Object, Object)} when the attribute is available, as it uses
+     * the attribute's precomputed accessor instead of reflection.
+     *
+     * @param attribute Attribute to set value of
+     * @param instance  Target instance
+     * @param value     The value to set (can be {@code null})
+     */
+    public static void setAttributeValue(FieldSpecification<?, ?> attribute, Object instance, Object value) {
+        Objects.requireNonNull(attribute);
+        final FieldAccessor accessor = getAccessor(attribute);
+        if (accessor != null) {
+            accessor.setValue(instance, value);
+        } else {
+            setFieldValue(attribute.getJavaField(), instance, value);
+        }
+    }
+
+    private static FieldAccessor getAccessor(FieldSpecification<?, ?> attribute) {
+        return attribute instanceof FieldAccessorProvider ? ((FieldAccessorProvider) attribute).getAccessor() : null;
     }
 
     /**
@@ -124,7 +150,7 @@ public class EntityPropertiesUtils {
      */
     public static <T> URI getIdentifier(T entity, EntityType<?> et) {
         try {
-            final Object id = getFieldValue(et.getIdentifier().getJavaField(), entity);
+            final Object id = getAttributeValue(et.getIdentifier(), entity);
             if (id == null) {
                 return null;
             }
@@ -147,7 +173,7 @@ public class EntityPropertiesUtils {
         final Field idField = id.getJavaField();
         try {
             final Object assignableId = IdentifierTransformer.transformToIdentifier(identifier, idField.getType());
-            setFieldValue(idField, entity, assignableId);
+            setAttributeValue(id, entity, assignableId);
         } catch (IllegalArgumentException e) {
             throw new UnassignableIdentifierException(e);
         }
@@ -37,10 +37,12 @@ import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
 import cz.cvut.kbss.jopa.sessions.cache.DisabledCacheManager;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -49,6 +51,7 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 
@@ -161,6 +164,31 @@ class EntityManagerImplTest {
         assertEquals(NON_ENTITY_CLASS_EXCEPTION_MESSAGE, ex.getMessage());
     }
 
+    @Test
+    void persistAllRegistersEntitiesWithinPersistBatch() {
+        final OWLClassA a1 = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA a2 = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor(Generators.createIndividualIdentifier());
+
+        em.persistAll(Arrays.asList(a1, a2), descriptor);
+        final InOrder inOrder = inOrder(connectorMock);
+        inOrder.verify(connectorMock).startPersistBatch(Constants.DEFAULT_PERSIST_BATCH_SIZE);
+        inOrder.verify(connectorMock).persist(a1.getUri(), a1, descriptor);
+        inOrder.verify(connectorMock).persist(a2.getUri(), a2, descriptor);
+        inOrder.verify(connectorMock).finishPersistBatch();
+        assertTrue(em.contains(a1));
+        assertTrue(em.contains(a2));
+    }
+
+    @Test
+    void persistAllCancelsPersistBatchWhenPersistFails() {
+        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+        assertThrows(IllegalArgumentException.class,
+                () -> em.persistAll(Arrays.asList(a, new UnknownEntity()), new EntityDescriptor()));
+        verify(connectorMock).cancelPersistBatch();
+        verify(connectorMock, never()).finishPersistBatch();
+    }
+
     @Test
     void mergeThrowsIllegalArgumentForNonEntity() {
         final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
@@ -485,6 +513,17 @@ class EntityManagerImplTest {
         verify(uow).removeObject(cloneTwo);
     }
 
+    @Test
+    void findWithFetchGraphPassesGraphToPersistenceContext() throws Exception {
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        final FetchGraph graph = new FetchGraph().addAttributeNodes(OWLClassA.getTypesField().getName());
+        final Descriptor descriptor = new EntityDescriptor();
+        doReturn(a).when(uow).readObject(OWLClassA.class, a.getUri(), descriptor, graph);
+        final OWLClassA result = em.find(OWLClassA.class, a.getUri(), descriptor, graph);
+        assertSame(a, result);
+        verify(uow).readObject(OWLClassA.class, a.getUri(), descriptor, graph);
+    }
+
     @Test
     void isLoadedReturnsTrueForEagerlyLoadedAttributeOfManagedInstance() throws Exception {
         final OWLClassA a = Generators.generateOwlClassAInstance();
@@ -24,6 +24,7 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
@@ -84,6 +85,7 @@ abstract class QueryTestBase {
         when(resultSetIterator.next()).thenReturn(resultRow);
         when(resultSetMock.stream()).thenCallRealMethod();
         when(resultSetMock.spliterator()).thenCallRealMethod();
+        when(uowMock.getQueryTemplateCache()).thenReturn(new QueryTemplateCache());
         this.queryFactory = new SparqlQueryFactory(uowMock, connectionWrapperMock);
     }
 
@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryHolder;
@@ -42,6 +43,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -109,6 +111,19 @@ class TypedQueryImplTest extends QueryTestBase {
         return uris;
     }
 
+    private List<String> initDataForStream(int count) throws Exception {
+        final List<String> uris = initDataForQuery(count);
+        final Boolean[] hasNext = new Boolean[count];
+        Arrays.fill(hasNext, Boolean.TRUE);
+        hasNext[count - 1] = false;
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(true, hasNext);
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0))
+                .thenReturn(uris.get(0), uris.subList(1, uris.size()).toArray(new String[0]));
+        return uris;
+    }
+
     private void verifyResults(List<String> uris, List<OWLClassA> results, int expectedCount) {
         assert expectedCount <= uris.size();
         assertEquals(expectedCount, results.size());
@@ -359,6 +374,36 @@ class TypedQueryImplTest extends QueryTestBase {
         }
     }
 
+    @Test
+    void getResultListPassesFetchGraphSpecifiedByHintToInstanceLoading() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(3);
+        final FetchGraph graph = new FetchGraph().addAttributeNodes(OWLClassA.getTypesField().getName());
+        query.setHint(QueryHints.FETCH_GRAPH, graph).getResultList();
+        for (String uri : uris) {
+            verify(uowMock).readObject(eq(OWLClassA.class), eq(URI.create(uri)), any(Descriptor.class), eq(graph));
+        }
+    }
+
+    @Test
+    void getResultListLoadsEntitiesInBatchesWhenEntityLoadingBatchSizeHintIsSet() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(5);
+        final List<List<URI>> batches = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<URI> batch = new ArrayList<>(inv.getArgument(1));
+            batches.add(batch);
+            return batch.stream().map(OWLClassA::new).collect(Collectors.toList());
+        });
+
+        final List<OWLClassA> result = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 2).getResultList();
+        verifyResults(uris, result, 5);
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+        assertEquals(3, batches.size());
+        assertEquals(Arrays.asList(URI.create(uris.get(0)), URI.create(uris.get(1))), batches.get(0));
+        assertEquals(Collections.singletonList(URI.create(uris.get(4))), batches.get(2));
+    }
+
     @Test
     void setFirstResultExecutesQueryWithSpecifiedOffset() throws Exception {
         final TypedQuery<OWLClassA> q = create(SELECT_QUERY, OWLClassA.class);
@@ -437,4 +482,113 @@ class TypedQueryImplTest extends QueryTestBase {
             verify(statementMock).close();
         }
     }
+
+    @Test
+    void getResultStreamLoadsEntitiesInChunksWhenEntityLoadingBatchSizeHintIsSet() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForStream(5);
+        final List<List<URI>> batches = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<URI> batch = new ArrayList<>(inv.getArgument(1));
+            batches.add(batch);
+            return batch.stream().map(OWLClassA::new).collect(Collectors.toList());
+        });
+
+        final List<OWLClassA> result = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 2).getResultStream()
+                                            .collect(Collectors.toList());
+        verifyResults(uris, result, 5);
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+        assertEquals(3, batches.size());
+        assertEquals(Arrays.asList(URI.create(uris.get(2)), URI.create(uris.get(3))), batches.get(1));
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamLoadsNextChunkOnlyWhenPreviousChunkIsProcessed() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        initDataForStream(5);
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new).collect(Collectors.toList()));
+
+        try (final Stream<OWLClassA> stream = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 2)
+                                                   .getResultStream()) {
+            assertTrue(stream.findFirst().isPresent());
+            verify(uowMock).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+            verify(statementMock, never()).close();
+        }
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamClosesStatementWhenLastChunkIsPrefetched() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        initDataForStream(1);
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new).collect(Collectors.toList()));
+
+        final Stream<OWLClassA> stream = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 5).getResultStream();
+        assertTrue(stream.findFirst().isPresent());
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamClosesStatementWhenStreamIsClosed() throws Exception {
+        final List<String> uris = initDataForStream(3);
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+
+        try (final Stream<OWLClassA> stream = query.getResultStream()) {
+            assertEquals(uris.get(0), stream.findFirst().map(a -> a.getUri().toString()).orElse(null));
+        }
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultStreamDetachesProcessedEntitiesWhenDetachHintIsSet() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        initDataForStream(3);
+        final List<OWLClassA> loaded = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<OWLClassA> chunk = ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new)
+                                                                          .collect(Collectors.toList());
+            loaded.addAll(chunk);
+            return chunk;
+        });
+        when(uowMock.isObjectManaged(any())).thenReturn(true);
+
+        final Iterator<OWLClassA> it = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 2)
+                                            .setHint(QueryHints.DETACH_STREAMED_ENTITIES, true)
+                                            .getResultStream().iterator();
+        it.next();
+        it.next();
+        verify(uowMock, never()).unregisterObject(any());
+        it.next();
+        verify(uowMock).unregisterObject(loaded.get(0));
+        verify(uowMock).unregisterObject(loaded.get(1));
+        assertFalse(it.hasNext());
+        verify(uowMock).unregisterObject(loaded.get(2));
+    }
+
+    @Test
+    void getResultStreamDoesNotDetachEntitiesManagedBeforeTheyWereStreamed() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForStream(3);
+        final List<OWLClassA> loaded = new ArrayList<>();
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<OWLClassA> chunk = ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new)
+                                                                          .collect(Collectors.toList());
+            loaded.addAll(chunk);
+            return chunk;
+        });
+        // E.g., an instance found, modified or persisted before the query was executed
+        when(uowMock.isIdentifierManaged(any())).thenAnswer(inv -> inv.getArgument(0).toString().equals(uris.get(1)));
+        when(uowMock.isObjectManaged(any())).thenReturn(true);
+
+        final List<OWLClassA> result = query.setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 2)
+                                            .setHint(QueryHints.DETACH_STREAMED_ENTITIES, true).getResultStream()
+                                            .collect(Collectors.toList());
+        assertEquals(3, result.size());
+        verify(uowMock).unregisterObject(loaded.get(0));
+        verify(uowMock, never()).unregisterObject(loaded.get(1));
+        verify(uowMock).unregisterObject(loaded.get(2));
+    }
 }
@@ -20,6 +20,7 @@ package cz.cvut.kbss.jopa.model.metamodel;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassJ;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
+import cz.cvut.kbss.jopa.exception.InvalidFieldMappingException;
 import cz.cvut.kbss.jopa.exception.MetamodelInitializationException;
 import cz.cvut.kbss.jopa.model.annotations.*;
 import cz.cvut.kbss.jopa.utils.Configuration;
@@ -267,6 +268,29 @@ class ClassFieldMetamodelProcessorTest {
 
     // Test classes
 
+    @Test
+    void processFieldSetsBatchFetchSizeOfAttributeAnnotatedWithBatchFetch() throws Exception {
+        final IdentifiableEntityType<OWLClassWithBatchFetch> etMock = mock(IdentifiableEntityType.class);
+        when(etMock.getJavaType()).thenReturn(OWLClassWithBatchFetch.class);
+        final ClassFieldMetamodelProcessor<OWLClassWithBatchFetch> processor = prepareProcessorForClass(etMock);
+        final Field field = OWLClassWithBatchFetch.class.getDeclaredField("labels");
+
+        processor.processField(field);
+        final ArgumentCaptor<AbstractAttribute> captor = ArgumentCaptor.forClass(AbstractAttribute.class);
+        verify(etMock).addDeclaredAttribute(eq(field.getName()), captor.capture());
+        assertEquals(50, captor.getValue().getBatchFetchSize());
+    }
+
+    @Test
+    void processFieldThrowsInvalidFieldMappingExceptionForNonPositiveBatchFetchSize() throws Exception {
+        final IdentifiableEntityType<OWLClassWithBatchFetch> etMock = mock(IdentifiableEntityType.class);
+        when(etMock.getJavaType()).thenReturn(OWLClassWithBatchFetch.class);
+        final ClassFieldMetamodelProcessor<OWLClassWithBatchFetch> processor = prepareProcessorForClass(etMock);
+        final Field field = OWLClassWithBatchFetch.class.getDeclaredField("invalid");
+
+        assertThrows(InvalidFieldMappingException.class, () -> processor.processField(field));
+    }
+
     private <X> ClassFieldMetamodelProcessor<X> prepareProcessorForClass(IdentifiableEntityType<X> etMock) {
         final TypeBuilderContext<X> context = new TypeBuilderContext<>(etMock, new NamespaceResolver());
         context.setConverterResolver(new ConverterResolver(new Converters(new Configuration())));
@@ -473,6 +497,15 @@ class ClassFieldMetamodelProcessorTest {
         @OWLDataProperty(iri = Vocabulary.ATTRIBUTE_BASE + "rdflist")
         private List<String> rdfList;
     }
-}
 
+    // Not annotated with @OWLClass, so that the invalid mapping does not break metamodel initialization in other tests
+    private static class OWLClassWithBatchFetch {
+        @BatchFetch(size = 50)
+        @OWLDataProperty(iri = Vocabulary.ATTRIBUTE_BASE + "labels", fetch = FetchType.LAZY)
+        private Set<String> labels;
 
+        @BatchFetch(size = 0)
+        @OWLDataProperty(iri = Vocabulary.ATTRIBUTE_BASE + "invalid")
+        private String invalid;
+    }
+}
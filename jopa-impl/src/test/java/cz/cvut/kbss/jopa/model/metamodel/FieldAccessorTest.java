@@ -0,0 +1,89 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassM;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorTest {
+
+    @Test
+    void getValueReturnsValueOfPrivateField() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        instance.setStringAttribute("test");
+        final FieldAccessor sut = FieldAccessor.create(OWLClassA.getStrAttField());
+
+        assertEquals("test", sut.getValue(instance));
+    }
+
+    @Test
+    void setValueSetsValueOfPrivateField() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        final FieldAccessor sut = FieldAccessor.create(OWLClassA.getStrAttField());
+
+        sut.setValue(instance, "test");
+        assertEquals("test", instance.getStringAttribute());
+        sut.setValue(instance, null);
+        assertNull(instance.getStringAttribute());
+    }
+
+    @Test
+    void setValueThrowsIllegalArgumentExceptionWhenValueIsOfIncompatibleType() throws Exception {
+        final OWLClassM instance = new OWLClassM();
+        final FieldAccessor sut = FieldAccessor.create(OWLClassM.getIntAttributeField());
+
+        assertThrows(IllegalArgumentException.class, () -> sut.setValue(instance, "117"));
+        assertNull(instance.getIntAttribute());
+    }
+
+    @Test
+    void accessorSupportsPrimitiveFields() throws Exception {
+        final PrimitiveHolder instance = new PrimitiveHolder();
+        final FieldAccessor sut = FieldAccessor.create(PrimitiveHolder.class.getDeclaredField("value"));
+
+        sut.setValue(instance, 117);
+        assertEquals(117, sut.getValue(instance));
+        assertThrows(IllegalArgumentException.class, () -> sut.setValue(instance, null));
+    }
+
+    @Test
+    void accessorSupportsFinalFieldsThroughReflection() throws Exception {
+        final FinalHolder instance = new FinalHolder("original");
+        final FieldAccessor sut = FieldAccessor.create(FinalHolder.class.getDeclaredField("value"));
+
+        assertEquals("original", sut.getValue(instance));
+        sut.setValue(instance, "updated");
+        assertEquals("updated", sut.getValue(instance));
+    }
+
+    private static class PrimitiveHolder {
+        private int value;
+    }
+
+    private static class FinalHolder {
+        private final String value;
+
+        private FinalHolder(String value) {
+            this.value = value;
+        }
+    }
+}
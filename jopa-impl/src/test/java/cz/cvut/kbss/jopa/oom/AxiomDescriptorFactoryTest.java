@@ -22,10 +22,12 @@ import cz.cvut.kbss.jopa.environment.OWLClassB;
 import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.environment.OWLClassQ;
+import cz.cvut.kbss.jopa.environment.OWLClassS;
 import cz.cvut.kbss.jopa.environment.OWLClassU;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.IRI;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.Id;
@@ -160,6 +162,31 @@ class AxiomDescriptorFactoryTest {
         assertEquals(Vocabulary.p_a_stringAttribute, ass.get().getIdentifier().toString());
     }
 
+    @Test
+    void createForPolymorphicEntityLoadingCombinesAssertionsOfAllEntityTypesInHierarchy() {
+        final LoadingParameters<OWLClassS> params = new LoadingParameters<>(OWLClassS.class, ID, descriptorInContext);
+        final Optional<AxiomDescriptor> res =
+                sut.createForPolymorphicEntityLoading(params, metamodelMocks.forOwlClassS().entityType());
+        assertTrue(res.isPresent());
+        assertEquals(NamedResource.create(ID), res.get().getSubject());
+        assertEquals(Collections.singleton(CONTEXT), res.get().getSubjectContexts());
+        final AxiomDescriptor sDescriptor =
+                sut.createForEntityLoading(params, metamodelMocks.forOwlClassS().entityType());
+        final AxiomDescriptor rDescriptor =
+                sut.createForEntityLoading(params, metamodelMocks.forOwlClassR().entityType());
+        assertTrue(res.get().getAssertions().containsAll(sDescriptor.getAssertions()));
+        assertTrue(res.get().getAssertions().containsAll(rDescriptor.getAssertions()));
+    }
+
+    @Test
+    void createForPolymorphicEntityLoadingReturnsEmptyResultWhenHierarchyLoadsInferredTypes() {
+        when(metamodelMocks.forOwlClassS().types().isInferred()).thenReturn(true);
+        final Optional<AxiomDescriptor> res =
+                sut.createForPolymorphicEntityLoading(new LoadingParameters<>(OWLClassS.class, ID, descriptor),
+                        metamodelMocks.forOwlClassS().entityType());
+        assertFalse(res.isPresent());
+    }
+
     @Test
     void testCreateForEntityLoadingWithAnnotationProperty() {
         // Artificially change the attribute type to annotation
@@ -191,6 +218,18 @@ class AxiomDescriptorFactoryTest {
         assertTrue(res.getAssertions().contains(Assertion.createClassAssertion(false)));
     }
 
+    @Test
+    void createForEntityLoadingIncludesLazilyLoadedAttributeContainedInFetchGraph() {
+        when(metamodelMocks.forOwlClassA().stringAttribute().getFetchType()).thenReturn(FetchType.LAZY);
+        final FetchGraph graph = new FetchGraph().addAttributeNodes(
+                metamodelMocks.forOwlClassA().stringAttribute().getName());
+        final AxiomDescriptor res = sut
+                .createForEntityLoading(new LoadingParameters<>(OWLClassA.class, ID, descriptor, graph),
+                        metamodelMocks.forOwlClassA().entityType());
+        assertTrue(res.getAssertions().stream().anyMatch(a -> a.getIdentifier().equals(stringAttAUri)));
+        assertTrue(res.getAssertions().contains(Assertion.createClassAssertion(false)));
+    }
+
     @Test
     void testCreateForFieldLoadingDataProperty() {
         final Descriptor desc = new EntityDescriptor();
@@ -30,6 +30,7 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -140,6 +141,44 @@ class AxiomValueGathererTest {
         verify(propertiesMock).addProperties(SUBJECT, null, propsToAdd);
     }
 
+    @Test
+    void persistAllPersistsAxiomsOfAllGatherersInSingleCallAndAdditionalValuesPerGatherer() throws Exception {
+        addValue();
+        final Set<URI> typesToAdd = generateTypes();
+        sut.addTypes(typesToAdd, null);
+        final NamedResource otherSubject = NamedResource.create(Generators.createIndividualIdentifier());
+        final AxiomValueGatherer other = new AxiomValueGatherer(otherSubject, null);
+        other.addValue(DATA_ASSERTION, new Value<>("OtherValue"), null);
+
+        AxiomValueGatherer.persistAll(Arrays.asList(sut, other), connectionMock);
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).persistAll(captor.capture());
+        assertEquals(Arrays.asList(getAxiomValueDescriptor().getSubject(), otherSubject),
+                captor.getValue().stream().map(AxiomValueDescriptor::getSubject).collect(Collectors.toList()));
+        verify(connectionMock, never()).persist(any());
+        verify(typesMock).addTypes(SUBJECT, null, typesToAdd);
+        verify(typesMock, never()).addTypes(eq(otherSubject), any(), any());
+    }
+
+    @Test
+    void updateAllUpdatesAxiomsOfAllGatherersInSingleCallAndAdditionalValuesPerGatherer() throws Exception {
+        addValue();
+        final Set<URI> typesToRemove = generateTypes();
+        sut.removeTypes(typesToRemove, null);
+        final NamedResource otherSubject = NamedResource.create(Generators.createIndividualIdentifier());
+        final AxiomValueGatherer other = new AxiomValueGatherer(otherSubject, null);
+        other.addValue(DATA_ASSERTION, new Value<>("OtherValue"), null);
+
+        AxiomValueGatherer.updateAll(Arrays.asList(sut, other), connectionMock);
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).updateAll(captor.capture());
+        assertEquals(Arrays.asList(getAxiomValueDescriptor().getSubject(), otherSubject),
+                captor.getValue().stream().map(AxiomValueDescriptor::getSubject).collect(Collectors.toList()));
+        verify(connectionMock, never()).update(any());
+        verify(typesMock).removeTypes(SUBJECT, null, typesToRemove);
+        verify(typesMock, never()).removeTypes(eq(otherSubject), any(), any());
+    }
+
     private Set<URI> generateTypes() {
         return IntStream.range(0, 3).mapToObj(i -> Generators.createIndividualIdentifier()).collect(Collectors.toSet());
     }
@@ -92,6 +92,16 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
         verify(connectionMock).find(axiomDescriptor);
     }
 
+    @Test
+    void loadEntityRecordsLoadOfInstanceNotFoundInCache() throws Exception {
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        when(connectionMock.find(axiomDescriptor)).thenReturn(entityAAxioms);
+        when(entityConstructorMock.reconstructEntity(IDENTIFIER, etAMock, descriptor, entityAAxioms))
+                .thenReturn(entityA);
+        instanceLoader.loadEntity(loadingParameters);
+        verify(cacheMock).recordLoad(eq(1), anyLong());
+    }
+
     @Test
     void testLoadEntityUnknown() throws Exception {
         when(connectionMock.find(axiomDescriptor)).thenReturn(Collections.emptyList());
@@ -187,12 +197,12 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
 
         final OWLClassA res = instanceLoader.loadEntity(loadingParameters);
         assertEquals(entityA, res);
-        verify(entityConstructorMock).populateQueryAttributes(entityA, etAMock);
+        verify(entityConstructorMock).refreshQueryAttributes(entityA, etAMock);
         verify(entityConstructorMock, never()).reconstructEntity(eq(loadingParameters.getIdentifier()), eq(etAMock), eq(descriptor), anyCollection());
     }
 
     @Test
-    void loadEntityRecursivelyReloadsQueryAttributesWhenInstanceIsRetrievedFromCache() {
+    void loadEntityDoesNotReloadQueryAttributesOfReferencedInstancesWhenInstanceIsRetrievedFromCache() {
         final OWLClassD entityD = new OWLClassD(Generators.createIndividualIdentifier());
         entityD.setOwlClassA(entityA);
         final LoadingParameters<OWLClassD> dLoadingParameters = new LoadingParameters<>(OWLClassD.class, entityD.getUri(), descriptor);
@@ -201,7 +211,8 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
 
         final OWLClassD result = instanceLoader.loadEntity(dLoadingParameters);
         assertEquals(entityD, result);
-        verify(entityConstructorMock).populateQueryAttributes(entityD, metamodelMocks.forOwlClassD().entityType());
-        verify(entityConstructorMock).populateQueryAttributes(entityA, etAMock);
+        verify(entityConstructorMock).refreshQueryAttributes(entityD, metamodelMocks.forOwlClassD().entityType());
+        verify(entityConstructorMock, never()).refreshQueryAttributes(eq(entityA), any());
+        verify(entityConstructorMock, never()).populateQueryAttributes(eq(entityA), any());
     }
 }
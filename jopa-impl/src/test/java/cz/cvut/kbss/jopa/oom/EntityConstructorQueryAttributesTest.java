@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassWithQueryAttr;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
@@ -28,6 +29,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.ontodriver.model.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +49,7 @@ import static cz.cvut.kbss.jopa.oom.EntityConstructorTest.getClassAssertionAxiom
 import static cz.cvut.kbss.jopa.oom.EntityConstructorTest.getStringAttAssertionAxiom;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +69,9 @@ public class EntityConstructorQueryAttributesTest {
     @Mock
     private SparqlQueryFactory queryFactoryMock;
 
+    private final QueryAttributeCache queryAttributeCache = new QueryAttributeCache(
+            Collections.singletonMap(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL, "60"));
+
     private MetamodelMocks mocks;
     private Descriptor descriptor;
 
@@ -76,6 +82,7 @@ public class EntityConstructorQueryAttributesTest {
         when(mapperMock.getConfiguration()).thenReturn(new Configuration(Collections.emptyMap()));
         when(mapperMock.getUow()).thenReturn(uowMock);
         when(uowMock.getQueryFactory()).thenReturn(queryFactoryMock);
+        when(uowMock.getQueryAttributeCache()).thenReturn(queryAttributeCache);
         this.mocks = new MetamodelMocks();
         this.descriptor = new EntityDescriptor();
         this.constructor = new EntityConstructor(mapperMock);
@@ -198,4 +205,39 @@ public class EntityConstructorQueryAttributesTest {
         assertEquals(stringValue, res.getStringQueryAttribute());
         verify(typedQueryMock, never()).setParameter(anyString(), any());
     }
+
+    @Test
+    void reconstructEntityRecordsEvaluationOfQueryAttributes() throws Exception {
+        final Set<Axiom<?>> axioms = new HashSet<>();
+        axioms.add(getClassAssertionAxiomForType(IDENTIFIER, OWLClassWithQueryAttr.getClassIri()));
+        doReturn(typedQueryMock).when(queryFactoryMock).createNativeQuery(any(String.class), (Class<?>) any(Class.class));
+        doReturn("String value").when(typedQueryMock).getSingleResult();
+
+        final OWLClassWithQueryAttr res = constructor.reconstructEntity(IDENTIFIER, mocks.forOwlClassWithQueryAttr()
+                .entityType(), descriptor, axioms);
+        assertTrue(queryAttributeCache.isValid(res));
+    }
+
+    @Test
+    void refreshQueryAttributesDoesNotEvaluateQueriesWhenCachedValuesAreValid() {
+        final OWLClassWithQueryAttr instance = new OWLClassWithQueryAttr(IDENTIFIER);
+        queryAttributeCache.recordEvaluation(instance);
+
+        constructor.refreshQueryAttributes(instance, mocks.forOwlClassWithQueryAttr().entityType());
+        verify(queryFactoryMock, never()).createNativeQuery(anyString(), any(Class.class));
+    }
+
+    @Test
+    void refreshQueryAttributesEvaluatesQueriesWhenCachedValuesWereInvalidated() {
+        final String stringValue = "String value";
+        final OWLClassWithQueryAttr instance = new OWLClassWithQueryAttr(IDENTIFIER);
+        queryAttributeCache.recordEvaluation(instance);
+        queryAttributeCache.invalidate(instance);
+        doReturn(typedQueryMock).when(queryFactoryMock).createNativeQuery(any(String.class), (Class<?>) any(Class.class));
+        doReturn(stringValue).when(typedQueryMock).getSingleResult();
+
+        constructor.refreshQueryAttributes(instance, mocks.forOwlClassWithQueryAttr().entityType());
+        assertEquals(stringValue, instance.getStringQueryAttribute());
+        assertTrue(queryAttributeCache.isValid(instance));
+    }
 }
@@ -23,6 +23,7 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.environment.utils.TestEnvironmentUtils;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.FetchGraph;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.SequencesVocabulary;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -45,6 +46,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -199,6 +201,74 @@ class ObjectOntologyMapperTest {
         verify(madMock).persist(connectionMock);
     }
 
+    @Test
+    void persistEntityInBatchDefersWritingAxiomsUntilBatchIsFinished() throws Exception {
+        final OWLClassA a1 = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA a2 = new OWLClassA(Generators.createIndividualIdentifier());
+        when(entityDeconstructorMock.mapEntityToAxioms(a1.getUri(), a1, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(a1.getUri()), null));
+        when(entityDeconstructorMock.mapEntityToAxioms(a2.getUri(), a2, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(a2.getUri()), null));
+
+        mapper.startPersistBatch(10);
+        mapper.persistEntity(a1.getUri(), a1, aDescriptor);
+        mapper.persistEntity(a2.getUri(), a2, aDescriptor);
+        verify(connectionMock, never()).persistAll(anyCollection());
+        mapper.finishPersistBatch();
+
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).persistAll(captor.capture());
+        verify(connectionMock, never()).persist(any());
+        final List<AxiomValueDescriptor> persisted = new ArrayList<>(captor.getValue());
+        assertEquals(2, persisted.size());
+        assertEquals(a1.getUri(), persisted.get(0).getSubject().getIdentifier());
+        assertEquals(a2.getUri(), persisted.get(1).getSubject().getIdentifier());
+    }
+
+    @Test
+    void persistEntityInBatchWritesBufferedAxiomsWhenBatchSizeIsReached() throws Exception {
+        mapper.startPersistBatch(2);
+        for (int i = 0; i < 3; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            when(entityDeconstructorMock.mapEntityToAxioms(a.getUri(), a, etAMock, aDescriptor))
+                    .thenReturn(new AxiomValueGatherer(NamedResource.create(a.getUri()), null));
+            mapper.persistEntity(a.getUri(), a, aDescriptor);
+        }
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).persistAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        mapper.finishPersistBatch();
+        verify(connectionMock, times(2)).persistAll(anyCollection());
+    }
+
+    @Test
+    void loadFieldValueWritesBufferedPersistsBeforeLoadingFromStorage() throws Exception {
+        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+        when(entityDeconstructorMock.mapEntityToAxioms(a.getUri(), a, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(a.getUri()), null));
+        when(connectionMock.find(axiomDescriptor)).thenReturn(getAxiomsForEntityA());
+        mapper.startPersistBatch(10);
+        mapper.persistEntity(a.getUri(), a, aDescriptor);
+
+        mapper.loadFieldValue(entityA, mocks.forOwlClassA().typesSpec(), aDescriptor);
+        final InOrder inOrder = inOrder(connectionMock);
+        inOrder.verify(connectionMock).persistAll(anyCollection());
+        inOrder.verify(connectionMock).find(axiomDescriptor);
+    }
+
+    @Test
+    void cancelPersistBatchDiscardsBufferedAxioms() throws Exception {
+        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+        when(entityDeconstructorMock.mapEntityToAxioms(a.getUri(), a, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(a.getUri()), null));
+        mapper.startPersistBatch(10);
+        mapper.persistEntity(a.getUri(), a, aDescriptor);
+        mapper.cancelPersistBatch();
+        mapper.finishPersistBatch();
+        verify(connectionMock, never()).persistAll(anyCollection());
+        verify(connectionMock, never()).persist(any());
+    }
+
     @Test
     void testGetEntityFromCacheOrOntologyFromCache() {
         when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(Boolean.TRUE);
@@ -271,6 +341,94 @@ class ObjectOntologyMapperTest {
         verify(axiomBuilderMock).update(connectionMock);
     }
 
+    @Test
+    void registerPendingUpdateCoalescesChangesAndWritesThemInSingleCallOnFlush() throws Exception {
+        final OWLClassA other = new OWLClassA(Generators.createIndividualIdentifier());
+        final FieldSpecification<OWLClassA, ?> strAtt = mocks.forOwlClassA().stringAttribute();
+        when(entityDeconstructorMock.mapFieldToAxioms(IDENTIFIER, entityA, strAtt, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(IDENTIFIER), null));
+        when(entityDeconstructorMock.mapFieldToAxioms(other.getUri(), other, strAtt, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(other.getUri()), null));
+
+        mapper.registerPendingUpdate(entityA, strAtt, aDescriptor);
+        mapper.registerPendingUpdate(other, strAtt, aDescriptor);
+        mapper.registerPendingUpdate(entityA, strAtt, aDescriptor);
+        verify(connectionMock, never()).updateAll(anyCollection());
+        mapper.flushPendingUpdates();
+
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).updateAll(captor.capture());
+        verify(connectionMock, never()).update(any());
+        final List<AxiomValueDescriptor> updated = new ArrayList<>(captor.getValue());
+        assertEquals(2, updated.size());
+        assertEquals(IDENTIFIER, updated.get(0).getSubject().getIdentifier());
+        assertEquals(other.getUri(), updated.get(1).getSubject().getIdentifier());
+        verify(entityDeconstructorMock).mapFieldToAxioms(IDENTIFIER, entityA, strAtt, etAMock, aDescriptor);
+    }
+
+    @Test
+    void loadFieldValueWritesPendingUpdatesBeforeLoadingFromStorage() throws Exception {
+        final FieldSpecification<OWLClassA, ?> strAtt = mocks.forOwlClassA().stringAttribute();
+        when(entityDeconstructorMock.mapFieldToAxioms(IDENTIFIER, entityA, strAtt, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(IDENTIFIER), null));
+        when(connectionMock.find(axiomDescriptor)).thenReturn(getAxiomsForEntityA());
+        mapper.registerPendingUpdate(entityA, strAtt, aDescriptor);
+
+        mapper.loadFieldValue(entityA, mocks.forOwlClassA().typesSpec(), aDescriptor);
+        final InOrder inOrder = inOrder(connectionMock);
+        inOrder.verify(connectionMock).updateAll(anyCollection());
+        inOrder.verify(connectionMock).find(axiomDescriptor);
+    }
+
+    @Test
+    void containsEntityWritesPendingUpdatesBeforeCheckingStorage() throws Exception {
+        final FieldSpecification<OWLClassA, ?> strAtt = mocks.forOwlClassA().stringAttribute();
+        when(entityDeconstructorMock.mapFieldToAxioms(IDENTIFIER, entityA, strAtt, etAMock, aDescriptor))
+                .thenReturn(new AxiomValueGatherer(NamedResource.create(IDENTIFIER), null));
+        mapper.registerPendingUpdate(entityA, strAtt, aDescriptor);
+
+        mapper.containsEntity(OWLClassA.class, IDENTIFIER, aDescriptor);
+        final InOrder inOrder = inOrder(connectionMock);
+        inOrder.verify(connectionMock).updateAll(anyCollection());
+        inOrder.verify(connectionMock).contains(any(Axiom.class), anySet());
+    }
+
+    @Test
+    void discardPendingUpdatesDropsChangesWithoutWritingThem() throws Exception {
+        mapper.registerPendingUpdate(entityA, mocks.forOwlClassA().stringAttribute(), aDescriptor);
+        mapper.discardPendingUpdates();
+        mapper.flushPendingUpdates();
+        verify(connectionMock, never()).updateAll(anyCollection());
+        verify(entityDeconstructorMock, never()).mapFieldToAxioms(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void loadFieldValuesLoadsFieldOfAllEntitiesInSingleStorageCall() throws Exception {
+        final OWLClassA other = new OWLClassA(Generators.createIndividualIdentifier());
+        final FieldSpecification<OWLClassA, ?> typesSpec = mocks.forOwlClassA().typesSpec();
+        final AxiomDescriptor otherDescriptor = new AxiomDescriptor(NamedResource.create(other.getUri()));
+        when(descriptorFactoryMock.createForFieldLoading(IDENTIFIER, typesSpec, aDescriptor, etAMock))
+                .thenReturn(axiomDescriptor);
+        when(descriptorFactoryMock.createForFieldLoading(other.getUri(), typesSpec, aDescriptor, etAMock))
+                .thenReturn(otherDescriptor);
+        final Collection<Axiom<?>> axioms = getAxiomsForEntityA();
+        final Map<NamedResource, Collection<Axiom<?>>> found = new HashMap<>();
+        found.put(axiomDescriptor.getSubject(), axioms);
+        when(connectionMock.findAll(anyCollection())).thenReturn(found);
+        final Map<OWLClassA, Descriptor> entities = new IdentityHashMap<>();
+        entities.put(entityA, aDescriptor);
+        entities.put(other, aDescriptor);
+
+        mapper.loadFieldValues(entities, typesSpec);
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().containsAll(Arrays.asList(axiomDescriptor, otherDescriptor)));
+        verify(connectionMock, never()).find(any());
+        verify(entityConstructorMock).setFieldValue(entityA, typesSpec, axioms, etAMock, aDescriptor);
+        verify(entityConstructorMock).setFieldValue(other, typesSpec, Collections.emptyList(), etAMock, aDescriptor);
+    }
+
     @Test
     void removeEntityCreatesDescriptorForRemovalOfAllEntityAttributes() {
         when(descriptorFactoryMock
@@ -422,6 +580,115 @@ class ObjectOntologyMapperTest {
         verify(cacheMock, never()).add(any(), any(), any());
     }
 
+    @Test
+    void loadEntitiesLoadsAxiomsOfAllEntitiesInSingleStorageCall() throws Exception {
+        final URI idTwo = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassA> paramsTwo = new LoadingParameters<>(OWLClassA.class, idTwo, aDescriptor);
+        final AxiomDescriptor descTwo = new AxiomDescriptor(NamedResource.create(idTwo));
+        when(descriptorFactoryMock.createForEntityLoading(paramsTwo, etAMock)).thenReturn(descTwo);
+        final Collection<Axiom<?>> axiomsForA = getAxiomsForEntityA();
+        final Map<NamedResource, Collection<Axiom<?>>> found = new HashMap<>();
+        found.put(axiomDescriptor.getSubject(), axiomsForA);
+        found.put(descTwo.getSubject(), Collections.emptyList());
+        when(connectionMock.findAll(anyCollection())).thenReturn(found);
+        when(entityConstructorMock.reconstructEntity(IDENTIFIER, etAMock, aDescriptor, axiomsForA)).thenReturn(entityA);
+
+        final List<OWLClassA> result = mapper.loadEntities(Arrays.asList(loadingParameters, paramsTwo));
+        assertEquals(Arrays.asList(entityA, null), result);
+        verify(connectionMock).findAll(Arrays.asList(axiomDescriptor, descTwo));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+        verify(cacheMock).add(IDENTIFIER, entityA, aDescriptor);
+    }
+
+    @Test
+    void loadEntitiesLoadsCachedInstancesFromCacheWithoutAccessingStorage() throws Exception {
+        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(true);
+        when(cacheMock.get(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(entityA);
+
+        final List<OWLClassA> result = mapper.loadEntities(Collections.singletonList(loadingParameters));
+        assertEquals(Collections.singletonList(entityA), result);
+        verify(connectionMock, never()).findAll(anyCollection());
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void loadEntityWithFetchGraphLoadsReferencedEntitiesInSubgraphUsingSingleStorageCallPerGraphLevel()
+            throws Exception {
+        final URI idD = Generators.createIndividualIdentifier();
+        final FetchGraph graph = new FetchGraph();
+        graph.addSubgraph(mocks.forOwlClassD().owlClassAAtt().getName());
+        final LoadingParameters<OWLClassD> paramsD = new LoadingParameters<>(OWLClassD.class, idD, aDescriptor, graph);
+        final AxiomDescriptor descD = new AxiomDescriptor(NamedResource.create(idD));
+        final EntityType<OWLClassD> etDMock = mocks.forOwlClassD().entityType();
+        when(descriptorFactoryMock.createForEntityLoading(paramsD, etDMock)).thenReturn(descD);
+        when(descriptorFactoryMock.createForEntityLoading(argThat(p -> p != null && IDENTIFIER.equals(p.getIdentifier())),
+                                                          eq(etAMock))).thenReturn(axiomDescriptor);
+        when(uowMock.isEntityType(OWLClassA.class)).thenReturn(true);
+        final Collection<Axiom<?>> axiomsForD = axiomsForD(idD);
+        final Collection<Axiom<?>> axiomsForA = getAxiomsForEntityA();
+        when(connectionMock.findAll(anyCollection())).thenAnswer(inv -> {
+            final Collection<?> descriptors = inv.getArgument(0);
+            return descriptors.contains(descD) ? Collections.singletonMap(descD.getSubject(), axiomsForD) :
+                   Collections.singletonMap(axiomDescriptor.getSubject(), axiomsForA);
+        });
+        final Descriptor refDescriptor = aDescriptor.getAttributeDescriptor(mocks.forOwlClassD().owlClassAAtt());
+        final OWLClassD d = new OWLClassD(idD);
+        when(entityConstructorMock.reconstructEntity(idD, etDMock, aDescriptor, axiomsForD)).thenAnswer(inv -> {
+            mapper.registerInstance(idD, d);
+            d.setOwlClassA(mapper.getEntityFromCacheOrOntology(OWLClassA.class, IDENTIFIER, refDescriptor));
+            return d;
+        });
+        when(entityConstructorMock.reconstructEntity(IDENTIFIER, etAMock, refDescriptor, axiomsForA)).thenReturn(
+                entityA);
+
+        final OWLClassD result = mapper.loadEntity(paramsD);
+        assertSame(d, result);
+        assertSame(entityA, result.getOwlClassA());
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock, times(2)).findAll(captor.capture());
+        assertEquals(Collections.singletonList(descD), new ArrayList<>(captor.getAllValues().get(0)));
+        assertEquals(Collections.singletonList(axiomDescriptor), new ArrayList<>(captor.getAllValues().get(1)));
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
+    @Test
+    void loadEntitiesWithFetchGraphLoadsEntityFromStorageEvenWhenItIsCached() throws Exception {
+        final LoadingParameters<OWLClassA> params = new LoadingParameters<>(OWLClassA.class, IDENTIFIER, aDescriptor,
+                                                                            new FetchGraph().addAttributeNodes("types"));
+        when(descriptorFactoryMock.createForEntityLoading(params, etAMock)).thenReturn(axiomDescriptor);
+        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(true);
+        final Collection<Axiom<?>> axiomsForA = getAxiomsForEntityA();
+        when(connectionMock.findAll(anyCollection())).thenReturn(
+                Collections.singletonMap(axiomDescriptor.getSubject(), axiomsForA));
+        when(entityConstructorMock.reconstructEntity(IDENTIFIER, etAMock, aDescriptor, axiomsForA)).thenReturn(entityA);
+
+        final List<OWLClassA> result = mapper.loadEntities(Collections.singletonList(params));
+        assertEquals(Collections.singletonList(entityA), result);
+        verify(connectionMock).findAll(Collections.singletonList(axiomDescriptor));
+        verify(cacheMock, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void loadEntitiesReusesInstanceAlreadyLoadedAsReferenceOfAnotherEntityInBatch() throws Exception {
+        final URI idD = Generators.createIndividualIdentifier();
+        final LoadingParameters<OWLClassD> paramsD = new LoadingParameters<>(OWLClassD.class, idD, aDescriptor);
+        final AxiomDescriptor descD = new AxiomDescriptor(NamedResource.create(idD));
+        final EntityType<OWLClassD> etDMock = mocks.forOwlClassD().entityType();
+        when(descriptorFactoryMock.createForEntityLoading(paramsD, etDMock)).thenReturn(descD);
+        final Collection<Axiom<?>> axiomsForD = axiomsForD(idD);
+        when(connectionMock.findAll(anyCollection())).thenReturn(Collections.singletonMap(descD.getSubject(),
+                                                                                          axiomsForD));
+        final OWLClassD d = new OWLClassD(idD);
+        when(entityConstructorMock.reconstructEntity(idD, etDMock, aDescriptor, axiomsForD)).thenAnswer(inv -> {
+            mapper.registerInstance(idD, d);
+            return d;
+        });
+
+        final List<OWLClassD> result = mapper.loadEntities(Arrays.asList(paramsD, paramsD));
+        assertEquals(Arrays.asList(d, d), result);
+        verify(entityConstructorMock).reconstructEntity(idD, etDMock, aDescriptor, axiomsForD);
+    }
+
     @Test
     void persistRemovesPendingAssertionsWithTargetBeingPersistedObject() throws Exception {
         final OWLClassA a = new OWLClassA();
@@ -20,19 +20,24 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassR;
 import cz.cvut.kbss.jopa.environment.OWLClassS;
+import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 import cz.cvut.kbss.ontodriver.Types;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -42,6 +47,8 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -133,6 +140,64 @@ class TwoStepInstanceLoaderTest extends InstanceLoaderTestBase {
         assertThat(ex.getMessage(), containsString(msg));
     }
 
+    @Test
+    void loadEntityLoadsTypesAndAttributesInSingleCallWhenHierarchyCanBeLoadedTogether() throws Exception {
+        final AxiomDescriptor hierarchyDescriptor = new AxiomDescriptor(INDIVIDUAL);
+        when(descriptorFactoryMock.createForPolymorphicEntityLoading(loadingParameters,
+                metamodelMock.entity(OWLClassS.class))).thenReturn(Optional.of(hierarchyDescriptor));
+        final Assertion stringAssertion =
+                Assertion.createDataPropertyAssertion(URI.create(Vocabulary.P_R_STRING_ATTRIBUTE), false);
+        final AxiomDescriptor rDescriptor = new AxiomDescriptor(INDIVIDUAL);
+        rDescriptor.addAssertion(Assertion.createClassAssertion(false));
+        rDescriptor.addAssertion(stringAssertion);
+        when(descriptorFactoryMock.createForEntityLoading(loadingParameters, metamodelMock.entity(OWLClassR.class)))
+                .thenReturn(rDescriptor);
+        final Axiom<?> typeAxiom = new AxiomImpl<>(INDIVIDUAL, Assertion.createClassAssertion(false),
+                new Value<>(NamedResource.create(URI.create(OWLClassR.getClassIri()))));
+        final Axiom<?> stringAxiom = new AxiomImpl<>(INDIVIDUAL, stringAssertion, new Value<>("test"));
+        final Axiom<?> unrelatedAxiom = new AxiomImpl<>(INDIVIDUAL,
+                Assertion.createDataPropertyAssertion(URI.create(Vocabulary.p_a_stringAttribute), false),
+                new Value<>("unrelated"));
+        when(connectionMock.find(hierarchyDescriptor)).thenReturn(List.of(typeAxiom, stringAxiom, unrelatedAxiom));
+        final OWLClassR entityR = new OWLClassR();
+        final EntityType<OWLClassR> etR = metamodelMock.entity(OWLClassR.class);
+        when(entityConstructorMock.reconstructEntity(eq(IDENTIFIER), eq(etR), eq(descriptor), anyCollection()))
+                .thenReturn(entityR);
+
+        final OWLClassS result = instanceLoader.loadEntity(loadingParameters);
+        assertSame(entityR, result);
+        verify(connectionMock).find(hierarchyDescriptor);
+        verify(connectionMock, never()).types();
+        final ArgumentCaptor<Collection<Axiom<?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(entityConstructorMock).reconstructEntity(eq(IDENTIFIER), eq(etR), eq(descriptor), captor.capture());
+        assertEquals(Set.of(typeAxiom, stringAxiom), new HashSet<>(captor.getValue()));
+    }
+
+    @Test
+    void loadEntityReturnsNullWhenSingleCallLoadingFindsNoAxioms() throws Exception {
+        final AxiomDescriptor hierarchyDescriptor = new AxiomDescriptor(INDIVIDUAL);
+        when(descriptorFactoryMock.createForPolymorphicEntityLoading(loadingParameters,
+                metamodelMock.entity(OWLClassS.class))).thenReturn(Optional.of(hierarchyDescriptor));
+        when(connectionMock.find(hierarchyDescriptor)).thenReturn(Collections.emptyList());
+
+        assertNull(instanceLoader.loadEntity(loadingParameters));
+        verify(entityConstructorMock, never()).reconstructEntity(any(), any(), any(), any());
+    }
+
+    @Test
+    void loadEntityReturnsCachedInstanceOfSubtypeWithoutAccessingStorage() throws Exception {
+        when(descriptorFactoryMock.createForPolymorphicEntityLoading(loadingParameters,
+                metamodelMock.entity(OWLClassS.class))).thenReturn(Optional.of(new AxiomDescriptor(INDIVIDUAL)));
+        final OWLClassR entityR = new OWLClassR();
+        when(cacheMock.contains(OWLClassR.class, IDENTIFIER, descriptor)).thenReturn(true);
+        when(cacheMock.get(OWLClassR.class, IDENTIFIER, descriptor)).thenReturn(entityR);
+
+        final OWLClassS result = instanceLoader.loadEntity(loadingParameters);
+        assertSame(entityR, result);
+        verify(connectionMock, never()).find(any());
+        verify(connectionMock, never()).types();
+    }
+
     @Test
     void loadReferenceLoadsReferenceFromStorageWhenEntityTypeIsDetermined() throws Exception {
         final Axiom<URI> type = new AxiomImpl<>(INDIVIDUAL, Assertion.createClassAssertion(false),
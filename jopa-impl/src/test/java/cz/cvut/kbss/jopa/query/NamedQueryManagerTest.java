@@ -17,10 +17,13 @@
  */
 package cz.cvut.kbss.jopa.query;
 
+import cz.cvut.kbss.jopa.exception.QueryParserException;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class NamedQueryManagerTest {
@@ -58,4 +61,22 @@ public class NamedQueryManagerTest {
                 () -> queryManager.getQuery(name));
         assertEquals("Query with name " + name + " was not found in this persistence unit.", ex.getMessage());
     }
+
+    @Test
+    public void addedQueryIsParsedIntoTemplate() {
+        final String name = "selectAll";
+        queryManager.addNamedQuery(name, QUERY);
+        final SparqlQueryTemplate template = queryManager.getTemplate(name);
+        assertEquals(QUERY, template.getQuery());
+        assertSame(template, queryManager.getTemplate(name));
+    }
+
+    @Test
+    public void addingUnparseableQueryDefersParsingErrorToTemplateRetrieval() {
+        final String name = "invalid";
+        final String query = "SELECT ?x WHERE { ?x ?y $1 . ?x ?z $1 . }";
+        queryManager.addNamedQuery(name, query);
+        assertEquals(query, queryManager.getQuery(name));
+        assertThrows(QueryParserException.class, () -> queryManager.getTemplate(name));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache.QueryLanguage;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class QueryTemplateCacheTest {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x ?y ?z . }";
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    private final Function<String, SparqlQueryTemplate> parser = q -> {
+        parseCount.incrementAndGet();
+        return new SparqlQueryParser(null).parseTemplate(q);
+    };
+
+    @Test
+    void getParsesQueryOnlyOnceAndReturnsCachedTemplate() {
+        final QueryTemplateCache sut = new QueryTemplateCache();
+        final SparqlQueryTemplate first = sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        final SparqlQueryTemplate second = sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+        assertEquals(1, sut.getHitCount());
+        assertEquals(1, sut.getMissCount());
+    }
+
+    @Test
+    void getDistinguishesQueryLanguages() {
+        final QueryTemplateCache sut = new QueryTemplateCache();
+        final SparqlQueryTemplate sparql = sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        final SparqlQueryTemplate soql = sut.get(QueryLanguage.SOQL, QUERY, parser);
+        assertNotSame(sparql, soql);
+        assertEquals(2, sut.getMissCount());
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedTemplateWhenCapacityIsExceeded() {
+        final QueryTemplateCache sut = new QueryTemplateCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_CACHE_CAPACITY, "2"));
+        final String queryTwo = "SELECT ?y WHERE { ?x ?y ?z . }";
+        final String queryThree = "SELECT ?z WHERE { ?x ?y ?z . }";
+        sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        sut.get(QueryLanguage.SPARQL, queryTwo, parser);
+        sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        sut.get(QueryLanguage.SPARQL, queryThree, parser);
+        assertEquals(2, sut.size());
+        sut.get(QueryLanguage.SPARQL, QUERY, parser);
+        assertEquals(3, parseCount.get());
+        sut.get(QueryLanguage.SPARQL, queryTwo, parser);
+        assertEquals(4, parseCount.get());
+    }
+
+    @Test
+    void constructorUsesDefaultCapacityWhenConfiguredValueIsInvalid() {
+        final QueryTemplateCache sut = new QueryTemplateCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_CACHE_CAPACITY, "-1"));
+        assertEquals(QueryTemplateCache.DEFAULT_CAPACITY, sut.getCapacity());
+    }
+}
@@ -67,7 +67,6 @@ class FieldResultMapperTest {
         final FieldResult fieldResult = WithMapping.getFieldResult();
         final FieldSpecification fsMock = mock(FieldSpecification.class);
         when(fsMock.getJavaType()).thenReturn(Boolean.class);
-        when(fsMock.getJavaField()).thenReturn(OWLClassM.getBooleanAttributeField());
         when(resultRow.isBound(fieldResult.variable())).thenReturn(true);
         final int value = 117;
         when(resultRow.getObject(fieldResult.variable())).thenReturn(value);
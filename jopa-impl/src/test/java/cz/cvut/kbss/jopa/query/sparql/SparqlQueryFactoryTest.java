@@ -23,6 +23,7 @@ import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
@@ -35,6 +36,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -56,11 +59,14 @@ public class SparqlQueryFactoryTest {
     @Mock
     private ConnectionWrapper connectionMock;
 
+    private final QueryTemplateCache templateCache = new QueryTemplateCache();
+
     private SparqlQueryFactory factory;
 
     @BeforeEach
     public void setUp() throws Exception {
         when(uowMock.getNamedQueryManager()).thenReturn(namedQueryManagerMock);
+        when(uowMock.getQueryTemplateCache()).thenReturn(templateCache);
         final MetamodelImpl metamodel = mock(MetamodelImpl.class);
         new MetamodelMocks().setMocks(metamodel);
         when(uowMock.getMetamodel()).thenReturn(metamodel);
@@ -133,18 +139,41 @@ public class SparqlQueryFactoryTest {
     @Test
     public void createNamedQueryRetrievesNamedQueryFromManagerAndReturnsCorrespondingNativeQuery() {
         final String queryName = "testQuery";
-        when(namedQueryManagerMock.getQuery(queryName)).thenReturn(QUERY);
+        when(namedQueryManagerMock.getTemplate(queryName)).thenReturn(parseTemplate(QUERY));
         final Query q = factory.createNamedQuery(queryName);
         assertNotNull(q);
-        verify(namedQueryManagerMock).getQuery(queryName);
+        verify(namedQueryManagerMock).getTemplate(queryName);
     }
 
     @Test
     public void createNamedTypedQueryRetrievesNamedQueryFromManagerAndReturnsCorrespondingNativeQuery() {
         final String queryName = "testQuery";
-        when(namedQueryManagerMock.getQuery(queryName)).thenReturn(QUERY);
+        when(namedQueryManagerMock.getTemplate(queryName)).thenReturn(parseTemplate(QUERY));
         final TypedQuery<OWLClassA> q = factory.createNamedQuery(queryName, OWLClassA.class);
         assertNotNull(q);
-        verify(namedQueryManagerMock).getQuery(queryName);
+        verify(namedQueryManagerMock).getTemplate(queryName);
+    }
+
+    private static SparqlQueryTemplate parseTemplate(String query) {
+        return new SparqlQueryParser(null).parseTemplate(query);
+    }
+
+    @Test
+    public void createQueryParsesSameQueryStringOnlyOnce() {
+        final String query = "SELECT a FROM OWLClassA a WHERE a.stringAttribute = :value";
+        final TypedQuery<OWLClassA> first = factory.createQuery(query, CLS);
+        final TypedQuery<OWLClassA> second = factory.createQuery(query, CLS);
+        assertEquals(1, templateCache.getMissCount());
+        assertEquals(1, templateCache.getHitCount());
+        first.setParameter("value", "first");
+        assertFalse(second.getParameters().stream().anyMatch(second::isBound));
+    }
+
+    @Test
+    public void createNativeQueryUsesTemplateCacheSharedWithOtherFactories() {
+        factory.createNativeQuery(QUERY);
+        new SparqlQueryFactory(uowMock, connectionMock).createNativeQuery(QUERY, CLS);
+        assertEquals(1, templateCache.getMissCount());
+        assertEquals(1, templateCache.getHitCount());
     }
 }
@@ -26,6 +26,8 @@ import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
@@ -352,4 +354,16 @@ public class SparqlQueryParserTest {
         final QueryParameter<?> labelVar = (QueryParameter<?>) holder.getParameter("label");
         assertFalse(labelVar.isProjected());
     }
+
+    @Test
+    public void parseTemplateCreatesTemplateWhoseInstancesHaveIndependentParameters() {
+        final String query = "SELECT ?x WHERE { ?x ?y ?z . ?z ?y ?x . }";
+        final SparqlQueryTemplate template = ((SparqlQueryParser) queryParser).parseTemplate(query);
+        final QueryHolder first = template.instantiate(valueFactory);
+        final QueryHolder second = template.instantiate(valueFactory);
+        first.setParameter(first.getParameter("y"), URI.create("http://y"));
+        assertEquals("SELECT ?x WHERE { ?x <http://y> ?z . ?z <http://y> ?x . }", first.assembleQuery());
+        assertEquals(query, second.assembleQuery());
+        assertTrue(((QueryParameter<?>) second.getParameter("x")).isProjected());
+    }
 }
@@ -223,10 +223,8 @@ public class CollectionInstanceBuilderTest {
 
     @Test
     void mergeChangesReplacesEmptySetWithDefaultSet() throws Exception {
-        final OWLClassM target = new OWLClassM();
-        target.initializeTestValues(true);
-        builder.mergeChanges(OWLClassM.getIntegerSetField(), target, new HashSet<>(), Collections.emptySet());
-        assertThat(target.getIntegerSet(),
-                   instanceOf(CollectionFactory.createDefaultCollection(CollectionType.SET).getClass()));
+        final Object result =
+                builder.mergeChanges(OWLClassM.getIntegerSetField(), new HashSet<>(), Collections.emptySet());
+        assertThat(result, instanceOf(CollectionFactory.createDefaultCollection(CollectionType.SET).getClass()));
     }
 }
@@ -64,8 +64,6 @@ class DateInstanceBuilderTest {
     void testMergeChanges() {
         final Date orig = new Date();
         final Date clone = new Date(System.currentTimeMillis() - 100000);
-        entityM.setDateAttribute(orig);
-        builder.mergeChanges(dateField, entityM, orig, clone);
-        assertEquals(clone, entityM.getDateAttribute());
+        assertEquals(clone, builder.mergeChanges(dateField, orig, clone));
     }
 }
@@ -29,8 +29,11 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class MultilingualStringInstanceBuilderTest {
 
@@ -40,7 +43,10 @@ class MultilingualStringInstanceBuilderTest {
 
     @BeforeEach
     void setUp() {
-        this.sut = new MultilingualStringInstanceBuilder(mock(CloneBuilderImpl.class), mock(UnitOfWorkImpl.class));
+        final UnitOfWorkImpl uow = mock(UnitOfWorkImpl.class);
+        when(uow.createIndirectCollection(any(), any(), any())).thenAnswer(
+                inv -> new IndirectMultilingualString(inv.getArgument(1), inv.getArgument(2), uow, inv.getArgument(0)));
+        this.sut = new MultilingualStringInstanceBuilder(mock(CloneBuilderImpl.class), uow);
     }
 
     @Test
@@ -86,18 +92,15 @@ class MultilingualStringInstanceBuilderTest {
         final MultilingualString clone = MultilingualString.create("building", Generators.LANG);
         clone.set("cs", "stavba");
         final MultilingualString original = MultilingualString.create("construction", Generators.LANG);
-        final OWLClassU target = new OWLClassU();
-        target.setSingularStringAtt(original);
-        sut.mergeChanges(OWLClassU.getSingularStringAttField(), target, original, clone);
-        assertEquals(clone.getValue(), target.getSingularStringAtt().getValue());
+        final Object result = sut.mergeChanges(OWLClassU.getSingularStringAttField(), original, clone);
+        assertThat(result, instanceOf(MultilingualString.class));
+        assertNotSame(clone, result);
+        assertEquals(clone.getValue(), ((MultilingualString) result).getValue());
     }
 
     @Test
     void mergeChangesSupportsCloneBeingNull() throws Exception {
         final MultilingualString original = MultilingualString.create("construction", Generators.LANG);
-        final OWLClassU target = new OWLClassU();
-        target.setSingularStringAtt(original);
-        sut.mergeChanges(OWLClassU.getSingularStringAttField(), target, original, null);
-        assertNull(target.getSingularStringAtt());
+        assertNull(sut.mergeChanges(OWLClassU.getSingularStringAttField(), original, null));
     }
 }
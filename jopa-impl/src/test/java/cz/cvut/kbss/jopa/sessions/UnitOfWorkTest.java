@@ -27,6 +27,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassF;
 import cz.cvut.kbss.jopa.environment.OWLClassL;
 import cz.cvut.kbss.jopa.environment.OWLClassR;
 import cz.cvut.kbss.jopa.environment.OWLClassU;
+import cz.cvut.kbss.jopa.environment.OWLClassWithQueryAttr;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.exception.IdentifierNotSetException;
@@ -35,6 +36,7 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.exceptions.InferredAttributeModifiedException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MultilingualString;
@@ -43,6 +45,8 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
+import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
@@ -57,6 +61,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,7 +87,9 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -144,6 +151,38 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         verify(storageMock, never()).find(any());
     }
 
+    @Test
+    void readObjectsLoadsNotManagedObjectsFromStorageTogether() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA other = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA another = new OWLClassA(Generators.createIndividualIdentifier());
+        final List<LoadingParameters<OWLClassA>> expectedParams =
+                Arrays.asList(new LoadingParameters<>(OWLClassA.class, other.getUri(), descriptor),
+                              new LoadingParameters<>(OWLClassA.class, another.getUri(), descriptor));
+        when(storageMock.findAll(expectedParams)).thenReturn(Arrays.asList(other, null));
+
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, Arrays.asList(other.getUri(), entityA.getUri(), another.getUri(),
+                                                               other.getUri()), descriptor);
+        assertEquals(4, result.size());
+        assertEquals(other.getUri(), result.get(0).getUri());
+        assertTrue(uow.contains(result.get(0)));
+        assertSame(clone, result.get(1));
+        assertNull(result.get(2));
+        assertSame(result.get(0), result.get(3));
+        verify(storageMock).findAll(expectedParams);
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectsDoesNotAccessStorageWhenAllObjectsAreManaged() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, Collections.singletonList(entityA.getUri()), descriptor);
+        assertEquals(Collections.singletonList(clone), result);
+        verify(storageMock, never()).findAll(anyList());
+    }
+
     @Test
     void testCalculateNewObjects() {
         uow.registerNewObject(entityA, descriptor);
@@ -546,6 +585,42 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         verify(storageMock).merge(clone, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
     }
 
+    private void enableWriteBehind() {
+        when(emMock.getConfiguration()).thenReturn(new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.WRITE_BEHIND, Boolean.TRUE.toString())));
+        uow.setEntityManager(emMock);
+    }
+
+    @Test
+    void attributeChangedDefersMergeWhenWriteBehindIsEnabled() throws Exception {
+        when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
+        enableWriteBehind();
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final Field strField = OWLClassA.getStrAttField();
+
+        uow.attributeChanged(clone, strField);
+        verify(storageMock).deferMerge(clone, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(storageMock, never()).merge(any(), any(), any());
+        assertTrue(uow.hasChanges());
+    }
+
+    @Test
+    void writeUncommittedChangesFlushesPendingMergesWhenWriteBehindIsEnabled() throws Exception {
+        when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
+        enableWriteBehind();
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+
+        uow.writeUncommittedChanges();
+        verify(storageMock).flushPendingMerges();
+    }
+
+    @Test
+    void writeUncommittedChangesDoesNotFlushPendingMergesWhenWriteBehindIsDisabled() {
+        uow.writeUncommittedChanges();
+        verify(storageMock, never()).flushPendingMerges();
+    }
+
     @Test
     void testAttributeChangedNotRegistered() throws Exception {
         when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
@@ -910,6 +985,18 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         assertFalse(entityA.getTypes() instanceof IndirectSet);
     }
 
+    @Test
+    void commitReplacesIndirectCollectionSetDuringTransactionWithRegularOne() {
+        when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
+        entityA.setTypes(null);
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        assertNull(clone.getTypes());
+        clone.setTypes(new HashSet<>(Generators.generateTypes(2)));
+        assertInstanceOf(IndirectSet.class, clone.getTypes());
+        uow.commit();
+        assertThat(clone.getTypes(), not(instanceOf(IndirectSet.class)));
+    }
+
     @Test
     void detachReplacesInheritedIndirectCollectionWithRegularOne() {
         final OWLClassR entityR = new OWLClassR(Generators.createIndividualIdentifier());
@@ -981,6 +1068,66 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         assertEquals(LoadState.LOADED, uow.isLoaded(instance, OWLClassL.getSetField().getName()));
     }
 
+    @Test
+    void registerExistingObjectMarksQueryAttributesWithStaleValuesAsUnknown() throws Exception {
+        final OWLClassWithQueryAttr original = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        original.setStringQueryAttribute("stale");
+        final String attName = OWLClassWithQueryAttr.getStrQueryAttField().getName();
+        when(metamodelMocks.forOwlClassWithQueryAttr().entityType().getFieldSpecification(attName))
+                .thenReturn((FieldSpecification) metamodelMocks.forOwlClassWithQueryAttr().stringQueryAttribute());
+        final OWLClassWithQueryAttr instance = (OWLClassWithQueryAttr) uow.registerExistingObject(original, descriptor);
+        assertEquals(LoadState.UNKNOWN, uow.isLoaded(instance, attName));
+    }
+
+    @Test
+    void registerExistingObjectMarksQueryAttributesWithValidValuesAsLoaded() throws Exception {
+        final OWLClassWithQueryAttr original = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        original.setStringQueryAttribute("valid");
+        final String attName = OWLClassWithQueryAttr.getStrQueryAttField().getName();
+        when(metamodelMocks.forOwlClassWithQueryAttr().entityType().getFieldSpecification(attName))
+                .thenReturn((FieldSpecification) metamodelMocks.forOwlClassWithQueryAttr().stringQueryAttribute());
+        final QueryAttributeCache queryAttributeCache = enableQueryAttributeCache();
+        queryAttributeCache.recordEvaluation(original);
+        final OWLClassWithQueryAttr instance = (OWLClassWithQueryAttr) uow.registerExistingObject(original, descriptor);
+        assertEquals(LoadState.LOADED, uow.isLoaded(instance, attName));
+    }
+
+    private QueryAttributeCache enableQueryAttributeCache() {
+        final QueryAttributeCache queryAttributeCache = new QueryAttributeCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL, "60"));
+        doReturn(queryAttributeCache).when(serverSessionStub).getQueryAttributeCache();
+        return queryAttributeCache;
+    }
+
+    @Test
+    void commitWithChangesInvalidatesQueryAttributeValuesOfAllCachedInstances() {
+        final QueryAttributeCache queryAttributeCache = enableQueryAttributeCache();
+        final OWLClassWithQueryAttr cached = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        queryAttributeCache.recordEvaluation(cached);
+        uow.registerNewObject(entityA, descriptor);
+        uow.commit();
+        assertFalse(queryAttributeCache.isValid(cached));
+    }
+
+    @Test
+    void commitAfterExecutedUpdateInvalidatesQueryAttributeValuesOfAllCachedInstances() {
+        final QueryAttributeCache queryAttributeCache = enableQueryAttributeCache();
+        final OWLClassWithQueryAttr cached = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        queryAttributeCache.recordEvaluation(cached);
+        uow.markUpdateExecuted();
+        uow.commit();
+        assertFalse(queryAttributeCache.isValid(cached));
+    }
+
+    @Test
+    void commitWithoutChangesKeepsQueryAttributeValuesOfCachedInstances() {
+        final QueryAttributeCache queryAttributeCache = enableQueryAttributeCache();
+        final OWLClassWithQueryAttr cached = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        queryAttributeCache.recordEvaluation(cached);
+        uow.commit();
+        assertTrue(queryAttributeCache.isValid(cached));
+    }
+
     @Test
     void loadEntityFieldCausesLoadStateOfLazilyLoadedAttributeToBeSetToLoaded() throws Exception {
         final OWLClassL instance = (OWLClassL) uow.registerExistingObject(entityL, descriptor);
@@ -995,6 +1142,28 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         assertEquals(LoadState.LOADED, uow.isLoaded(instance, OWLClassL.getSetField().getName()));
     }
 
+    @Test
+    void loadEntityFieldLoadsAttributeOfOtherManagedInstancesWhenBatchFetchIsConfigured() throws Exception {
+        when(metamodelMocks.forOwlClassL().setAttribute().getBatchFetchSize()).thenReturn(10);
+        final OWLClassL instance = (OWLClassL) uow.registerExistingObject(entityL, descriptor);
+        final OWLClassL other = (OWLClassL) uow.registerExistingObject(
+                new OWLClassL(Generators.createIndividualIdentifier()), descriptor);
+        final OWLClassL loadedOriginal = new OWLClassL(Generators.createIndividualIdentifier());
+        loadedOriginal.setSet(Collections.singleton(entityA));
+        final OWLClassL loaded = (OWLClassL) uow.registerExistingObject(loadedOriginal, descriptor);
+
+        uow.loadEntityField(instance, OWLClassL.getSetField());
+        final ArgumentCaptor<Map<OWLClassL, Descriptor>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storageMock).loadFieldValues(captor.capture(), eq(metamodelMocks.forOwlClassL().setAttribute()));
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().containsKey(instance));
+        assertTrue(captor.getValue().containsKey(other));
+        assertFalse(captor.getValue().containsKey(loaded));
+        verify(storageMock, never()).loadFieldValue(any(), any(), any());
+        assertEquals(LoadState.LOADED, uow.isLoaded(instance, OWLClassL.getSetField().getName()));
+        assertEquals(LoadState.LOADED, uow.isLoaded(other, OWLClassL.getSetField().getName()));
+    }
+
     @Test
     void loadEntityFieldCausesLoadStateOfLazilyLoadedAttributeToBeSetToLoadedEvenIfValueIsNull() throws Exception {
         final OWLClassL instance = (OWLClassL) uow.registerExistingObject(entityL, descriptor);
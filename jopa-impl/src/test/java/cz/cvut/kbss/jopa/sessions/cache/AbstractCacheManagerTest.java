@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
@@ -428,4 +429,29 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         manager.evict(URI.class, uri, CONTEXT_ONE);
         assertTrue(manager.contains(URI.class, uri, new EntityDescriptor()));
     }
+
+    @Test
+    public void statisticsCountHitsAndMissesOfLookups() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        assertNotNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+        assertNull(manager.get(OWLClassB.class, testB.getUri(), descriptor));
+        assertFalse(manager.contains(OWLClassB.class, testB.getUri(), descriptor));
+
+        final CacheStatistics result = manager.getStatistics();
+        assertEquals(1, result.getHitCount());
+        assertEquals(2, result.getMissCount());
+        assertEquals(1.0 / 3, result.getHitRate());
+    }
+
+    @Test
+    public void statisticsContainRecordedLoads() {
+        manager.recordLoad(1, 100L);
+        manager.recordLoad(3, 500L);
+
+        final CacheStatistics result = manager.getStatistics();
+        assertEquals(4, result.getLoadCount());
+        assertEquals(600L, result.getTotalLoadTime());
+        assertEquals(150.0, result.getAverageLoadTime());
+    }
 }
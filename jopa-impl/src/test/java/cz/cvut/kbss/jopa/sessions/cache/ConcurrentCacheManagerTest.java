@@ -0,0 +1,129 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentCacheManagerTest extends AbstractCacheManagerTest<ConcurrentCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ConcurrentCacheManager();
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() {
+        return manager.getDescriptors();
+    }
+
+    @Test
+    public void cacheFactoryCreatesConcurrentCacheWhenConfigured() {
+        final Map<String, String> props = Collections.singletonMap(JOPAPersistenceProperties.CACHE_TYPE, "concurrent");
+        assertThat(CacheFactory.createCache(props), instanceOf(ConcurrentCacheManager.class));
+    }
+
+    @Test
+    public void evictByContextRemovesAllInstancesFromContext() {
+        final URI context = evictByContext();
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor(context)));
+    }
+
+    @Test
+    public void evictByClassRemovesInstancesFromAllContexts() {
+        final Class<?> cls = evictByClass();
+        assertFalse(manager.contains(cls, testB.getUri(), descriptor(CONTEXT_TWO)));
+    }
+
+    @Test
+    public void addDoesNotCacheInstanceWithDescriptorSpecifyingMultipleContexts() {
+        final Descriptor descriptor = new EntityDescriptor(CONTEXT_ONE);
+        descriptor.addContext(CONTEXT_TWO);
+        manager.add(testA.getUri(), testA, descriptor);
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptor));
+        assertTrue(extractDescriptors().isEmpty());
+    }
+
+    @Test
+    public void evictInferredObjectsRemovesInstancesOfInferredClassesFromAllContexts() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testA.getUri(), testA, descriptor(null));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+        manager.setInferredClasses(Collections.singleton(OWLClassA.class));
+        manager.evictInferredObjects();
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_ONE)));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptor(null)));
+        assertTrue(manager.contains(OWLClassB.class, testB.getUri(), descriptor(CONTEXT_TWO)));
+    }
+
+    @Test
+    public void concurrentAddsToDifferentContextsAreAllCached() throws Exception {
+        final int threadCount = 8;
+        final int perThread = 500;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<List<OWLClassA>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final URI context = URI.create(CONTEXT_ONE + "/" + i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final List<OWLClassA> added = new ArrayList<>(perThread);
+                    for (int j = 0; j < perThread; j++) {
+                        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+                        manager.add(a.getUri(), a, descriptor(context));
+                        // Lock-free read of concurrently modified cache
+                        assertSame(a, manager.get(OWLClassA.class, a.getUri(), descriptor(context)));
+                        added.add(a);
+                    }
+                    return added;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (int i = 0; i < threadCount; i++) {
+                final URI context = URI.create(CONTEXT_ONE + "/" + i);
+                for (OWLClassA a : futures.get(i).get(30, TimeUnit.SECONDS)) {
+                    assertTrue(manager.contains(OWLClassA.class, a.getUri(), descriptor(context)));
+                    total++;
+                }
+            }
+            assertEquals(threadCount * perThread, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.MultilingualString;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntityWeigherTest {
+
+    private final EntityWeigher sut = new EntityWeigher();
+
+    @Test
+    void weighAccountsForLengthOfStringAttributeValues() {
+        final OWLClassA shortString = new OWLClassA(Generators.createIndividualIdentifier());
+        shortString.setStringAttribute("a");
+        final OWLClassA longString = new OWLClassA(shortString.getUri());
+        longString.setStringAttribute("a".repeat(1001));
+
+        assertEquals(2L * 1000, sut.weigh(longString) - sut.weigh(shortString));
+    }
+
+    @Test
+    void weighAccountsForSizeOfCollectionAttributeValues() {
+        final OWLClassA small = new OWLClassA(Generators.createIndividualIdentifier());
+        small.setTypes(new HashSet<>(Set.of("http://a")));
+        final OWLClassA large = new OWLClassA(small.getUri());
+        final Set<String> types = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            types.add("http://a" + i);
+        }
+        large.setTypes(types);
+
+        assertThat(sut.weigh(large), greaterThan(sut.weigh(small) + 99L * EntityWeigher.ENTRY_OVERHEAD));
+    }
+
+    @Test
+    void weighAccountsForContentOfNestedCollectionsInProperties() {
+        final OWLClassB instance = new OWLClassB(Generators.createIndividualIdentifier());
+        final long emptyWeight = sut.weigh(instance);
+        final Map<String, Set<String>> properties = new HashMap<>();
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            values.add("Property value " + i);
+        }
+        properties.put(Generators.createPropertyIdentifier().toString(), values);
+        instance.setProperties(properties);
+
+        // Each value is at least a string of length 15
+        assertThat(sut.weigh(instance), greaterThan(emptyWeight + 100L * (EntityWeigher.STRING_OVERHEAD + 30)));
+    }
+
+    @Test
+    void weighAccountsForMultilingualStringTranslations() {
+        final MultilingualString single = MultilingualString.create("test", "en");
+        final MultilingualString multiple = MultilingualString.create("test", "en");
+        multiple.set("cs", "test");
+        multiple.set("de", "test");
+
+        assertThat(sut.weigh(new Holder(multiple)), greaterThan(sut.weigh(new Holder(single))));
+    }
+
+    @Test
+    void weighSupportsInstancesOfClassesWithInaccessibleFields() {
+        assertThat(sut.weigh(URI.create("http://example.org")), greaterThan(0L));
+    }
+
+    private static class Holder {
+        private final MultilingualString value;
+
+        private Holder(MultilingualString value) {
+            this.value = value;
+        }
+    }
+}
@@ -177,6 +177,7 @@ public class LruCacheManagerTest extends AbstractCacheManagerTest<LruCacheManage
         }
         evicted.forEach(e -> assertFalse(manager.contains(e.getValue().getClass(), e.getKey(), descriptor(null))));
         retained.forEach(e -> assertTrue(manager.contains(e.getValue().getClass(), e.getKey(), descriptor(null))));
+        assertEquals(evicted.size(), manager.getStatistics().getEvictionCount());
     }
 
     private LinkedHashMap<URI, Object> generateItems(int capacity) {
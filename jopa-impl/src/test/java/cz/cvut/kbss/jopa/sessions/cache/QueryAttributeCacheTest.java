@@ -0,0 +1,114 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassWithQueryAttr;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryAttributeCacheTest {
+
+    private final OWLClassWithQueryAttr instance = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+
+    private static QueryAttributeCache enabledCache() {
+        return new QueryAttributeCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL, "60"));
+    }
+
+    @Test
+    void isValidReturnsFalseForInstanceWithoutRecordedEvaluation() {
+        final QueryAttributeCache sut = enabledCache();
+        assertFalse(sut.isValid(instance));
+    }
+
+    @Test
+    void isValidReturnsTrueForInstanceWithRecordedEvaluation() {
+        final QueryAttributeCache sut = enabledCache();
+        sut.recordEvaluation(instance);
+        assertTrue(sut.isValid(instance));
+    }
+
+    @Test
+    void isValidComparesInstancesByIdentity() {
+        final QueryAttributeCache sut = enabledCache();
+        sut.recordEvaluation(instance);
+        final OWLClassWithQueryAttr other = new OWLClassWithQueryAttr(instance.getUri());
+        assertFalse(sut.isValid(other));
+    }
+
+    @Test
+    void invalidateRemovesRecordedEvaluation() {
+        final QueryAttributeCache sut = enabledCache();
+        sut.recordEvaluation(instance);
+        sut.invalidate(instance);
+        assertFalse(sut.isValid(instance));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void zeroTimeToLiveMakesEvaluationsInvalidImmediately() {
+        final QueryAttributeCache sut = new QueryAttributeCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL, "0"));
+        sut.recordEvaluation(instance);
+        assertFalse(sut.isValid(instance));
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void invalidTimeToLiveSettingFallsBackToDefault() {
+        final QueryAttributeCache sut = new QueryAttributeCache(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_ATTRIBUTE_CACHE_TTL, "abc"));
+        sut.recordEvaluation(instance);
+        assertFalse(sut.isValid(instance));
+    }
+
+    @Test
+    void valuesAreNotReusedByDefault() {
+        final QueryAttributeCache sut = new QueryAttributeCache();
+        sut.recordEvaluation(instance);
+        assertFalse(sut.isValid(instance));
+    }
+
+    @Test
+    void evictAllInvalidatesValuesOfAllInstances() {
+        final QueryAttributeCache sut = enabledCache();
+        final OWLClassWithQueryAttr other = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        sut.recordEvaluation(instance);
+        sut.recordEvaluation(other);
+        sut.evictAll();
+        assertFalse(sut.isValid(instance));
+        assertFalse(sut.isValid(other));
+    }
+
+    @Test
+    void evictAllRemovesAllRecordedEvaluations() {
+        final QueryAttributeCache sut = enabledCache();
+        sut.recordEvaluation(instance);
+        sut.recordEvaluation(new OWLClassWithQueryAttr(Generators.createIndividualIdentifier()));
+        sut.evictAll();
+        assertFalse(sut.isValid(instance));
+        assertEquals(0, sut.size());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeightedCacheManagerTest extends AbstractCacheManagerTest<WeightedCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new WeightedCacheManager();
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() throws Exception {
+        final Field cacheField = WeightedCacheManager.class.getDeclaredField("entityCache");
+        cacheField.setAccessible(true);
+        final EntityCache cache = (EntityCache) cacheField.get(manager);
+        final Field descriptorsField = EntityCache.class.getDeclaredField("descriptors");
+        descriptorsField.setAccessible(true);
+        return (Map<?, ?>) descriptorsField.get(cache);
+    }
+
+    private void initManager(long maxSize) {
+        this.manager = new WeightedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.WEIGHTED_CACHE_MAX_SIZE, Long.toString(maxSize)));
+    }
+
+    @Test
+    public void initWithDefaultMaxSize() {
+        assertEquals(WeightedCacheManager.DEFAULT_MAX_SIZE, manager.getMaxSize());
+    }
+
+    @Test
+    public void initWithCustomMaxSize() {
+        initManager(117000L);
+        assertEquals(117000L, manager.getMaxSize());
+    }
+
+    @Test
+    public void initializationWithInvalidMaxSizeUsesDefaultValue() {
+        this.manager = new WeightedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.WEIGHTED_CACHE_MAX_SIZE, "-111"));
+        assertEquals(WeightedCacheManager.DEFAULT_MAX_SIZE, manager.getMaxSize());
+    }
+
+    @Test
+    public void cacheFactoryCreatesWeightedCacheWhenConfigured() {
+        final Map<String, String> props = Collections.singletonMap(JOPAPersistenceProperties.CACHE_TYPE, "weighted");
+        assertThat(CacheFactory.createCache(props), instanceOf(WeightedCacheManager.class));
+    }
+
+    @Test
+    public void addEvictsInstancesWhenEstimatedSizeExceedsMaximum() throws Exception {
+        final long maxSize = 10000L;
+        initManager(maxSize);
+        final List<OWLClassA> instances = generateInstances(200);
+        instances.forEach(a -> manager.add(a.getUri(), a, descriptor(null)));
+
+        assertThat(manager.getSize(), lessThanOrEqualTo(maxSize));
+        final long cachedCount =
+                instances.stream().filter(a -> manager.contains(OWLClassA.class, a.getUri(), descriptor(null)))
+                         .count();
+        assertThat(cachedCount, allOf(greaterThan(0L), lessThan((long) instances.size())));
+        assertEquals(instances.size() - cachedCount, manager.getStatistics().getEvictionCount());
+        assertEquals(cachedCount, extractDescriptors().size());
+    }
+
+    private static List<OWLClassA> generateInstances(int count) {
+        final List<OWLClassA> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            a.setStringAttribute("Instance number " + i);
+            result.add(a);
+        }
+        return result;
+    }
+
+    @Test
+    public void addDoesNotCacheInstanceWhoseEstimatedSizeExceedsMaximum() {
+        initManager(10000L);
+        final Map<String, Set<String>> properties = new HashMap<>();
+        properties.put(Generators.createPropertyIdentifier().toString(), new HashSet<>());
+        for (int i = 0; i < 1000; i++) {
+            properties.values().iterator().next().add("Property value number " + i);
+        }
+        testB.setProperties(properties);
+        manager.add(testA.getUri(), testA, descriptor(null));
+        manager.add(testB.getUri(), testB, descriptor(null));
+
+        assertTrue(manager.contains(OWLClassA.class, testA.getUri(), descriptor(null)));
+        assertFalse(manager.contains(OWLClassB.class, testB.getUri(), descriptor(null)));
+    }
+
+    @Test
+    public void frequentlyAccessedInstanceIsRetainedWhenManyInstancesAreLoadedOnlyOnce() {
+        initManager(10000L);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+        }
+        generateInstances(500).forEach(a -> manager.add(a.getUri(), a, descriptor));
+
+        assertTrue(manager.contains(OWLClassA.class, testA.getUri(), descriptor));
+        assertThat(manager.getStatistics().getEvictionCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void evictByContextReleasesEstimatedSizeOfContextInstances() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        final long sizeWithA = manager.getSize();
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+        assertThat(manager.getSize(), greaterThan(sizeWithA));
+
+        manager.evict(CONTEXT_TWO);
+        assertEquals(sizeWithA, manager.getSize());
+        manager.evict(CONTEXT_ONE);
+        assertEquals(0L, manager.getSize());
+    }
+
+    @Test
+    public void evictByClassReleasesEstimatedSizeOfClassInstances() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_ONE));
+        manager.evict(OWLClassA.class);
+        manager.evict(OWLClassB.class);
+        assertEquals(0L, manager.getSize());
+    }
+
+    @Test
+    public void addWithDuplicateIdentifierUpdatesEstimatedSize() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        final long originalSize = manager.getSize();
+        final OWLClassA duplicate = new OWLClassA(testA.getUri());
+        duplicate.setStringAttribute(testA.getStringAttribute() + " with a considerably longer string value");
+        manager.add(duplicate.getUri(), duplicate, descriptor(CONTEXT_ONE));
+        assertThat(manager.getSize(), greaterThan(originalSize));
+        assertSame(duplicate, manager.get(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_ONE)));
+    }
+
+    @Test
+    public void testEvictByContext() {
+        final URI context = evictByContext();
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor(context)));
+    }
+}
@@ -23,6 +23,7 @@ import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.test.*;
 import cz.cvut.kbss.jopa.test.environment.DataAccessor;
 import cz.cvut.kbss.jopa.test.environment.Generators;
@@ -287,6 +288,21 @@ public abstract class TypedQueryRunner extends BaseQueryRunner {
         assertEquals(dList.size(), (int) q.getResultStream().count());
     }
 
+    @Test
+    void queryStreamLoadsEntitiesInChunksAndDetachesProcessedEntities() {
+        final TypedQuery<OWLClassD> q =
+                getEntityManager().createNativeQuery(SELECT_BY_TYPE, OWLClassD.class).setParameter("type", URI.create(
+                                          Vocabulary.C_OWL_CLASS_D))
+                                  .setHint(QueryHints.ENTITY_LOADING_BATCH_SIZE, 3)
+                                  .setHint(QueryHints.DETACH_STREAMED_ENTITIES, true);
+        final List<OWLClassD> dList = QueryTestEnvironment.getData(OWLClassD.class);
+        final Set<URI> expected = dList.stream().map(OWLClassD::getUri).collect(Collectors.toSet());
+
+        final List<OWLClassD> result = q.getResultStream().collect(Collectors.toList());
+        assertEquals(expected, result.stream().map(OWLClassD::getUri).collect(Collectors.toSet()));
+        result.forEach(d -> assertFalse(getEntityManager().contains(d)));
+    }
+
     @Test
     void selectionByObjectPropertySupportsEntityAsQueryParameter() {
         final String query = "SELECT ?x WHERE { ?x a ?type ; ?hasA ?y . }";
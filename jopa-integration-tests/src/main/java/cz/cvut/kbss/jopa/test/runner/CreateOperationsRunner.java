@@ -139,6 +139,36 @@ public abstract class CreateOperationsRunner extends BaseRunner {
         assertEquals(resG.getOwlClassH().getOwlClassA(), resA2);
     }
 
+    @Test
+    void persistAllPersistsAllSpecifiedEntities() {
+        this.em = getEntityManager("PersistAll", false);
+        final List<OWLClassA> instances = IntStream.range(0, 10).mapToObj(i -> {
+            final OWLClassA a = new OWLClassA(Generators.generateUri());
+            a.setStringAttribute("instance" + i);
+            a.setTypes(Collections.singleton(Generators.generateUri().toString()));
+            return a;
+        }).collect(Collectors.toList());
+        transactional(() -> em.persistAll(instances));
+
+        for (OWLClassA a : instances) {
+            final OWLClassA result = findRequired(OWLClassA.class, a.getUri());
+            assertEquals(a.getStringAttribute(), result.getStringAttribute());
+            assertEquals(a.getTypes(), result.getTypes());
+        }
+    }
+
+    @Test
+    void persistAllCascadesPersistToReferencedEntities() {
+        this.em = getEntityManager("PersistAllWithCascade", false);
+        final OWLClassH otherH = new OWLClassH(Generators.generateUri());
+        otherH.setOwlClassA(entityA);
+        transactional(() -> em.persistAll(Arrays.asList(entityH, otherH)));
+
+        final OWLClassA resA = findRequired(OWLClassA.class, entityA.getUri());
+        assertEquals(resA, findRequired(OWLClassH.class, entityH.getUri()).getOwlClassA());
+        assertEquals(resA, findRequired(OWLClassH.class, otherH.getUri()).getOwlClassA());
+    }
+
     @Test
     void persistingOnlyOnePartOfRelationWithoutCascadeThrowsRollbackException() {
         this.em = getEntityManager("PersistWithoutCascade", false);
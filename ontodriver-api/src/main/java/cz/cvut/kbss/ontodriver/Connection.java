@@ -25,7 +25,9 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface Connection extends AutoCloseable, Wrapper {
@@ -161,6 +163,32 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms for multiple subjects at once.
+     * <p>
+     * Each descriptor is evaluated as if it was passed to {@link #find(AxiomDescriptor)}, but implementations are
+     * encouraged to load the axioms of all subjects in as few storage round trips as possible.
+     * <p>
+     * The result contains an entry for the subject of each of the specified descriptors. If no axioms matching a
+     * descriptor are found, the subject is mapped to an empty collection.
+     * <p>
+     * The default implementation simply invokes {@link #find(AxiomDescriptor)} for each descriptor.
+     *
+     * @param descriptors Loading descriptors, each specifying subject, properties to load and possible contexts. The
+     *                    descriptors are expected to have distinct subjects
+     * @return Map of subjects to axioms matching the corresponding descriptor
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
@@ -170,6 +198,24 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     void persist(AxiomValueDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Persists multiple new individuals and their property values at once.
+     * <p>
+     * Each descriptor is processed as if it was passed to {@link #persist(AxiomValueDescriptor)}, but implementations
+     * are encouraged to write the values of all the individuals to the storage in as few calls as possible.
+     * <p>
+     * The default implementation simply invokes {@link #persist(AxiomValueDescriptor)} for each descriptor.
+     *
+     * @param descriptors Descriptors of the persisted values
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default void persistAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            persist(descriptor);
+        }
+    }
+
     /**
      * Generates a new unique identifier based on the specified type.
      * <p>
@@ -193,6 +239,25 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     void update(AxiomValueDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Updates property values of multiple individuals at once.
+     * <p>
+     * Each descriptor is processed as if it was passed to {@link #update(AxiomValueDescriptor)}, but implementations
+     * are encouraged to remove the original values and write the new values of all the individuals to the storage in
+     * as few calls as possible.
+     * <p>
+     * The default implementation simply invokes {@link #update(AxiomValueDescriptor)} for each descriptor.
+     *
+     * @param descriptors Descriptors of the update values
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default void updateAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            update(descriptor);
+        }
+    }
+
     /**
      * Removes all axioms related to subject specified by the descriptor.
      * <p>
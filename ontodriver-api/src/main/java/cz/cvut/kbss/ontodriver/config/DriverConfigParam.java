@@ -33,7 +33,8 @@ public enum DriverConfigParam implements ConfigurationParameter {
     @Deprecated
     ONTOLOGY_LANGUAGE(OntoDriverProperties.ONTOLOGY_LANGUAGE),
     USE_TRANSACTIONAL_ONTOLOGY(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY),
-    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE);
+    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE),
+    IDENTIFIER_GENERATION_STRATEGY(OntoDriverProperties.IDENTIFIER_GENERATION_STRATEGY);
 
     private final String name;
 
@@ -79,6 +79,30 @@ public final class OntoDriverProperties {
      */
     public static final String SIGNATURE_DELIMITER = "|";
 
+    /**
+     * Strategy used to generate identifiers of new individuals.
+     * <p>
+     * Supported values are {@link #IDENTIFIER_GENERATION_RANDOM} (default), {@link
+     * #IDENTIFIER_GENERATION_TIME_BASED_UUID} and a fully qualified name of a class implementing {@link
+     * cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy} with a public no-arg constructor. A custom strategy
+     * may, for instance, select the identifier format based on the class of the individual.
+     */
+    public static final String IDENTIFIER_GENERATION_STRATEGY = "cz.cvut.kbss.ontodriver.identifier-generation-strategy";
+
+    /**
+     * Random identifiers, whose uniqueness is verified against the storage.
+     *
+     * @see #IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static final String IDENTIFIER_GENERATION_RANDOM = "random";
+
+    /**
+     * Identifiers based on time-ordered UUIDs (version 7), which are unique without querying the storage.
+     *
+     * @see #IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static final String IDENTIFIER_GENERATION_TIME_BASED_UUID = "time-based-uuid";
+
     private OntoDriverProperties() {
         throw new AssertionError();
     }
@@ -0,0 +1,46 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+
+/**
+ * Strategy of generating identifiers of new individuals.
+ *
+ * @see cz.cvut.kbss.ontodriver.config.OntoDriverProperties#IDENTIFIER_GENERATION_STRATEGY
+ */
+public interface IdentifierGenerationStrategy {
+
+    /**
+     * Generates a new identifier based on the specified class URI.
+     *
+     * @param classUri URI of the individual's class
+     * @return New identifier
+     */
+    URI generateIdentifier(URI classUri);
+
+    /**
+     * Whether the driver has to verify that identifiers generated by this strategy do not exist in the storage yet.
+     * <p>
+     * Strategies which guarantee uniqueness by themselves should return {@code false}, so that identifier generation
+     * does not require any storage access.
+     *
+     * @return {@code true} if uniqueness of generated identifiers has to be checked, {@code false} otherwise
+     */
+    boolean requiresUniquenessCheck();
+}
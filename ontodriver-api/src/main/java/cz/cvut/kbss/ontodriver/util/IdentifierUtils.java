@@ -17,6 +17,9 @@
  */
 package cz.cvut.kbss.ontodriver.util;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
@@ -48,16 +51,67 @@ public class IdentifierUtils {
      * @return Generated identifier
      */
     public static URI generateIdentifier(URI classUri) {
+        return createIdentifier(classUri, "instance" + RANDOM.nextInt());
+    }
+
+    /**
+     * Creates an identifier by appending the specified local part to the specified class URI.
+     * <p>
+     * The local part is appended after a slash or a _, if the class URI contains a hash fragment.
+     *
+     * @param classUri  Class URI used as identifier base
+     * @param localPart Local part of the identifier
+     * @return Identifier
+     */
+    public static URI createIdentifier(URI classUri, String localPart) {
         Objects.requireNonNull(classUri);
         if (classUri.getFragment() != null) {
-            return URI.create(classUri + "_instance" + RANDOM.nextInt());
+            return URI.create(classUri + "_" + localPart);
         } else {
             String base = classUri.toString();
             if (base.endsWith("/")) {
-                return URI.create(base + "instance" + RANDOM.nextInt());
+                return URI.create(base + localPart);
             } else {
-                return URI.create(base + "/instance" + RANDOM.nextInt());
+                return URI.create(base + "/" + localPart);
+            }
+        }
+    }
+
+    /**
+     * Resolves the identifier generation strategy specified by the driver configuration.
+     *
+     * @param configuration Driver configuration
+     * @return Identifier generation strategy, {@link RandomIdentifierGenerationStrategy} if none is configured
+     * @throws IllegalArgumentException If the configured strategy is not supported or cannot be instantiated
+     * @see OntoDriverProperties#IDENTIFIER_GENERATION_STRATEGY
+     */
+    public static IdentifierGenerationStrategy resolveGenerationStrategy(DriverConfiguration configuration) {
+        final String strategy = configuration.getProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY,
+                                                          OntoDriverProperties.IDENTIFIER_GENERATION_RANDOM);
+        switch (strategy) {
+            case OntoDriverProperties.IDENTIFIER_GENERATION_RANDOM:
+                return new RandomIdentifierGenerationStrategy();
+            case OntoDriverProperties.IDENTIFIER_GENERATION_TIME_BASED_UUID:
+                return new TimeBasedUuidIdentifierGenerationStrategy();
+            default:
+                return instantiateGenerationStrategy(strategy);
+        }
+    }
+
+    private static IdentifierGenerationStrategy instantiateGenerationStrategy(String className) {
+        try {
+            final Class<?> cls = Class.forName(className);
+            if (!IdentifierGenerationStrategy.class.isAssignableFrom(cls)) {
+                throw new IllegalArgumentException(
+                        "Class " + className + " is not an " + IdentifierGenerationStrategy.class.getSimpleName() +
+                                " implementation.");
             }
+            return (IdentifierGenerationStrategy) cls.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unsupported identifier generation strategy " + className, e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(
+                    "Unable to instantiate identifier generation strategy " + className, e);
         }
     }
 
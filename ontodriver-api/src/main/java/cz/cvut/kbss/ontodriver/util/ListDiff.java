@@ -0,0 +1,107 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Computes the difference between the original and the updated content of a list.
+ * <p>
+ * The difference is based on the longest common subsequence of the two lists, i.e., it determines the largest set of
+ * original elements which can stay in place when the original list is transformed into the updated one. List
+ * handlers use it to minimize the number of statements added and removed when a list is updated.
+ */
+public class ListDiff {
+
+    /**
+     * Maximum number of cells of the LCS matrix.
+     * <p>
+     * When the part of the lists which differs is larger, only the common prefix and suffix are matched.
+     */
+    static final long MAX_MATRIX_SIZE = 1L << 22;
+
+    private ListDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Matches elements of the updated list to elements of the original list.
+     * <p>
+     * The result contains, for each element of the updated list, index of the corresponding element in the original
+     * list, or {@code -1} if the element has no counterpart in the original list and has to be inserted. Matched
+     * indexes are strictly increasing, original elements whose index does not appear in the result have to be removed.
+     * Elements are compared using {@link Object#equals(Object)}.
+     *
+     * @param original Original list content
+     * @param updated  Updated list content
+     * @return Array of indexes of matching original elements, its length is equal to the size of the updated list
+     */
+    public static int[] match(List<?> original, List<?> updated) {
+        Objects.requireNonNull(original);
+        Objects.requireNonNull(updated);
+        final int[] result = new int[updated.size()];
+        Arrays.fill(result, -1);
+        int prefix = 0;
+        while (prefix < original.size() && prefix < updated.size() &&
+                Objects.equals(original.get(prefix), updated.get(prefix))) {
+            result[prefix] = prefix;
+            prefix++;
+        }
+        int origEnd = original.size();
+        int updEnd = updated.size();
+        while (origEnd > prefix && updEnd > prefix && Objects.equals(original.get(origEnd - 1), updated.get(updEnd - 1))) {
+            origEnd--;
+            updEnd--;
+            result[updEnd] = origEnd;
+        }
+        final int n = origEnd - prefix;
+        final int m = updEnd - prefix;
+        if (n > 0 && m > 0 && (long) n * m <= MAX_MATRIX_SIZE) {
+            matchMiddle(original.subList(prefix, origEnd), updated.subList(prefix, updEnd), result, prefix);
+        }
+        return result;
+    }
+
+    private static void matchMiddle(List<?> original, List<?> updated, int[] result, int offset) {
+        final int n = original.size();
+        final int m = updated.size();
+        // lengths[i][j] is the length of LCS of original[i..n) and updated[j..m)
+        final int[][] lengths = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lengths[i][j] = Objects.equals(original.get(i), updated.get(j)) ? lengths[i + 1][j + 1] + 1 :
+                                Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (Objects.equals(original.get(i), updated.get(j))) {
+                result[offset + j] = offset + i;
+                i++;
+                j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+}
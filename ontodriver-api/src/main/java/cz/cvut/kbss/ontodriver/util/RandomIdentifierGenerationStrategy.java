@@ -0,0 +1,38 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+
+/**
+ * Generates random identifiers, see {@link IdentifierUtils#generateIdentifier(URI)}.
+ * <p>
+ * The identifiers are not guaranteed to be unique, so the driver has to check them against the storage.
+ */
+public class RandomIdentifierGenerationStrategy implements IdentifierGenerationStrategy {
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri);
+    }
+
+    @Override
+    public boolean requiresUniquenessCheck() {
+        return true;
+    }
+}
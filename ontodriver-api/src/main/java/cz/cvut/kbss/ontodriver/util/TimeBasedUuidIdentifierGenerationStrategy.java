@@ -0,0 +1,85 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates identifiers containing a time-ordered UUID (version 7, see RFC 9562).
+ * <p>
+ * The UUID consists of a millisecond timestamp, a 12-bit sequence counter and 62 random bits. Within a single JVM,
+ * the timestamp and counter are strictly increasing, so the generated identifiers never repeat. Identifiers generated
+ * by different JVMs are distinguished by the random bits. Therefore, the generated identifiers need not be checked
+ * against the storage.
+ * <p>
+ * Being time-ordered, the identifiers also tend to be stored close to each other in index structures of the storage.
+ */
+public class TimeBasedUuidIdentifierGenerationStrategy implements IdentifierGenerationStrategy {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static final Object LOCK = new Object();
+    private static final Random RANDOM = new SecureRandom();
+
+    private static long lastTimestamp;
+    private static int sequence;
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri, "instance-" + nextUuid());
+    }
+
+    @Override
+    public boolean requiresUniquenessCheck() {
+        return false;
+    }
+
+    /**
+     * Generates a new version 7 UUID.
+     *
+     * @return New UUID
+     */
+    static UUID nextUuid() {
+        final long timestamp;
+        final int seq;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now <= lastTimestamp) {
+                // Clock did not move (or moved back), continue the sequence of the last timestamp
+                now = lastTimestamp;
+                if (sequence == MAX_SEQUENCE) {
+                    now++;
+                    sequence = 0;
+                } else {
+                    sequence++;
+                }
+            } else {
+                sequence = 0;
+            }
+            lastTimestamp = now;
+            timestamp = now;
+            seq = sequence;
+        }
+        final long msb = (timestamp & 0xFFFFFFFFFFFFL) << 16 | 0x7000L | seq;
+        final long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -17,12 +17,24 @@
  */
 package cz.cvut.kbss.ontodriver.util;
 
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IdentifierUtilsTest {
 
@@ -48,4 +60,69 @@ class IdentifierUtilsTest {
         final URI result = IdentifierUtils.generateIdentifier(clsUri);
         assertThat(result.toString(), containsString("/instance"));
     }
+
+    @Test
+    void resolveGenerationStrategyReturnsRandomStrategyByDefault() {
+        final IdentifierGenerationStrategy result = IdentifierUtils.resolveGenerationStrategy(configuration(null));
+        assertThat(result, instanceOf(RandomIdentifierGenerationStrategy.class));
+        assertTrue(result.requiresUniquenessCheck());
+    }
+
+    private static DriverConfiguration configuration(String strategy) {
+        final DriverConfiguration config = new DriverConfiguration(
+                OntologyStorageProperties.physicalUri(URI.create("http://localhost")).driver("test").build());
+        if (strategy != null) {
+            config.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY, strategy);
+        }
+        return config;
+    }
+
+    @Test
+    void resolveGenerationStrategyReturnsTimeBasedUuidStrategyWhenConfigured() {
+        final IdentifierGenerationStrategy result = IdentifierUtils.resolveGenerationStrategy(
+                configuration(OntoDriverProperties.IDENTIFIER_GENERATION_TIME_BASED_UUID));
+        assertThat(result, instanceOf(TimeBasedUuidIdentifierGenerationStrategy.class));
+        assertFalse(result.requiresUniquenessCheck());
+    }
+
+    @Test
+    void resolveGenerationStrategyInstantiatesCustomStrategyClass() {
+        final IdentifierGenerationStrategy result = IdentifierUtils.resolveGenerationStrategy(
+                configuration(RandomIdentifierGenerationStrategy.class.getName()));
+        assertThat(result, instanceOf(RandomIdentifierGenerationStrategy.class));
+    }
+
+    @Test
+    void resolveGenerationStrategyThrowsIllegalArgumentForUnsupportedStrategy() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> IdentifierUtils.resolveGenerationStrategy(configuration("unknown")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> IdentifierUtils.resolveGenerationStrategy(configuration(String.class.getName())));
+    }
+
+    @Test
+    void timeBasedUuidStrategyGeneratesUniqueMonotonicVersion7Uuids() {
+        final int count = 10000;
+        final Set<UUID> generated = new HashSet<>(count);
+        UUID previous = null;
+        for (int i = 0; i < count; i++) {
+            final UUID uuid = TimeBasedUuidIdentifierGenerationStrategy.nextUuid();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (previous != null) {
+                assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), uuid.getMostSignificantBits()) < 0);
+            }
+            generated.add(uuid);
+            previous = uuid;
+        }
+        assertEquals(count, generated.size());
+    }
+
+    @Test
+    void timeBasedUuidStrategyAppendsUuidToClassUri() {
+        final URI result = new TimeBasedUuidIdentifierGenerationStrategy().generateIdentifier(URI.create(URI_WITH_SLASH));
+        assertThat(result.toString(), containsString(URI_WITH_SLASH + "/instance-"));
+        final String uuid = result.toString().substring((URI_WITH_SLASH + "/instance-").length());
+        assertEquals(7, UUID.fromString(uuid).version());
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ListDiffTest {
+
+    @Test
+    void matchMatchesAllElementsOfEqualLists() {
+        final List<String> list = List.of("a", "b", "c");
+        assertArrayEquals(new int[]{0, 1, 2}, ListDiff.match(list, List.of("a", "b", "c")));
+    }
+
+    @Test
+    void matchMarksPrependedElementAsInserted() {
+        assertArrayEquals(new int[]{-1, 0, 1, 2}, ListDiff.match(List.of("a", "b", "c"), List.of("x", "a", "b", "c")));
+    }
+
+    @Test
+    void matchSkipsRemovedElements() {
+        assertArrayEquals(new int[]{0, 2, 4}, ListDiff.match(List.of("a", "b", "c", "d", "e"), List.of("a", "c", "e")));
+    }
+
+    @Test
+    void matchFindsLongestCommonSubsequenceOfReorderedLists() {
+        final int[] result = ListDiff.match(List.of("a", "b", "c", "d"), List.of("b", "x", "d", "a"));
+        assertArrayEquals(new int[]{1, -1, 3, -1}, result);
+    }
+
+    @Test
+    void matchReturnsNoMatchesForEmptyOriginal() {
+        assertArrayEquals(new int[]{-1, -1}, ListDiff.match(Collections.emptyList(), List.of("a", "b")));
+    }
+
+    @Test
+    void matchReturnsEmptyResultForEmptyUpdate() {
+        assertEquals(0, ListDiff.match(List.of("a", "b"), Collections.emptyList()).length);
+    }
+
+    @Test
+    void matchMatchesOnlyCommonPrefixAndSuffixWhenDifferingPartIsTooLarge() {
+        final int size = (int) Math.sqrt(ListDiff.MAX_MATRIX_SIZE) + 3;
+        final List<Integer> original = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        final List<Integer> updated = IntStream.range(0, size).map(i -> i == 0 || i == size - 1 ? i : -i).boxed()
+                                               .collect(Collectors.toList());
+        updated.set(1, 2);
+        final int[] result = ListDiff.match(original, updated);
+        assertEquals(0, result[0]);
+        assertEquals(-1, result[1]);
+        assertEquals(size - 1, result[size - 1]);
+    }
+}
@@ -43,13 +43,25 @@ class AxiomSaver {
      * @param descriptor Data container
      */
     void saveAxioms(AxiomValueDescriptor descriptor) {
-        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        saveAxioms(Collections.singletonList(descriptor));
+    }
+
+    /**
+     * Saves axioms of multiple subjects, adding statements into each context using a single call to the connector.
+     *
+     * @param descriptors Descriptors of values to save
+     */
+    void saveAxioms(Collection<AxiomValueDescriptor> descriptors) {
         final Map<String, List<Statement>> statements = new HashMap<>();
-        for (Assertion a : descriptor.getAssertions()) {
-            final URI context = descriptor.getAssertionContext(a);
-            final String strContext = context != null ? context.toString() : null;
-            statements.putIfAbsent(strContext, new ArrayList<>());
-            statements.get(strContext).addAll(transformToStatements(a, descriptor.getAssertionValues(a), subject));
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            final Resource subject =
+                    ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+            for (Assertion a : descriptor.getAssertions()) {
+                final URI context = descriptor.getAssertionContext(a);
+                final String strContext = context != null ? context.toString() : null;
+                statements.computeIfAbsent(strContext, k -> new ArrayList<>())
+                          .addAll(transformToStatements(a, descriptor.getAssertionValues(a), subject));
+            }
         }
         statements.forEach((ctx, toAdd) -> connector.add(toAdd, ctx));
     }
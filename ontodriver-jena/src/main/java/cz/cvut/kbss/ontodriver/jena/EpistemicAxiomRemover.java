@@ -57,15 +57,33 @@ class EpistemicAxiomRemover {
      * @param descriptor Descriptor of statements to remove
      */
     void remove(AbstractAxiomDescriptor descriptor) {
-        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
         final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
+        addPropertyValuesToRemove(descriptor, toRemove);
+        connector.removePropertyValues(toRemove);
+    }
+
+    /**
+     * Removes statements corresponding to the subjects and properties specified by the descriptors.
+     * <p>
+     * The statements are removed in a single connector call.
+     *
+     * @param descriptors Descriptors of statements to remove
+     */
+    void removeAll(Collection<? extends AbstractAxiomDescriptor> descriptors) {
+        final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
+        descriptors.forEach(d -> addPropertyValuesToRemove(d, toRemove));
+        connector.removePropertyValues(toRemove);
+    }
+
+    private static void addPropertyValuesToRemove(AbstractAxiomDescriptor descriptor,
+                                                  Collection<SubjectPredicateContext> toRemove) {
+        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
         descriptor.getAssertions().forEach(assertion -> {
             final Property property = ResourceFactory.createProperty(assertion.getIdentifier().toString());
             toRemove.add(new SubjectPredicateContext(subject, property, descriptor.getAssertionContexts(assertion)
                                                                                   .stream().map(URI::toString)
                                                                                   .collect(Collectors.toSet())));
         });
-        connector.removePropertyValues(toRemove);
     }
 
     /**
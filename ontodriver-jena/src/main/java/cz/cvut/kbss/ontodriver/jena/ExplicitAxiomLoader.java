@@ -51,10 +51,23 @@ class ExplicitAxiomLoader extends AbstractAxiomLoader {
 
     @Override
     Collection<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions) {
+        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        return find(descriptor, assertions, findStatements(subject, null, descriptor.getSubjectContexts()));
+    }
+
+    /**
+     * Loads axioms corresponding to the specified descriptor, using already retrieved statements of the subject.
+     *
+     * @param descriptor Descriptor of axioms to load
+     * @param assertions Asserted properties to load
+     * @param statements All statements of the descriptor subject in the descriptor subject contexts
+     * @return Matching axioms
+     */
+    Collection<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions,
+                              Collection<Statement> statements) {
         this.assertedProperties = assertions;
         this.unspecifiedProperty = resolveUnspecifiedProperty();
         final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
-        final Collection<Statement> statements = findStatements(subject, null, descriptor.getSubjectContexts());
         final List<Axiom<?>> result = transformStatementsToAxioms(descriptor, statements);
         result.addAll(loadAxiomsForPropertiesInContext(descriptor, subject));
         return result;
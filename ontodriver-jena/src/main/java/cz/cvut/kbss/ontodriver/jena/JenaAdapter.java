@@ -30,11 +30,15 @@ import cz.cvut.kbss.ontodriver.jena.query.JenaPreparedStatement;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
 import cz.cvut.kbss.ontodriver.jena.util.IdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -53,8 +57,15 @@ public class JenaAdapter implements Wrapper {
 
     private final StorageConnector connector;
     private final InferredStorageConnector inferenceConnector;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
 
     JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector) {
+        this(connector, inferenceConnector, new RandomIdentifierGenerationStrategy());
+    }
+
+    JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector,
+                IdentifierGenerationStrategy identifierGenerationStrategy) {
+        this.identifierGenerationStrategy = identifierGenerationStrategy;
         this.connector = connector;
         this.inferenceConnector = inferenceConnector;
     }
@@ -80,6 +91,11 @@ public class JenaAdapter implements Wrapper {
         new AxiomSaver(connector).saveAxioms(descriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        new AxiomSaver(connector).saveAxioms(descriptors);
+    }
+
     private void beginTransactionIfNotActive() {
         if (!transaction.isActive()) {
             connector.begin();
@@ -92,6 +108,13 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        final MainAxiomLoader loader = new MainAxiomLoader(connector, inferenceConnector);
+        // Load all the axioms within one storage read transaction instead of starting one for each lookup
+        return connector.executeRead(() -> loader.findAll(descriptors));
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -109,7 +132,7 @@ public class JenaAdapter implements Wrapper {
 
     URI generateIdentifier(URI classUri) {
         beginTransactionIfNotActive();
-        return new IdentifierGenerator(connector).generateIdentifier(classUri);
+        return new IdentifierGenerator(connector, identifierGenerationStrategy).generateIdentifier(classUri);
     }
 
     boolean isConsistent(URI context) {
@@ -123,6 +146,12 @@ public class JenaAdapter implements Wrapper {
         new AxiomSaver(connector).saveAxioms(descriptor);
     }
 
+    void updateAll(Collection<AxiomValueDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        new EpistemicAxiomRemover(connector).removeAll(descriptors);
+        new AxiomSaver(connector).saveAxioms(descriptors);
+    }
+
     void remove(AxiomDescriptor descriptor) {
         beginTransactionIfNotActive();
         new EpistemicAxiomRemover(connector).remove(descriptor);
@@ -27,10 +27,12 @@ import cz.cvut.kbss.ontodriver.jena.list.JenaLists;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
 import cz.cvut.kbss.ontodriver.jena.util.ConnectionListener;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -151,6 +153,18 @@ public class JenaConnection implements Connection {
         }
     }
 
+    @Override
+    public Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws JenaDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.findAll(descriptors);
+        } catch (RuntimeException e) {
+            throw new JenaDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws JenaDriverException {
         ensureOpen();
@@ -163,6 +177,18 @@ public class JenaConnection implements Connection {
         }
     }
 
+    @Override
+    public void persistAll(Collection<AxiomValueDescriptor> descriptors) throws JenaDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            adapter.persistAll(descriptors);
+            commitIfAuto();
+        } catch (RuntimeException e) {
+            throw new JenaDriverException(e);
+        }
+    }
+
     @Override
     public URI generateIdentifier(URI classUri) {
         ensureOpen();
@@ -178,6 +204,18 @@ public class JenaConnection implements Connection {
         commitIfAuto();
     }
 
+    @Override
+    public void updateAll(Collection<AxiomValueDescriptor> descriptors) throws JenaDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            adapter.updateAll(descriptors);
+            commitIfAuto();
+        } catch (RuntimeException e) {
+            throw new JenaDriverException(e);
+        }
+    }
+
     @Override
     public void remove(AxiomDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
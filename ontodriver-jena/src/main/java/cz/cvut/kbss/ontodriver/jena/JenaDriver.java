@@ -29,6 +29,8 @@ import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.jena.connector.*;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.util.ConnectionListener;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 import org.apache.jena.query.Dataset;
 
 import java.util.*;
@@ -38,12 +40,16 @@ class JenaDriver implements Closeable, ConnectionListener {
     private static final List<ConfigurationParameter> CONFIGS = Arrays
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.REASONER_FACTORY_CLASS,
                     JenaConfigParam.ISOLATION_STRATEGY, JenaConfigParam.STORAGE_TYPE,
-                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION,
+                    JenaConfigParam.SNAPSHOT_READ_TRANSACTION, JenaConfigParam.FUSEKI_QUERY_PUSHDOWN,
+                    JenaConfigParam.GROUP_COMMIT,
+                    DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY);
 
     private volatile boolean open;
 
     private final DriverConfiguration configuration;
     private final ConnectorFactory connectorFactory;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
 
     private final Set<JenaConnection> openConnections;
 
@@ -55,6 +61,7 @@ class JenaDriver implements Closeable, ConnectionListener {
         CONFIGS.stream().filter(c -> properties.containsKey(c.toString()))
                .forEach(c -> configuration.setProperty(c, properties.get(c.toString())));
         this.connectorFactory = buildConnectorFactory(properties);
+        this.identifierGenerationStrategy = IdentifierUtils.resolveGenerationStrategy(configuration);
         this.openConnections = Collections.synchronizedSet(new HashSet<>());
         this.autoCommit =
                 configuration.isSet(DriverConfigParam.AUTO_COMMIT) ? configuration.is(DriverConfigParam.AUTO_COMMIT) :
@@ -83,7 +90,8 @@ class JenaDriver implements Closeable, ConnectionListener {
     JenaConnection acquireConnection() {
         ensureOpen();
         final StorageConnector connector = connectorFactory.createConnector();
-        final JenaAdapter adapter = new JenaAdapter(connector, connectorFactory.createInferredConnector(connector));
+        final JenaAdapter adapter = new JenaAdapter(connector, connectorFactory.createInferredConnector(connector),
+                identifierGenerationStrategy);
         final JenaConnection connection = new JenaConnection(adapter);
         connection.registerListener(this);
         connection.setAutoCommit(autoCommit);
@@ -23,23 +23,33 @@ import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 class MainAxiomLoader {
 
+    private final StorageConnector connector;
+
     private final AbstractAxiomLoader inferredLoader;
     private final ExplicitAxiomLoader explicitLoader;
 
     MainAxiomLoader(StorageConnector connector, InferredStorageConnector inferredConnector) {
+        this.connector = connector;
         this.explicitLoader = new ExplicitAxiomLoader(connector);
         // It is possible that the inferred connector is null - if we are using the read_committed strategy or only snapshot,
         // without inference
@@ -93,6 +103,40 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * Statements of subjects sharing the same subject contexts are retrieved from the storage together.
+     *
+     * @param descriptors Descriptors of axioms to load, expected to have distinct subjects
+     * @return Map of subjects to matching axioms
+     */
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        final Map<Set<URI>, List<Resource>> subjectsByContexts = new HashMap<>();
+        descriptors.forEach(d -> subjectsByContexts.computeIfAbsent(d.getSubjectContexts(), k -> new ArrayList<>())
+                                                   .add(toResource(d.getSubject())));
+        final Map<Set<URI>, Map<Resource, Collection<Statement>>> statements = new HashMap<>();
+        subjectsByContexts.forEach((contexts, subjects) -> statements.put(contexts, connector.find(subjects,
+                contexts.stream().map(URI::toString).collect(Collectors.toSet()))));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor d : descriptors) {
+            final Map<String, Assertion> asserted = new HashMap<>(d.getAssertions().size());
+            final Map<String, Assertion> inferred = new HashMap<>(d.getAssertions().size());
+            mapAssertions(d, asserted, inferred);
+            final Collection<Axiom<?>> axioms = explicitLoader.find(d, asserted,
+                    statements.get(d.getSubjectContexts()).getOrDefault(toResource(d.getSubject()),
+                            Collections.emptyList()));
+            axioms.addAll(inferredLoader.find(d, inferred));
+            result.put(d.getSubject(), axioms);
+        }
+        return result;
+    }
+
+    private static Resource toResource(NamedResource subject) {
+        return ResourceFactory.createResource(subject.getIdentifier().toString());
+    }
+
     private static void mapAssertions(AxiomDescriptor descriptor, Map<String, Assertion> asserted,
                                       Map<String, Assertion> inferred) {
         for (Assertion a : descriptor.getAssertions()) {
@@ -23,7 +23,10 @@ public enum JenaConfigParam implements ConfigurationParameter {
 
     ISOLATION_STRATEGY(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY),
     STORAGE_TYPE(JenaOntoDriverProperties.JENA_STORAGE_TYPE),
-    TREAT_DEFAULT_GRAPH_AS_UNION(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION);
+    TREAT_DEFAULT_GRAPH_AS_UNION(JenaOntoDriverProperties.JENA_TREAT_DEFAULT_GRAPH_AS_UNION),
+    SNAPSHOT_READ_TRANSACTION(JenaOntoDriverProperties.JENA_SNAPSHOT_READ_TRANSACTION),
+    FUSEKI_QUERY_PUSHDOWN(JenaOntoDriverProperties.JENA_FUSEKI_QUERY_PUSHDOWN),
+    GROUP_COMMIT(JenaOntoDriverProperties.JENA_GROUP_COMMIT);
 
     private final String name;
 
@@ -49,6 +49,25 @@ public class JenaOntoDriverProperties {
      */
     public static final String SNAPSHOT = "snapshot";
 
+    /**
+     * Parameter specifying whether the {@link #SNAPSHOT} isolation strategy should be based on read transactions of
+     * the underlying dataset instead of copying the whole dataset at the beginning of each transaction.
+     * <p>
+     * Applicable to {@link #IN_MEMORY} and {@link #TDB} storages, whose datasets allow read transactions to run
+     * concurrently with a write transaction and see a stable state of the data. When enabled, starting a transaction
+     * does not depend on the size of the dataset. The transaction reads the state of the dataset at the moment it
+     * started, combined with its own changes. The dataset is copied only when a SPARQL update is executed in the
+     * transaction.
+     * <p>
+     * The read transaction is bound to the thread which began the transaction, so the transaction has to be used by
+     * this thread only.
+     * <p>
+     * Defaults to {@code false}. Ignored when other isolation strategy is used or when inference is enabled.
+     *
+     * @see #JENA_ISOLATION_STRATEGY
+     */
+    public static final String JENA_SNAPSHOT_READ_TRANSACTION = "cz.cvut.kbss.ontodriver.jena.snapshot_read_transaction";
+
     /**
      * Represents parameter specifying type of storage to be used by this driver.
      * <p>
@@ -89,6 +108,33 @@ public class JenaOntoDriverProperties {
      */
     public static final String FUSEKI = "fuseki";
 
+    /**
+     * Parameter specifying whether operations on a {@link #FUSEKI} storage should be translated to targeted SPARQL
+     * requests.
+     * <p>
+     * By default, the Fuseki storage downloads whole graphs to find or remove statements, so the cost of these
+     * operations grows with the size of the remote dataset. When enabled, finding statements and checking their
+     * presence are evaluated as SPARQL SELECT and ASK queries on the server, and statement additions and removals are
+     * collected into a single SPARQL update sent to the server on commit.
+     * <p>
+     * Defaults to {@code false}. Ignored by other storage types.
+     *
+     * @see #JENA_STORAGE_TYPE
+     */
+    public static final String JENA_FUSEKI_QUERY_PUSHDOWN = "cz.cvut.kbss.ontodriver.jena.fuseki_query_pushdown";
+
+    /**
+     * Parameter specifying whether transactions committed concurrently in the
+     * {@link #READ_COMMITTED} isolation strategy should be grouped into a single storage transaction.
+     * <p>
+     * Commits arriving while another commit is being written to the storage are queued and the next committing thread
+     * writes all of them in one storage transaction. If such a group transaction fails, the commits are retried one by
+     * one, so that a failing commit does not cause the others to fail.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String JENA_GROUP_COMMIT = "cz.cvut.kbss.ontodriver.jena.group_commit";
+
     /**
      * Parameter specifying whether the default graph should be treated as union of all the named graphs + the default graph.
      * <p>
@@ -0,0 +1,107 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Changes made by a transaction, prepared to be applied to the {@link SharedStorageConnector}.
+ * <p>
+ * The change set is created from the transactional {@link LocalModel} before the shared storage transaction is
+ * started, so that the work done while holding the storage write lock is reduced to writing the statements. It only
+ * references the graphs of the local model, statements are not copied.
+ */
+class ChangeSet {
+
+    private final List<GraphChange> removals;
+    private final Set<SubjectPredicateContext> removedPropertyValues;
+    private final List<GraphChange> additions;
+
+    private ChangeSet(List<GraphChange> removals, Set<SubjectPredicateContext> removedPropertyValues,
+                      List<GraphChange> additions) {
+        this.removals = removals;
+        this.removedPropertyValues = removedPropertyValues;
+        this.additions = additions;
+    }
+
+    /**
+     * Whether this change set contains no changes.
+     *
+     * @return {@code true} if there is nothing to apply, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return removals.isEmpty() && removedPropertyValues.isEmpty() && additions.isEmpty();
+    }
+
+    /**
+     * Applies the changes to the specified connector.
+     * <p>
+     * Removals are applied before additions. The connector is expected to be in an active transaction.
+     *
+     * @param connector Connector to apply the changes to
+     */
+    void applyTo(SharedStorageConnector connector) {
+        removals.forEach(change -> connector.remove(change.statements, change.context));
+        if (!removedPropertyValues.isEmpty()) {
+            connector.removePropertyValues(removedPropertyValues);
+        }
+        additions.forEach(change -> connector.add(change.statements, change.context));
+    }
+
+    /**
+     * Creates a change set from the specified transactional changes.
+     *
+     * @param localModel Changes made by a transaction
+     * @return New change set
+     */
+    static ChangeSet from(LocalModel localModel) {
+        return new ChangeSet(nonEmptyGraphs(localModel.getRemoved()),
+                             Collections.unmodifiableSet(localModel.getRemovedSubjectPredicateStatements()),
+                             nonEmptyGraphs(localModel.getAdded()));
+    }
+
+    private static List<GraphChange> nonEmptyGraphs(Dataset dataset) {
+        final List<GraphChange> changes = new ArrayList<>();
+        if (!dataset.getDefaultModel().isEmpty()) {
+            changes.add(new GraphChange(null, dataset.getDefaultModel()));
+        }
+        dataset.listNames().forEachRemaining(context -> {
+            final Model model = dataset.getNamedModel(context);
+            if (!model.isEmpty()) {
+                changes.add(new GraphChange(context, model));
+            }
+        });
+        return changes;
+    }
+
+    private static class GraphChange {
+        private final String context;
+        private final Model statements;
+
+        private GraphChange(String context, Model statements) {
+            this.context = context;
+            this.statements = statements;
+        }
+    }
+}
@@ -21,24 +21,24 @@ import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
-import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.rdf.model.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * This connector tracks transactional changes and writes them on commit to the {@link SharedStorageConnector}.
  */
 public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
 
-    private final AbstractStorageConnector centralConnector;
+    private final SharedStorageConnector centralConnector;
 
     private final boolean useDefaultAsUnion;
 
     private LocalModel localModel;
 
-    ChangeTrackingStorageConnector(AbstractStorageConnector centralConnector) {
+    ChangeTrackingStorageConnector(SharedStorageConnector centralConnector) {
         super(centralConnector.configuration);
         this.centralConnector = centralConnector;
         this.useDefaultAsUnion =
@@ -55,14 +55,13 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
     public void commit() throws JenaDriverException {
         transaction.commit();
         try {
-            centralConnector.begin();
-            mergeRemovedStatements();
-            mergeAddedStatements();
-            centralConnector.commit();
+            final ChangeSet changes = ChangeSet.from(localModel);
+            if (!changes.isEmpty()) {
+                centralConnector.commit(changes);
+            }
             transaction.afterCommit();
         } catch (JenaDriverException e) {
             transaction.rollback();
-            centralConnector.rollback();
             transaction.afterRollback();
             throw e;
         } finally {
@@ -70,25 +69,6 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
         }
     }
 
-    private void mergeRemovedStatements() {
-        final Dataset removed = localModel.getRemoved();
-        centralConnector.remove(removed.getDefaultModel().listStatements().toList(), null);
-        removed.listNames().forEachRemaining(context -> {
-            final Model model = removed.getNamedModel(context);
-            centralConnector.remove(model.listStatements().toList(), context);
-        });
-        centralConnector.removePropertyValues(localModel.getRemovedSubjectPredicateStatements());
-    }
-
-    private void mergeAddedStatements() {
-        final Dataset added = localModel.getAdded();
-        centralConnector.add(added.getDefaultModel().listStatements().toList(), null);
-        added.listNames().forEachRemaining(context -> {
-            final Model model = added.getNamedModel(context);
-            centralConnector.add(model.listStatements().toList(), context);
-        });
-    }
-
     @Override
     public void rollback() {
         transaction.rollback();
@@ -103,6 +83,21 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
         return localModel.enhanceStatements(existing, subject, property, value, contexts);
     }
 
+    @Override
+    public Map<Resource, Collection<Statement>> find(Collection<? extends Resource> subjects,
+                                                     Collection<String> contexts) {
+        transaction.verifyActive();
+        final Map<Resource, Collection<Statement>> result = centralConnector.find(subjects, contexts);
+        result.replaceAll((subject, existing) -> localModel.enhanceStatements(existing, subject, null, null, contexts));
+        return result;
+    }
+
+    @Override
+    public <T> T executeRead(Supplier<T> action) {
+        transaction.verifyActive();
+        return centralConnector.executeRead(action);
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         transaction.verifyActive();
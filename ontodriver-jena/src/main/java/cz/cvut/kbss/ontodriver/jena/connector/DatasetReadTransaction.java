@@ -0,0 +1,188 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.query.TxnType;
+import org.apache.jena.sparql.core.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Read transaction on a dataset kept open for the duration of a connector transaction.
+ * <p>
+ * Jena transactions are bound to the thread which started them. The read transaction is started on the thread which
+ * begins the connector transaction and all reads have to be made by this thread. Calls from other threads fail fast,
+ * the same holds for ending the connector transaction (see {@link #ensureOwner()}). Only {@link #close()} tolerates
+ * being called by another thread.
+ * <p>
+ * A thread cannot participate in two transactions on the same dataset. Therefore, a read transaction cannot be started
+ * if the thread is already in a transaction on the dataset (see {@link #begin(Transactional)}), and writes into the
+ * dataset requested by a thread holding a read transaction are executed by a separate writer thread (see {@link
+ * #executeWrite(Transactional, WriteAction)}).
+ */
+class DatasetReadTransaction implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatasetReadTransaction.class);
+
+    /**
+     * Writes into a dataset are serialized by Jena, so a single thread is sufficient.
+     */
+    private static final ExecutorService WRITER =
+            new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new WriterThreadFactory());
+
+    private final Transactional transactional;
+    private final Thread owner;
+
+    private boolean open = true;
+
+    private DatasetReadTransaction(Transactional transactional) {
+        this.transactional = transactional;
+        this.owner = Thread.currentThread();
+        transactional.begin(TxnType.READ);
+    }
+
+    /**
+     * Starts a read transaction on the specified transactional in the current thread.
+     *
+     * @param transactional Transactional to read
+     * @return The read transaction, {@code null} if the current thread is already in a transaction on the specified
+     * transactional
+     */
+    static DatasetReadTransaction begin(Transactional transactional) {
+        if (transactional.isInTransaction()) {
+            return null;
+        }
+        return new DatasetReadTransaction(transactional);
+    }
+
+    /**
+     * Evaluates the specified action within the read transaction.
+     *
+     * @param action Action to evaluate
+     * @param <T>    Result type
+     * @return Result of the action
+     * @throws IllegalStateException If called from a thread different from the one which started the transaction
+     */
+    <T> T execute(Supplier<T> action) {
+        ensureOwner();
+        if (!open) {
+            throw new IllegalStateException("Read transaction is already closed.");
+        }
+        return action.get();
+    }
+
+    /**
+     * Verifies that the current thread is the one which started the transaction.
+     *
+     * @throws IllegalStateException If called from a different thread
+     */
+    void ensureOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException(
+                    "Snapshot read transaction can be used only by the thread which started it (" + owner.getName() +
+                            ").");
+        }
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Ends the read transaction.
+     * <p>
+     * If called from a thread different from the one which started the transaction (e.g., when a connector is closed
+     * by another thread), the transaction cannot be ended and is left to be discarded with the thread.
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        this.open = false;
+        if (Thread.currentThread() == owner) {
+            transactional.end();
+        } else {
+            LOG.warn("Snapshot read transaction of thread {} closed by thread {}, it cannot be ended.",
+                     owner.getName(), Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Executes the specified write action on the specified transactional.
+     * <p>
+     * If the current thread is in a transaction on the transactional (i.e., it holds a read transaction of a
+     * connector), the action is executed by a separate writer thread and the current thread waits for its completion.
+     * Otherwise, the action is executed directly.
+     *
+     * @param transactional Transactional to be written into
+     * @param action        Write action
+     * @throws JenaDriverException If the action fails
+     */
+    static void executeWrite(Transactional transactional, WriteAction action) throws JenaDriverException {
+        if (!transactional.isInTransaction()) {
+            action.execute();
+            return;
+        }
+        final Future<?> result = WRITER.submit(() -> {
+            action.execute();
+            return null;
+        });
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JenaDriverException("Interrupted while waiting for write to complete.", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof JenaDriverException) {
+                throw (JenaDriverException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new JenaDriverException(cause);
+        }
+    }
+
+    /**
+     * Write into the dataset.
+     */
+    @FunctionalInterface
+    interface WriteAction {
+        void execute() throws JenaDriverException;
+    }
+
+    private static final class WriterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread t = new Thread(r, "jena-snapshot-writer-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -38,7 +38,7 @@ import java.util.List;
  */
 class FusekiStorage implements Storage {
 
-    private final boolean defaultAsUnion;
+    final boolean defaultAsUnion;
     private final String serverUrl;
 
     private RDFConnection connection;
@@ -48,7 +48,7 @@ class FusekiStorage implements Storage {
         this.serverUrl = configuration.getStorageProperties().getPhysicalURI().toString();
     }
 
-    private RDFConnection connect() {
+    RDFConnection connect() {
         if (connection == null) {
             this.connection = RDFConnectionFuseki.create().destination(serverUrl).build();
         }
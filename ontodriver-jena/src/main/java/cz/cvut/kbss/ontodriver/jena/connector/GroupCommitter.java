@@ -0,0 +1,128 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Groups concurrently committed change sets into a single transaction on the {@link SharedStorageConnector}.
+ * <p>
+ * A committing thread enqueues its changes and waits for the commit lock. The thread holding the lock applies all the
+ * changes enqueued at that moment in one storage transaction, so commits arriving while another one is being written
+ * do not need a storage transaction each. If the group transaction fails, the change sets are applied one by one, so
+ * that only the failing commits are reported as failed.
+ *
+ * @see cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_GROUP_COMMIT
+ */
+class GroupCommitter {
+
+    private final SharedStorageConnector connector;
+
+    private final Queue<PendingCommit> pending = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    GroupCommitter(SharedStorageConnector connector) {
+        this.connector = connector;
+    }
+
+    /**
+     * Commits the specified changes, possibly together with changes committed concurrently by other threads.
+     * <p>
+     * This method returns once the changes have been written to the storage.
+     *
+     * @param changes Changes to commit
+     * @throws JenaDriverException If the changes could not be written
+     */
+    void commit(ChangeSet changes) throws JenaDriverException {
+        final PendingCommit commit = new PendingCommit(changes);
+        pending.add(commit);
+        commitLock.lock();
+        try {
+            if (!commit.done) {
+                commitPending();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+        commit.throwIfFailed();
+    }
+
+    private void commitPending() {
+        final List<PendingCommit> group = new ArrayList<>();
+        PendingCommit next;
+        while ((next = pending.poll()) != null) {
+            group.add(next);
+        }
+        try {
+            connector.applyChanges(group.stream().map(c -> c.changes).collect(Collectors.toList()));
+            group.forEach(c -> c.done = true);
+        } catch (JenaDriverException | RuntimeException e) {
+            if (group.size() == 1) {
+                group.get(0).fail(e);
+            } else {
+                group.forEach(this::commitSeparately);
+            }
+        }
+    }
+
+    private void commitSeparately(PendingCommit commit) {
+        try {
+            connector.applyChanges(Collections.singletonList(commit.changes));
+            commit.done = true;
+        } catch (JenaDriverException | RuntimeException e) {
+            commit.fail(e);
+        }
+    }
+
+    /**
+     * Change set waiting to be committed.
+     * <p>
+     * State is accessed only while holding the commit lock, which also makes it visible to the committing thread.
+     */
+    private static class PendingCommit {
+        private final ChangeSet changes;
+        private boolean done;
+        private Exception failure;
+
+        private PendingCommit(ChangeSet changes) {
+            this.changes = changes;
+        }
+
+        private void fail(Exception e) {
+            this.failure = e;
+            this.done = true;
+        }
+
+        private void throwIfFailed() throws JenaDriverException {
+            if (failure instanceof JenaDriverException) {
+                throw (JenaDriverException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+}
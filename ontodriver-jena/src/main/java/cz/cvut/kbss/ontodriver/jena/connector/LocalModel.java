@@ -151,6 +151,28 @@ class LocalModel {
         });
     }
 
+    /**
+     * Checks whether any statements have been added or removed.
+     *
+     * @return {@code true} if there are no changes, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return isEmpty(added) && isEmpty(removed) && removedSubjectPredicateStatements.isEmpty();
+    }
+
+    private static boolean isEmpty(Dataset dataset) {
+        if (!dataset.getDefaultModel().isEmpty()) {
+            return false;
+        }
+        final Iterator<String> it = dataset.listNames();
+        while (it.hasNext()) {
+            if (!dataset.getNamedModel(it.next()).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Dataset getAdded() {
         return added;
     }
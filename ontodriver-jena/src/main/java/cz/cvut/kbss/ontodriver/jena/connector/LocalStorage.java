@@ -113,6 +113,27 @@ abstract class LocalStorage implements Storage {
         }
     }
 
+    @Override
+    public void add(Model statements, String context) {
+        if (context != null) {
+            dataset.getNamedModel(context).add(statements);
+        } else {
+            dataset.getDefaultModel().add(statements);
+        }
+    }
+
+    @Override
+    public void remove(Model statements, String context) {
+        if (context != null) {
+            dataset.getNamedModel(context).remove(statements);
+        } else {
+            dataset.getDefaultModel().remove(statements);
+            if (defaultAsUnion) {
+                dataset.listNames().forEachRemaining(n -> dataset.getNamedModel(n).remove(statements));
+            }
+        }
+    }
+
     @Override
     public void remove(StmtIterator iterator, String context) {
         if (context != null) {
@@ -20,6 +20,8 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.sparql.core.mem.DatasetGraphInMemory;
+import org.apache.jena.tdb.TDBFactory;
 
 import java.util.Objects;
 
@@ -46,4 +48,9 @@ class MemoryStorage extends LocalStorage {
             this.dataset = dataset;
         }
     }
+
+    @Override
+    public boolean supportsSnapshotReadTransactions() {
+        return dataset.asDatasetGraph() instanceof DatasetGraphInMemory || TDBFactory.isTDB1(dataset);
+    }
 }
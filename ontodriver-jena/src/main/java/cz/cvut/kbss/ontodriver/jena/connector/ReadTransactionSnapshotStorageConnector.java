@@ -0,0 +1,333 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import cz.cvut.kbss.ontodriver.jena.query.AskResultSet;
+import cz.cvut.kbss.ontodriver.jena.query.SelectResultSet;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.compose.Difference;
+import org.apache.jena.graph.compose.Union;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+import org.apache.jena.sparql.core.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#SNAPSHOT} transactional
+ * strategy which does not copy the central dataset when a transaction begins.
+ * <p>
+ * Instead, a read transaction is started on the central dataset. Storages supporting this (in-memory and TDB) provide
+ * a stable view of the data at the moment the read transaction started, regardless of transactions committed in the
+ * meantime. Transactional changes are kept in a {@link LocalModel} and combined with the data read from the central
+ * dataset.
+ * <p>
+ * SPARQL queries which need to see pending changes are evaluated against a view combining the graphs of the central
+ * dataset with the transactional changes, without copying any data. When a SPARQL update is executed in the
+ * transaction, the snapshot is materialized, i.e., the central dataset is copied (still within the read transaction)
+ * and the pending changes are applied to the copy. The connector then behaves as the regular
+ * {@link SnapshotStorageConnector} for the rest of the transaction.
+ * <p>
+ * The read transaction is bound to the thread which began the connector transaction, see
+ * {@link DatasetReadTransaction}, so the transaction has to be committed or rolled back by this thread as well. If this
+ * thread is already in a transaction on the central dataset (e.g., it holds the read transaction of another connector),
+ * the central dataset is copied when the transaction begins, as done by {@link SnapshotStorageConnector}. Queries targeting the shared ontology run within the read transaction as well, so
+ * they see the same state of the central dataset as the transaction.
+ */
+class ReadTransactionSnapshotStorageConnector extends SnapshotStorageConnector {
+
+    private DatasetReadTransaction readTransaction;
+
+    ReadTransactionSnapshotStorageConnector(AbstractStorageConnector centralConnector) {
+        super(centralConnector);
+    }
+
+    @Override
+    void snapshotCentralDataset() {
+        this.readTransaction = DatasetReadTransaction.begin(centralTransactional());
+        if (readTransaction == null) {
+            super.snapshotCentralDataset();
+        } else {
+            this.storage = null;
+        }
+    }
+
+    private Transactional centralTransactional() {
+        return centralConnector.getStorage().getTransactional();
+    }
+
+    private boolean isSnapshotMaterialized() {
+        return readTransaction == null;
+    }
+
+    /**
+     * Copies the central dataset as seen by the read transaction and applies pending changes to it.
+     */
+    void materializeSnapshot() {
+        if (isSnapshotMaterialized()) {
+            return;
+        }
+        readTransaction.execute(() -> {
+            super.snapshotCentralDataset();
+            return null;
+        });
+        final Dataset removed = transactionalChanges.getRemoved();
+        storage.remove(removed.getDefaultModel().listStatements().toList(), null);
+        removed.listNames().forEachRemaining(n -> storage.remove(removed.getNamedModel(n).listStatements().toList(), n));
+        final Dataset added = transactionalChanges.getAdded();
+        storage.add(added.getDefaultModel().listStatements().toList(), null);
+        added.listNames().forEachRemaining(n -> storage.add(added.getNamedModel(n).listStatements().toList(), n));
+        endReadTransaction();
+    }
+
+    private void endReadTransaction() {
+        if (readTransaction != null) {
+            readTransaction.close();
+            this.readTransaction = null;
+        }
+    }
+
+    /**
+     * Ensures that the read transaction, if any, is ended by the thread which started it.
+     * <p>
+     * Otherwise, the read transaction would be leaked and the owner thread would remain in it, reading a stale state
+     * of the central dataset in subsequent operations.
+     */
+    private void ensureReadTransactionOwner() {
+        if (readTransaction != null) {
+            readTransaction.ensureOwner();
+        }
+    }
+
+    @Override
+    public void commit() throws JenaDriverException {
+        ensureTransactionalState();
+        ensureReadTransactionOwner();
+        endReadTransaction();
+        // The current thread may still be in a read transaction of another connector
+        DatasetReadTransaction.executeWrite(centralTransactional(), super::commit);
+    }
+
+    @Override
+    public void rollback() {
+        ensureTransactionalState();
+        ensureReadTransactionOwner();
+        endReadTransaction();
+        super.rollback();
+    }
+
+    @Override
+    public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            return super.find(subject, property, value, contexts);
+        }
+        if (contexts.isEmpty()) {
+            return new ArrayList<>(findInContexts(subject, property, value, contexts));
+        }
+        final List<Statement> result = new ArrayList<>();
+        contexts.forEach(ctx -> result.addAll(findInContexts(subject, property, value, Collections.singleton(ctx))));
+        return result;
+    }
+
+    private Collection<Statement> findInContexts(Resource subject, Property property, RDFNode value,
+                                                 Collection<String> contexts) {
+        final Collection<Statement> central =
+                readTransaction.execute(() -> centralConnector.find(subject, property, value, contexts));
+        return transactionalChanges.enhanceStatements(central, subject, property, value, contexts);
+    }
+
+    @Override
+    public <T> T executeRead(Supplier<T> action) {
+        ensureTransactionalState();
+        return isSnapshotMaterialized() ? super.executeRead(action) : readTransaction.execute(action);
+    }
+
+    @Override
+    public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            return super.contains(subject, property, value, contexts);
+        }
+        final LocalModel.Containment localStatus = transactionalChanges.contains(subject, property, value, contexts);
+        return localStatus == LocalModel.Containment.ADDED ||
+                localStatus == LocalModel.Containment.UNKNOWN &&
+                        readTransaction.execute(() -> centralConnector.contains(subject, property, value, contexts));
+    }
+
+    @Override
+    public List<String> getContexts() {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            return super.getContexts();
+        }
+        final Set<String> contexts = new LinkedHashSet<>(readTransaction.execute(centralConnector::getContexts));
+        contexts.addAll(transactionalChanges.getContexts());
+        return new ArrayList<>(contexts);
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            super.add(statements, context);
+        } else {
+            transactionalChanges.addStatements(statements, context);
+        }
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            super.remove(statements, context);
+        } else {
+            transactionalChanges.removeStatements(statements, context);
+        }
+    }
+
+    @Override
+    public void removePropertyValues(Collection<SubjectPredicateContext> spc) {
+        ensureTransactionalState();
+        if (isSnapshotMaterialized()) {
+            super.removePropertyValues(spc);
+            return;
+        }
+        // Removed values are resolved against the read transaction and recorded as explicit statement removals
+        spc.forEach(s -> {
+            if (s.getContexts().isEmpty()) {
+                remove(s.getSubject(), s.getPredicate(), null, null);
+            } else {
+                s.getContexts().forEach(ctx -> remove(s.getSubject(), s.getPredicate(), null, ctx));
+            }
+        });
+    }
+
+    @Override
+    public AbstractResultSet executeSelectQuery(Query query, StatementOntology target) throws JenaDriverException {
+        ensureOpen();
+        if (target == StatementOntology.TRANSACTIONAL) {
+            transaction.verifyActive();
+            if (!isSnapshotMaterialized()) {
+                // Results have to be read before the read transaction ends
+                return executeInReadTransaction(query, exec -> new SelectResultSet(exec, ResultSetFactory
+                        .copyResults(exec.execSelect())));
+            }
+        }
+        return super.executeSelectQuery(query, target);
+    }
+
+    @Override
+    public AbstractResultSet executeAskQuery(Query query, StatementOntology target) throws JenaDriverException {
+        ensureOpen();
+        if (target == StatementOntology.TRANSACTIONAL) {
+            transaction.verifyActive();
+            if (!isSnapshotMaterialized()) {
+                return executeInReadTransaction(query, exec -> new AskResultSet(exec.execAsk()));
+            }
+        }
+        return super.executeAskQuery(query, target);
+    }
+
+    private AbstractResultSet executeInReadTransaction(Query query, Function<QueryExecution, AbstractResultSet> evaluator)
+            throws JenaDriverException {
+        try {
+            return readTransaction.execute(() -> {
+                try (final QueryExecution exec = prepareTransactionalQuery(query)) {
+                    return evaluator.apply(exec);
+                }
+            });
+        } catch (RuntimeException e) {
+            throw new JenaDriverException("Execution of query " + query + " failed.", e);
+        }
+    }
+
+    private QueryExecution prepareTransactionalQuery(Query query) {
+        if (transactionalChanges.isEmpty()) {
+            return centralConnector.getStorage().prepareQuery(query);
+        }
+        return QueryExecutionFactory.create(query, DatasetFactory.wrap(transactionalView()));
+    }
+
+    /**
+     * Creates a view of the central dataset with the pending transactional changes applied.
+     * <p>
+     * The view links the graphs of the central dataset, so it has to be used within the read transaction.
+     */
+    private DatasetGraph transactionalView() {
+        final Dataset central = centralConnector.getStorage().getDataset();
+        final Dataset added = transactionalChanges.getAdded();
+        final Dataset removed = transactionalChanges.getRemoved();
+        final DatasetGraph view = DatasetGraphFactory.create(
+                combine(central.getDefaultModel(), added.getDefaultModel(), removed.getDefaultModel()));
+        final Set<String> names = new LinkedHashSet<>();
+        central.listNames().forEachRemaining(names::add);
+        added.listNames().forEachRemaining(names::add);
+        names.forEach(n -> view.addGraph(NodeFactory.createURI(n),
+                                         combine(central.getNamedModel(n), added.getNamedModel(n),
+                                                 removed.getNamedModel(n))));
+        return view;
+    }
+
+    private static Graph combine(Model central, Model added, Model removed) {
+        return new Union(new Difference(central.getGraph(), removed.getGraph()), added.getGraph());
+    }
+
+    @Override
+    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+        ensureOpen();
+        if (target == StatementOntology.TRANSACTIONAL) {
+            transaction.verifyActive();
+            materializeSnapshot();
+            super.executeUpdate(query, target);
+        } else {
+            DatasetReadTransaction.executeWrite(centralTransactional(), () -> super.executeUpdate(query, target));
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        if (cls.isAssignableFrom(Dataset.class) && transaction.isActive()) {
+            materializeSnapshot();
+        }
+        return super.unwrap(cls);
+    }
+
+    @Override
+    public synchronized void close() {
+        endReadTransaction();
+        super.close();
+    }
+}
@@ -19,6 +19,7 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import cz.cvut.kbss.ontodriver.jena.query.AskResultSet;
@@ -27,6 +28,7 @@ import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -34,11 +36,12 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.system.Txn;
 import org.apache.jena.update.UpdateAction;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Main storage connector using the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#READ_COMMITTED}
@@ -51,11 +54,17 @@ import java.util.stream.Collectors;
  * Starting a transaction on this connector also starts a write transaction on the underlying dataset. Commit then
  * commits the transaction. Therefore, these transactions should be short. Reading can happen in parallel (as per Jena
  * documentation).
+ * <p>
+ * Changes tracked by other connectors are committed via {@link #commit(ChangeSet)}, which holds the storage write
+ * transaction only for the time necessary to write them.
  */
 public class SharedStorageConnector extends AbstractStorageConnector {
 
+    private final GroupCommitter groupCommitter;
+
     SharedStorageConnector(DriverConfiguration configuration) {
         super(configuration);
+        this.groupCommitter = configuration.is(JenaConfigParam.GROUP_COMMIT) ? new GroupCommitter(this) : null;
     }
 
     @Override
@@ -79,6 +88,44 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         transaction.afterCommit();
     }
 
+    /**
+     * Commits the specified changes into the storage.
+     * <p>
+     * The changes are written in a transaction of their own, or, if group commit is enabled, in a transaction shared
+     * with changes committed concurrently by other connectors.
+     *
+     * @param changes Changes to commit
+     * @throws JenaDriverException If the changes could not be written to the storage
+     * @see cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_GROUP_COMMIT
+     */
+    void commit(ChangeSet changes) throws JenaDriverException {
+        ensureOpen();
+        if (groupCommitter != null) {
+            groupCommitter.commit(changes);
+        } else {
+            applyChanges(Collections.singletonList(changes));
+        }
+    }
+
+    /**
+     * Applies the specified changes in a single storage transaction.
+     * <p>
+     * The transaction is rolled back if any of the changes cannot be applied or written.
+     *
+     * @param changes Changes to apply
+     * @throws JenaDriverException If the changes could not be written to the storage
+     */
+    synchronized void applyChanges(List<ChangeSet> changes) throws JenaDriverException {
+        begin();
+        try {
+            changes.forEach(c -> c.applyTo(this));
+            commit();
+        } catch (JenaDriverException | RuntimeException e) {
+            rollback();
+            throw e;
+        }
+    }
+
     void ensureTransactionalState() {
         ensureOpen();
         transaction.verifyActive();
@@ -95,39 +142,35 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     @Override
     public Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureOpen();
-        return Txn.calculateRead(storage.getTransactional(), () -> {
-            final List<Statement> result;
-            if (contexts.isEmpty()) {
-                result = storage.getDefaultGraph().listStatements(subject, property, value).toList();
-            } else {
-                result = contexts.stream()
-                                 .map(c -> storage.getNamedGraph(c).listStatements(subject, property, value).toList())
-                                 .flatMap(Collection::stream).collect(Collectors.toList());
-            }
-            return result;
-        });
+        return Txn.calculateRead(storage.getTransactional(), () -> storage.find(subject, property, value, contexts));
+    }
+
+    @Override
+    public Map<Resource, Collection<Statement>> find(Collection<? extends Resource> subjects,
+                                                     Collection<String> contexts) {
+        ensureOpen();
+        return Txn.calculateRead(storage.getTransactional(),
+                                 () -> new LinkedHashMap<Resource, Collection<Statement>>(
+                                         storage.find(subjects, contexts)));
     }
 
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureOpen();
-        return Txn.calculateRead(storage.getTransactional(), () -> {
-            if (contexts.isEmpty()) {
-                return storage.getDefaultGraph().contains(subject, property, value);
-            } else {
-                return contexts.stream().anyMatch(c -> storage.getNamedGraph(c).contains(subject, property, value));
-            }
-        });
+        return Txn.calculateRead(storage.getTransactional(),
+                                 () -> storage.contains(subject, property, value, contexts));
+    }
+
+    @Override
+    public <T> T executeRead(Supplier<T> action) {
+        ensureOpen();
+        return Txn.calculateRead(storage.getTransactional(), action);
     }
 
     @Override
     public List<String> getContexts() {
         ensureOpen();
-        final Iterator<String> it = Txn
-                .calculateRead(storage.getTransactional(), () -> storage.getDataset().listNames());
-        final List<String> contexts = new ArrayList<>();
-        it.forEachRemaining(contexts::add);
-        return contexts;
+        return Txn.calculateRead(storage.getTransactional(), storage::getContexts);
     }
 
     @Override
@@ -142,14 +185,32 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         storage.remove(statements, context);
     }
 
+    /**
+     * Adds all statements of the specified model to the specified context.
+     *
+     * @param statements Model containing statements to add
+     * @param context    Context identifier, possibly {@code null} indicating default context
+     */
+    void add(Model statements, String context) {
+        ensureTransactionalState();
+        storage.add(statements, context);
+    }
+
+    /**
+     * Removes all statements of the specified model from the specified context.
+     *
+     * @param statements Model containing statements to remove
+     * @param context    Context identifier, possibly {@code null} indicating default context
+     */
+    void remove(Model statements, String context) {
+        ensureTransactionalState();
+        storage.remove(statements, context);
+    }
+
     @Override
     public void remove(Resource subject, Property property, RDFNode object, String context) {
         ensureTransactionalState();
-        if (context != null) {
-            storage.remove(storage.getNamedGraph(context).listStatements(subject, property, object), context);
-        } else {
-            storage.remove(storage.getDefaultGraph().listStatements(subject, property, object), null);
-        }
+        storage.remove(subject, property, object, context);
     }
 
     @Override
@@ -157,11 +218,9 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         ensureTransactionalState();
         spc.forEach(s -> {
             if (s.getContexts().isEmpty()) {
-                storage.remove(storage.getDefaultGraph()
-                                      .listStatements(s.getSubject(), s.getPredicate(), (RDFNode) null), null);
+                storage.remove(s.getSubject(), s.getPredicate(), null, null);
             } else {
-                s.getContexts().forEach(c -> storage.remove(storage.getNamedGraph(c)
-                                                                   .listStatements(s.getSubject(), s.getPredicate(), (RDFNode) null), c));
+                s.getContexts().forEach(c -> storage.remove(s.getSubject(), s.getPredicate(), null, c));
             }
         });
     }
@@ -18,20 +18,30 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 
 /**
  * Creates connectors implementing the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#SNAPSHOT}
  * transactional strategy.
+ * <p>
+ * If {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_SNAPSHOT_READ_TRANSACTION} is enabled
+ * and the storage supports it, the created connectors base their snapshots on read transactions of the central dataset.
  */
 public class SnapshotConnectorFactory extends SharedConnectorBasedConnectorFactory {
 
+    private final boolean readTransactionSnapshots;
+
     public SnapshotConnectorFactory(DriverConfiguration configuration) {
         super(configuration);
+        this.readTransactionSnapshots = configuration.is(JenaConfigParam.SNAPSHOT_READ_TRANSACTION);
     }
 
     @Override
     public StorageConnector createConnector() {
         ensureOpen();
+        if (readTransactionSnapshots && centralConnector.getStorage().supportsSnapshotReadTransactions()) {
+            return new ReadTransactionSnapshotStorageConnector(centralConnector);
+        }
         return new SnapshotStorageConnector(centralConnector);
     }
 }
@@ -30,6 +30,7 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.update.UpdateAction;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -42,8 +43,8 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     final AbstractStorageConnector centralConnector;
 
-    private LocalModel transactionalChanges;
-    private List<String> transactionalUpdates;
+    LocalModel transactionalChanges;
+    List<String> transactionalUpdates;
 
     SnapshotStorageConnector(AbstractStorageConnector centralConnector) {
         super(centralConnector.configuration);
@@ -131,6 +132,13 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         }
     }
 
+    @Override
+    public <T> T executeRead(Supplier<T> action) {
+        // The snapshot is local to this connector, no storage transaction is necessary
+        ensureTransactionalState();
+        return action.get();
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
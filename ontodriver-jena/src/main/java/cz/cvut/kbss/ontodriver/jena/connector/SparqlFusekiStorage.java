@@ -0,0 +1,266 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.util.FmtUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Fuseki storage which translates operations to targeted SPARQL requests instead of downloading whole graphs.
+ * <p>
+ * Finding statements and checking their presence are evaluated as SPARQL SELECT and ASK queries by the server.
+ * Statement additions and removals are collected during a transaction and sent to the server as a single SPARQL update
+ * when changes are written out on commit.
+ *
+ * @see cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#JENA_FUSEKI_QUERY_PUSHDOWN
+ */
+class SparqlFusekiStorage extends FusekiStorage {
+
+    private static final String SUBJECT = "s";
+    private static final String PREDICATE = "p";
+    private static final String OBJECT = "o";
+    private static final String GRAPH = "g";
+
+    /**
+     * Maximum number of subjects whose statements are retrieved by one query.
+     */
+    static final int SUBJECT_CHUNK_SIZE = 500;
+
+    // Nodes are always written as full IRIs, the requests contain no prefix declarations
+    private static final PrefixMapping NO_PREFIXES = PrefixMapping.Factory.create().lock();
+
+    private final List<String> pendingUpdates = new ArrayList<>();
+
+    SparqlFusekiStorage(DriverConfiguration configuration) {
+        super(configuration);
+    }
+
+    @Override
+    public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        final List<String> variables = unboundVariables(subject, property, value);
+        final String pattern = triplePattern(subject, property, value);
+        final String query;
+        if (contexts.isEmpty()) {
+            final String projection = variables.isEmpty() ? "(1 AS ?x)" : String.join(" ", variables);
+            query = "SELECT DISTINCT " + projection + " WHERE { " + defaultGraphPattern(pattern) + " }";
+        } else {
+            query = "SELECT ?" + GRAPH + " " + String.join(" ", variables) + " WHERE { " + graphValues(contexts) +
+                    " GRAPH ?" + GRAPH + " { " + pattern + " } }";
+        }
+        final List<Statement> result = new ArrayList<>();
+        connect().querySelect(query, qs -> {
+            final Resource s = subject != null ? subject : qs.getResource(SUBJECT);
+            final Property p = property != null ? property :
+                               ResourceFactory.createProperty(qs.getResource(PREDICATE).getURI());
+            final RDFNode o = value != null ? value : qs.get(OBJECT);
+            result.add(ResourceFactory.createStatement(s, p, o));
+        });
+        return result;
+    }
+
+    @Override
+    public Map<Resource, List<Statement>> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        final Map<Resource, List<Statement>> result = new LinkedHashMap<>(subjects.size());
+        final List<Resource> chunk = new ArrayList<>(Math.min(subjects.size(), SUBJECT_CHUNK_SIZE));
+        for (Resource subject : subjects) {
+            if (subject.isURIResource()) {
+                result.put(subject, new ArrayList<>());
+                chunk.add(subject);
+                if (chunk.size() == SUBJECT_CHUNK_SIZE) {
+                    findInChunk(chunk, contexts, result);
+                    chunk.clear();
+                }
+            } else {
+                result.put(subject, find(subject, null, null, contexts));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            findInChunk(chunk, contexts, result);
+        }
+        return result;
+    }
+
+    private void findInChunk(List<Resource> chunk, Collection<String> contexts, Map<Resource, List<Statement>> result) {
+        final String subjectValues = "VALUES ?" + SUBJECT + " { " +
+                chunk.stream().map(SparqlFusekiStorage::format).collect(Collectors.joining(" ")) + " }";
+        final String pattern = triplePattern(null, null, null);
+        final String query;
+        if (contexts.isEmpty()) {
+            query = "SELECT DISTINCT ?" + SUBJECT + " ?" + PREDICATE + " ?" + OBJECT + " WHERE { " + subjectValues +
+                    " " + defaultGraphPattern(pattern) + " }";
+        } else {
+            query = "SELECT ?" + GRAPH + " ?" + SUBJECT + " ?" + PREDICATE + " ?" + OBJECT + " WHERE { " +
+                    graphValues(contexts) + " " + subjectValues + " GRAPH ?" + GRAPH + " { " + pattern + " } }";
+        }
+        connect().querySelect(query, qs -> {
+            final Resource s = qs.getResource(SUBJECT);
+            result.get(s).add(ResourceFactory.createStatement(s, ResourceFactory.createProperty(
+                    qs.getResource(PREDICATE).getURI()), qs.get(OBJECT)));
+        });
+    }
+
+    @Override
+    public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        final String pattern = triplePattern(subject, property, value);
+        if (contexts.isEmpty()) {
+            return connect().queryAsk("ASK { " + defaultGraphPattern(pattern) + " }");
+        }
+        return connect().queryAsk("ASK { " + graphValues(contexts) + " GRAPH ?" + GRAPH + " { " + pattern + " } }");
+    }
+
+    @Override
+    public List<String> getContexts() {
+        final List<String> contexts = new ArrayList<>();
+        connect().querySelect("SELECT DISTINCT ?" + GRAPH + " WHERE { GRAPH ?" + GRAPH + " { } }",
+                              qs -> contexts.add(qs.getResource(GRAPH).getURI()));
+        return contexts;
+    }
+
+    private String defaultGraphPattern(String pattern) {
+        return defaultAsUnion ? "{ " + pattern + " } UNION { GRAPH ?" + GRAPH + " { " + pattern + " } }" : pattern;
+    }
+
+    private static String graphValues(Collection<String> contexts) {
+        return "VALUES ?" + GRAPH + " { " +
+                contexts.stream().map(c -> format(ResourceFactory.createResource(c))).collect(Collectors.joining(" ")) +
+                " }";
+    }
+
+    private static List<String> unboundVariables(Resource subject, Property property, RDFNode value) {
+        final List<String> variables = new ArrayList<>(3);
+        if (subject == null) {
+            variables.add("?" + SUBJECT);
+        }
+        if (property == null) {
+            variables.add("?" + PREDICATE);
+        }
+        if (value == null) {
+            variables.add("?" + OBJECT);
+        }
+        return variables;
+    }
+
+    private static String triplePattern(Resource subject, Property property, RDFNode value) {
+        return (subject != null ? format(subject) : "?" + SUBJECT) + " " +
+                (property != null ? format(property) : "?" + PREDICATE) + " " +
+                (value != null ? format(value) : "?" + OBJECT) + " .";
+    }
+
+    private static String format(RDFNode node) {
+        return FmtUtils.stringForNode(node.asNode(), NO_PREFIXES);
+    }
+
+    private static String triples(List<Statement> statements) {
+        return statements.stream().map(s -> triplePattern(s.getSubject(), s.getPredicate(), s.getObject()))
+                         .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        pendingUpdates.add("INSERT DATA { " + inGraph(triples(statements), context) + " }");
+    }
+
+    private static String inGraph(String triples, String context) {
+        return context != null ? "GRAPH " + format(ResourceFactory.createResource(context)) + " { " + triples + " }" :
+               triples;
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        if (statements.stream().anyMatch(SparqlFusekiStorage::containsBlankNode)) {
+            // Blank nodes cannot be used in DELETE DATA, fall back to replacing the graph content
+            flushPendingUpdates();
+            super.remove(statements, context);
+            return;
+        }
+        final String triples = triples(statements);
+        pendingUpdates.add("DELETE DATA { " + inGraph(triples, context) + " }");
+        if (context == null && defaultAsUnion) {
+            pendingUpdates.add("DELETE { GRAPH ?" + GRAPH + " { " + triples + " } } WHERE { GRAPH ?" + GRAPH + " { } }");
+        }
+    }
+
+    private static boolean containsBlankNode(Statement statement) {
+        return statement.getSubject().isAnon() || statement.getObject().isAnon();
+    }
+
+    @Override
+    public void remove(StmtIterator iterator, String context) {
+        remove(iterator.toList(), context);
+    }
+
+    @Override
+    public void remove(Resource subject, Property property, RDFNode value, String context) {
+        final String pattern = triplePattern(subject, property, value);
+        pendingUpdates.add("DELETE WHERE { " + inGraph(pattern, context) + " }");
+        if (context == null && defaultAsUnion) {
+            pendingUpdates.add("DELETE WHERE { GRAPH ?" + GRAPH + " { " + pattern + " } }");
+        }
+    }
+
+    @Override
+    public void writeChanges() throws JenaDriverException {
+        try {
+            flushPendingUpdates();
+        } catch (RuntimeException e) {
+            throw new JenaDriverException("Unable to write changes to the Fuseki server.", e);
+        }
+    }
+
+    private void flushPendingUpdates() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        final String update = String.join(" ;\n", pendingUpdates);
+        pendingUpdates.clear();
+        connect().update(update);
+    }
+
+    @Override
+    public void rollback() {
+        pendingUpdates.clear();
+        super.rollback();
+    }
+
+    @Override
+    public void close() {
+        pendingUpdates.clear();
+        super.close();
+    }
+}
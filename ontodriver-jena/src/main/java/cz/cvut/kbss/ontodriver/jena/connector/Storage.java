@@ -27,11 +27,19 @@ import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.sparql.core.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents underlying Jena storage.
@@ -117,6 +125,30 @@ interface Storage {
      */
     void remove(List<Statement> statements, String context);
 
+    /**
+     * Adds all statements of the specified model to the specified context (can be {@code null}).
+     * <p>
+     * Default implementation lists the statements and passes them to {@link #add(List, String)}.
+     *
+     * @param statements Model containing the statements to add
+     * @param context    Context identifier, possibly {@code null} indicating default context
+     */
+    default void add(Model statements, String context) {
+        add(statements.listStatements().toList(), context);
+    }
+
+    /**
+     * Removes all statements of the specified model from the specified context (can be {@code null}).
+     * <p>
+     * Default implementation passes an iterator over the statements to {@link #remove(StmtIterator, String)}.
+     *
+     * @param statements Model containing the statements to remove
+     * @param context    Context identifier, possibly {@code null} indicating default context
+     */
+    default void remove(Model statements, String context) {
+        remove(statements.listStatements(), context);
+    }
+
     /**
      * Removes the specified statements from the specified context (can be {@code null}).
      *
@@ -125,6 +157,85 @@ interface Storage {
      */
     void remove(StmtIterator iterator, String context);
 
+    /**
+     * Removes statements matching the specified pattern from the specified context (can be {@code null}).
+     * <p>
+     * Default implementation lists the matching statements in the corresponding graph and removes them.
+     *
+     * @param subject  Statement subject, {@code null} matches any subject
+     * @param property Statement property, {@code null} matches any property
+     * @param value    Statement object, {@code null} matches any object
+     * @param context  Context identifier, possibly {@code null} indicating default context
+     */
+    default void remove(Resource subject, Property property, RDFNode value, String context) {
+        if (context != null) {
+            remove(getNamedGraph(context).listStatements(subject, property, value), context);
+        } else {
+            remove(getDefaultGraph().listStatements(subject, property, value), null);
+        }
+    }
+
+    /**
+     * Finds statements matching the specified pattern in the specified contexts.
+     * <p>
+     * Default implementation lists the statements in the corresponding graphs.
+     *
+     * @param subject  Statement subject, {@code null} matches any subject
+     * @param property Statement property, {@code null} matches any property
+     * @param value    Statement object, {@code null} matches any object
+     * @param contexts Context identifiers, empty collection indicates the default context
+     * @return Matching statements
+     */
+    default List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        if (contexts.isEmpty()) {
+            return getDefaultGraph().listStatements(subject, property, value).toList();
+        }
+        return contexts.stream().map(c -> getNamedGraph(c).listStatements(subject, property, value).toList())
+                       .flatMap(Collection::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds all statements of the specified subjects in the specified contexts.
+     * <p>
+     * Default implementation finds the statements of each subject separately.
+     *
+     * @param subjects Statement subjects
+     * @param contexts Context identifiers, empty collection indicates the default context
+     * @return Statements of the subjects, grouped by subject. Every subject has an entry, possibly empty
+     */
+    default Map<Resource, List<Statement>> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        final Map<Resource, List<Statement>> result = new LinkedHashMap<>(subjects.size());
+        subjects.forEach(s -> result.put(s, find(s, null, null, contexts)));
+        return result;
+    }
+
+    /**
+     * Checks whether the specified contexts contain any statement matching the specified pattern.
+     *
+     * @param subject  Statement subject, {@code null} matches any subject
+     * @param property Statement property, {@code null} matches any property
+     * @param value    Statement object, {@code null} matches any object
+     * @param contexts Context identifiers, empty collection indicates the default context
+     * @return {@code true} if a matching statement exists, {@code false} otherwise
+     */
+    default boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        if (contexts.isEmpty()) {
+            return getDefaultGraph().contains(subject, property, value);
+        }
+        return contexts.stream().anyMatch(c -> getNamedGraph(c).contains(subject, property, value));
+    }
+
+    /**
+     * Gets identifiers of named graphs in this storage.
+     *
+     * @return List of context identifiers
+     */
+    default List<String> getContexts() {
+        final List<String> contexts = new ArrayList<>();
+        getDataset().listNames().forEachRemaining(contexts::add);
+        return contexts;
+    }
+
     /**
      * Creates a query execution which can be run.
      *
@@ -140,6 +251,18 @@ interface Storage {
      */
     void executeUpdate(String update);
 
+    /**
+     * Whether the dataset of this storage allows long-running read transactions which see a stable state of the data
+     * and do not block concurrent writers.
+     * <p>
+     * Returns {@code false} by default.
+     *
+     * @return {@code true} if read transactions on this storage are isolated snapshots, {@code false} otherwise
+     */
+    default boolean supportsSnapshotReadTransactions() {
+        return false;
+    }
+
     /**
      * Reloads data from the underlying storage (if applicable).
      * <p>
@@ -177,7 +300,8 @@ interface Storage {
             case JenaOntoDriverProperties.TDB:
                 return new TDBStorage(configuration);
             case JenaOntoDriverProperties.FUSEKI:
-                return new FusekiStorage(configuration);
+                return configuration.is(JenaConfigParam.FUSEKI_QUERY_PUSHDOWN) ? new SparqlFusekiStorage(configuration) :
+                       new FusekiStorage(configuration);
             default:
                 throw new OntoDriverInitializationException("Unsupported storage type '" + type + "'.");
         }
@@ -26,7 +26,10 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public interface StorageConnector extends Closeable, Wrapper, StatementExecutor {
 
@@ -62,6 +65,23 @@ public interface StorageConnector extends Closeable, Wrapper, StatementExecutor
      */
     Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts);
 
+    /**
+     * Retrieves all statements of the specified subjects from the specified named graphs.
+     * <p>
+     * The default implementation retrieves the statements of each subject separately, implementations are encouraged
+     * to retrieve the statements in fewer storage calls.
+     *
+     * @param subjects Statement subjects
+     * @param contexts Named graph IRIs, optional. If empty, the default graph will be used
+     * @return Statements of the subjects, grouped by subject. Every subject has an entry, possibly empty
+     */
+    default Map<Resource, Collection<Statement>> find(Collection<? extends Resource> subjects,
+                                                      Collection<String> contexts) {
+        final Map<Resource, Collection<Statement>> result = new LinkedHashMap<>(subjects.size());
+        subjects.forEach(s -> result.put(s, find(s, null, null, contexts)));
+        return result;
+    }
+
     /**
      * Checks whether the specified context (named graph) contains any statements matching the specified criteria.
      * <p>
@@ -77,6 +97,23 @@ public interface StorageConnector extends Closeable, Wrapper, StatementExecutor
      */
     boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts);
 
+    /**
+     * Executes the specified read-only action so that all the storage reads it performs happen within a single read
+     * transaction of the underlying storage.
+     * <p>
+     * This is useful for operations consisting of many small reads (e.g., loading multiple individuals), which would
+     * otherwise each start their own storage transaction.
+     * <p>
+     * The default implementation just executes the action.
+     *
+     * @param action The action to execute
+     * @param <T>    Result type
+     * @return Result of the action
+     */
+    default <T> T executeRead(Supplier<T> action) {
+        return action.get();
+    }
+
     /**
      * Lists all contexts (named graph) in the repository (including the transactional ones).
      *
@@ -43,4 +43,9 @@ class TDBStorage extends LocalStorage {
             throw new JenaDriverException("Unable to synchronize TDB storage with file system.", e);
         }
     }
+
+    @Override
+    public boolean supportsSnapshotReadTransactions() {
+        return true;
+    }
 }
@@ -34,6 +34,7 @@ import java.util.Set;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
 
 abstract class AbstractListIterator<T> {
 
@@ -120,6 +121,16 @@ abstract class AbstractListIterator<T> {
         return currentNode;
     }
 
+    /**
+     * Gets the statement linking the current node to its predecessor (or the list owner).
+     *
+     * @return Link statement of the current node
+     */
+    Statement getCurrentLink() {
+        assert previousNode != null;
+        return createStatement(previousNode, index == 0 ? hasListProperty : hasNextProperty, currentNode);
+    }
+
     /**
      * Removes the current node without reconnecting the subsequent nodes to the previous one.
      */
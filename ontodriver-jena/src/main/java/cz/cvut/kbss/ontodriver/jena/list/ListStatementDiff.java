@@ -0,0 +1,54 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.list;
+
+import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
+import org.apache.jena.rdf.model.Statement;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the difference between statements of the original and the updated list.
+ * <p>
+ * Statements present in both lists are not touched, the rest is removed and added in one batch each.
+ */
+class ListStatementDiff {
+
+    private ListStatementDiff() {
+        throw new AssertionError();
+    }
+
+    static void apply(StorageConnector connector, List<Statement> original, List<Statement> updated,
+                      String context) {
+        final Set<Statement> originalSet = new HashSet<>(original);
+        final Set<Statement> updatedSet = new HashSet<>(updated);
+        final List<Statement> toRemove = original.stream().filter(s -> !updatedSet.contains(s))
+                                                 .collect(Collectors.toList());
+        final List<Statement> toAdd = updated.stream().filter(s -> !originalSet.contains(s))
+                                             .collect(Collectors.toList());
+        if (!toRemove.isEmpty()) {
+            connector.remove(toRemove, context);
+        }
+        if (!toAdd.isEmpty()) {
+            connector.add(toAdd, context);
+        }
+    }
+}
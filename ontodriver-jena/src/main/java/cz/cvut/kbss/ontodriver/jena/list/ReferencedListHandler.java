@@ -21,15 +21,21 @@ import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.util.ListDiff;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
@@ -69,18 +75,20 @@ public class ReferencedListHandler {
         final Property hasNext = createProperty(descriptor.getNextNode().getIdentifier().toString());
         final Property hasContent = createProperty(descriptor.getNodeContent().getIdentifier().toString());
         final String context = descriptor.getContext() != null ? descriptor.getContext().toString() : null;
+        final Set<Resource> generated = new HashSet<>();
         for (; i < descriptor.getValues().size(); i++) {
             lastNode =
                     appendNode(lastNode, descriptor.getValues().get(i), i == 0 ? hasList : hasNext, hasContent, context,
-                            toAdd, descriptor, i);
+                            toAdd, descriptor, i, generated);
         }
         connector.add(toAdd, context);
     }
 
     private <V> Resource appendNode(Resource previousNode, V value, Property link, Property hasContent,
                                     String context, List<Statement> statements,
-                                    ReferencedListValueDescriptor<V> descriptor, int index) {
-        final Resource node = generateNewListNode(descriptor.getListOwner().getIdentifier(), context, index);
+                                    ReferencedListValueDescriptor<V> descriptor, int index,
+                                    Set<Resource> generated) {
+        final Resource node = generateNewListNode(descriptor.getListOwner().getIdentifier(), context, index, generated);
         statements.add(createStatement(previousNode, link, node));
         statements.addAll(ReferencedListHelper.toRdfNodes(value, descriptor.getNodeContent())
                                               .map(n -> createStatement(node, hasContent, n))
@@ -88,38 +96,67 @@ public class ReferencedListHandler {
         return node;
     }
 
-    private Resource generateNewListNode(URI baseUri, String context, int index) {
+    /**
+     * Generates a list node identifier unused in the repository and not yet generated for the current update.
+     */
+    private Resource generateNewListNode(URI baseUri, String context, int index, Set<Resource> generated) {
         Resource node;
         Collection<Statement> statements;
         do {
             node = createResource(baseUri.toString() + "-SEQ_" + index++);
-            statements = connector
+            statements = generated.contains(node) ? Collections.emptyList() : connector
                     .find(node, null, null, context != null ? Collections.singleton(context) : Collections.emptySet());
-        } while (!statements.isEmpty());
+        } while (generated.contains(node) || !statements.isEmpty());
+        generated.add(node);
         return node;
     }
 
+    /**
+     * Updates the list by changing only statements which differ between the original and the updated list.
+     * <p>
+     * Nodes of the original list are matched to the updated values using their longest common subsequence, so that
+     * nodes whose content did not change keep their position in the list. Unmatched original nodes are reused for
+     * inserted values, new nodes are generated only when the list grows.
+     */
     <V> void updateList(ReferencedListValueDescriptor<V> descriptor) {
         final ReferencedListIterator<V> it = new ReferencedListIterator<>(descriptor, connector);
-        int i = 0;
-        while (it.hasNext() && i < descriptor.getValues().size()) {
-            final V update = descriptor.getValues().get(i);
-            final V existing = it.nextValue();
-            if (!existing.equals(update)) {
-                it.replace(update);
-            }
-            i++;
-        }
-        removeObsoleteNodes(it);
-        if (i < descriptor.getValues().size()) {
-            appendNewNodes(descriptor, i, it.getCurrentNode());
+        final List<Resource> originalNodes = new ArrayList<>();
+        final List<V> originalValues = new ArrayList<>();
+        final List<Statement> original = new ArrayList<>();
+        while (it.hasNext()) {
+            originalValues.add(it.nextValue());
+            originalNodes.add(it.getCurrentNode());
+            original.add(it.getCurrentLink());
+            original.addAll(it.getCurrentContent());
         }
-    }
+        final List<V> values = descriptor.getValues();
+        final int[] matches = ListDiff.match(originalValues, values);
+        final Deque<Resource> unusedNodes = new ArrayDeque<>(originalNodes);
+        final Set<Resource> matched = Arrays.stream(matches).filter(i -> i != -1).mapToObj(originalNodes::get)
+                                            .collect(Collectors.toSet());
+        unusedNodes.removeIf(matched::contains);
 
-    private static void removeObsoleteNodes(ReferencedListIterator<?> it) {
-        while (it.hasNext()) {
-            it.nextValue();
-            it.removeWithoutReconnect();
+        final Property hasList = createProperty(descriptor.getListProperty().getIdentifier().toString());
+        final Property hasNext = createProperty(descriptor.getNextNode().getIdentifier().toString());
+        final Property hasContent = createProperty(descriptor.getNodeContent().getIdentifier().toString());
+        final String context = descriptor.getContext() != null ? descriptor.getContext().toString() : null;
+        final List<Statement> updated = new ArrayList<>(values.size() * 2);
+        final Set<Resource> generated = new HashSet<>();
+        Resource previous = createResource(descriptor.getListOwner().getIdentifier().toString());
+        for (int i = 0; i < values.size(); i++) {
+            final Resource node;
+            if (matches[i] != -1) {
+                node = originalNodes.get(matches[i]);
+            } else if (!unusedNodes.isEmpty()) {
+                node = unusedNodes.poll();
+            } else {
+                node = generateNewListNode(descriptor.getListOwner().getIdentifier(), context, i, generated);
+            }
+            updated.add(createStatement(previous, i == 0 ? hasList : hasNext, node));
+            ReferencedListHelper.toRdfNodes(values.get(i), descriptor.getNodeContent())
+                                .forEach(n -> updated.add(createStatement(node, hasContent, n)));
+            previous = node;
         }
+        ListStatementDiff.apply(connector, original, updated, context);
     }
 }
@@ -46,6 +46,8 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
     private final Property hasContent;
     private final Assertion hasContentAssertion;
 
+    private Collection<Statement> currentContent;
+
     ReferencedListIterator(ReferencedListDescriptor descriptor, StorageConnector connector) {
         super(descriptor, connector);
         this.hasContentAssertion = descriptor.getNodeContent();
@@ -83,9 +85,19 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
         final Collection<Statement> contentStatements;
         contentStatements = connector.find(currentNode, hasContent, null, contexts());
         verifyContentValueCount(contentStatements);
+        this.currentContent = contentStatements;
         return contentStatements.stream().map(Statement::getObject).collect(Collectors.toList());
     }
 
+    /**
+     * Gets content statements of the current node.
+     *
+     * @return Content statements of the node returned by the last call to {@link #nextValue()}
+     */
+    Collection<Statement> getCurrentContent() {
+        return currentContent;
+    }
+
     private void verifyContentValueCount(Collection<Statement> contentStatements) {
         if (contentStatements.isEmpty()) {
             throw icViolatedException(currentNode.getURI(), 0);
@@ -78,27 +78,26 @@ public class SimpleListHandler {
         return node;
     }
 
+    /**
+     * Updates the list by replacing only links which differ between the original and the updated list.
+     * <p>
+     * Nodes of a simple list are its values, so unchanged neighbours keep their links.
+     */
     void updateList(SimpleListValueDescriptor descriptor) {
         final SimpleListIterator it = new SimpleListIterator(descriptor, connector);
-        int i = 0;
-        while (it.hasNext() && i < descriptor.getValues().size()) {
-            final NamedResource update = descriptor.getValues().get(i);
-            final NamedResource existing = it.nextValue();
-            if (!existing.equals(update)) {
-                it.replace(update);
-            }
-            i++;
-        }
-        removeObsoleteNodes(it);
-        if (i < descriptor.getValues().size()) {
-            appendNewNodes(descriptor, i, it.getCurrentNode());
-        }
-    }
-
-    private static void removeObsoleteNodes(SimpleListIterator it) {
+        final List<Statement> original = new ArrayList<>();
         while (it.hasNext()) {
             it.nextValue();
-            it.removeWithoutReconnect();
+            original.add(it.getCurrentLink());
         }
+        final List<Statement> updated = new ArrayList<>(descriptor.getValues().size());
+        Resource previous = createResource(descriptor.getListOwner().getIdentifier().toString());
+        final Property hasList = ResourceFactory.createProperty(descriptor.getListProperty().getIdentifier().toString());
+        final Property hasNext = ResourceFactory.createProperty(descriptor.getNextNode().getIdentifier().toString());
+        for (int i = 0; i < descriptor.getValues().size(); i++) {
+            previous = appendNode(previous, i == 0 ? hasList : hasNext, descriptor.getValues().get(i), updated);
+        }
+        final URI context = descriptor.getContext();
+        ListStatementDiff.apply(connector, original, updated, context != null ? context.toString() : null);
     }
 }
@@ -19,7 +19,8 @@ package cz.cvut.kbss.ontodriver.jena.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
@@ -34,24 +35,36 @@ public class IdentifierGenerator {
 
     private final StorageConnector storageConnector;
 
+    private final IdentifierGenerationStrategy strategy;
+
     public IdentifierGenerator(StorageConnector storageConnector) {
+        this(storageConnector, new RandomIdentifierGenerationStrategy());
+    }
+
+    public IdentifierGenerator(StorageConnector storageConnector, IdentifierGenerationStrategy strategy) {
         this.storageConnector = storageConnector;
+        this.strategy = strategy;
     }
 
     /**
      * Generates a unique identifier based on the specified class URI.
+     * <p>
+     * The storage is checked for existence of the generated identifier only if the generation strategy requires it.
      *
      * @param classUri Type URI, used as the identifier base
      * @return Generated identifier
      */
     public URI generateIdentifier(URI classUri) {
+        if (!strategy.requiresUniquenessCheck()) {
+            return strategy.generateIdentifier(classUri);
+        }
         int i = 0;
         boolean exists;
         final Property property = ResourceFactory.createProperty(Vocabulary.RDF_TYPE);
         final RDFNode type = ResourceFactory.createResource(classUri.toString());
         URI result;
         do {
-            result = IdentifierUtils.generateIdentifier(classUri);
+            result = strategy.generateIdentifier(classUri);
             exists = storageConnector.contains(ResourceFactory.createResource(result.toString()), property, type,
                     Collections.emptySet());
             i++;
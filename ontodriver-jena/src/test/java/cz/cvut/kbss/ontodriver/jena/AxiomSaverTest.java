@@ -35,6 +35,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -212,4 +213,21 @@ public class AxiomSaverTest {
         assertEquals(1, arg.size());
         assertEquals(ResourceFactory.createPlainLiteral("test"), arg.get(0).getObject());
     }
+
+    @Test
+    public void saveAxiomsForMultipleDescriptorsAddsStatementsOfAllSubjectsInSingleCallPerContext() {
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomValueDescriptor first = new AxiomValueDescriptor(SUBJECT);
+        first.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+        final AxiomValueDescriptor second = new AxiomValueDescriptor(NamedResource.create(Generator.generateUri()));
+        second.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+        saver.saveAxioms(Arrays.asList(first, second));
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(connectorMock).add(captor.capture(), eq(null));
+        final List<Statement> arg = captor.getValue();
+        assertEquals(2, arg.size());
+        assertEquals(ResourceFactory.createResource(SUBJECT.toString()), arg.get(0).getSubject());
+        assertEquals(ResourceFactory.createResource(second.getSubject().getIdentifier().toString()),
+                arg.get(1).getSubject());
+    }
 }
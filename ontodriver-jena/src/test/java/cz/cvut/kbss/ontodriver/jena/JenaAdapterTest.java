@@ -42,10 +42,14 @@ import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -202,6 +206,34 @@ class JenaAdapterTest {
         verify(connectorMock).find(SUBJECT_RESOURCE, null, null, Collections.emptySet());
     }
 
+    @Test
+    void findAllLoadsAxiomsOfAllSubjectsWithinSingleStorageReadAction() {
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(assertion);
+        final Statement s = ResourceFactory
+                .createStatement(SUBJECT_RESOURCE, assertionToProperty(assertion),
+                        ResourceFactory.createResource(Generator.generateUri().toString()));
+        final Resource subjectTwoResource = ResourceFactory.createResource(subjectTwo.getIdentifier().toString());
+        final Map<Resource, Collection<Statement>> statements = new HashMap<>();
+        statements.put(SUBJECT_RESOURCE, List.of(s));
+        statements.put(subjectTwoResource, List.of());
+        when(connectorMock.find(anyCollection(), any())).thenReturn(statements);
+        when(connectorMock.executeRead(any())).thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = adapter.findAll(List.of(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(SUBJECT).size());
+        assertTrue(result.get(subjectTwo).isEmpty());
+        verify(connectorMock).executeRead(any());
+        // Statements of both subjects are retrieved by a single lookup
+        verify(connectorMock).find(List.of(SUBJECT_RESOURCE, subjectTwoResource), Collections.emptySet());
+        verify(connectorMock, never()).find(any(Resource.class), any(), any(), any());
+    }
+
     private static Property assertionToProperty(Assertion assertion) {
         return ResourceFactory.createProperty(assertion.getIdentifier().toString());
     }
@@ -238,6 +270,28 @@ class JenaAdapterTest {
         assertEquals(ResourceFactory.createResource(newValue.toString()), result.getObject());
     }
 
+    @Test
+    void updateAllRemovesOldStatementsOfAllDescriptorsAndInsertsNewOnesInSingleCall() {
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomValueDescriptor first = new AxiomValueDescriptor(SUBJECT);
+        first.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+        final NamedResource otherSubject = NamedResource.create(Generator.generateUri());
+        final Resource otherSubjectResource = ResourceFactory.createResource(otherSubject.getIdentifier().toString());
+        final AxiomValueDescriptor second = new AxiomValueDescriptor(otherSubject);
+        second.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+
+        adapter.updateAll(Arrays.asList(first, second));
+        verify(connectorMock).removePropertyValues(Set.of(
+                new SubjectPredicateContext(SUBJECT_RESOURCE, assertionToProperty(assertion), Collections.emptySet()),
+                new SubjectPredicateContext(otherSubjectResource, assertionToProperty(assertion),
+                        Collections.emptySet())));
+        final ArgumentCaptor<List<Statement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(connectorMock).add(captor.capture(), eq(null));
+        assertEquals(2, captor.getValue().size());
+        assertEquals(SUBJECT_RESOURCE, captor.getValue().get(0).getSubject());
+        assertEquals(otherSubjectResource, captor.getValue().get(1).getSubject());
+    }
+
     @Test
     void createStatementReturnsNewJenaStatement() throws Exception {
         final JenaStatement result = adapter.createStatement();
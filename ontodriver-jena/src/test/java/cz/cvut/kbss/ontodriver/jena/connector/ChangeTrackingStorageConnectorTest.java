@@ -19,12 +19,14 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.junit.jupiter.api.AfterEach;
@@ -32,10 +34,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.*;
@@ -128,6 +136,31 @@ public class ChangeTrackingStorageConnectorTest {
 
     }
 
+    @Test
+    public void findStatementsOfMultipleSubjectsRetrievesThemFromCentralConnectorTogetherAndAppliesLocalChanges()
+            throws Exception {
+        centralConnector.begin();
+        final Statement existing = createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_ONE));
+        final Statement removed = createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_TWO));
+        centralConnector.add(List.of(existing, removed), null);
+        centralConnector.commit();
+        connector.begin();
+        final Resource subjectTwo = createResource(Generator.generateUri().toString());
+        final Statement added = createStatement(subjectTwo, createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_ONE));
+        getLocalModel().addStatements(Collections.singletonList(added), null);
+        getLocalModel().removeStatements(Collections.singletonList(removed), null);
+
+        final List<Resource> subjects = List.of(createResource(SUBJECT), subjectTwo);
+        final Map<Resource, Collection<Statement>> result = connector.find(subjects, Collections.emptySet());
+        assertEquals(Collections.singleton(existing), new HashSet<>(result.get(createResource(SUBJECT))));
+        assertEquals(Collections.singleton(added), new HashSet<>(result.get(subjectTwo)));
+        verify(centralConnector).find(subjects, Collections.emptySet());
+        verify(centralConnector, never()).find(any(Resource.class), any(), any(), anyCollection());
+    }
+
     @Test
     public void containsReturnsTrueForStatementsPresentInLocalChanges() throws Exception {
         connector.begin();
@@ -328,6 +361,57 @@ public class ChangeTrackingStorageConnectorTest {
                 createResource(TYPE_TWO), Collections.singleton(NAMED_GRAPH)));
     }
 
+    @Test
+    public void commitWithoutChangesDoesNotStartCentralConnectorTransaction() throws Exception {
+        connector.begin();
+        connector.commit();
+        verify(centralConnector, never()).begin();
+        assertFalse(connector.transaction.isActive());
+    }
+
+    @Test
+    public void concurrentCommitsAreAllAppliedToCentralConnector() throws Exception {
+        verifyConcurrentCommits(centralConnector);
+    }
+
+    private static void verifyConcurrentCommits(SharedStorageConnector central) throws Exception {
+        final int count = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                final Statement statement = createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                        createResource(Generator.generateUri().toString()));
+                results.add(executor.submit(() -> {
+                    final ChangeTrackingStorageConnector sut = new ChangeTrackingStorageConnector(central);
+                    sut.begin();
+                    sut.add(Collections.singletonList(statement), NAMED_GRAPH);
+                    sut.commit();
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(count, central.find(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE), null,
+                Collections.singleton(NAMED_GRAPH)).size());
+    }
+
+    @Test
+    public void concurrentCommitsAreAllAppliedToCentralConnectorWithGroupCommit() throws Exception {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(JenaConfigParam.GROUP_COMMIT, Boolean.toString(true));
+        final SharedStorageConnector central = new SharedStorageConnector(configuration);
+        try {
+            verifyConcurrentCommits(central);
+        } finally {
+            central.close();
+        }
+    }
+
     @Test
     public void closeDiscardsRunningTransaction() throws Exception {
         connector.begin();
@@ -0,0 +1,144 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitterTest {
+
+    @Mock
+    private SharedStorageConnector connector;
+
+    private GroupCommitter sut;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new GroupCommitter(connector);
+    }
+
+    @Test
+    void commitAppliesChangesInStorageTransaction() throws Exception {
+        final ChangeSet changes = ChangeSet.from(new LocalModel(false));
+        sut.commit(changes);
+        verify(connector).applyChanges(Collections.singletonList(changes));
+    }
+
+    @Test
+    void commitAppliesChangesCommittedWhileAnotherCommitIsRunningInSingleTransaction() throws Exception {
+        final ChangeSet first = ChangeSet.from(new LocalModel(false));
+        final ChangeSet second = ChangeSet.from(new LocalModel(false));
+        final ChangeSet third = ChangeSet.from(new LocalModel(false));
+
+        final List<FutureTask<Void>> results = commitWhileFirstIsRunning(first, second, third);
+        for (FutureTask<Void> result : results) {
+            result.get();
+        }
+        verify(connector).applyChanges(Collections.singletonList(first));
+        verify(connector).applyChanges(argThat((List<ChangeSet> group) -> group.size() == 2 && group.contains(second) &&
+                group.contains(third)));
+        verifyNoMoreInteractions(connector);
+    }
+
+    /**
+     * Commits the first change set and, while it is being applied, commits the others concurrently.
+     */
+    private List<FutureTask<Void>> commitWhileFirstIsRunning(ChangeSet first, ChangeSet... others) throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(connector).applyChanges(Collections.singletonList(first));
+        final List<FutureTask<Void>> results = new ArrayList<>();
+        results.add(startCommit(first, new ArrayList<>()));
+        started.await();
+        final List<Thread> waiting = new ArrayList<>();
+        for (ChangeSet changes : others) {
+            results.add(startCommit(changes, waiting));
+        }
+        // The other commits are enqueued before their threads start waiting for the commit lock
+        for (Thread thread : waiting) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(5);
+            }
+        }
+        release.countDown();
+        return results;
+    }
+
+    private FutureTask<Void> startCommit(ChangeSet changes, List<Thread> threads) {
+        final FutureTask<Void> result = new FutureTask<>(() -> {
+            sut.commit(changes);
+            return null;
+        });
+        final Thread thread = new Thread(result);
+        thread.start();
+        threads.add(thread);
+        return result;
+    }
+
+    @Test
+    void commitAppliesChangesSeparatelyWhenGroupTransactionFails() throws Exception {
+        final ChangeSet first = ChangeSet.from(new LocalModel(false));
+        final ChangeSet second = ChangeSet.from(new LocalModel(false));
+        final ChangeSet third = ChangeSet.from(new LocalModel(false));
+        doAnswer(inv -> {
+            final List<ChangeSet> group = inv.getArgument(0);
+            if (group.contains(third)) {
+                throw new JenaDriverException("Write failed.");
+            }
+            return null;
+        }).when(connector).applyChanges(anyList());
+
+        final List<FutureTask<Void>> results = commitWhileFirstIsRunning(first, second, third);
+        results.get(0).get();
+        results.get(1).get();
+        final ExecutionException ex = assertThrows(ExecutionException.class, () -> results.get(2).get());
+        assertThat(ex.getCause(), instanceOf(JenaDriverException.class));
+        verify(connector).applyChanges(Collections.singletonList(second));
+        verify(connector).applyChanges(Collections.singletonList(third));
+    }
+
+    @Test
+    void commitRethrowsExceptionThrownWhenApplyingChanges() throws Exception {
+        final ChangeSet changes = ChangeSet.from(new LocalModel(false));
+        doThrow(new JenaDriverException("Write failed.")).when(connector).applyChanges(anyList());
+        assertThrows(JenaDriverException.class, () -> sut.commit(changes));
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadTransactionSnapshotStorageConnectorTest {
+
+    private SharedStorageConnector centralConnector;
+
+    private ReadTransactionSnapshotStorageConnector connector;
+
+    @BeforeEach
+    public void setUp() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        this.centralConnector = spy(new SharedStorageConnector(configuration));
+        this.connector = new ReadTransactionSnapshotStorageConnector(centralConnector);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connector.close();
+        centralConnector.close();
+    }
+
+    private static Statement statement() {
+        return createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+    }
+
+    private void addToCentral(Statement statement, String context) throws JenaDriverException {
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(statement), context);
+        centralConnector.commit();
+    }
+
+    private static <T> T inOtherThread(Callable<T> action) throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(action).get();
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void beginDoesNotCopyCentralDataset() throws Exception {
+        addToCentral(statement(), null);
+        connector.begin();
+        assertNull(connector.getStorage());
+        assertTrue(connector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void findDoesNotSeeChangesCommittedToCentralDatasetAfterBegin() throws Exception {
+        final String context = Generator.generateUri().toString();
+        final Statement existing = statement();
+        addToCentral(existing, context);
+        connector.begin();
+
+        inOtherThread(() -> {
+            centralConnector.begin();
+            centralConnector.remove(Collections.singletonList(existing), context);
+            centralConnector.add(Collections.singletonList(existing), null);
+            centralConnector.commit();
+            return null;
+        });
+
+        assertEquals(Collections.singletonList(existing),
+                connector.find(createResource(SUBJECT), null, null, Collections.singleton(context)));
+        assertTrue(connector.find(createResource(SUBJECT), null, null, Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void findCombinesCentralDataWithTransactionalChanges() throws Exception {
+        final Statement existing = statement();
+        addToCentral(existing, null);
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        connector.add(Collections.singletonList(added), null);
+        connector.remove(Collections.singletonList(existing), null);
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(Collections.singletonList(added), result);
+        assertFalse(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void findCombinesResultsFromMultipleContexts() throws Exception {
+        final String ctxOne = Generator.generateUri().toString();
+        final String ctxTwo = Generator.generateUri().toString();
+        final Statement existing = statement();
+        addToCentral(existing, ctxOne);
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        connector.add(Collections.singletonList(added), ctxTwo);
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), RDF.type, null, List.of(ctxOne, ctxTwo));
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(existing, added)));
+    }
+
+    @Test
+    public void commitAppliesTransactionalChangesToCentralConnector() throws Exception {
+        final Statement existing = statement();
+        addToCentral(existing, null);
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        connector.add(Collections.singletonList(added), null);
+        connector.removePropertyValues(Collections.singleton(
+                new SubjectPredicateContext(createResource(SUBJECT), RDF.type, Collections.emptySet())));
+        connector.add(Collections.singletonList(added), null);
+        connector.commit();
+
+        assertTrue(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        assertFalse(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+        assertNull(connector.getStorage());
+    }
+
+    @Test
+    public void rollbackDiscardsTransactionalChanges() throws Exception {
+        connector.begin();
+        connector.add(Collections.singletonList(statement()), null);
+        connector.rollback();
+
+        verify(centralConnector, never()).add(anyList(), any());
+        assertFalse(centralConnector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+        // Read transaction is finished, so a write transaction on the central dataset can be started and committed
+        addToCentral(statement(), null);
+    }
+
+    @Test
+    public void getContextsCombinesCentralAndTransactionalContexts() throws Exception {
+        final String ctxOne = Generator.generateUri().toString();
+        final String ctxTwo = Generator.generateUri().toString();
+        addToCentral(statement(), ctxOne);
+        connector.begin();
+        connector.add(Collections.singletonList(statement()), ctxTwo);
+
+        final List<String> result = connector.getContexts();
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(ctxOne, ctxTwo)));
+    }
+
+    @Test
+    public void executeSelectQueryWithoutTransactionalChangesDoesNotMaterializeSnapshot() throws Exception {
+        addToCentral(statement(), null);
+        connector.begin();
+        try (final AbstractResultSet rs = connector.executeSelectQuery(
+                QueryFactory.create("SELECT * WHERE { ?x ?y ?z . }"), StatementOntology.TRANSACTIONAL)) {
+            assertTrue(rs.hasNext());
+            rs.next();
+            assertEquals(SUBJECT, rs.getString("x"));
+        }
+        assertNull(connector.getStorage());
+    }
+
+    @Test
+    public void executeAskQueryWithTransactionalChangesSeesChangesWithoutMaterializingSnapshot() throws Exception {
+        connector.begin();
+        connector.add(Collections.singletonList(statement()), null);
+        try (final AbstractResultSet rs = connector.executeAskQuery(QueryFactory.create(
+                "ASK { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }"), StatementOntology.TRANSACTIONAL)) {
+            assertTrue(rs.hasNext());
+            rs.next();
+            assertTrue(rs.getBoolean(0));
+        }
+        assertNull(connector.getStorage());
+        assertFalse(centralConnector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+    }
+
+    @Test
+    public void executeSelectQueryWithTransactionalChangesSeesAdditionsAndRemovalsInAllGraphs() throws Exception {
+        final String context = Generator.generateUri().toString();
+        final Statement existing = statement();
+        addToCentral(existing, null);
+        addToCentral(existing, context);
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        connector.remove(Collections.singletonList(existing), context);
+        connector.add(Collections.singletonList(added), context);
+
+        final Map<String, String> result = new HashMap<>();
+        try (final AbstractResultSet rs = connector.executeSelectQuery(QueryFactory.create(
+                "SELECT ?g ?type WHERE { GRAPH ?g { <" + SUBJECT + "> a ?type . } }"), StatementOntology.TRANSACTIONAL)) {
+            while (rs.hasNext()) {
+                rs.next();
+                result.put(rs.getString("g"), rs.getString("type"));
+            }
+        }
+        assertEquals(Collections.singletonMap(context, TYPE_TWO), result);
+        try (final AbstractResultSet rs = connector.executeAskQuery(QueryFactory.create(
+                "ASK { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }"), StatementOntology.TRANSACTIONAL)) {
+            rs.next();
+            assertTrue(rs.getBoolean(0));
+        }
+        assertNull(connector.getStorage());
+    }
+
+    @Test
+    public void readFromOtherThreadThanTheOneWhichBeganTransactionFailsFast() throws Exception {
+        addToCentral(statement(), null);
+        connector.begin();
+        assertThrows(IllegalStateException.class, () -> inOtherThread(
+                () -> connector.find(createResource(SUBJECT), null, null, Collections.emptySet())));
+        assertFalse(connector.find(createResource(SUBJECT), null, null, Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void commitFromOtherThreadThanTheOneWhichBeganTransactionFailsAndKeepsTransactionActive() throws Exception {
+        connector.begin();
+        final Statement added = statement();
+        connector.add(Collections.singletonList(added), null);
+
+        assertThrows(IllegalStateException.class, () -> inOtherThread(() -> {
+            connector.commit();
+            return null;
+        }));
+        assertTrue(connector.isOpen());
+        assertTrue(centralConnector.getStorage().getDataset().isInTransaction());
+        assertFalse(inOtherThread(() -> centralConnector.contains(createResource(SUBJECT), RDF.type,
+                createResource(TYPE_ONE), Collections.emptySet())));
+        connector.commit();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertTrue(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void rollbackFromOtherThreadThanTheOneWhichBeganTransactionFails() throws Exception {
+        connector.begin();
+
+        assertThrows(IllegalStateException.class, () -> inOtherThread(() -> {
+            connector.rollback();
+            return null;
+        }));
+        assertTrue(centralConnector.getStorage().getDataset().isInTransaction());
+        connector.rollback();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+    }
+
+    @Test
+    public void connectorBegunInThreadHoldingReadTransactionCopiesCentralDatasetAndCanCommit() throws Exception {
+        addToCentral(statement(), null);
+        connector.begin();
+        final ReadTransactionSnapshotStorageConnector other = new ReadTransactionSnapshotStorageConnector(centralConnector);
+        try {
+            other.begin();
+            assertNotNull(other.getStorage());
+            final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+            other.add(Collections.singletonList(added), null);
+            other.commit();
+
+            assertTrue(inOtherThread(() -> centralConnector.contains(createResource(SUBJECT), RDF.type,
+                    createResource(TYPE_TWO), Collections.emptySet())));
+            // The first connector still reads its snapshot
+            assertFalse(connector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                    Collections.emptySet()));
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void executeUpdateOnSharedOntologyIsAppliedWhileReadTransactionIsActive() throws Exception {
+        connector.begin();
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }", StatementOntology.SHARED);
+
+        assertTrue(inOtherThread(() -> centralConnector.contains(createResource(SUBJECT), RDF.type,
+                createResource(TYPE_ONE), Collections.emptySet())));
+        assertNull(connector.getStorage());
+    }
+
+    @Test
+    public void executeUpdateMaterializesSnapshotWithPendingChanges() throws Exception {
+        final Statement existing = statement();
+        addToCentral(existing, null);
+        connector.begin();
+        connector.remove(Collections.singletonList(existing), null);
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> a <" + TYPE_TWO + "> . }",
+                StatementOntology.TRANSACTIONAL);
+
+        final Dataset snapshot = connector.getStorage().getDataset();
+        assertFalse(snapshot.getDefaultModel().contains(existing));
+        assertTrue(snapshot.getDefaultModel().contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+        connector.commit();
+        assertTrue(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        assertFalse(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void executeReadRunsActionWithinReadTransaction() throws Exception {
+        addToCentral(statement(), null);
+        connector.begin();
+        final boolean result = connector.executeRead(() -> centralConnector.getStorage().getDataset().isInTransaction());
+        assertTrue(result);
+    }
+}
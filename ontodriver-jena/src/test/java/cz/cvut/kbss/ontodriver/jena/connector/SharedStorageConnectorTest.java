@@ -71,6 +71,20 @@ public class SharedStorageConnectorTest {
         assertFalse(result.isEmpty());
     }
 
+    @Test
+    public void executeReadExecutesActionWithinStorageReadTransaction() {
+        final SharedStorageConnector connector = initConnector();
+        final Dataset ds = connector.storage.getDataset();
+        generateTestData(ds);
+
+        final Boolean inTransaction = connector.executeRead(() -> {
+            assertFalse(connector.find(RESOURCE, null, null, Collections.emptySet()).isEmpty());
+            return ds.isInTransaction();
+        });
+        assertTrue(inTransaction);
+        assertFalse(ds.isInTransaction());
+    }
+
     @Test
     public void findInContextFiltersStatementsInTargetContext() {
         final SharedStorageConnector connector = initConnector();
@@ -18,10 +18,13 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import org.apache.jena.query.DatasetFactory;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -48,4 +51,22 @@ public class SnapshotConnectorFactoryTest extends ConnectorFactoryTestBase {
         assertNotNull(getCentralConnector(factory));
         assertTrue(getCentralConnector(factory).isOpen());
     }
+
+    @Test
+    public void createConnectorCreatesReadTransactionSnapshotConnectorWhenConfiguredAndSupportedByStorage() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(JenaConfigParam.SNAPSHOT_READ_TRANSACTION, Boolean.TRUE.toString());
+        final ConnectorFactory factory = connectorFactory(configuration);
+        assertTrue(factory.createConnector() instanceof ReadTransactionSnapshotStorageConnector);
+    }
+
+    @Test
+    public void createConnectorCreatesCopyingSnapshotConnectorWhenStorageDoesNotSupportReadTransactionSnapshots() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(JenaConfigParam.SNAPSHOT_READ_TRANSACTION, Boolean.TRUE.toString());
+        final ConnectorFactory factory = connectorFactory(configuration);
+        // Non-transactional in-memory dataset
+        factory.setDataset(DatasetFactory.create());
+        assertFalse(factory.createConnector() instanceof ReadTransactionSnapshotStorageConnector);
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.JenaDataSource;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import org.apache.jena.fuseki.main.FusekiServer;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.system.Txn;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparqlFusekiStorageTest extends StorageTestUtil {
+
+    private Dataset serverDataset;
+    private FusekiServer server;
+
+    private SparqlFusekiStorage sut;
+
+    @BeforeEach
+    public void setUp() {
+        this.serverDataset = DatasetFactory.createTxnMem();
+        Txn.executeWrite(serverDataset, () -> generateTestData(serverDataset));
+        this.server = FusekiServer.create().port(0).loopback(true).add("/ds", serverDataset).build().start();
+        this.sut = new SparqlFusekiStorage(createConfiguration(false));
+    }
+
+    private DriverConfiguration createConfiguration(boolean defaultAsUnion) {
+        final DriverConfiguration config = new DriverConfiguration(
+                OntologyStorageProperties.driver(JenaDataSource.class.toString())
+                                         .physicalUri(URI.create("http://localhost:" + server.getPort() + "/ds"))
+                                         .build());
+        config.setProperty(JenaConfigParam.STORAGE_TYPE, JenaOntoDriverProperties.FUSEKI);
+        config.setProperty(JenaConfigParam.FUSEKI_QUERY_PUSHDOWN, Boolean.toString(true));
+        config.setProperty(JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION, Boolean.toString(defaultAsUnion));
+        return config;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sut.close();
+        server.stop();
+    }
+
+    @Test
+    public void createInitializesSparqlFusekiStorageWhenQueryPushdownIsEnabled() {
+        assertTrue(Storage.create(createConfiguration(false)) instanceof SparqlFusekiStorage);
+    }
+
+    @Test
+    public void findReturnsStatementsMatchingPatternInDefaultGraph() {
+        final List<Statement> result = sut.find(RESOURCE, RDF.type, null, Collections.emptyList());
+        assertEquals(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), result);
+    }
+
+    @Test
+    public void findReturnsStatementsMatchingPatternInSpecifiedNamedGraphs() {
+        final List<Statement> result = sut.find(RESOURCE, null, null, Collections.singleton(NAMED_GRAPH));
+        assertEquals(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), result);
+    }
+
+    @Test
+    public void findSearchesDefaultAndNamedGraphsWhenDefaultGraphIsTreatedAsUnion() {
+        this.sut = new SparqlFusekiStorage(createConfiguration(true));
+        final List<Statement> result = sut.find(RESOURCE, RDF.type, null, Collections.emptyList());
+        assertThat(result, containsInAnyOrder(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE),
+                                              statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)));
+    }
+
+    @Test
+    public void findStatementsOfMultipleSubjectsRetrievesThemByChunkedQueries() {
+        final List<Resource> subjects = new ArrayList<>();
+        subjects.add(RESOURCE);
+        // More subjects than fit into one query
+        for (int i = 0; i < SparqlFusekiStorage.SUBJECT_CHUNK_SIZE; i++) {
+            subjects.add(createResource(SUBJECT + i));
+        }
+        final Statement last = statement(SUBJECT + (SparqlFusekiStorage.SUBJECT_CHUNK_SIZE - 1), RDF.type.getURI(),
+                                         TYPE_ONE);
+        Txn.executeWrite(serverDataset, () -> serverDataset.getDefaultModel().add(last));
+
+        final Map<Resource, List<Statement>> result = sut.find(subjects, Collections.emptyList());
+        assertEquals(subjects, new ArrayList<>(result.keySet()));
+        assertEquals(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)),
+                     result.get(RESOURCE));
+        assertEquals(Collections.singletonList(last), result.get(last.getSubject()));
+        assertTrue(result.get(createResource(SUBJECT + 0)).isEmpty());
+    }
+
+    @Test
+    public void findStatementsOfMultipleSubjectsSearchesSpecifiedNamedGraphs() {
+        final Resource other = createResource(SUBJECT + "-other");
+        final Map<Resource, List<Statement>> result =
+                sut.find(List.of(RESOURCE, other), Collections.singleton(NAMED_GRAPH));
+        assertEquals(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)),
+                     result.get(RESOURCE));
+        assertTrue(result.get(other).isEmpty());
+    }
+
+    @Test
+    public void containsChecksPresenceOfStatementInServerDataset() {
+        assertTrue(sut.contains(createResource(TYPE_ONE), RDFS.subClassOf, createResource(TYPE_TWO),
+                                Collections.emptyList()));
+        assertFalse(sut.contains(RESOURCE, RDF.type, createResource(TYPE_TWO), Collections.emptyList()));
+        assertTrue(sut.contains(RESOURCE, RDF.type, createResource(TYPE_TWO), Collections.singleton(NAMED_GRAPH)));
+    }
+
+    @Test
+    public void getContextsReturnsNamedGraphsInServerDataset() {
+        assertEquals(Collections.singletonList(NAMED_GRAPH), sut.getContexts());
+    }
+
+    @Test
+    public void addAndRemoveAreSentToServerWhenChangesAreWritten() throws Exception {
+        final Statement added =
+                statement(SUBJECT, RDF.type.getURI(), "http://onto.fel.cvut.cz/ontologies/jena-driver/TypeThree");
+        sut.begin(ReadWrite.WRITE);
+        sut.add(Collections.singletonList(added), NAMED_GRAPH);
+        sut.remove(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        assertFalse(serverContains(added, NAMED_GRAPH));
+
+        sut.writeChanges();
+        sut.commit();
+        assertTrue(serverContains(added, NAMED_GRAPH));
+        assertFalse(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE), null));
+    }
+
+    private boolean serverContains(Statement statement, String context) {
+        return Txn.calculateRead(serverDataset,
+                                 () -> (context != null ? serverDataset.getNamedModel(context) :
+                                        serverDataset.getDefaultModel()).contains(statement));
+    }
+
+    @Test
+    public void removeByPatternRemovesMatchingStatementsFromServerDataset() throws Exception {
+        sut.begin(ReadWrite.WRITE);
+        sut.remove(RESOURCE, RDF.type, null, NAMED_GRAPH);
+        sut.writeChanges();
+        sut.commit();
+        assertFalse(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO), NAMED_GRAPH));
+        assertTrue(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE), null));
+    }
+
+    @Test
+    public void removeFromDefaultGraphRemovesStatementsFromNamedGraphsWhenDefaultGraphIsTreatedAsUnion()
+            throws Exception {
+        this.sut = new SparqlFusekiStorage(createConfiguration(true));
+        sut.begin(ReadWrite.WRITE);
+        sut.remove(Arrays.asList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE),
+                                 statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        sut.writeChanges();
+        sut.commit();
+        assertFalse(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE), null));
+        assertFalse(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO), NAMED_GRAPH));
+    }
+
+    @Test
+    public void rollbackDiscardsPendingChanges() throws Exception {
+        sut.begin(ReadWrite.WRITE);
+        sut.remove(RESOURCE, null, null, null);
+        sut.rollback();
+        sut.begin(ReadWrite.WRITE);
+        sut.writeChanges();
+        sut.commit();
+        assertTrue(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE), null));
+    }
+
+    @Test
+    public void sharedConnectorPushesRemovalOfPropertyValuesToServer() throws Exception {
+        final SharedStorageConnector connector = new SharedStorageConnector(createConfiguration(false));
+        try {
+            connector.begin();
+            connector.removePropertyValues(Collections.singleton(
+                    new SubjectPredicateContext(RESOURCE, RDF.type, Collections.singleton(NAMED_GRAPH))));
+            connector.commit();
+            assertFalse(serverContains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO), NAMED_GRAPH));
+            assertTrue(connector.find(RESOURCE, RDF.type, null, Collections.singleton(NAMED_GRAPH)).isEmpty());
+        } finally {
+            connector.close();
+        }
+    }
+}
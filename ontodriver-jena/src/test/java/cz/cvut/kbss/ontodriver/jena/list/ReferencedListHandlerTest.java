@@ -54,11 +54,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -184,11 +184,15 @@ public class ReferencedListHandlerTest extends ListHandlerTestHelper {
         update.forEach(item -> descriptor.addValue(NamedResource.create(item)));
         sut.updateList(descriptor);
 
+        final List<Resource> nodes = listUtil.getReferencedListNodes();
+        final List<Statement> expectedRemoved = new ArrayList<>();
         for (int i = update.size(); i < list.size(); i++) {
-            verify(connectorMock).remove(listUtil.getReferencedListNodes().get(i - 1), HAS_NEXT_PROPERTY,
-                    listUtil.getReferencedListNodes().get(i), null);
-            verify(connectorMock).remove(listUtil.getReferencedListNodes().get(i), HAS_CONTENT_PROPERTY, null, null);
+            expectedRemoved.add(createStatement(nodes.get(i - 1), HAS_NEXT_PROPERTY, nodes.get(i)));
+            expectedRemoved.add(createStatement(nodes.get(i), HAS_CONTENT_PROPERTY, createResource(list.get(i)
+                                                                                                        .toString())));
         }
+        verify(connectorMock).remove(expectedRemoved, null);
+        verify(connectorMock, never()).add(anyList(), any());
     }
 
     @Test
@@ -203,7 +207,9 @@ public class ReferencedListHandlerTest extends ListHandlerTestHelper {
         update.forEach(item -> descriptor.addValue(NamedResource.create(item)));
         sut.updateList(descriptor);
 
-        verify(connectorMock).remove(listUtil.getReferencedListNodes().get(index), HAS_CONTENT_PROPERTY, null, null);
+        verify(connectorMock).remove(Collections.singletonList(
+                createStatement(listUtil.getReferencedListNodes().get(index), HAS_CONTENT_PROPERTY,
+                        createResource(list.get(index).toString()))), null);
         final Statement added = createStatement(listUtil.getReferencedListNodes().get(index), HAS_CONTENT_PROPERTY,
                 createResource(replace.toString()));
         verify(connectorMock).add(Collections.singletonList(added), null);
@@ -216,17 +222,19 @@ public class ReferencedListHandlerTest extends ListHandlerTestHelper {
                 new ReferencedListValueDescriptor<>(OWNER, HAS_LIST, HAS_NEXT, HAS_CONTENT);
         sut.updateList(descriptor);
 
+        final List<Statement> expectedRemoved = new ArrayList<>();
         for (int i = 0; i < list.size(); i++) {
             final Resource node = listUtil.getReferencedListNodes().get(i);
             if (i == 0) {
-                verify(connectorMock)
-                        .remove(createResource(OWNER.getIdentifier().toString()), HAS_LIST_PROPERTY, node, null);
+                expectedRemoved.add(createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, node));
             } else {
-                verify(connectorMock)
-                        .remove(listUtil.getReferencedListNodes().get(i - 1), HAS_NEXT_PROPERTY, node, null);
+                expectedRemoved.add(
+                        createStatement(listUtil.getReferencedListNodes().get(i - 1), HAS_NEXT_PROPERTY, node));
             }
-            verify(connectorMock).remove(node, HAS_CONTENT_PROPERTY, null, null);
+            expectedRemoved.add(createStatement(node, HAS_CONTENT_PROPERTY, createResource(list.get(i).toString())));
         }
+        verify(connectorMock).remove(expectedRemoved, null);
+        verify(connectorMock, never()).add(anyList(), any());
     }
 
     @Test
@@ -258,20 +266,44 @@ public class ReferencedListHandlerTest extends ListHandlerTestHelper {
         sut.updateList(descriptor);
 
         final List<Resource> nodes = listUtil.getReferencedListNodes();
-        verify(connectorMock)
-                .remove(nodes.get(0), HAS_CONTENT_PROPERTY, null, context.toString());
-        verify(connectorMock).add(Collections.singletonList(
-                createStatement(nodes.get(0), HAS_CONTENT_PROPERTY,
-                        createResource(firstReplaced.toString()))), context.toString());
+        verify(connectorMock).remove(Collections.singletonList(
+                createStatement(nodes.get(0), HAS_CONTENT_PROPERTY, createResource(list.get(0).toString()))),
+                context.toString());
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(connectorMock).add(captor.capture(), eq(context.toString()));
+        final List<Statement> statementsInserted = captor.getValue();
+        assertEquals(3, statementsInserted.size());
+        // The original list head is reused for the replacing value
+        assertEquals(createStatement(nodes.get(0), HAS_CONTENT_PROPERTY, createResource(firstReplaced.toString())),
+                statementsInserted.get(0));
+        assertEquals(nodes.get(nodes.size() - 1), statementsInserted.get(1).getSubject());
+        assertEquals(HAS_NEXT_PROPERTY, statementsInserted.get(1).getPredicate());
+        assertEquals(statementsInserted.get(1).getObject(), statementsInserted.get(2).getSubject());
+        assertEquals(HAS_CONTENT_PROPERTY, statementsInserted.get(2).getPredicate());
+        assertEquals(added.toString(), statementsInserted.get(2).getObject().asResource().getURI());
+    }
+
+    @Test
+    public void updateListWithPrependedValueKeepsOriginalNodes() {
+        final List<URI> list = generateList(null);
+        final URI prepended = Generator.generateUri();
+        final ReferencedListValueDescriptor<NamedResource> descriptor = listValueDescriptor();
+        descriptor.addValue(NamedResource.create(prepended));
+        list.forEach(item -> descriptor.addValue(NamedResource.create(item)));
+        sut.updateList(descriptor);
+
+        final List<Resource> nodes = listUtil.getReferencedListNodes();
+        verify(connectorMock).remove(Collections.singletonList(
+                createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, nodes.get(0))), null);
         final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
-        verify(connectorMock, times(2)).add(captor.capture(), eq(context.toString()));
-        final List<Statement> statementsInserted =
-                captor.getAllValues().get(1);    // First was the content insert in list head
-        assertEquals(nodes.get(nodes.size() - 1), statementsInserted.get(0).getSubject());
-        assertEquals(HAS_NEXT_PROPERTY, statementsInserted.get(0).getPredicate());
-        assertEquals(statementsInserted.get(0).getObject(), statementsInserted.get(1).getSubject());
-        assertEquals(HAS_CONTENT_PROPERTY, statementsInserted.get(1).getPredicate());
-        assertEquals(added.toString(), statementsInserted.get(1).getObject().asResource().getURI());
+        verify(connectorMock).add(captor.capture(), eq(null));
+        final List<Statement> added = captor.getValue();
+        assertEquals(3, added.size());
+        final Resource newHead = added.get(0).getObject().asResource();
+        assertEquals(createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, newHead), added.get(0));
+        assertEquals(createStatement(newHead, HAS_CONTENT_PROPERTY, createResource(prepended.toString())),
+                added.get(1));
+        assertEquals(createStatement(newHead, HAS_NEXT_PROPERTY, nodes.get(0)), added.get(2));
     }
 
     @Test
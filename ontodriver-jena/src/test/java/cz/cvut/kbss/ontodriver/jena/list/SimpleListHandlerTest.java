@@ -44,6 +44,7 @@ import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
@@ -160,10 +161,13 @@ public class SimpleListHandlerTest extends ListHandlerTestHelper {
         update.forEach(item -> descriptor.addValue(NamedResource.create(item)));
         handler.updateList(descriptor);
         final Property hasNext = createProperty(HAS_NEXT.getIdentifier().toString());
+        final List<Statement> expectedRemoved = new ArrayList<>();
         for (int i = update.size() - 1; i < list.size() - 1; i++) {
-            verify(connectorMock).remove(createResource(list.get(i).toString()), hasNext,
-                    createResource(list.get(i + 1).toString()), null);
+            expectedRemoved.add(createStatement(createResource(list.get(i).toString()), hasNext,
+                    createResource(list.get(i + 1).toString())));
         }
+        verify(connectorMock).remove(expectedRemoved, null);
+        verify(connectorMock, never()).add(anyList(), any());
     }
 
     @Test
@@ -181,8 +185,8 @@ public class SimpleListHandlerTest extends ListHandlerTestHelper {
         final Resource removed = createResource(list.get(index).toString());
         final Resource next = createResource(list.get(index + 1).toString());
         final Property previousLink = index == 0 ? HAS_LIST_PROPERTY : HAS_NEXT_PROPERTY;
-        verify(connectorMock).remove(previous, previousLink, removed, null);
-        verify(connectorMock).remove(removed, HAS_NEXT_PROPERTY, next, null);
+        verify(connectorMock).remove(Arrays.asList(createStatement(previous, previousLink, removed),
+                createStatement(removed, HAS_NEXT_PROPERTY, next)), null);
         final List<Statement> expectedAdded = new ArrayList<>(2);
         expectedAdded.add(createStatement(previous, previousLink, createResource(replace.toString())));
         expectedAdded.add(createStatement(createResource(replace.toString()),
@@ -195,15 +199,17 @@ public class SimpleListHandlerTest extends ListHandlerTestHelper {
         final List<URI> list = generateList(null);
         final SimpleListValueDescriptor descriptor = new SimpleListValueDescriptor(OWNER, HAS_LIST, HAS_NEXT);
         handler.updateList(descriptor);
+        final List<Statement> expectedRemoved = new ArrayList<>(list.size());
         for (int i = 0; i < list.size(); i++) {
             if (i == 0) {
-                verify(connectorMock).remove(OWNER_RESOURCE,
-                        HAS_LIST_PROPERTY, createResource(list.get(i).toString()), null);
+                expectedRemoved.add(createStatement(OWNER_RESOURCE,
+                        HAS_LIST_PROPERTY, createResource(list.get(i).toString())));
             } else {
-                verify(connectorMock).remove(createResource(list.get(i - 1).toString()),
-                        HAS_NEXT_PROPERTY, createResource(list.get(i).toString()), null);
+                expectedRemoved.add(createStatement(createResource(list.get(i - 1).toString()),
+                        HAS_NEXT_PROPERTY, createResource(list.get(i).toString())));
             }
         }
+        verify(connectorMock).remove(expectedRemoved, null);
     }
 
     @Test
@@ -234,16 +240,31 @@ public class SimpleListHandlerTest extends ListHandlerTestHelper {
         final URI added = Generator.generateUri();
         descriptor.addValue(NamedResource.create(added));
         handler.updateList(descriptor);
-        verify(connectorMock)
-                .remove(OWNER_RESOURCE, HAS_LIST_PROPERTY, createResource(list.get(0).toString()), context.toString());
-        verify(connectorMock).remove(createResource(list.get(0).toString()), HAS_NEXT_PROPERTY,
-                createResource(list.get(1).toString()), context.toString());
+        verify(connectorMock).remove(Arrays.asList(
+                createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, createResource(list.get(0).toString())),
+                createStatement(createResource(list.get(0).toString()), HAS_NEXT_PROPERTY,
+                        createResource(list.get(1).toString()))), context.toString());
         verify(connectorMock).add(Arrays.asList(
                 createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, createResource(firstReplaced.toString())),
                 createStatement(createResource(firstReplaced.toString()), HAS_NEXT_PROPERTY,
-                        createResource(list.get(1).toString()))), context.toString());
-        verify(connectorMock).add(Collections
-                .singletonList(createStatement(createResource(list.get(list.size() - 1).toString()), HAS_NEXT_PROPERTY,
+                        createResource(list.get(1).toString())),
+                createStatement(createResource(list.get(list.size() - 1).toString()), HAS_NEXT_PROPERTY,
                         createProperty(added.toString()))), context.toString());
     }
+
+    @Test
+    public void updateListWithPrependedNodeReplacesOnlyListHead() {
+        final List<URI> list = generateList(null);
+        final URI prepended = Generator.generateUri();
+        final SimpleListValueDescriptor descriptor = new SimpleListValueDescriptor(OWNER, HAS_LIST, HAS_NEXT);
+        descriptor.addValue(NamedResource.create(prepended));
+        list.forEach(item -> descriptor.addValue(NamedResource.create(item)));
+        handler.updateList(descriptor);
+        final Resource first = createResource(list.get(0).toString());
+        final Resource prependedNode = createResource(prepended.toString());
+        verify(connectorMock).remove(Collections.singletonList(createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY,
+                first)), null);
+        verify(connectorMock).add(Arrays.asList(createStatement(OWNER_RESOURCE, HAS_LIST_PROPERTY, prependedNode),
+                createStatement(prependedNode, HAS_NEXT_PROPERTY, first)), null);
+    }
 }
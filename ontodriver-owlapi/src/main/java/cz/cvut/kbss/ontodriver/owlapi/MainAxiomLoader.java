@@ -58,7 +58,26 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * All the descriptors are evaluated against the same ontology snapshot.
+     *
+     * @param descriptors Descriptors of axioms to load, expected to have distinct subjects
+     * @return Map of subjects to matching axioms
+     */
+    Map<NamedResource, Collection<Axiom<?>>> findAxioms(Collection<AxiomDescriptor> descriptors) {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), findAxioms(descriptor));
+        }
+        return result;
+    }
+
     private void resolveInferredAssertions(AxiomDescriptor descriptor) {
+        inferredAssertionUris.clear();
+        inferredAssertions.clear();
+        explicitAssertions.clear();
         descriptor.getAssertions().forEach(assertion -> {
             if (assertion.isInferred()) {
                 inferredAssertionUris.add(assertion.getIdentifier());
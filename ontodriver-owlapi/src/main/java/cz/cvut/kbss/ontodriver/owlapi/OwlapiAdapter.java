@@ -20,6 +20,7 @@ package cz.cvut.kbss.ontodriver.owlapi;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.Connector;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
@@ -30,6 +31,8 @@ import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiPreparedStatement;
 import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiStatement;
 import cz.cvut.kbss.ontodriver.owlapi.query.StatementExecutorFactory;
 import cz.cvut.kbss.ontodriver.owlapi.util.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.RandomIdentifierGenerationStrategy;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -40,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -48,6 +52,7 @@ import java.util.Set;
 public class OwlapiAdapter {
 
     private final Connector connector;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
     private OntologySnapshot ontologySnapshot;
 
     private StatementExecutorFactory statementExecutorFactory;
@@ -60,7 +65,12 @@ public class OwlapiAdapter {
     }
 
     public OwlapiAdapter(Connector connector) {
+        this(connector, new RandomIdentifierGenerationStrategy());
+    }
+
+    public OwlapiAdapter(Connector connector, IdentifierGenerationStrategy identifierGenerationStrategy) {
         this.connector = connector;
+        this.identifierGenerationStrategy = identifierGenerationStrategy;
     }
 
     private void startTransactionIfNotActive() {
@@ -176,6 +186,11 @@ public class OwlapiAdapter {
         return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        startTransactionIfNotActive();
+        return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptors);
+    }
+
     void persist(AxiomValueDescriptor descriptor) {
         startTransactionIfNotActive();
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
@@ -183,7 +198,7 @@ public class OwlapiAdapter {
 
     URI generateIdentifier(URI classUri) {
         startTransactionIfNotActive();
-        return new IdentifierGenerator(ontology()).generateIdentifier(classUri);
+        return new IdentifierGenerator(ontology(), identifierGenerationStrategy).generateIdentifier(classUri);
     }
 
     void update(AxiomValueDescriptor descriptor) {
@@ -28,6 +28,8 @@ import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.connector.ConnectorFactory;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.list.OwlapiLists;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 
 import java.util.*;
 
@@ -37,18 +39,21 @@ class OwlapiDriver implements Closeable, ConnectionListener {
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.MODULE_EXTRACTION_SIGNATURE,
                     DriverConfigParam.REASONER_FACTORY_CLASS,
                     OwlapiConfigParam.IRI_MAPPING_DELIMITER, OwlapiConfigParam.MAPPING_FILE_LOCATION,
-                    OwlapiConfigParam.WRITE_ON_COMMIT);
+                    OwlapiConfigParam.WRITE_ON_COMMIT, OwlapiConfigParam.OVERLAY_SNAPSHOTS,
+                    DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY);
 
     private final DriverConfiguration configuration;
     private volatile boolean open = true;
 
     private final ConnectorFactory connectorFactory;
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
     private final Set<OwlapiConnection> openConnections = new HashSet<>();
 
     OwlapiDriver(OntologyStorageProperties storageProperties, Map<String, String> properties) {
         this.configuration = new DriverConfiguration(storageProperties);
         configuration.addConfiguration(properties, CONFIGS);
         this.connectorFactory = ConnectorFactory.createFactory();
+        this.identifierGenerationStrategy = IdentifierUtils.resolveGenerationStrategy(configuration);
     }
 
     @Override
@@ -75,7 +80,8 @@ class OwlapiDriver implements Closeable, ConnectionListener {
 
     Connection acquireConnection() throws OntoDriverException {
         assert open;
-        final OwlapiAdapter adapter = new OwlapiAdapter(connectorFactory.getConnector(configuration));
+        final OwlapiAdapter adapter = new OwlapiAdapter(connectorFactory.getConnector(configuration),
+                identifierGenerationStrategy);
         final OwlapiConnection c = new OwlapiConnection(adapter);
         c.setTypes(new OwlapiTypes(adapter, c::ensureOpen, c::commitIfAuto));
         c.setProperties(new OwlapiProperties(adapter, c::ensureOpen, c::commitIfAuto));
@@ -39,6 +39,18 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String WRITE_ON_COMMIT = "cz.cvut.kbss.ontodriver.owlapi.writeOnCommit";
 
+    /**
+     * When set to true, transactions do not copy the whole ontology when they start.
+     * <p>
+     * Instead, changes made by a transaction are recorded separately and layered over the shared ontology when the
+     * transaction reads data. A full copy of the ontology is created only when it cannot be avoided, most notably when
+     * the reasoner is used in a transaction with pending changes. Note that the transaction sees changes committed by
+     * other transactions.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String OVERLAY_SNAPSHOTS = "cz.cvut.kbss.ontodriver.owlapi.overlaySnapshots";
+
     /**
      * Default IRI mapping delimiter.
      *
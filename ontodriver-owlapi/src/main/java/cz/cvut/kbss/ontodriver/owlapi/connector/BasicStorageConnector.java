@@ -40,6 +40,7 @@ import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
 import org.slf4j.Logger;
@@ -62,6 +63,9 @@ import java.util.stream.Collectors;
  * Each call to {@link #getOntologySnapshot()} returns a new snapshot of the current state of the ontology. The changes
  * are the applied to a shared ontology, which represents the current state of the underlying storage.
  * <p>
+ * If {@link OwlapiConfigParam#OVERLAY_SNAPSHOTS} is enabled, the snapshot does not copy the ontology. Instead, it layers
+ * the transactional changes over the shared ontology, which it reads under the read lock.
+ * <p>
  * Note: This connector currently does not handle concurrent updates.
  */
 public class BasicStorageConnector extends AbstractConnector {
@@ -79,6 +83,8 @@ public class BasicStorageConnector extends AbstractConnector {
 
     private OWLOntologyIRIMapper iriMapper;
 
+    private boolean overlaySnapshots;
+
     BasicStorageConnector(DriverConfiguration configuration) throws OwlapiDriverException {
         super(configuration);
     }
@@ -97,6 +103,7 @@ public class BasicStorageConnector extends AbstractConnector {
         loadOntology(storageProperties);
         initializeReasonerFactory();
         this.reasoner = getReasoner(ontology);
+        this.overlaySnapshots = configuration.is(OwlapiConfigParam.OVERLAY_SNAPSHOTS);
     }
 
     private void resolveIriMapper() {
@@ -175,6 +182,14 @@ public class BasicStorageConnector extends AbstractConnector {
 
     @Override
     public OntologySnapshot getOntologySnapshot() {
+        ensureOpen();
+        if (overlaySnapshots) {
+            return new OverlayOntologySnapshot(getLiveOntology(), READ, this::createOntologySnapshot);
+        }
+        return createOntologySnapshot();
+    }
+
+    private OntologySnapshot createOntologySnapshot() {
         ensureOpen();
         READ.lock();
         try {
@@ -240,7 +255,11 @@ public class BasicStorageConnector extends AbstractConnector {
             final List<OWLOntologyChange> toApply = changes.stream()
                                                            .flatMap(o -> o.toOwlChanges(ontology).stream())
                                                            .collect(Collectors.toList());
-            ontologyManager.applyChanges(toApply);
+            final ChangeApplied result = ontologyManager.applyChanges(toApply);
+            if (overlaySnapshots && reasoner != null && result == ChangeApplied.SUCCESSFULLY) {
+                // Overlay snapshots without changes use the shared reasoner, so it has to reflect the changes
+                reasoner.flush();
+            }
             try {
                 writeToFile();
             } catch (OntologyStorageException e) {
@@ -255,7 +274,12 @@ public class BasicStorageConnector extends AbstractConnector {
     public void closeSnapshot(OntologySnapshot snapshot) {
         ensureOpen();
         assert snapshot != null;
-        ontologyManager.removeOntology(snapshot.getOntology());
+        if (snapshot instanceof OverlayOntologySnapshot) {
+            final Optional<OntologySnapshot> copy = ((OverlayOntologySnapshot) snapshot).getCopy();
+            copy.ifPresent(c -> ontologyManager.removeOntology(c.getOntology()));
+        } else {
+            ontologyManager.removeOntology(snapshot.getOntology());
+        }
     }
 
     @Override
@@ -42,7 +42,9 @@ public interface Connector {
      * Gets snapshot of the underlying ontology.
      * <p>
      * The snapshot is completely independent of the live ontology, so any changes to either are not visible to the
-     * other.
+     * other. A connector may instead layer the changes applied to the snapshot over the live ontology (see
+     * {@link cz.cvut.kbss.ontodriver.owlapi.config.OwlapiOntoDriverProperties#OVERLAY_SNAPSHOTS}), in which case the
+     * snapshot reflects changes published to the live ontology by other transactions.
      *
      * @return Value object with the ontology snapshot
      */
@@ -0,0 +1,373 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
+import cz.cvut.kbss.ontodriver.owlapi.exception.OntologyChangeApplicationException;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLPrimitive;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Ontology snapshot which layers the transactional changes over the live ontology.
+ * <p>
+ * The snapshot does not copy the live ontology. Axioms added and removed by the transaction are recorded in a delta and
+ * reads from the snapshot ontology merge the live ontology with the delta. Every read of the live ontology or the live
+ * reasoner happens under the connector's read lock, so that it does not interleave with changes being published by
+ * other transactions. Streams are only created under the lock and consumed lazily, except for signature streams (see
+ * {@link #invokeStream(Method, Object[])}).
+ * <p>
+ * A full copy of the live ontology (with its own reasoner) is materialized only when the delta cannot be layered over
+ * the live data, i.e., when the reasoner is used while the transaction has pending changes, when a change other than
+ * an axiom addition or removal is applied, or when a read whose result cannot be merged (e.g., axiom counts) is
+ * performed on an ontology with pending changes. From then on, the snapshot works with the copy.
+ */
+class OverlayOntologySnapshot extends OntologySnapshot {
+
+    private final Lock readLock;
+    private final Supplier<OntologySnapshot> copyFactory;
+
+    private final OWLOntology overlayOntology;
+    private final OWLReasoner overlayReasoner;
+
+    /**
+     * Axioms added by the transaction. The ontology is not registered with the manager.
+     */
+    private final OWLOntologyImpl added;
+    private final Set<OWLAxiom> removed = new HashSet<>();
+
+    private OntologySnapshot copy;
+
+    OverlayOntologySnapshot(OntologySnapshot live, Lock readLock, Supplier<OntologySnapshot> copyFactory) {
+        super(live.getOntology(), live.getOntologyManager(), live.getDataFactory(), live.getReasoner());
+        this.readLock = readLock;
+        this.copyFactory = copyFactory;
+        this.added = new OWLOntologyImpl(live.getOntologyManager(), new OWLOntologyID());
+        this.overlayOntology = (OWLOntology) Proxy.newProxyInstance(OWLOntology.class.getClassLoader(),
+                new Class<?>[]{OWLOntology.class}, (proxy, method, args) -> invokeOntology(method, args));
+        this.overlayReasoner = live.getReasoner() != null ?
+                               (OWLReasoner) Proxy.newProxyInstance(OWLReasoner.class.getClassLoader(),
+                                       new Class<?>[]{OWLReasoner.class},
+                                       (proxy, method, args) -> invokeReasoner(method, args)) : null;
+    }
+
+    @Override
+    public OWLOntology getOntology() {
+        return overlayOntology;
+    }
+
+    @Override
+    public OWLReasoner getReasoner() {
+        return overlayReasoner;
+    }
+
+    @Override
+    public List<TransactionalChange> applyChanges(List<TransactionalChange> changes) {
+        if (copy != null) {
+            return copy.applyChanges(changes);
+        }
+        final List<OWLOntologyChange> toApply = changes.stream()
+                                                       .flatMap(c -> c.toOwlChanges(overlayOntology).stream())
+                                                       .collect(Collectors.toList());
+        if (!toApply.stream().allMatch(OWLOntologyChange::isAxiomChange)) {
+            return materialize().applyChanges(changes);
+        }
+        for (OWLOntologyChange change : toApply) {
+            final OWLAxiom axiom = change.getAxiom();
+            final ChangeApplied result;
+            if (change.isAddAxiom()) {
+                removed.remove(axiom);
+                result = added.applyDirectChange(new AddAxiom(added, axiom));
+            } else {
+                removed.add(axiom);
+                result = added.applyDirectChange(new RemoveAxiom(added, axiom));
+            }
+            if (result == ChangeApplied.UNSUCCESSFULLY) {
+                throw new OntologyChangeApplicationException(
+                        "Change " + change + " could not have been applied to this ontology snapshot.");
+            }
+        }
+        return changes;
+    }
+
+    private boolean hasPendingChanges() {
+        return !removed.isEmpty() || added.getAxiomCount() > 0;
+    }
+
+    private OntologySnapshot materialize() {
+        if (copy == null) {
+            final OntologySnapshot c = copyFactory.get();
+            final List<OWLOntologyChange> delta = new ArrayList<>();
+            removed.forEach(ax -> delta.add(new RemoveAxiom(c.getOntology(), ax)));
+            added.axioms().forEach(ax -> delta.add(new AddAxiom(c.getOntology(), ax)));
+            c.getOntologyManager().applyChanges(delta);
+            if (c.getReasoner() != null) {
+                c.getReasoner().flush();
+            }
+            this.copy = c;
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the full copy of the live ontology, if it has been materialized.
+     *
+     * @return Optional ontology copy
+     */
+    Optional<OntologySnapshot> getCopy() {
+        return Optional.ofNullable(copy);
+    }
+
+    private Object invokeOntology(Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(overlayOntology, method, args);
+        }
+        if (copy != null) {
+            return invoke(copy.getOntology(), method, args);
+        }
+        if ("importsClosure".equals(method.getName())) {
+            // Imported ontologies are not changed by transactions, only the root ontology is replaced by the overlay
+            final OWLOntologyID rootId = super.getOntology().getOntologyID();
+            final List<OWLOntology> imports = readLive(() -> super.getOntology().importsClosure()
+                                                                   .filter(o -> !rootId.equals(o.getOntologyID()))
+                                                                   .collect(Collectors.toList()));
+            return Stream.concat(Stream.of(overlayOntology), imports.stream());
+        }
+        final Class<?> returnType = method.getReturnType();
+        if (Stream.class.isAssignableFrom(returnType)) {
+            return invokeStream(method, args);
+        }
+        final Object liveResult = readLive(() -> invoke(super.getOntology(), method, args));
+        if (!hasPendingChanges()) {
+            return liveResult;
+        }
+        if (returnType == boolean.class) {
+            return mergeBoolean(method, args, (Boolean) liveResult);
+        } else if (returnType.isPrimitive() || Collection.class.isAssignableFrom(returnType) ||
+                Iterable.class.isAssignableFrom(returnType)) {
+            // Counts and collections of axioms cannot be merged cheaply
+            return invoke(materialize().getOntology(), method, args);
+        }
+        // Other methods access ontology metadata, which are not changed by the delta
+        return liveResult;
+    }
+
+    /**
+     * Merges a stream returned by the live ontology with the delta.
+     * <p>
+     * Axiom streams and other streams are created under the read lock, but consumed lazily. OWLAPI copies its internal
+     * indexes when a stream over them is created, so short-circuiting callers do not pay for a full copy. Axioms
+     * removed by the transaction are filtered out lazily. Axioms added by the transaction are only appended if they are
+     * not present in the live ontology, so no {@code distinct} pass over the whole result is needed.
+     * <p>
+     * Signature streams are the exception, they are fully consumed under the read lock. An entity of the live
+     * signature may have been referenced only by axioms removed by the transaction, and this has to be checked against
+     * the same state of the live ontology the signature was read from. The check is done only for entities of the
+     * removed axioms, once per entity and call.
+     */
+    private Stream<?> invokeStream(Method method, Object[] args) throws Throwable {
+        final Class<?> elementType = streamElementType(method);
+        if (OWLEntity.class.isAssignableFrom(elementType)) {
+            return invokeSignatureStream(method, args);
+        }
+        final Stream<?> live = readLive(() -> (Stream<?>) invoke(super.getOntology(), method, args));
+        if (!hasPendingChanges()) {
+            return live;
+        }
+        final Stream<?> fromAdded = (Stream<?>) invoke(added, method, excludeImports(args));
+        if (OWLAxiom.class.isAssignableFrom(elementType)) {
+            final Imports imports = importsArgument(args);
+            // The delta is small, so axioms which are in the live ontology as well can be filtered out eagerly
+            final List<?> addedOnly = readLive(() -> fromAdded.filter(ax -> !super.getOntology().containsAxiom(
+                    (OWLAxiom) ax, imports, AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS)).collect(Collectors.toList()));
+            return Stream.concat(live.filter(ax -> !removed.contains(ax)), addedOnly.stream());
+        }
+        // Other objects (e.g., annotations) may be present both in the live ontology and in the delta
+        return Stream.concat(live, fromAdded).distinct();
+    }
+
+    private Stream<?> invokeSignatureStream(Method method, Object[] args) throws Throwable {
+        return readLive(() -> {
+            final Stream<?> live = (Stream<?>) invoke(super.getOntology(), method, args);
+            if (!hasPendingChanges()) {
+                return live.collect(Collectors.toList()).stream();
+            }
+            final Set<OWLEntity> candidates = removed.stream().flatMap(OWLAxiom::signature).collect(Collectors.toSet());
+            final Map<OWLEntity, Boolean> referenced = new HashMap<>();
+            final Predicate<OWLEntity> isInLiveSignature =
+                    e -> !candidates.contains(e) || referenced.computeIfAbsent(e, this::isReferenced);
+            final List<Object> result = live.filter(e -> isInLiveSignature.test((OWLEntity) e))
+                                            .collect(Collectors.toList());
+            final Imports imports = importsArgument(args);
+            ((Stream<?>) invoke(added, method, excludeImports(args)))
+                    .filter(e -> !super.getOntology().containsEntityInSignature((OWLEntity) e, imports) ||
+                            !isInLiveSignature.test((OWLEntity) e))
+                    .forEach(result::add);
+            return result.stream();
+        });
+    }
+
+    private static Class<?> streamElementType(Method method) {
+        final Type returnType = method.getGenericReturnType();
+        if (!(returnType instanceof ParameterizedType)) {
+            return Object.class;
+        }
+        Type elementType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+        if (elementType instanceof WildcardType) {
+            elementType = ((WildcardType) elementType).getUpperBounds()[0];
+        } else if (elementType instanceof TypeVariable) {
+            elementType = ((TypeVariable<?>) elementType).getBounds()[0];
+        }
+        if (elementType instanceof ParameterizedType) {
+            elementType = ((ParameterizedType) elementType).getRawType();
+        }
+        return elementType instanceof Class ? (Class<?>) elementType : Object.class;
+    }
+
+    private static Imports importsArgument(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof Imports) {
+                    return (Imports) arg;
+                }
+            }
+        }
+        return Imports.EXCLUDED;
+    }
+
+    private Object mergeBoolean(Method method, Object[] args, boolean liveResult) throws Throwable {
+        final boolean addedResult = (Boolean) invoke(added, method, excludeImports(args));
+        if (args != null && args.length > 0 && args[0] instanceof OWLAxiom) {
+            return liveResult && !removed.contains(args[0]) || addedResult;
+        }
+        final String name = method.getName();
+        if (name.startsWith("contains") || name.startsWith("isDeclared")) {
+            if (removed.isEmpty() || !liveResult) {
+                return liveResult || addedResult;
+            }
+            if (args != null && args.length > 0 && args[0] instanceof OWLPrimitive) {
+                return addedResult || isReferenced((OWLPrimitive) args[0]);
+            }
+        } else if (!"isEmpty".equals(name)) {
+            return liveResult;
+        }
+        return invoke(materialize().getOntology(), method, args);
+    }
+
+    private boolean isReferenced(OWLPrimitive primitive) {
+        readLock.lock();
+        try {
+            return super.getOntology().referencingAxioms(primitive, Imports.INCLUDED)
+                        .anyMatch(ax -> !removed.contains(ax));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Object invokeReasoner(Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(overlayReasoner, method, args);
+        }
+        if (copy != null || hasPendingChanges()) {
+            // The live reasoner does not know about the transactional changes
+            return invoke(materialize().getReasoner(), method, args);
+        }
+        if ("getRootOntology".equals(method.getName())) {
+            return overlayOntology;
+        }
+        return readLive(() -> invoke(super.getReasoner(), method, args));
+    }
+
+    private <T> T readLive(ThrowingSupplier<T> read) throws Throwable {
+        readLock.lock();
+        try {
+            return read.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static Object[] excludeImports(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        final Object[] result = args.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] instanceof Imports) {
+                result[i] = Imports.EXCLUDED;
+            }
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return OverlayOntologySnapshot.class.getSimpleName() + "@" +
+                        Integer.toHexString(System.identityHashCode(proxy));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier<T> {
+        T get() throws Throwable;
+    }
+}
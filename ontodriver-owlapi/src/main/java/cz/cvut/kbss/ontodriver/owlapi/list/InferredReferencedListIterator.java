@@ -23,6 +23,7 @@ import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.exception.ReasonerNotAvailableException;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
@@ -88,6 +89,11 @@ class InferredReferencedListIterator<T> extends ReferencedListIterator<T> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    List<OWLAxiom> getCurrentAxioms() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     List<TransactionalChange> replaceNode(T newValue) {
         throw new UnsupportedOperationException();
@@ -25,6 +25,7 @@ import cz.cvut.kbss.ontodriver.owlapi.AxiomAdapter;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.exception.ReasonerNotAvailableException;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.reasoner.NodeSet;
@@ -93,6 +94,11 @@ class InferredSimpleListIterator extends SimpleListIterator {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    List<OWLAxiom> getCurrentAxioms() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     List<TransactionalChange> replaceNode(NamedResource newValue) {
         throw new UnsupportedOperationException();
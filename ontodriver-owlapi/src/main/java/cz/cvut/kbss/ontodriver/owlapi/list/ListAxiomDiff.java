@@ -0,0 +1,52 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.list;
+
+import cz.cvut.kbss.ontodriver.owlapi.change.MutableAddAxiom;
+import cz.cvut.kbss.ontodriver.owlapi.change.MutableRemoveAxiom;
+import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes changes transforming axioms of the original list into axioms of the updated list.
+ * <p>
+ * Axioms present in both lists are not touched, so that the changes can be applied in a single batch.
+ */
+class ListAxiomDiff {
+
+    private ListAxiomDiff() {
+        throw new AssertionError();
+    }
+
+    static List<TransactionalChange> diff(OWLOntology ontology, List<OWLAxiom> original, List<OWLAxiom> updated) {
+        final Set<OWLAxiom> originalSet = new HashSet<>(original);
+        final Set<OWLAxiom> updatedSet = new HashSet<>(updated);
+        final List<TransactionalChange> changes = new ArrayList<>();
+        original.stream().filter(ax -> !updatedSet.contains(ax))
+                .forEach(ax -> changes.add(new MutableRemoveAxiom(ontology, ax)));
+        updated.stream().filter(ax -> !originalSet.contains(ax))
+               .forEach(ax -> changes.add(new MutableAddAxiom(ontology, ax)));
+        return changes;
+    }
+}
@@ -21,6 +21,7 @@ import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLProperty;
@@ -57,6 +58,16 @@ abstract class OwlapiListIterator<T> {
      */
     abstract List<TransactionalChange> removeWithoutReconnect();
 
+    /**
+     * Gets axioms representing the current node in the list.
+     * <p>
+     * These are the axiom linking the current node to its predecessor (or the list owner) and, for referenced lists,
+     * axioms representing the node content.
+     *
+     * @return List of axioms of the current node
+     */
+    abstract List<OWLAxiom> getCurrentAxioms();
+
     /**
      * Replaces the current value with the specified one.
      * <p>
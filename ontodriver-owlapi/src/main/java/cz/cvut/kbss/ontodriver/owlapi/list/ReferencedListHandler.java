@@ -24,12 +24,20 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.AxiomAdapter;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiAdapter;
+import cz.cvut.kbss.ontodriver.owlapi.change.MutableAddAxiom;
 import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
+import cz.cvut.kbss.ontodriver.util.ListDiff;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class ReferencedListHandler {
 
@@ -87,65 +95,52 @@ public class ReferencedListHandler {
         return nodeGenerator.getChanges();
     }
 
+    /**
+     * Updates the list by changing only axioms which differ between the original and the updated list.
+     * <p>
+     * Nodes of the original list are matched to the updated values using their longest common subsequence, so that
+     * nodes whose content did not change keep their position in the list. Unmatched original nodes are reused for
+     * inserted values, new nodes are generated only when the list grows. All the changes are applied in a single
+     * batch.
+     *
+     * @param descriptor Describes the updated list
+     */
     public <V> void updateList(ReferencedListValueDescriptor<V> descriptor) {
-        if (descriptor.getValues().isEmpty()) {
-            removeObsoleteNodes(iterator(descriptor));
-        } else if (isOrigEmpty(descriptor)) {
-            persistList(descriptor);
-        } else {
-            mergeLists(descriptor);
-        }
-    }
-
-    <V> boolean isOrigEmpty(ReferencedListValueDescriptor<V> descriptor) {
         final ReferencedListIterator<V> it = iterator(descriptor);
-        return !it.hasNext();
-    }
-
-    <V> void addNewNodes(ReferencedListValueDescriptor<V> descriptor, int index, NamedResource lastNode) {
-        if (index >= descriptor.getValues().size()) {
-            return;
-        }
-        final ReferencedListNodeGenerator nodeGenerator = new ReferencedListNodeGenerator(descriptor, axiomAdapter, ontology);
-        nodeGenerator.setIndex(index);
-        for (; index < descriptor.getValues().size(); index++) {
-            final V nextValue = descriptor.getValues().get(index);
-            lastNode = nodeGenerator.addListNode(lastNode, nextValue);
+        final List<NamedResource> originalNodes = new ArrayList<>();
+        final List<V> originalValues = new ArrayList<>();
+        final List<OWLAxiom> original = new ArrayList<>();
+        while (it.hasNext()) {
+            originalValues.add(it.nextValue());
+            originalNodes.add(it.getCurrentNode());
+            original.addAll(it.getCurrentAxioms());
         }
-        owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(nodeGenerator.getChanges()));
-    }
-
-    private <V> void mergeLists(ReferencedListValueDescriptor<V> descriptor) {
-        final ReferencedListIterator<V> it = iterator(descriptor);
         final List<V> values = descriptor.getValues();
-        final List<TransactionalChange> changes = new ArrayList<>(values.size());
-        int i = 0;
-        NamedResource lastNode = null;
-        while (it.hasNext() && i < values.size()) {
-            final V newValue = values.get(i);
-            final V currentValue = it.nextValue();
-            if (!newValue.equals(currentValue)) {
-                changes.addAll(snapshot.applyChanges(it.replaceNode(newValue)));
+        final int[] matches = ListDiff.match(originalValues, values);
+        final Deque<NamedResource> unusedNodes = new ArrayDeque<>(originalNodes);
+        final Set<NamedResource> matched = Arrays.stream(matches).filter(i -> i != -1).mapToObj(originalNodes::get)
+                                                 .collect(Collectors.toSet());
+        unusedNodes.removeIf(matched::contains);
+
+        final ReferencedListNodeGenerator nodeGenerator =
+                new ReferencedListNodeGenerator(descriptor, axiomAdapter, ontology);
+        nodeGenerator.setIndex(0);
+        NamedResource previous = descriptor.getListOwner();
+        for (int i = 0; i < values.size(); i++) {
+            if (matches[i] != -1) {
+                previous = nodeGenerator.addListNode(previous, originalNodes.get(matches[i]), values.get(i));
+            } else if (!unusedNodes.isEmpty()) {
+                previous = nodeGenerator.addListNode(previous, unusedNodes.poll(), values.get(i));
+            } else {
+                previous = nodeGenerator.addListNode(previous, values.get(i));
             }
-            lastNode = it.getCurrentNode();
-            i++;
-        }
-        owlapiAdapter.addTransactionalChanges(changes);
-        assert lastNode != null;
-        removeObsoleteNodes(it);
-        addNewNodes(descriptor, i, lastNode);
-    }
-
-    private <V> void removeObsoleteNodes(ReferencedListIterator<V> iterator) {
-        if (!iterator.hasNext()) {
-            return;
         }
-        final List<TransactionalChange> changes = new ArrayList<>();
-        while (iterator.hasNext()) {
-            iterator.next();
-            changes.addAll(iterator.removeWithoutReconnect());
+        final List<OWLAxiom> updated = nodeGenerator.getChanges().stream()
+                                                    .map(ch -> ((MutableAddAxiom) ch).getAxiom())
+                                                    .collect(Collectors.toList());
+        final List<TransactionalChange> changes = ListAxiomDiff.diff(ontology, original, updated);
+        if (!changes.isEmpty()) {
+            owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(changes));
         }
-        owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(changes));
     }
-
 }
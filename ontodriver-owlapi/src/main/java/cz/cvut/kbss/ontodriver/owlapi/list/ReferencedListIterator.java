@@ -30,6 +30,7 @@ import cz.cvut.kbss.ontodriver.owlapi.change.TransactionalChange;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLLiteral;
@@ -215,6 +216,19 @@ class ReferencedListIterator<T> extends OwlapiListIterator<T> {
         return changes;
     }
 
+    @Override
+    List<OWLAxiom> getCurrentAxioms() {
+        final List<OWLAxiom> axioms = new ArrayList<>(nextItem.size() + 1);
+        axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(previousNextNodeProperty, previousNode, currentNode));
+        nextItem.forEach(o -> axioms.add(hasContentProperty.isOWLObjectProperty() ?
+                                         dataFactory.getOWLObjectPropertyAssertionAxiom(
+                                                 hasContentProperty.asOWLObjectProperty(), currentNode,
+                                                 (OWLIndividual) o) :
+                                         dataFactory.getOWLDataPropertyAssertionAxiom(
+                                                 hasContentProperty.asOWLDataProperty(), currentNode, (OWLLiteral) o)));
+        return axioms;
+    }
+
     private OWLIndividual getNextNode() {
         final Stream<OWLIndividual> nextOnes =
                 EntitySearcher.getObjectPropertyValues(currentNode, currentNextNodeProperty, ontology);
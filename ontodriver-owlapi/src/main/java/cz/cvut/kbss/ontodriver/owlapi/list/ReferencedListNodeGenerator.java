@@ -17,7 +17,9 @@ import org.semanticweb.owlapi.model.OWLOntology;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 class ReferencedListNodeGenerator {
@@ -30,6 +32,11 @@ class ReferencedListNodeGenerator {
 
     private int index = 0;
 
+    /**
+     * Nodes generated by this instance, they are not in the ontology until the changes are applied
+     */
+    private final Set<IRI> generated = new HashSet<>();
+
     ReferencedListNodeGenerator(ReferencedListDescriptor descriptor, AxiomAdapter axiomAdapter, OWLOntology ontology) {
         this.baseUri = descriptor.getListOwner().getIdentifier().toString() + "-SEQ_";
         this.descriptor = descriptor;
@@ -46,8 +53,19 @@ class ReferencedListNodeGenerator {
     }
 
     <V> NamedResource addListNode(NamedResource previousNode, V value) {
+        return addListNode(previousNode, generateNode(), value);
+    }
+
+    /**
+     * Adds the specified existing node with the specified value to the list.
+     *
+     * @param previousNode Node to which the added one is connected
+     * @param node         The node to add
+     * @param value        Content of the added node
+     * @return The added node
+     */
+    <V> NamedResource addListNode(NamedResource previousNode, NamedResource node, V value) {
         final Assertion hasNext = index == 0 ? descriptor.getListProperty() : descriptor.getNextNode();
-        final NamedResource node = generateNode();
         final OWLAxiom nodeAxiom = axiomAdapter
                 .toOwlObjectPropertyAssertionAxiom(new AxiomImpl<>(previousNode, hasNext, new Value<>(node)));
         changes.add(new MutableAddAxiom(ontology, nodeAxiom));
@@ -82,7 +100,7 @@ class ReferencedListNodeGenerator {
         IRI iri;
         do {
             iri = IRI.create(baseUri + i);
-            if (!ontology.containsIndividualInSignature(iri)) {
+            if (!ontology.containsIndividualInSignature(iri) && generated.add(iri)) {
                 return NamedResource.create(iri.toURI());
             }
             i++;
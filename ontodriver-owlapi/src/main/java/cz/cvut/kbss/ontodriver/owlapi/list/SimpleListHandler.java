@@ -35,6 +35,7 @@ import org.semanticweb.owlapi.model.OWLOntology;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class SimpleListHandler {
 
@@ -98,64 +99,27 @@ public class SimpleListHandler {
         return axiomAdapter.toOwlObjectPropertyAssertionAxiom(new AxiomImpl<>(current, property, new Value<>(next)));
     }
 
+    /**
+     * Updates the list by replacing only links which differ between the original and the updated list.
+     * <p>
+     * Nodes of a simple list are its values, so unchanged neighbours keep their links. All the changes are applied in
+     * a single batch.
+     *
+     * @param descriptor Describes the updated list
+     */
     public void updateList(SimpleListValueDescriptor descriptor) {
-        if (descriptor.getValues().isEmpty()) {
-            removeObsoleteNodes(iterator(descriptor));
-        } else if (isOrigEmpty(descriptor)) {
-            persistList(descriptor);
-        } else {
-            mergeLists(descriptor);
-        }
-    }
-
-    boolean isOrigEmpty(SimpleListValueDescriptor descriptor) {
         final SimpleListIterator it = iterator(descriptor);
-        return !it.hasNext();
-    }
-
-    private void mergeLists(SimpleListValueDescriptor descriptor) {
-        final SimpleListIterator it = iterator(descriptor);
-        final List<NamedResource> values = descriptor.getValues();
-        final List<TransactionalChange> changes = new ArrayList<>(values.size());
-        int i = 0;
-        NamedResource lastNode = null;
-        while (it.hasNext() && i < values.size()) {
-            final NamedResource newValue = values.get(i);
-            final NamedResource currentValue = it.nextValue();
-            if (!newValue.equals(currentValue)) {
-                changes.addAll(snapshot.applyChanges(it.replaceNode(newValue)));
-            }
-            lastNode = it.getCurrentNode();
-            i++;
-        }
-        owlapiAdapter.addTransactionalChanges(changes);
-        assert lastNode != null;
-        removeObsoleteNodes(it);
-        addNewNodes(descriptor, i, lastNode);
-    }
-
-    private void removeObsoleteNodes(SimpleListIterator iterator) {
-        if (!iterator.hasNext()) {
-            return;
-        }
-        final List<TransactionalChange> changes = new ArrayList<>();
-        while (iterator.hasNext()) {
-            iterator.next();
-            changes.addAll(iterator.removeWithoutReconnect());
-        }
-        owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(changes));
-    }
-
-    void addNewNodes(SimpleListValueDescriptor descriptor, int index, NamedResource lastNode) {
-        if (index >= descriptor.getValues().size()) {
-            return;
+        final List<OWLAxiom> original = new ArrayList<>();
+        while (it.hasNext()) {
+            it.nextValue();
+            original.addAll(it.getCurrentAxioms());
         }
-        final List<TransactionalChange> changes = new ArrayList<>(descriptor.getValues().size() - index);
-        for (; index < descriptor.getValues().size(); index++) {
-            final NamedResource next = descriptor.getValues().get(index);
-            changes.add(new MutableAddAxiom(ontology, appendNode(lastNode, descriptor.getNextNode(), next)));
-            lastNode = next;
+        final List<OWLAxiom> updated = createListAxioms(descriptor).stream()
+                                                                   .map(ch -> ((MutableAddAxiom) ch).getAxiom())
+                                                                   .collect(Collectors.toList());
+        final List<TransactionalChange> changes = ListAxiomDiff.diff(ontology, original, updated);
+        if (!changes.isEmpty()) {
+            owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(changes));
         }
-        owlapiAdapter.addTransactionalChanges(snapshot.applyChanges(changes));
     }
 }
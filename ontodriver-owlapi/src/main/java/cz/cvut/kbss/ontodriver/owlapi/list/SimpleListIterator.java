@@ -112,6 +112,11 @@ class SimpleListIterator extends OwlapiListIterator<NamedResource> {
         return changes;
     }
 
+    @Override
+    List<OWLAxiom> getCurrentAxioms() {
+        return List.of(dataFactory.getOWLObjectPropertyAssertionAxiom(previousProperty, previousNode, currentNode));
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -39,6 +39,8 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -102,6 +104,25 @@ class MainAxiomLoaderTest {
         }
     }
 
+    @Test
+    void findAxiomsForMultipleDescriptorsReturnsAxiomsOfEachSubject() {
+        final URI assertionProperty = Generator.generateUri();
+        final Assertion dp = Assertion.createDataPropertyAssertion(assertionProperty, false);
+        manager.applyChange(new AddAxiom(ontology, dataFactory
+                .getOWLDataPropertyAssertionAxiom(dataFactory.getOWLDataProperty(IRI.create(assertionProperty)),
+                        individual, 117)));
+        final NamedResource unknown = NamedResource.create(Generator.generateUri());
+        final AxiomDescriptor unknownDescriptor = new AxiomDescriptor(unknown);
+        unknownDescriptor.addAssertion(dp);
+
+        final Map<NamedResource, Collection<Axiom<?>>> result =
+                sut.findAxioms(List.of(descriptor(dp), unknownDescriptor));
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(SUBJECT).size());
+        assertEquals(dp, result.get(SUBJECT).iterator().next().getAssertion());
+        assertTrue(result.get(unknown).isEmpty());
+    }
+
     private AxiomDescriptor descriptor(Assertion... assertions) {
         final AxiomDescriptor descriptor = new AxiomDescriptor(SUBJECT);
         for (Assertion a : assertions) {
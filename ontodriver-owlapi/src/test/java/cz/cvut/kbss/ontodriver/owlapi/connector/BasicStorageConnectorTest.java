@@ -18,26 +18,39 @@
 package cz.cvut.kbss.ontodriver.owlapi.connector;
 
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
 import cz.cvut.kbss.ontodriver.owlapi.change.MutableAddAxiom;
+import cz.cvut.kbss.ontodriver.owlapi.change.MutableRemoveAxiom;
+import cz.cvut.kbss.ontodriver.owlapi.change.SubjectClassAssertionRemove;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+import org.semanticweb.owlapi.search.EntitySearcher;
 
 import java.io.File;
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class BasicStorageConnectorTest {
 
@@ -258,4 +271,197 @@ public class BasicStorageConnectorTest {
         assertNotNull(snapshot.getOntologyManager());
         assertNotNull(snapshot.getDataFactory());
     }
+
+    @Test
+    public void getSnapshotInOverlayModeDoesNotCopyLiveOntology() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final long ontologyCount = snapshot.getOntologyManager().ontologies().count();
+
+        final OWLAxiom declaration = declaration(snapshot);
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshot.getOntology(), declaration)));
+        assertEquals(ontologyCount, snapshot.getOntologyManager().ontologies().count());
+        assertTrue(snapshot.getOntology().containsAxiom(declaration));
+        final Set<OWLAxiom> snapshotAxioms = snapshot.getOntology().axioms().collect(Collectors.toSet());
+        assertTrue(snapshotAxioms.containsAll(axioms));
+        assertTrue(snapshotAxioms.contains(declaration));
+        assertFalse(connector.<Boolean>executeRead(live -> live.getOntology().containsAxiom(declaration)));
+    }
+
+    private DriverConfiguration overlayConfiguration(URI physicalUri) {
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.OVERLAY_SNAPSHOTS, Boolean.TRUE.toString());
+        return configuration;
+    }
+
+    private static OWLAxiom declaration(OntologySnapshot snapshot) {
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        return snapshot.getDataFactory().getOWLDeclarationAxiom(cls);
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeHidesAxiomsRemovedInTransaction() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OWLClassAssertionAxiom removed = axioms.stream().filter(OWLClassAssertionAxiom.class::isInstance)
+                                                     .map(OWLClassAssertionAxiom.class::cast).findAny()
+                                                     .orElseThrow();
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+
+        snapshot.applyChanges(Collections.singletonList(new MutableRemoveAxiom(snapshot.getOntology(), removed)));
+        final OWLOntology overlay = snapshot.getOntology();
+        assertFalse(overlay.containsAxiom(removed));
+        assertFalse(overlay.axioms().anyMatch(removed::equals));
+        assertFalse(EntitySearcher.getTypes(removed.getIndividual(), overlay.importsClosure())
+                                  .anyMatch(removed.getClassExpression()::equals));
+        assertTrue(connector.<Boolean>executeRead(live -> live.getOntology().containsAxiom(removed)));
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeReturnsAxiomAddedAlsoToLiveOntologyOnlyOnce() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OWLAxiom existing = axioms.iterator().next();
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLAxiom declaration = declaration(snapshot);
+
+        snapshot.applyChanges(List.of(new MutableAddAxiom(snapshot.getOntology(), existing),
+                new MutableAddAxiom(snapshot.getOntology(), declaration)));
+        final List<OWLAxiom> result = snapshot.getOntology().axioms().collect(Collectors.toList());
+        assertEquals(1, result.stream().filter(existing::equals).count());
+        assertEquals(1, result.stream().filter(declaration::equals).count());
+        assertEquals(new HashSet<>(result).size(), result.size());
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeExcludesEntitiesReferencedOnlyByRemovedAxiomsFromSignature() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OWLDataFactory df = connector.getOntologySnapshot().getDataFactory();
+        final OWLClass removedCls = df.getOWLClass(IRI.create(Generator.generateUri()));
+        final OWLClass keptCls = df.getOWLClass(IRI.create(Generator.generateUri()));
+        final OWLAxiom removedDeclaration = df.getOWLDeclarationAxiom(removedCls);
+        final OWLAxiom keptDeclaration = df.getOWLDeclarationAxiom(keptCls);
+        final OntologySnapshot writer = connector.getOntologySnapshot();
+        connector.applyChanges(List.of(new MutableAddAxiom(writer.getOntology(), removedDeclaration),
+                new MutableAddAxiom(writer.getOntology(), keptDeclaration)));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLAxiom addedDeclaration = declaration(snapshot);
+
+        snapshot.applyChanges(List.of(new MutableRemoveAxiom(snapshot.getOntology(), removedDeclaration),
+                new MutableRemoveAxiom(snapshot.getOntology(), keptDeclaration),
+                new MutableAddAxiom(snapshot.getOntology(), keptDeclaration),
+                new MutableAddAxiom(snapshot.getOntology(), addedDeclaration)));
+        final List<OWLClass> result = snapshot.getOntology().classesInSignature().collect(Collectors.toList());
+        assertFalse(result.contains(removedCls));
+        assertEquals(1, result.stream().filter(keptCls::equals).count());
+        assertTrue(result.containsAll(addedDeclaration.classesInSignature().collect(Collectors.toSet())));
+        assertTrue(connector.<Boolean>executeRead(live -> live.getOntology().containsClassInSignature(
+                removedCls.getIRI())));
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeEvaluatesSubjectRemovalsAgainstLiveAndTransactionalAxioms() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OWLDataFactory df = connector.getOntologySnapshot().getDataFactory();
+        final OWLNamedIndividual individual = df.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        final OWLAxiom committed =
+                df.getOWLClassAssertionAxiom(df.getOWLClass(IRI.create(Generator.generateUri())), individual);
+        final OntologySnapshot writer = connector.getOntologySnapshot();
+        connector.applyChanges(Collections.singletonList(new MutableAddAxiom(writer.getOntology(), committed)));
+
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLAxiom transactional =
+                df.getOWLClassAssertionAxiom(df.getOWLClass(IRI.create(Generator.generateUri())), individual);
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshot.getOntology(), transactional)));
+        snapshot.applyChanges(Collections.singletonList(new SubjectClassAssertionRemove(individual)));
+        assertEquals(0, EntitySearcher.getTypes(individual, snapshot.getOntology()).count());
+        assertTrue(connector.<Boolean>executeRead(live -> live.getOntology().containsAxiom(committed)));
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeSeesChangesCommittedByOtherTransactions() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+        assertTrue(snapshot.getOntology().containsClassInSignature(cls.getIRI()));
+    }
+
+    @Test
+    public void getSnapshotInOverlayModeReadsLiveOntologyUnderReadLock() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLAxiom declaration = declaration(snapshot);
+        final FutureTask<Boolean> read = new FutureTask<>(() -> snapshot.getOntology().containsAxiom(declaration));
+        final Thread reader = new Thread(read);
+        connector.executeWrite(live -> {
+            reader.start();
+            while (reader.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            // The reader waits for the write lock to be released
+            assertFalse(read.isDone());
+            live.getOntologyManager().addAxiom(live.getOntology(), declaration);
+        });
+        assertTrue(read.get());
+    }
+
+    @Test
+    public void getReasonerInOverlayModeMaterializesCopyWhenTransactionHasPendingChanges() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration = overlayConfiguration(physicalUri);
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, StructuralReasonerFactory.class.getName());
+        this.connector = new BasicStorageConnector(configuration);
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLDataFactory df = snapshot.getDataFactory();
+        final OWLNamedIndividual individual = df.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        final OWLClass cls = df.getOWLClass(IRI.create(Generator.generateUri()));
+        assertFalse(snapshot.getReasoner().getTypes(individual, false).containsEntity(cls));
+        assertFalse(((OverlayOntologySnapshot) snapshot).getCopy().isPresent());
+
+        snapshot.applyChanges(Collections.singletonList(
+                new MutableAddAxiom(snapshot.getOntology(), df.getOWLClassAssertionAxiom(cls, individual))));
+        assertTrue(snapshot.getReasoner().getTypes(individual, false).containsEntity(cls));
+        final Optional<OntologySnapshot> copy = ((OverlayOntologySnapshot) snapshot).getCopy();
+        assertTrue(copy.isPresent());
+        assertTrue(snapshot.getOntologyManager().contains(copy.get().getOntology()));
+        connector.closeSnapshot(snapshot);
+        assertFalse(snapshot.getOntologyManager().contains(copy.get().getOntology()));
+    }
+
+    @Test
+    public void closeSnapshotInOverlayModeKeepsLiveOntology() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntologyManager manager = snapshot.getOntologyManager();
+        final long ontologyCount = manager.ontologies().count();
+        connector.closeSnapshot(snapshot);
+        assertEquals(ontologyCount, manager.ontologies().count());
+    }
+
+    @Test
+    public void applyChangesInOverlayModeFlushesSharedReasonerOnlyWhenAxiomsChanged() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(overlayConfiguration(physicalUri));
+        final OWLReasoner reasoner = mock(OWLReasoner.class);
+        final Field reasonerField = BasicStorageConnector.class.getDeclaredField("reasoner");
+        reasonerField.setAccessible(true);
+        reasonerField.set(connector, reasoner);
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+        verify(reasoner).flush();
+
+        // Adding the same declaration again does not change the ontology
+        addClassToOntology(connector.getOntologySnapshot());
+        verify(reasoner).flush();
+        assertTrue(connector.<Boolean>executeRead(live -> live.getOntology().containsClassInSignature(cls.getIRI())));
+    }
 }
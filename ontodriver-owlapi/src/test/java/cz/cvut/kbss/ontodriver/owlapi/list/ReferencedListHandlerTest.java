@@ -342,6 +342,26 @@ public class ReferencedListHandlerTest {
         ListTestHelper.verifyListContent(updated, result);
     }
 
+    @Test
+    public void updateListByPrependingElementKeepsOriginalNodesAndAppliesChangesInSingleBatch() {
+        final List<URI> origList = ListTestHelper.LIST_ITEMS.subList(0, 6);
+        testHelper.persistList(origList);
+        final List<Axiom<?>> original = sut.loadList(descriptor);
+        final List<URI> updated = new ArrayList<>();
+        updated.add(ListTestHelper.LIST_ITEMS.get(7));
+        updated.addAll(origList);
+        updated.forEach(item -> valueDescriptor.addValue(NamedResource.create(item)));
+
+        sut.updateList(valueDescriptor);
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(adapterMock).addTransactionalChanges(captor.capture());
+        // Removal of the original head link, new head link, new head content and link from new head to original head
+        assertEquals(4, captor.getValue().size());
+        final List<Axiom<?>> result = sut.loadList(descriptor);
+        ListTestHelper.verifyListContent(updated, result);
+        assertEquals(original, result.subList(1, result.size()));
+    }
+
     @Test
     void persistListSupportsPersistingListWithDataPropertyContent() {
         final List<Integer> values = IntStream.range(0, 5).boxed().collect(Collectors.toList());
@@ -18,6 +18,7 @@
 package cz.cvut.kbss.ontodriver.owlapi.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.util.TimeBasedUuidIdentifierGenerationStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -59,6 +60,15 @@ class IdentifierGeneratorTest {
         assertEquals(tries, results.size());    // All tries lead to unique URI
     }
 
+    @Test
+    void generateIdentifierDoesNotCheckOntologyWhenStrategyDoesNotRequireUniquenessCheck() {
+        this.generator = new IdentifierGenerator(ontologyMock, new TimeBasedUuidIdentifierGenerationStrategy());
+        final URI baseUri = URI.create("http://baseUri/");
+        final URI result = generator.generateIdentifier(baseUri);
+        assertTrue(result.toString().startsWith(baseUri.toString()));
+        verify(ontologyMock, never()).containsIndividualInSignature(any(IRI.class));
+    }
+
     @Test
     void throwsExceptionWhenUnableToGenerateUriWithinThreshold() throws Exception {
         final URI baseUri = URI.create("http://baseUri/");
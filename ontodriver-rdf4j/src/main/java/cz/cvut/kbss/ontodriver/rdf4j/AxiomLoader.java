@@ -28,14 +28,17 @@ import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoader;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 class AxiomLoader {
 
     private final Connector connector;
 
-    private final Map<IRI, Assertion> propertyToAssertion;
+    private Map<IRI, Assertion> propertyToAssertion;
     private Map<IRI, Assertion> explicitAssertions;
     private Map<IRI, Assertion> inferredAssertions;
 
@@ -43,7 +46,6 @@ class AxiomLoader {
 
     AxiomLoader(Connector connector, RuntimeConfiguration config) {
         this.connector = connector;
-        this.propertyToAssertion = new HashMap<>();
         this.config = config;
     }
 
@@ -66,6 +68,66 @@ class AxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * Instead of loading the axioms of each subject separately, statements of all the subjects are retrieved from the
+     * repository together (at most once for explicit and once for inferred statements) and then distributed to the
+     * individual descriptors.
+     *
+     * @param descriptors Descriptors of the axioms to load, expected to have distinct subjects
+     * @return Map of subjects to axioms loaded for them
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Map<NamedResource, Collection<Axiom<?>>> loadAxioms(Collection<AxiomDescriptor> descriptors)
+            throws Rdf4jDriverException {
+        final Set<Resource> explicitSubjects = new LinkedHashSet<>(descriptors.size());
+        final Set<Resource> inferredSubjects = new LinkedHashSet<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            final Assertion unspecified = processAssertions(descriptor);
+            final IRI subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(),
+                    connector.getValueFactory());
+            if ((unspecified == null || !unspecified.isInferred()) && !explicitAssertions.isEmpty()) {
+                explicitSubjects.add(subject);
+            }
+            if (!inferredAssertions.isEmpty()) {
+                inferredSubjects.add(subject);
+            }
+        }
+        final Map<Resource, List<Statement>> explicitStatements = findStatements(explicitSubjects, false);
+        final Map<Resource, List<Statement>> inferredStatements = findStatements(inferredSubjects, true);
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            final Assertion unspecified = processAssertions(descriptor);
+            final AxiomBuilder axiomBuilder =
+                    new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
+            final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
+            final IRI subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(),
+                    connector.getValueFactory());
+            final Collection<Axiom<?>> axioms = new HashSet<>();
+            if (unspecified == null || !unspecified.isInferred()) {
+                statementLoader.setIncludeInferred(false);
+                axioms.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions,
+                        explicitStatements.getOrDefault(subject, Collections.emptyList())));
+            }
+            statementLoader.setIncludeInferred(true);
+            axioms.addAll(statementLoader.loadAxioms(descriptor, inferredAssertions,
+                    inferredStatements.getOrDefault(subject, Collections.emptyList())));
+            result.put(descriptor.getSubject(), axioms);
+        }
+        return result;
+    }
+
+    private Map<Resource, List<Statement>> findStatements(Set<Resource> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        if (subjects.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return connector.findStatements(subjects, includeInferred).stream()
+                        .collect(Collectors.groupingBy(Statement::getSubject));
+    }
+
     private StatementLoader createLoader(NamedResource individual, AxiomBuilder axiomBuilder) {
         final IRI subject = Rdf4jUtils.toRdf4jIri(individual.getIdentifier(), connector.getValueFactory());
         return config.getStatementLoaderFactory().create(connector, subject, axiomBuilder);
@@ -81,6 +143,7 @@ class AxiomLoader {
      */
     private Assertion processAssertions(AxiomDescriptor descriptor) {
         final Set<Assertion> assertions = descriptor.getAssertions();
+        this.propertyToAssertion = new HashMap<>(assertions.size());
         this.explicitAssertions = new HashMap<>(assertions.size());
         this.inferredAssertions = new HashMap<>(assertions.size());
         Assertion unspecified = null;
@@ -58,15 +58,32 @@ class EpistemicAxiomRemover {
     }
 
     void remove(AbstractAxiomDescriptor axiomDescriptor) throws Rdf4jDriverException {
-        final Resource individual = toRdf4jIri(axiomDescriptor.getSubject(), valueFactory);
         final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
+        addPropertyValuesToRemove(axiomDescriptor, toRemove);
+        connector.removePropertyValues(toRemove);
+    }
+
+    /**
+     * Removes property values specified by the descriptors in a single connector call.
+     *
+     * @param axiomDescriptors Descriptors of the values to remove
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    void removeAll(Collection<? extends AbstractAxiomDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        final Collection<SubjectPredicateContext> toRemove = new HashSet<>();
+        axiomDescriptors.forEach(d -> addPropertyValuesToRemove(d, toRemove));
+        connector.removePropertyValues(toRemove);
+    }
+
+    private void addPropertyValuesToRemove(AbstractAxiomDescriptor axiomDescriptor,
+                                           Collection<SubjectPredicateContext> toRemove) {
+        final Resource individual = toRdf4jIri(axiomDescriptor.getSubject(), valueFactory);
         for (Assertion a : axiomDescriptor.getAssertions()) {
             final Set<Resource> contexts = axiomDescriptor.getAssertionContexts(a).stream()
                                                      .map(uri -> toRdf4jIri(uri, valueFactory))
                                                      .collect(Collectors.toSet());
             toRemove.add(new SubjectPredicateContext(individual, toRdf4jIri(a, valueFactory), contexts));
         }
-        connector.removePropertyValues(toRemove);
     }
 
     void remove(NamedResource individual, Map<Assertion, Set<Value<?>>> values, java.net.URI context)
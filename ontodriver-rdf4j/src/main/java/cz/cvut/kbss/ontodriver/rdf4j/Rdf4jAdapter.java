@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
@@ -32,7 +33,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.list.ReferencedListHandler;
 import cz.cvut.kbss.ontodriver.rdf4j.list.SimpleListHandler;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -45,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -131,12 +133,16 @@ class Rdf4jAdapter implements Closeable, Wrapper {
     }
 
     URI generateIdentifier(URI classUri) throws Rdf4jDriverException {
+        final IdentifierGenerationStrategy strategy = config.getIdentifierGenerationStrategy();
+        if (!strategy.requiresUniquenessCheck()) {
+            return strategy.generateIdentifier(classUri);
+        }
         startTransactionIfNotActive();
         boolean unique = false;
         URI id = null;
         int counter = 0;
         while (!unique && counter++ < ID_GENERATION_THRESHOLD) {
-            id = IdentifierUtils.generateIdentifier(classUri);
+            id = strategy.generateIdentifier(classUri);
             unique = isIdentifierUnique(id, classUri);
         }
         if (!unique) {
@@ -196,17 +202,34 @@ class Rdf4jAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, config).loadAxioms(axiomDescriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        return new AxiomLoader(connector, config).loadAxioms(descriptors);
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        new AxiomSaver(connector).persistAxioms(axiomDescriptors);
+    }
+
     void update(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new EpistemicAxiomRemover(connector, valueFactory).remove(axiomDescriptor);
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
     }
 
+    void updateAll(Collection<AxiomValueDescriptor> axiomDescriptors) throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        new EpistemicAxiomRemover(connector, valueFactory).removeAll(axiomDescriptors);
+        new AxiomSaver(connector).persistAxioms(axiomDescriptors);
+    }
+
     void remove(AxiomDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new EpistemicAxiomRemover(connector, valueFactory).remove(axiomDescriptor);
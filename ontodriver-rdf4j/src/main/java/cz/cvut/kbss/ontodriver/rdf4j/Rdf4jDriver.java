@@ -41,7 +41,8 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
                     Rdf4jConfigParam.USE_VOLATILE_STORAGE, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
                     Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
                     Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT,
-                    Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT);
+                    Rdf4jConfigParam.MAX_CONNECTION_POOL_SIZE, Rdf4jConfigParam.CONNECTION_REQUEST_TIMEOUT,
+                    DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY);
 
     private final DriverConfiguration configuration;
     private boolean open;
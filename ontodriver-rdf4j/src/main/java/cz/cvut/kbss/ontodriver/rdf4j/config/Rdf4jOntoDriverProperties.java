@@ -127,6 +127,25 @@ public abstract class Rdf4jOntoDriverProperties {
      */
     public static final String MAX_CONNECTION_POOL_SIZE = "cz.cvut.kbss.ontodriver.rdf4j.max-connections";
 
+    /**
+     * Isolation level of the repository transactions in which changes made by a transaction are written into the
+     * repository on commit.
+     * <p>
+     * This parameter allows to override the repository's default isolation level used for them. If the level is set to
+     * at least {@code READ_COMMITTED}, or if it is not set and the repository is a local store whose default level is at
+     * least {@code READ_COMMITTED}, commits of concurrent transactions are not synchronized by the driver and rely solely
+     * on the isolation provided by the repository. Otherwise, commits are serialized by the driver. Setting the level
+     * for a remote store thus asserts that it supports server-side transactions. SPARQL endpoints are always
+     * synchronized by the driver.
+     * <p>
+     * The value should be the name of one of the standard RDF4J isolation levels, i.e., one of {@code NONE}, {@code
+     * READ_UNCOMMITTED}, {@code READ_COMMITTED}, {@code SNAPSHOT_READ}, {@code SNAPSHOT}, {@code SERIALIZABLE} (see
+     * {@link org.eclipse.rdf4j.common.transaction.IsolationLevels}).
+     * <p>
+     * If not set, the repository's default isolation level is used.
+     */
+    public static final String TRANSACTION_ISOLATION_LEVEL = "cz.cvut.kbss.ontodriver.rdf4j.transaction-isolation-level";
+
     private Rdf4jOntoDriverProperties() {
         throw new AssertionError();
     }
@@ -20,6 +20,8 @@ package cz.cvut.kbss.ontodriver.rdf4j.config;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.util.IdentifierGenerationStrategy;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 
 /**
  * Represents configuration which influences the driver during its active usage, not its initialization.
@@ -28,6 +30,8 @@ public class RuntimeConfiguration {
 
     private final int loadAllThreshold;
 
+    private final IdentifierGenerationStrategy identifierGenerationStrategy;
+
     private StatementLoaderFactory statementLoaderFactory = new DefaultStatementLoaderFactory();
 
     public RuntimeConfiguration(DriverConfiguration config) {
@@ -42,12 +46,17 @@ public class RuntimeConfiguration {
         } else {
             this.loadAllThreshold = Constants.DEFAULT_LOAD_ALL_THRESHOLD;
         }
+        this.identifierGenerationStrategy = IdentifierUtils.resolveGenerationStrategy(config);
     }
 
     public int getLoadAllThreshold() {
         return loadAllThreshold;
     }
 
+    public IdentifierGenerationStrategy getIdentifierGenerationStrategy() {
+        return identifierGenerationStrategy;
+    }
+
     public StatementLoaderFactory getStatementLoaderFactory() {
         return statementLoaderFactory;
     }
@@ -30,16 +30,40 @@ class ConnectionStatementExecutor implements StatementExecutor {
 
     private final RepositoryConnection connection;
 
+    private final PreparedQueryCache queryCache;
+
     ConnectionStatementExecutor(RepositoryConnection connection) {
+        this(connection, null);
+    }
+
+    /**
+     * @param connection Repository connection on which statements are executed
+     * @param queryCache Cache of operations prepared on the underlying pooled connection, optional
+     */
+    ConnectionStatementExecutor(RepositoryConnection connection, PreparedQueryCache queryCache) {
         this.connection = connection;
+        this.queryCache = queryCache;
     }
 
     @Override
     public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
         try {
-            final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
-            tq.setIncludeInferred(query.isIncludeInference());
-            return new QueryResult(tq.evaluate(), connection);
+            if (queryCache == null) {
+                final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
+                configure(tq, query);
+                return new QueryResult(tq.evaluate(), connection);
+            }
+            final TupleQuery tq = queryCache.leaseTupleQuery(query.getQuery());
+            configure(tq, query);
+            final TupleQueryResult result;
+            try {
+                result = tq.evaluate();
+            } catch (RuntimeException e) {
+                queryCache.release(query.getQuery(), tq);
+                throw e;
+            }
+            // The query is returned to the cache only after its result is closed, so that it cannot be re-bound earlier
+            return new QueryResult(result, connection, () -> queryCache.release(query.getQuery(), tq));
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
@@ -48,9 +72,14 @@ class ConnectionStatementExecutor implements StatementExecutor {
     @Override
     public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
         try {
-            final BooleanQuery bq = connection.prepareBooleanQuery(QueryLanguage.SPARQL, query.getQuery());
-            bq.setIncludeInferred(query.isIncludeInference());
-            return bq.evaluate();
+            final BooleanQuery bq = queryCache != null ? queryCache.leaseBooleanQuery(query.getQuery()) :
+                                    connection.prepareBooleanQuery(QueryLanguage.SPARQL, query.getQuery());
+            try {
+                configure(bq, query);
+                return bq.evaluate();
+            } finally {
+                release(query, bq);
+            }
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
@@ -59,11 +88,27 @@ class ConnectionStatementExecutor implements StatementExecutor {
     @Override
     public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
         try {
-            final Update u = connection.prepareUpdate(QueryLanguage.SPARQL, query.getQuery());
-            u.setIncludeInferred(query.isIncludeInference());
-            u.execute();
+            final Update u = queryCache != null ? queryCache.leaseUpdate(query.getQuery()) :
+                             connection.prepareUpdate(QueryLanguage.SPARQL, query.getQuery());
+            try {
+                configure(u, query);
+                u.execute();
+            } finally {
+                release(query, u);
+            }
         } catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
+
+    private void release(QuerySpecification query, Operation operation) {
+        if (queryCache != null) {
+            queryCache.release(query.getQuery(), operation);
+        }
+    }
+
+    private static void configure(Operation operation, QuerySpecification query) {
+        query.getBindings().forEach(operation::setBinding);
+        operation.setIncludeInferred(query.isIncludeInference());
+    }
 }
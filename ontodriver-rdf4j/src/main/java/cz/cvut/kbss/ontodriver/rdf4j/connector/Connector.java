@@ -26,6 +26,7 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -109,6 +110,56 @@ public interface Connector extends Closeable, StatementExecutor, Wrapper {
                                          boolean includeInferred, Set<IRI> contexts)
             throws Rdf4jDriverException;
 
+    /**
+     * Finds all statements whose subject is one of the specified resources.
+     * <p>
+     * Statements from all contexts are returned, the context of each statement is preserved.
+     * <p>
+     * The default implementation searches for the statements of each subject separately, implementations are
+     * encouraged to retrieve the statements in fewer repository calls.
+     *
+     * @param subjects        Statement subjects
+     * @param includeInferred Whether to include inferred statements as well
+     * @return Collection of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    default Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        final List<Statement> result = new ArrayList<>();
+        for (Resource subject : subjects) {
+            result.addAll(findStatements(subject, null, null, includeInferred));
+        }
+        return result;
+    }
+
+    /**
+     * Finds all statements forming a linked list.
+     * <p>
+     * The result contains the statement(s) linking the list owner to the first node, statements linking nodes to their
+     * successors and, if the node content property is specified, statements linking nodes to their content. All
+     * successors of each node are included, so the result may contain statements violating the list integrity
+     * constraints.
+     * <p>
+     * The default implementation searches for the statements of each node separately, implementations are encouraged
+     * to retrieve the statements in fewer repository calls.
+     *
+     * @param owner           List owner
+     * @param hasList         Property linking the owner to the first list node
+     * @param hasNext         Property linking a list node to its successor
+     * @param hasContent      Property linking a list node to its content, {@code null} for simple lists
+     * @param includeInferred Whether to include inferred statements as well
+     * @param contexts        Contexts in which the search should be performed. Empty collection indicates the default
+     *                        context will be searched
+     * @return Collection of statements forming the list
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    default Collection<Statement> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                                     boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        return new ListStatementsFinder(owner, hasList, hasNext, hasContent)
+                .traverse((subject, property) -> findStatements(subject, property, null, includeInferred, contexts));
+    }
+
     /**
      * Checks whether the repository contains any statements matching the specified criteria.
      *
@@ -34,7 +34,7 @@ public class GraphDBStorageConnector extends StorageConnector {
 
     @Override
     public boolean isInferred(Statement statement, Set<IRI> contexts) throws Rdf4jDriverException {
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             final IRI[] ctxArr = contexts.toArray(new IRI[0]);
             // Inferred statements are in the implicit graph in GraphDB. This graph is not accessible via the RDF4J API
             return conn.hasStatement(statement, true) && !conn.hasStatement(statement, false, ctxArr);
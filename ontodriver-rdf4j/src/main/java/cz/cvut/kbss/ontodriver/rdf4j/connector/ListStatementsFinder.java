@@ -0,0 +1,194 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Finds statements forming a linked list.
+ * <p>
+ * The list is given by its owner, the property linking the owner to the first node, the property linking nodes to
+ * their successors and, optionally (for referenced lists), the property linking nodes to their content.
+ */
+final class ListStatementsFinder {
+
+    /**
+     * Source of statements with the specified subject and property.
+     */
+    @FunctionalInterface
+    interface StatementSource {
+        Collection<Statement> find(Resource subject, IRI property) throws Rdf4jDriverException;
+    }
+
+    /**
+     * Allows to modify statements retrieved from the repository before they are used.
+     */
+    @FunctionalInterface
+    interface StatementEnhancer {
+        Collection<Statement> enhance(Collection<Statement> statements, Resource subject, IRI property);
+    }
+
+    private final Resource owner;
+    private final IRI hasList;
+    private final IRI hasNext;
+    private final IRI hasContent;
+
+    ListStatementsFinder(Resource owner, IRI hasList, IRI hasNext, IRI hasContent) {
+        this.owner = Objects.requireNonNull(owner);
+        this.hasList = Objects.requireNonNull(hasList);
+        this.hasNext = Objects.requireNonNull(hasNext);
+        this.hasContent = hasContent;
+    }
+
+    /**
+     * Traverses the list, retrieving statements of each node from the specified source.
+     * <p>
+     * All successors of each node are followed, so that the result contains also statements violating the list
+     * integrity constraints. Each node is visited only once.
+     *
+     * @param source Statement source
+     * @return Statements forming the list
+     * @throws Rdf4jDriverException If the source throws it
+     */
+    List<Statement> traverse(StatementSource source) throws Rdf4jDriverException {
+        final Collection<Statement> head = source.find(owner, hasList);
+        final List<Statement> result = new ArrayList<>(head);
+        final Deque<Statement> toVisit = new ArrayDeque<>(head);
+        final Set<Resource> visited = new HashSet<>();
+        while (!toVisit.isEmpty()) {
+            final Value node = toVisit.pop().getObject();
+            if (!(node instanceof Resource) || !visited.add((Resource) node)) {
+                continue;
+            }
+            if (hasContent != null) {
+                result.addAll(source.find((Resource) node, hasContent));
+            }
+            final Collection<Statement> next = source.find((Resource) node, hasNext);
+            result.addAll(next);
+            toVisit.addAll(next);
+        }
+        return result;
+    }
+
+    /**
+     * Finds statements forming the list using a single query against the specified connection.
+     * <p>
+     * Statements of nodes not reached by the query (e.g., because they were linked to the list by the specified
+     * statement enhancer) are retrieved from the connection separately.
+     *
+     * @param connection      Repository connection
+     * @param includeInferred Whether to include inferred statements
+     * @param contexts        Contexts to search, empty collection means the default one
+     * @param enhancer        Allows to apply transaction-local changes to statements retrieved from the repository
+     * @return Statements forming the list
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    List<Statement> find(RepositoryConnection connection, boolean includeInferred, Set<IRI> contexts,
+                         StatementEnhancer enhancer) throws Rdf4jDriverException {
+        final Map<Resource, List<Statement>> fetched = query(connection, includeInferred, contexts);
+        final IRI[] ctxArray = contexts.toArray(new IRI[0]);
+        return traverse((subject, property) -> {
+            final List<Statement> nodeStatements = fetched.get(subject);
+            final Collection<Statement> statements;
+            if (nodeStatements != null) {
+                statements = nodeStatements.stream().filter(s -> property.equals(s.getPredicate()))
+                                           .collect(Collectors.toList());
+            } else {
+                statements = getStatements(connection, subject, property, includeInferred, ctxArray);
+            }
+            return enhancer.enhance(statements, subject, property);
+        });
+    }
+
+    private static List<Statement> getStatements(RepositoryConnection connection, Resource subject, IRI property,
+                                                 boolean includeInferred, IRI[] contexts)
+            throws Rdf4jDriverException {
+        try {
+            return connection.getStatements(subject, property, null, includeInferred, contexts).stream()
+                             .collect(Collectors.toList());
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    private Map<Resource, List<Statement>> query(RepositoryConnection connection, boolean includeInferred,
+                                                 Set<IRI> contexts) throws Rdf4jDriverException {
+        try {
+            return evaluate(connection, includeInferred, contexts);
+        } catch (QueryEvaluationException | RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    private Map<Resource, List<Statement>> evaluate(RepositoryConnection connection, boolean includeInferred,
+                                                    Set<IRI> contexts) {
+        final TupleQuery query = connection.prepareTupleQuery(QueryLanguage.SPARQL, buildQuery(contexts));
+        query.setIncludeInferred(includeInferred);
+        final ValueFactory vf = connection.getValueFactory();
+        // Nodes reached by the query are recorded even if they have no statements, so that they are not queried again
+        final Map<Resource, List<Statement>> result = new HashMap<>();
+        result.put(owner, new ArrayList<>());
+        try (final TupleQueryResult queryResult = query.evaluate()) {
+            while (queryResult.hasNext()) {
+                final BindingSet bindings = queryResult.next();
+                final Resource subject = (Resource) bindings.getValue("s");
+                final List<Statement> statements = result.computeIfAbsent(subject, k -> new ArrayList<>());
+                if (bindings.hasBinding("p")) {
+                    statements.add(vf.createStatement(subject, (IRI) bindings.getValue("p"), bindings.getValue("o"),
+                            (Resource) bindings.getValue("g")));
+                }
+            }
+        }
+        return result;
+    }
+
+    private String buildQuery(Set<IRI> contexts) {
+        final String node = "{ " + iri(owner) + " " + iri(hasList) + " ?o . BIND (" + iri(owner) + " AS ?s) BIND (" +
+                iri(hasList) + " AS ?p) } UNION { " + iri(owner) + " " + iri(hasList) + "/" + iri(hasNext) +
+                "* ?s . OPTIONAL { ?s ?p ?o . FILTER (?p = " + iri(hasNext) +
+                (hasContent != null ? " || ?p = " + iri(hasContent) : "") + ") } }";
+        final StringBuilder sb = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { ");
+        if (contexts.isEmpty()) {
+            sb.append(node);
+        } else {
+            sb.append("GRAPH ?g { ").append(node).append(" } VALUES ?g { ");
+            contexts.forEach(ctx -> sb.append(iri(ctx)).append(' '));
+            sb.append('}');
+        }
+        return sb.append(" }").toString();
+    }
+
+    private static String iri(Value value) {
+        return "<" + value.stringValue() + ">";
+    }
+}
@@ -24,9 +24,12 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +42,10 @@ class LocalModel {
     private final Model addedStatements;
     private final Model removedStatements;
     private final Set<SubjectPredicateContext> removedSubjectPredicateStatements;
+    /**
+     * Index of {@link #removedSubjectPredicateStatements} by subject and predicate.
+     */
+    private final Map<Resource, Map<IRI, List<SubjectPredicateContext>>> removedSubjectPredicateIndex;
 
     enum Contains {
         TRUE, FALSE, UNKNOWN
@@ -48,6 +55,7 @@ class LocalModel {
         this.addedStatements = new LinkedHashModel();
         this.removedStatements = new LinkedHashModel();
         this.removedSubjectPredicateStatements = new HashSet<>();
+        this.removedSubjectPredicateIndex = new HashMap<>();
     }
 
     List<Statement> enhanceStatements(Stream<Statement> statements, Resource subject, IRI property,
@@ -56,13 +64,22 @@ class LocalModel {
         final Collection<Statement> added = addedStatements.filter(subject, property, object, ctxArray);
         final Collection<Statement> removed = removedStatements.filter(subject, property, object, ctxArray);
         final List<Statement> result = statements.filter(s -> !removed.contains(s))
-                                                 .filter(s -> removedSubjectPredicateStatements.stream()
-                                                                                               .noneMatch(spc -> spc.matches(s)))
+                                                 .filter(s -> !isPropertyValueRemoved(s))
                                                  .collect(Collectors.toList());
         result.addAll(added);
         return result;
     }
 
+    private boolean isPropertyValueRemoved(Statement s) {
+        final Map<IRI, List<SubjectPredicateContext>> subjectRemovals =
+                removedSubjectPredicateIndex.get(s.getSubject());
+        if (subjectRemovals == null) {
+            return false;
+        }
+        final List<SubjectPredicateContext> removals = subjectRemovals.get(s.getPredicate());
+        return removals != null && removals.stream().anyMatch(spc -> spc.matches(s));
+    }
+
     Contains contains(Resource subject, IRI property, Value object, Set<IRI> contexts) {
         final IRI[] ctxArray = contexts.toArray(new IRI[0]);
         if (addedStatements.contains(subject, property, object, ctxArray)) {
@@ -83,8 +100,14 @@ class LocalModel {
     }
 
     void removePropertyValues(Collection<SubjectPredicateContext> toRemove) {
-        removedSubjectPredicateStatements.addAll(toRemove);
-        addedStatements.removeIf(s -> toRemove.stream().anyMatch(spc -> spc.matches(s)));
+        for (SubjectPredicateContext spc : toRemove) {
+            if (removedSubjectPredicateStatements.add(spc)) {
+                removedSubjectPredicateIndex.computeIfAbsent(spc.getSubject(), k -> new HashMap<>())
+                                            .computeIfAbsent(spc.getPredicate(), k -> new ArrayList<>(1)).add(spc);
+            }
+            addedStatements.remove(spc.getSubject(), spc.getPredicate(), null, spc.getContexts()
+                                                                                 .toArray(new Resource[0]));
+        }
     }
 
     Collection<Statement> getAddedStatements() {
@@ -28,17 +28,40 @@ import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 
+/**
+ * Connector with transaction-local changes, which shares the underlying repository with other connectors.
+ * <p>
+ * Changes made in a transaction are kept locally and are written into the repository on commit using the repository
+ * connection of this connector. If the repository guarantees transaction isolation (see {@link
+ * StorageConnector#isTransactionIsolationGuaranteed()}), concurrent commits and reads are not synchronized by the
+ * connector. Otherwise, commits and updates exclude each other and reads of the shared repository using a process-wide
+ * lock.
+ * <p>
+ * Queries executed in a transaction are prepared on the transaction's pooled repository connection and cached with it,
+ * so they are reused by subsequent transactions which get the same connection. Statistics of this reuse are available
+ * from {@link StorageConnector}.
+ *
+ * @see cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties#TRANSACTION_ISOLATION_LEVEL
+ */
 public class PoolingStorageConnector extends AbstractConnector {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PoolingStorageConnector.class);
+
     private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
     private static final Lock READ = LOCK.readLock();
     private static final Lock WRITE = LOCK.writeLock();
@@ -56,13 +79,13 @@ public class PoolingStorageConnector extends AbstractConnector {
     @Override
     public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
         if (transaction.isActive()) {
-            return new ConnectionStatementExecutor(wrapConnection()).executeSelectQuery(query);
+            return new ConnectionStatementExecutor(wrapConnection(), preparedQueries()).executeSelectQuery(query);
         }
-        READ.lock();
+        final Lock lock = lockIfRequired(READ);
         try {
             return centralConnector.executeSelectQuery(query);
         } finally {
-            READ.unlock();
+            lock.unlock();
         }
     }
 
@@ -70,36 +93,40 @@ public class PoolingStorageConnector extends AbstractConnector {
         return new TransactionalRepositoryConnection(connection);
     }
 
+    private PreparedQueryCache preparedQueries() {
+        return centralConnector.getPreparedQueryCache(connection);
+    }
+
     @Override
     public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
         if (transaction.isActive()) {
-            return new ConnectionStatementExecutor(wrapConnection()).executeBooleanQuery(query);
+            return new ConnectionStatementExecutor(wrapConnection(), preparedQueries()).executeBooleanQuery(query);
         }
-        READ.lock();
+        final Lock lock = lockIfRequired(READ);
         try {
             return centralConnector.executeBooleanQuery(query);
         } finally {
-            READ.unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
-        WRITE.lock();
+        final Lock lock = lockIfRequired(WRITE);
         try {
             centralConnector.executeUpdate(query);
         } finally {
-            WRITE.unlock();
+            lock.unlock();
         }
     }
 
     @Override
     public List<Resource> getContexts() throws Rdf4jDriverException {
-        READ.lock();
+        final Lock lock = lockIfRequired(READ);
         try {
             return centralConnector.getContexts();
         } finally {
-            READ.unlock();
+            lock.unlock();
         }
     }
 
@@ -110,6 +137,21 @@ public class PoolingStorageConnector extends AbstractConnector {
         return centralConnector.getValueFactory();
     }
 
+    /**
+     * Acquires the specified lock, unless the repository guarantees isolation of transactions, in which case no
+     * synchronization is needed.
+     *
+     * @param lock The lock to acquire
+     * @return The acquired lock or a no-op lock, to be unlocked by the caller
+     */
+    private Lock lockIfRequired(Lock lock) {
+        if (centralConnector.isTransactionIsolationGuaranteed()) {
+            return NoOpLock.INSTANCE;
+        }
+        lock.lock();
+        return lock;
+    }
+
     @Override
     public void begin() throws Rdf4jDriverException {
         super.begin();
@@ -120,26 +162,36 @@ public class PoolingStorageConnector extends AbstractConnector {
     @Override
     public void commit() throws Rdf4jDriverException {
         transaction.commit();
-        WRITE.lock();
+        final Lock lock = lockIfRequired(WRITE);
         try {
-            centralConnector.begin();
-            centralConnector.removeStatements(localModel.getRemovedStatements());
-            centralConnector.removePropertyValues(localModel.getRemovedSubjectPredicateStatements());
-            centralConnector.addStatements(localModel.getAddedStatements());
-            centralConnector.commit();
+            centralConnector.beginTransaction(connection);
+            connection.remove(localModel.getRemovedStatements());
+            StorageConnector.removePropertyValues(connection, localModel.getRemovedSubjectPredicateStatements());
+            connection.add(localModel.getAddedStatements());
+            connection.commit();
             transaction.afterCommit();
-        } catch (Rdf4jDriverException e) {
+        } catch (RepositoryException e) {
             transaction.rollback();
-            centralConnector.rollback();
+            rollbackRepositoryTransaction();
             transaction.afterRollback();
-            throw e;
+            throw new Rdf4jDriverException(e);
         } finally {
-            WRITE.unlock();
+            lock.unlock();
             centralConnector.releaseConnection(connection);
             this.localModel = null;
         }
     }
 
+    private void rollbackRepositoryTransaction() {
+        try {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+        } catch (RepositoryException e) {
+            LOG.error("Unable to rollback repository transaction.", e);
+        }
+    }
+
     @Override
     public void rollback() throws Rdf4jDriverException {
         transaction.rollback();
@@ -198,6 +250,39 @@ public class PoolingStorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        verifyTransactionActive();
+        try {
+            final List<Statement> result = new ArrayList<>();
+            for (Map.Entry<Resource, Collection<Statement>> e : new SubjectStatementsFinder(subjects)
+                    .find(connection, includeInferred).entrySet()) {
+                result.addAll(localModel.enhanceStatements(e.getValue().stream(), e.getKey(), null, null,
+                        Collections.emptySet()));
+            }
+            return result;
+        } catch (Rdf4jDriverException e) {
+            rollback();
+            throw e;
+        }
+    }
+
+    @Override
+    public Collection<Statement> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                                    boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        verifyTransactionActive();
+        try {
+            return new ListStatementsFinder(owner, hasList, hasNext, hasContent)
+                    .find(connection, includeInferred, contexts, (statements, subject, property) -> localModel
+                            .enhanceStatements(statements.stream(), subject, property, null, contexts));
+        } catch (Rdf4jDriverException e) {
+            rollback();
+            throw e;
+        }
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Set<IRI> contexts)
@@ -233,4 +318,41 @@ public class PoolingStorageConnector extends AbstractConnector {
         }
         return centralConnector.unwrap(cls);
     }
+
+    /**
+     * Lock used when the repository guarantees isolation and thus no synchronization is required.
+     */
+    private enum NoOpLock implements Lock {
+        INSTANCE;
+
+        @Override
+        public void lock() {
+            // Do nothing
+        }
+
+        @Override
+        public void lockInterruptibly() {
+            // Do nothing
+        }
+
+        @Override
+        public boolean tryLock() {
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            // Do nothing
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import org.eclipse.rdf4j.query.BooleanQuery;
+import org.eclipse.rdf4j.query.Operation;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.Update;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache of operations (queries and updates) prepared on a pooled repository connection.
+ * <p>
+ * Operations are keyed by their text, so repeated execution of the same query (typically a prepared statement executed
+ * with different parameter values) does not require the query to be parsed again. The cache lives as long as the
+ * connection it belongs to, i.e., it is reused by all transactions which get the connection from the pool.
+ * <p>
+ * An operation is leased for the time of its execution. A tuple query remains leased until its result is closed, so
+ * that its bindings cannot be changed while the result is still being read. If the operation is leased when the same
+ * text is to be executed again, a fresh operation is prepared.
+ * <p>
+ * The cache is bounded, the least recently used operation is discarded when the capacity is exceeded.
+ */
+class PreparedQueryCache {
+
+    static final int DEFAULT_CAPACITY = 128;
+
+    private final RepositoryConnection connection;
+    private final Statistics statistics;
+
+    private final Map<String, Operation> operations;
+
+    PreparedQueryCache(RepositoryConnection connection, Statistics statistics) {
+        this(connection, statistics, DEFAULT_CAPACITY);
+    }
+
+    PreparedQueryCache(RepositoryConnection connection, Statistics statistics, int capacity) {
+        assert capacity > 0;
+        this.connection = connection;
+        this.statistics = statistics;
+        this.operations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Operation> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Leases a tuple query with the specified text.
+     * <p>
+     * The query has no bindings set. It should be returned by {@link #release(String, Operation)} once its result is
+     * closed.
+     *
+     * @param query Query string
+     * @return Prepared query
+     */
+    TupleQuery leaseTupleQuery(String query) {
+        return lease(query, TupleQuery.class, q -> connection.prepareTupleQuery(QueryLanguage.SPARQL, q));
+    }
+
+    /**
+     * Leases a boolean query with the specified text.
+     *
+     * @param query Query string
+     * @return Prepared query
+     * @see #leaseTupleQuery(String)
+     */
+    BooleanQuery leaseBooleanQuery(String query) {
+        return lease(query, BooleanQuery.class, q -> connection.prepareBooleanQuery(QueryLanguage.SPARQL, q));
+    }
+
+    /**
+     * Leases an update with the specified text.
+     *
+     * @param update Update string
+     * @return Prepared update
+     * @see #leaseTupleQuery(String)
+     */
+    Update leaseUpdate(String update) {
+        return lease(update, Update.class, u -> connection.prepareUpdate(QueryLanguage.SPARQL, u));
+    }
+
+    private <O extends Operation> O lease(String text, Class<O> type, Function<String, O> preparer) {
+        final Operation cached;
+        synchronized (this) {
+            cached = operations.get(text);
+            if (type.isInstance(cached)) {
+                operations.remove(text);
+            }
+        }
+        if (type.isInstance(cached)) {
+            statistics.hits.increment();
+            cached.clearBindings();
+            return type.cast(cached);
+        }
+        statistics.misses.increment();
+        return preparer.apply(text);
+    }
+
+    /**
+     * Returns a leased operation to the cache, so that it can be reused by subsequent executions of the same text.
+     *
+     * @param text      Text of the operation
+     * @param operation The leased operation
+     */
+    synchronized void release(String text, Operation operation) {
+        operations.putIfAbsent(text, operation);
+    }
+
+    /**
+     * Gets the number of operations available for reuse.
+     *
+     * @return Number of cached operations
+     */
+    synchronized int size() {
+        return operations.size();
+    }
+
+    /**
+     * Hit and miss counts of prepared query caches.
+     * <p>
+     * One instance is shared by all the caches of a storage connector.
+     */
+    static final class Statistics {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        long getHitCount() {
+            return hits.sum();
+        }
+
+        long getMissCount() {
+            return misses.sum();
+        }
+    }
+}
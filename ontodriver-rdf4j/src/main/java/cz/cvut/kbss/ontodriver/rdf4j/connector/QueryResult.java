@@ -34,19 +34,37 @@ class QueryResult implements TupleQueryResult {
 
     private final TupleQueryResult result;
     private final RepositoryConnection connection;
+    private final Runnable afterClose;
+
+    private boolean closed;
 
     QueryResult(TupleQueryResult result, RepositoryConnection connection) {
+        this(result, connection, () -> {});
+    }
+
+    /**
+     * @param result     The wrapped result
+     * @param connection Connection to close together with the result
+     * @param afterClose Callback invoked once the result and the connection are closed
+     */
+    QueryResult(TupleQueryResult result, RepositoryConnection connection, Runnable afterClose) {
         this.result = result;
         this.connection = connection;
+        this.afterClose = afterClose;
     }
 
     @Override
     public void close() {
-        result.close();
         try {
+            result.close();
             connection.close();
         } catch (RepositoryException e) {
             throw new QueryEvaluationException(e);
+        } finally {
+            if (!closed) {
+                this.closed = true;
+                afterClose.run();
+            }
         }
     }
 
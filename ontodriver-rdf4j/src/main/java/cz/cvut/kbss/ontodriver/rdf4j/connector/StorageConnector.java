@@ -19,9 +19,12 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.init.RepositoryConnectorInitializer;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -33,15 +36,21 @@ import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.manager.RepositoryManager;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sparql.SPARQLRepository;
 import org.eclipse.rdf4j.sail.Sail;
 import org.eclipse.rdf4j.sail.helpers.SailWrapper;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -50,16 +59,27 @@ public class StorageConnector extends AbstractConnector {
 
     private static final Logger LOG = LoggerFactory.getLogger(StorageConnector.class);
 
+    /**
+     * Maximum number of idle repository connections kept for reuse.
+     */
+    static final int MAX_IDLE_CONNECTIONS = Constants.DEFAULT_MAX_CONNECTIONS;
+
     private final int maxReconnectAttempts;
+    private final IsolationLevel isolationLevel;
 
     private Repository repository;
     private final RepositoryManager manager;
     private RepositoryConnection connection;
 
+    private final Deque<RepositoryConnection> idleConnections = new ArrayDeque<>();
+    private final Map<RepositoryConnection, PreparedQueryCache> queryCaches = new IdentityHashMap<>();
+    private final PreparedQueryCache.Statistics queryStatistics = new PreparedQueryCache.Statistics();
+
     public StorageConnector(RepositoryConnectorInitializer repoInitializer) {
         this.repository = repoInitializer.getRepository();
         this.manager = repoInitializer.getManager();
         this.maxReconnectAttempts = repoInitializer.getMaxReconnectAttempts();
+        this.isolationLevel = repoInitializer.getTransactionIsolationLevel();
         this.open = true;
     }
 
@@ -70,6 +90,7 @@ public class StorageConnector extends AbstractConnector {
         }
         LOG.debug("Closing repository connector.");
         try {
+            closeIdleConnections();
             repository.shutDown();
             if (manager != null) {
                 manager.shutDown();
@@ -83,12 +104,44 @@ public class StorageConnector extends AbstractConnector {
 
     @Override
     public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
-        final RepositoryConnection conn = acquireConnection();
+        final RepositoryConnection conn = openConnection();
         return new ConnectionStatementExecutor(conn).executeSelectQuery(query);
         // The connection is released by the result set once it is closed
     }
 
+    /**
+     * Acquires a repository connection from the pool of idle connections, opening a new one if the pool is empty.
+     * <p>
+     * Connections acquired by this method should be returned by {@link #releaseConnection(RepositoryConnection)}, so
+     * that they, together with the queries prepared on them, can be reused.
+     *
+     * @return Repository connection
+     * @throws Rdf4jDriverException When unable to open a connection
+     * @see #getPreparedQueryCache(RepositoryConnection)
+     */
     RepositoryConnection acquireConnection() throws Rdf4jDriverException {
+        synchronized (idleConnections) {
+            RepositoryConnection conn;
+            while ((conn = idleConnections.poll()) != null) {
+                if (conn.isOpen()) {
+                    LOG.trace("Reusing pooled repository connection.");
+                    return conn;
+                }
+                queryCaches.remove(conn);
+            }
+        }
+        return openConnection();
+    }
+
+    /**
+     * Opens a new repository connection.
+     * <p>
+     * The connection is not pooled and should be closed by the caller.
+     *
+     * @return New repository connection
+     * @throws Rdf4jDriverException When unable to open a connection
+     */
+    RepositoryConnection openConnection() throws Rdf4jDriverException {
         // Workaround for local native storage being reset when multiple drivers access it
         if (!repository.isInitialized()) {
             repository.init();
@@ -110,34 +163,98 @@ public class StorageConnector extends AbstractConnector {
         }
     }
 
+    /**
+     * Returns the specified connection to the pool of idle connections.
+     * <p>
+     * The connection is closed instead if it is still in a repository transaction, the pool is full or this connector
+     * is closed.
+     *
+     * @param conn Connection acquired by {@link #acquireConnection()}
+     * @throws Rdf4jDriverException When unable to close the connection
+     */
     void releaseConnection(RepositoryConnection conn) throws Rdf4jDriverException {
+        if (conn == null) {
+            return;
+        }
         try {
-            if (conn != null) {
-                LOG.trace("Releasing repository connection.");
-                conn.close();
+            synchronized (idleConnections) {
+                if (open && conn.isOpen() && !conn.isActive() && idleConnections.size() < MAX_IDLE_CONNECTIONS) {
+                    LOG.trace("Returning repository connection to the pool.");
+                    idleConnections.push(conn);
+                    return;
+                }
+                queryCaches.remove(conn);
             }
+            LOG.trace("Releasing repository connection.");
+            conn.close();
         } catch (RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
 
+    /**
+     * Gets cache of queries prepared on the specified pooled connection.
+     * <p>
+     * The cache is bound to the connection and is discarded when the connection is closed.
+     *
+     * @param conn Connection acquired by {@link #acquireConnection()}
+     * @return Prepared query cache
+     */
+    PreparedQueryCache getPreparedQueryCache(RepositoryConnection conn) {
+        synchronized (idleConnections) {
+            return queryCaches.computeIfAbsent(conn, c -> new PreparedQueryCache(c, queryStatistics));
+        }
+    }
+
+    /**
+     * Gets the number of query executions which reused a query prepared on a pooled connection.
+     *
+     * @return Number of prepared query cache hits
+     */
+    public long getPreparedQueryHitCount() {
+        return queryStatistics.getHitCount();
+    }
+
+    /**
+     * Gets the number of query executions on pooled connections which had to prepare (and parse) the query.
+     *
+     * @return Number of prepared query cache misses
+     */
+    public long getPreparedQueryMissCount() {
+        return queryStatistics.getMissCount();
+    }
+
+    private void closeIdleConnections() {
+        synchronized (idleConnections) {
+            idleConnections.forEach(conn -> {
+                try {
+                    conn.close();
+                } catch (RepositoryException e) {
+                    LOG.warn("Unable to close pooled repository connection.", e);
+                }
+            });
+            idleConnections.clear();
+            queryCaches.clear();
+        }
+    }
+
     @Override
     public boolean executeBooleanQuery(QuerySpecification query) throws Rdf4jDriverException {
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             return new ConnectionStatementExecutor(conn).executeBooleanQuery(query);
         }
     }
 
     @Override
     public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             new ConnectionStatementExecutor(conn).executeUpdate(query);
         }
     }
 
     @Override
     public List<Resource> getContexts() throws Rdf4jDriverException {
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             return conn.getContextIDs().stream().collect(Collectors.toList());
         } catch (RepositoryException e) {
             throw new Rdf4jDriverException(e);
@@ -152,15 +269,54 @@ public class StorageConnector extends AbstractConnector {
     @Override
     public void begin() throws Rdf4jDriverException {
         super.begin();
-        this.connection = acquireConnection();
+        this.connection = openConnection();
         try {
-            connection.begin();
+            beginTransaction(connection);
         } catch (RepositoryException e) {
             transaction.rollback();
             throw new Rdf4jDriverException(e);
         }
     }
 
+    /**
+     * Begins a repository transaction on the specified connection, using the configured isolation level, if any.
+     *
+     * @param conn Connection to begin transaction on
+     */
+    void beginTransaction(RepositoryConnection conn) {
+        if (isolationLevel != null) {
+            conn.begin(isolationLevel);
+        } else {
+            conn.begin();
+        }
+    }
+
+    /**
+     * Checks whether repository transactions started by this connector are guaranteed to be isolated from each other.
+     * <p>
+     * Uncommitted changes must not be visible to other transactions, i.e., the transactions must run at least on the
+     * {@code READ_COMMITTED} isolation level. This holds when such a level is configured explicitly, or when no level is
+     * configured and the repository is a local SAIL repository whose default isolation level provides it. SPARQL
+     * endpoints do not support transactions at all and remote HTTP stores need not support server-side transactions, so
+     * they are not considered isolating unless the isolation level is configured.
+     *
+     * @return {@code true} if repository transactions are isolated, {@code false} otherwise
+     * @see cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties#TRANSACTION_ISOLATION_LEVEL
+     */
+    boolean isTransactionIsolationGuaranteed() {
+        if (repository instanceof SPARQLRepository) {
+            return false;
+        }
+        if (isolationLevel != null) {
+            return isolationLevel.isCompatibleWith(IsolationLevels.READ_COMMITTED);
+        }
+        if (repository instanceof SailRepository) {
+            final IsolationLevel defaultLevel = ((SailRepository) repository).getSail().getDefaultIsolationLevel();
+            return defaultLevel.isCompatibleWith(IsolationLevels.READ_COMMITTED);
+        }
+        return false;
+    }
+
     @Override
     public void commit() throws Rdf4jDriverException {
         assert connection != null;
@@ -222,13 +378,17 @@ public class StorageConnector extends AbstractConnector {
         assert connection != null;
 
         try {
-            spc.forEach(spcItem -> connection.remove(spcItem.getSubject(), spcItem.getPredicate(), null, spcItem.getContexts()
-                                                                                                                .toArray(Resource[]::new)));
+            removePropertyValues(connection, spc);
         } catch (RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
 
+    static void removePropertyValues(RepositoryConnection conn, Collection<SubjectPredicateContext> spc) {
+        spc.forEach(spcItem -> conn.remove(spcItem.getSubject(), spcItem.getPredicate(), null, spcItem.getContexts()
+                                                                                                .toArray(Resource[]::new)));
+    }
+
     @Override
     public Collection<Statement> findStatements(Resource subject, IRI property, Value value, boolean includeInferred)
             throws Rdf4jDriverException {
@@ -239,7 +399,7 @@ public class StorageConnector extends AbstractConnector {
     public Collection<Statement> findStatements(Resource subject, org.eclipse.rdf4j.model.IRI property,
                                                 Value value, boolean includeInferred, Set<IRI> context)
             throws Rdf4jDriverException {
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             return conn.getStatements(subject, property, null, includeInferred, context.toArray(new IRI[0])).stream()
                        .collect(Collectors.toList());
         } catch (RepositoryException e) {
@@ -247,11 +407,35 @@ public class StorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        try (final RepositoryConnection conn = openConnection()) {
+            final List<Statement> result = new ArrayList<>();
+            new SubjectStatementsFinder(subjects).find(conn, includeInferred).values().forEach(result::addAll);
+            return result;
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    @Override
+    public Collection<Statement> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI hasContent,
+                                                    boolean includeInferred, Set<IRI> contexts)
+            throws Rdf4jDriverException {
+        try (final RepositoryConnection conn = openConnection()) {
+            return new ListStatementsFinder(owner, hasList, hasNext, hasContent)
+                    .find(conn, includeInferred, contexts, (statements, subject, property) -> statements);
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Set<IRI> contexts) throws Rdf4jDriverException {
         assert contexts != null;
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             return conn.hasStatement(subject, property, value, includeInferred, contexts.toArray(new IRI[0]));
         } catch (RepositoryException e) {
             throw new Rdf4jDriverException(e);
@@ -261,7 +445,7 @@ public class StorageConnector extends AbstractConnector {
     @Override
     public boolean isInferred(Statement statement, Set<IRI> contexts) throws Rdf4jDriverException {
         assert contexts != null;
-        try (final RepositoryConnection conn = acquireConnection()) {
+        try (final RepositoryConnection conn = openConnection()) {
             final IRI[] ctxArr = contexts.toArray(new IRI[0]);
             return conn.hasStatement(statement, true, ctxArr) && !conn.hasStatement(statement, false, ctxArr);
         } catch (RepositoryException e) {
@@ -298,6 +482,7 @@ public class StorageConnector extends AbstractConnector {
         if (transaction.isActive()) {
             throw new IllegalStateException("Cannot replace repository in transaction.");
         }
+        closeIdleConnections();
         repository.shutDown();
         assert newRepository.isInitialized();
         this.repository = newRepository;
@@ -61,7 +61,7 @@ public final class SubjectPredicateContext {
 
     public boolean matches(Statement s) {
         return subject.equals(s.getSubject()) && predicate.equals(s.getPredicate()) &&
-                (contexts.isEmpty() || contexts.contains(s.getContext()));
+                (contexts.isEmpty() || s.getContext() != null && contexts.contains(s.getContext()));
     }
 
     @Override
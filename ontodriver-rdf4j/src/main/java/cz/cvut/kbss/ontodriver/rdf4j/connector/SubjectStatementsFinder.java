@@ -0,0 +1,129 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+import java.util.*;
+
+/**
+ * Finds statements of multiple subjects.
+ * <p>
+ * Statements of IRI subjects are retrieved using one SPARQL query per chunk of subjects, the context of each
+ * statement is preserved. Statements of other (blank node) subjects cannot be matched by a query and are retrieved
+ * from the connection separately.
+ * <p>
+ * The query matches both the default graph and all named graphs, because the default graph need not be the union of
+ * named graphs (e.g., in a SPARQL endpoint). On stores where it is the union, a statement from a named graph is matched
+ * in the default graph as well, so a default graph match is used only if the same triple was not found in any named
+ * graph.
+ */
+final class SubjectStatementsFinder {
+
+    /**
+     * Maximum number of subjects in the {@code VALUES} clause of one query.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final Collection<? extends Resource> subjects;
+
+    SubjectStatementsFinder(Collection<? extends Resource> subjects) {
+        this.subjects = Objects.requireNonNull(subjects);
+    }
+
+    /**
+     * Finds all statements of the subjects using the specified connection.
+     * <p>
+     * The result contains an entry for every subject, even if no statements were found for it.
+     *
+     * @param connection      Repository connection
+     * @param includeInferred Whether to include inferred statements
+     * @return Statements of the subjects, grouped by subject
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Map<Resource, Collection<Statement>> find(RepositoryConnection connection, boolean includeInferred)
+            throws Rdf4jDriverException {
+        final Map<Resource, Collection<Statement>> result = new LinkedHashMap<>(subjects.size());
+        final List<IRI> chunk = new ArrayList<>(Math.min(subjects.size(), CHUNK_SIZE));
+        try {
+            for (Resource subject : subjects) {
+                final Collection<Statement> statements = result.computeIfAbsent(subject, k -> new LinkedHashSet<>());
+                if (subject instanceof IRI) {
+                    chunk.add((IRI) subject);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        evaluate(connection, chunk, includeInferred, result);
+                        chunk.clear();
+                    }
+                } else {
+                    connection.getStatements(subject, null, null, includeInferred).forEach(statements::add);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                evaluate(connection, chunk, includeInferred, result);
+            }
+        } catch (QueryEvaluationException | RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+        return result;
+    }
+
+    private static void evaluate(RepositoryConnection connection, List<IRI> chunk, boolean includeInferred,
+                                 Map<Resource, Collection<Statement>> result) {
+        final TupleQuery query = connection.prepareTupleQuery(QueryLanguage.SPARQL, buildQuery(chunk));
+        query.setIncludeInferred(includeInferred);
+        final ValueFactory vf = connection.getValueFactory();
+        // Triples (without context) found in named graphs
+        final Set<Statement> inNamedGraphs = new HashSet<>();
+        final List<Statement> inDefaultGraph = new ArrayList<>();
+        try (final TupleQueryResult queryResult = query.evaluate()) {
+            while (queryResult.hasNext()) {
+                final BindingSet bindings = queryResult.next();
+                final Resource subject = (Resource) bindings.getValue("s");
+                final Statement triple =
+                        vf.createStatement(subject, (IRI) bindings.getValue("p"), bindings.getValue("o"));
+                final Resource graph = (Resource) bindings.getValue("g");
+                if (graph != null) {
+                    inNamedGraphs.add(triple);
+                    result.get(subject).add(vf.createStatement(subject, triple.getPredicate(), triple.getObject(),
+                            graph));
+                } else {
+                    inDefaultGraph.add(triple);
+                }
+            }
+        }
+        inDefaultGraph.stream().filter(triple -> !inNamedGraphs.contains(triple))
+                      .forEach(triple -> result.get(triple.getSubject()).add(triple));
+    }
+
+    private static String buildQuery(List<IRI> chunk) {
+        final StringBuilder sb = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { VALUES ?s { ");
+        chunk.forEach(s -> sb.append('<').append(s.stringValue()).append("> "));
+        return sb.append("} { ?s ?p ?o } UNION { GRAPH ?g { ?s ?p ?o } } }").toString();
+    }
+}
@@ -24,6 +24,8 @@ import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.RepositoryCreationException;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.RepositoryNotFoundException;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.vocabulary.CONFIG;
@@ -54,6 +56,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
 
@@ -68,6 +71,7 @@ public class RepositoryConnectorInitializer {
 
     private final DriverConfiguration configuration;
     private final int maxReconnectAttempts;
+    private final IsolationLevel transactionIsolationLevel;
 
     private RepositoryManager manager;
     private Repository repository;
@@ -75,6 +79,7 @@ public class RepositoryConnectorInitializer {
     public RepositoryConnectorInitializer(DriverConfiguration configuration) throws Rdf4jDriverException {
         this.configuration = configuration;
         this.maxReconnectAttempts = resolveMaxReconnectAttempts();
+        this.transactionIsolationLevel = resolveTransactionIsolationLevel();
     }
 
     private int resolveMaxReconnectAttempts() throws Rdf4jDriverException {
@@ -97,6 +102,20 @@ public class RepositoryConnectorInitializer {
                         ". Must be a non-negative integer.");
     }
 
+    private IsolationLevel resolveTransactionIsolationLevel() throws Rdf4jDriverException {
+        if (!configuration.isSet(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL)) {
+            return null;
+        }
+        final String value = configuration.getProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL);
+        try {
+            return IsolationLevels.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new Rdf4jDriverException(
+                    "Invalid value of configuration parameter " + Rdf4jOntoDriverProperties.TRANSACTION_ISOLATION_LEVEL +
+                            ". Must be one of " + Arrays.toString(IsolationLevels.values()) + ".");
+        }
+    }
+
     public void initializeRepository() throws Rdf4jDriverException {
         final URI serverUri = configuration.getStorageProperties().getPhysicalURI();
         LOG.debug("Initializing connector to repository at {}", serverUri);
@@ -299,4 +318,13 @@ public class RepositoryConnectorInitializer {
     public int getMaxReconnectAttempts() {
         return maxReconnectAttempts;
     }
+
+    /**
+     * Gets the configured isolation level of repository transactions.
+     *
+     * @return Isolation level, {@code null} if the repository default should be used
+     */
+    public IsolationLevel getTransactionIsolationLevel() {
+        return transactionIsolationLevel;
+    }
 }
@@ -22,11 +22,14 @@ import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ValueConverter;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -45,7 +48,16 @@ abstract class AbstractListIterator<JT> implements ListIterator<JT> {
 
     protected final ValueConverter valueConverter;
 
+    /**
+     * Statements of the whole list loaded in advance, {@code null} if statements should be retrieved from the connector
+     */
+    private final Model listStatements;
+
     public AbstractListIterator(ListDescriptor listDescriptor, Connector connector, ValueFactory vf) {
+        this(listDescriptor, connector, vf, null);
+    }
+
+    AbstractListIterator(ListDescriptor listDescriptor, Connector connector, ValueFactory vf, Model listStatements) {
         this.listOwner = Rdf4jUtils.toRdf4jIri(listDescriptor.getListOwner().getIdentifier(), vf);
         this.hasListProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getListProperty()
                                                                      .getIdentifier(), vf);
@@ -55,12 +67,30 @@ abstract class AbstractListIterator<JT> implements ListIterator<JT> {
         this.connector = connector;
         this.vf = vf;
         this.valueConverter = new ValueConverter(vf);
+        this.listStatements = listStatements;
     }
 
     protected Set<IRI> contexts() {
         return context != null ? Collections.singleton(context) : Collections.emptySet();
     }
 
+    /**
+     * Finds values of the specified property of the specified list node (or list owner).
+     * <p>
+     * If statements of the list have been loaded in advance, they are used instead of querying the connector.
+     *
+     * @param subject  List node
+     * @param property Property whose values to find
+     * @return Matching statements
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    protected Collection<Statement> findStatements(Resource subject, IRI property) throws Rdf4jDriverException {
+        if (listStatements != null) {
+            return new ArrayList<>(listStatements.filter(subject, property, null));
+        }
+        return connector.findStatements(subject, property, null, includeInferred, contexts());
+    }
+
     protected void checkSuccessorMax(Collection<Statement> stmts, IRI property) {
         // We don't mind the same statement multiple times, it could have been added during transaction
         if (new HashSet<>(stmts).size() > 1) {
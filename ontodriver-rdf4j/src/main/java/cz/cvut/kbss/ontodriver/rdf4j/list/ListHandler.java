@@ -19,21 +19,21 @@ package cz.cvut.kbss.ontodriver.rdf4j.list;
 
 import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ListValueDescriptor;
-import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Base class for list handlers.
@@ -74,51 +74,82 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
 
     /**
      * Updates list with values specified by the descriptor.
+     * <p>
+     * The original list is loaded once and compared to the updated values. Only statements which differ between the
+     * original and the updated list are then removed and added, each in a single connector call.
      *
      * @param listValueDescriptor Describes the updated values
      * @throws Rdf4jDriverException When storage access error occurs
      */
     public void updateList(VD listValueDescriptor) throws Rdf4jDriverException {
-        if (listValueDescriptor.getValues().isEmpty()) {
-            clearList(listValueDescriptor);
-        } else if (isOldListEmpty(owner(listValueDescriptor), hasList(listValueDescriptor),
-                listValueDescriptor.getListProperty().isInferred(), contexts(listValueDescriptor))) {
-            persistList(listValueDescriptor);
-        } else {
-            mergeList(listValueDescriptor);
+        final Model originalList = loadListStatements(listValueDescriptor, hasContent(listValueDescriptor));
+        final List<Statement> originalStatements = new ArrayList<>();
+        final List<Statement> updatedStatements = new ArrayList<>();
+        mergeList(listValueDescriptor, originalList, originalStatements, updatedStatements);
+        final Set<Statement> originalTriples = toTriples(originalStatements);
+        final Set<Statement> updatedTriples = toTriples(updatedStatements);
+        final List<Statement> toRemove = originalStatements.stream()
+                                                           .filter(s -> !updatedTriples.contains(toTriple(s)))
+                                                           .collect(Collectors.toList());
+        final List<Statement> toAdd = updatedStatements.stream()
+                                                       .filter(s -> !originalTriples.contains(toTriple(s)))
+                                                       .collect(Collectors.toList());
+        if (!toRemove.isEmpty()) {
+            connector.removeStatements(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            connector.addStatements(toAdd);
         }
     }
 
-    protected abstract void clearList(VD listDescriptor) throws Rdf4jDriverException;
+    /**
+     * Resolves statements of the original list and statements of the updated list.
+     * <p>
+     * Original statements are those actually present in the repository (i.e., including their context), updated
+     * statements are created from the values in the descriptor. Statements present in both lists are left untouched by
+     * the update.
+     *
+     * @param listDescriptor     Describes the updated values
+     * @param originalList       Statements of the original list loaded from the repository
+     * @param originalStatements Collection into which statements of the original list should be added
+     * @param updatedStatements  Collection into which statements of the updated list should be added
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    protected abstract void mergeList(VD listDescriptor, Model originalList, Collection<Statement> originalStatements,
+                                      Collection<Statement> updatedStatements) throws Rdf4jDriverException;
 
-    protected abstract void mergeList(VD listDescriptor) throws Rdf4jDriverException;
+    /**
+     * Gets the node content property of the specified list.
+     *
+     * @param listValueDescriptor List descriptor
+     * @return Node content property, {@code null} for simple lists
+     */
+    abstract IRI hasContent(VD listValueDescriptor);
 
-    boolean isOldListEmpty(Resource owner, IRI hasListProperty, boolean includeInferred,
-                                   Set<IRI> contexts) throws Rdf4jDriverException {
-        final Collection<Statement> stmts = connector.findStatements(owner, hasListProperty, null,
-                includeInferred, contexts);
-        return stmts.isEmpty();
+    private Set<Statement> toTriples(Collection<Statement> statements) {
+        return statements.stream().map(this::toTriple).collect(Collectors.toSet());
     }
 
-    void removeObsoletes(ListIterator<?> it) throws Rdf4jDriverException {
-        while (it.hasNext()) {
-            it.nextNode();
-            it.remove();
-        }
+    private Statement toTriple(Statement statement) {
+        return statement.getContext() != null ?
+               vf.createStatement(statement.getSubject(), statement.getPredicate(), statement.getObject()) : statement;
     }
 
-    Resource extractListNode(Collection<Statement> stmts, IRI nodeAssertion) {
-        if (stmts.size() > 1) {
-            throw new IntegrityConstraintViolatedException(
-                    "Invalid number of values found for assertion " + nodeAssertion + ". Expected 1, got " +
-                            stmts.size());
-        }
-        final Value val = stmts.iterator().next().getObject();
-        if (!(val instanceof Resource)) {
-            throw new IntegrityConstraintViolatedException(
-                    "Invalid property value. Expected object property value, got literal.");
-        }
-        return (Resource) val;
+    /**
+     * Loads all statements forming the specified list.
+     * <p>
+     * The statements are retrieved in as few repository calls as the connector allows, so that the list can be
+     * subsequently iterated without accessing the repository.
+     *
+     * @param listDescriptor List descriptor
+     * @param hasContent     Node content property, {@code null} for simple lists
+     * @return Statements of the list
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    Model loadListStatements(ListDescriptor listDescriptor, IRI hasContent) throws Rdf4jDriverException {
+        return new LinkedHashModel(connector.findListStatements(owner(listDescriptor), hasList(listDescriptor),
+                hasNext(listDescriptor), hasContent, listDescriptor.getListProperty().isInferred(),
+                contexts(listDescriptor)));
     }
 
     Set<IRI> contexts(ListDescriptor listDescriptor) {
@@ -145,15 +176,4 @@ abstract class ListHandler<VD extends ListValueDescriptor<?>> {
     IRI toRdf4jIri(java.net.URI uri) {
         return Rdf4jUtils.toRdf4jIri(uri, vf);
     }
-
-
-    static final class MergeResult {
-        final int i;
-        final Resource previous;
-
-        MergeResult(int i, Resource node) {
-            this.i = i;
-            this.previous = node;
-        }
-    }
 }
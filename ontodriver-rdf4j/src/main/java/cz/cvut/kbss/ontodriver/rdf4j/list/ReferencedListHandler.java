@@ -24,18 +24,22 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.ValueConverter;
+import cz.cvut.kbss.ontodriver.util.ListDiff;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 public class ReferencedListHandler extends ListHandler<ReferencedListValueDescriptor<?>> {
 
@@ -56,7 +60,8 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
      */
     public List<Axiom<?>> loadList(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
         final List<Axiom<?>> axioms = new ArrayList<>();
-        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
+        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf,
+                loadListStatements(listDescriptor, hasContent(listDescriptor)));
         while (it.hasNext()) {
             axioms.add(it.nextAxiom());
         }
@@ -126,71 +131,65 @@ public class ReferencedListHandler extends ListHandler<ReferencedListValueDescri
     }
 
     @Override
-    protected void clearList(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
-        final IRI hasNext = hasNext(listDescriptor);
-        final IRI hasContent = hasContent(listDescriptor);
-        final boolean includeInferred = listDescriptor.getListProperty().isInferred();
-        final Set<IRI> context = contexts(listDescriptor);
-        Resource previous = owner(listDescriptor);
-        IRI currentProperty = hasList(listDescriptor);
-        final Collection<Statement> toRemove = new ArrayList<>();
-        Collection<Statement> next;
-        do {
-            next = connector.findStatements(previous, currentProperty, null, includeInferred, context);
-            if (!next.isEmpty()) {
-                final Resource node = extractListNode(next, currentProperty);
-                toRemove.addAll(next);
-                toRemove.addAll(connector.findStatements(node, hasContent, null, includeInferred, context));
-                previous = node;
-            }
-            currentProperty = hasNext;
-        } while (!next.isEmpty());
-        connector.removeStatements(toRemove);
+    IRI hasContent(ReferencedListValueDescriptor<?> listValueDescriptor) {
+        return hasContent((ReferencedListDescriptor) listValueDescriptor);
     }
 
-    protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor) throws Rdf4jDriverException {
-        final ListIterator<Object> it = new ReferencedListIterator<>(listDescriptor, connector, vf);
-        final ListHandler.MergeResult mergeResult = mergeWithOriginalList((ReferencedListValueDescriptor<Object>) listDescriptor, it);
-        removeObsoletes(it);
-        assert mergeResult.i > 0;
-        assert mergeResult.previous != null;
-        if (mergeResult.i < listDescriptor.getValues().size()) {
-            appendNewNodes(listDescriptor, mergeResult);
-        }
-    }
-
-    <V> MergeResult mergeWithOriginalList(ReferencedListValueDescriptor<V> listDescriptor, ListIterator<V> it)
-            throws Rdf4jDriverException {
-        int i = 0;
-        Resource node = null;
-        while (it.hasNext() && i < listDescriptor.getValues().size()) {
-            node = it.nextNode();
-            final V content = it.currentContent();
-            final V newNode = listDescriptor.getValues().get(i);
-            if (!content.equals(newNode)) {
-                it.replaceCurrentWith(newNode);
-            }
-            i++;
-        }
-        return new MergeResult(i, node);
-    }
-
-    <V> void appendNewNodes(ReferencedListValueDescriptor<V> listDescriptor, MergeResult mergeResult)
+    /**
+     * Nodes of the original list are matched to the updated values using their longest common subsequence, so that
+     * nodes whose content did not change keep their position in the list.
+     * <p>
+     * Original nodes with no match are reused for inserted values (only their content is replaced), new nodes are
+     * generated only when the list grows.
+     */
+    @Override
+    protected void mergeList(ReferencedListValueDescriptor<?> listDescriptor, Model originalList,
+                             Collection<Statement> originalStatements, Collection<Statement> updatedStatements)
             throws Rdf4jDriverException {
-        int i = mergeResult.i;
-        Resource previous = mergeResult.previous;
         final IRI owner = owner(listDescriptor);
+        final IRI hasList = hasList(listDescriptor);
         final IRI hasNext = hasNext(listDescriptor);
         final IRI hasContent = hasContent(listDescriptor);
         final IRI context = context(listDescriptor);
-        assert i > 0;
-        final Collection<Statement> toAdd = new ArrayList<>((listDescriptor.getValues().size() - i) * 2);
-        while (i < listDescriptor.getValues().size()) {
-            final Collection<Value> content = toRdf4jValue(listDescriptor.getNodeContent(), listDescriptor.getValues()
-                                                                                                          .get(i));
-            previous = createListNode(owner, hasNext, hasContent, content, context, previous, toAdd);
-            i++;
+        final List<Resource> originalNodes = new ArrayList<>();
+        final List<Object> originalValues = new ArrayList<>();
+        final ListIterator<?> it = new ReferencedListIterator<>(listDescriptor, connector, vf, originalList);
+        Resource previous = owner;
+        IRI link = hasList;
+        while (it.hasNext()) {
+            final Resource node = it.nextNode();
+            originalNodes.add(node);
+            originalValues.add(it.currentContent());
+            originalStatements.addAll(originalList.filter(previous, link, node));
+            originalStatements.addAll(originalList.filter(node, hasContent, null));
+            previous = node;
+            link = hasNext;
+        }
+
+        final List<?> values = listDescriptor.getValues();
+        final int[] matches = ListDiff.match(originalValues, values);
+        final boolean[] matched = new boolean[originalNodes.size()];
+        Arrays.stream(matches).filter(i -> i != -1).forEach(i -> matched[i] = true);
+        final Deque<Resource> unusedNodes = new ArrayDeque<>();
+        for (int i = 0; i < originalNodes.size(); i++) {
+            if (!matched[i]) {
+                unusedNodes.add(originalNodes.get(i));
+            }
+        }
+        previous = owner;
+        link = hasList;
+        for (int i = 0; i < values.size(); i++) {
+            final Resource node;
+            if (matches[i] != -1) {
+                node = originalNodes.get(matches[i]);
+            } else {
+                node = unusedNodes.isEmpty() ? generateSequenceNode(owner, context) : unusedNodes.poll();
+            }
+            updatedStatements.add(vf.createStatement(previous, link, node, context));
+            toRdf4jValue(listDescriptor.getNodeContent(), values.get(i))
+                    .forEach(v -> updatedStatements.add(vf.createStatement(node, hasContent, v, context)));
+            previous = node;
+            link = hasNext;
         }
-        connector.addStatements(toAdd);
     }
 }
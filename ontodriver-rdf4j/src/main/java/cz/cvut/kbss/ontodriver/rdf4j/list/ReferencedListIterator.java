@@ -29,6 +29,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -54,7 +55,12 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
 
     public ReferencedListIterator(ReferencedListDescriptor listDescriptor, Connector connector, ValueFactory vf)
             throws Rdf4jDriverException {
-        super(listDescriptor, connector, vf);
+        this(listDescriptor, connector, vf, null);
+    }
+
+    ReferencedListIterator(ReferencedListDescriptor listDescriptor, Connector connector, ValueFactory vf,
+                           Model listStatements) throws Rdf4jDriverException {
+        super(listDescriptor, connector, vf, listStatements);
         this.listDescriptor = listDescriptor;
         this.hasContentProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getNodeContent().getIdentifier(), vf);
         this.currentProperty = hasListProperty;
@@ -62,7 +68,7 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
     }
 
     private void init() throws Rdf4jDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = findStatements(listOwner, hasListProperty);
     }
 
     @Override
@@ -86,12 +92,11 @@ class ReferencedListIterator<T> extends AbstractListIterator<T> {
         checkObjectIsResource(currentNode);
         final Resource elem = (Resource) currentNode.getObject();
         this.currentContent = getNodeContent(elem);
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = findStatements(elem, hasNextProperty);
     }
 
     private Collection<Statement> getNodeContent(Resource node) throws Rdf4jDriverException {
-        final Collection<Statement> elements = connector.findStatements(node, hasContentProperty,
-                null, includeInferred, contexts());
+        final Collection<Statement> elements = findStatements(node, hasContentProperty);
         checkSuccessorMax(elements, hasContentProperty);
         if (elements.isEmpty()) {
             throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
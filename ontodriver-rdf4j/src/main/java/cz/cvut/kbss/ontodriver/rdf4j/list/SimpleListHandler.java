@@ -24,6 +24,7 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -32,7 +33,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
 
@@ -48,7 +48,8 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
      */
     public List<Axiom<NamedResource>> loadList(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
         final List<Axiom<NamedResource>> axioms = new ArrayList<>();
-        final ListIterator<NamedResource> it = new SimpleListIterator(listDescriptor, connector, vf);
+        final ListIterator<NamedResource> it =
+                new SimpleListIterator(listDescriptor, connector, vf, loadListStatements(listDescriptor, null));
         while (it.hasNext()) {
             axioms.add(it.nextAxiom());
         }
@@ -79,74 +80,34 @@ public class SimpleListHandler extends ListHandler<SimpleListValueDescriptor> {
         return statements;
     }
 
-    /**
-     * We are using this code instead of iterator.remove for performance reasons. The iterator has to reconnect the list
-     * for each removed node, which takes a lot of time.
-     */
-    protected void clearList(SimpleListValueDescriptor listValueDescriptor) throws Rdf4jDriverException {
-        final Set<IRI> contexts = contexts(listValueDescriptor);
-        final Collection<Statement> toRemove = new ArrayList<>();
-        IRI currentProperty = hasList(listValueDescriptor);
-        final IRI hasNext = hasNext(listValueDescriptor);
-        final boolean includeInferred = listValueDescriptor.getNextNode().isInferred();
-        Collection<Statement> stmts;
-        Resource subject = owner(listValueDescriptor);
-        do {
-            stmts = connector.findStatements(subject, currentProperty, null, includeInferred, contexts);
-            if (!stmts.isEmpty()) {
-                subject = extractListNode(stmts, hasNext);
-                toRemove.addAll(stmts);
-            }
-            currentProperty = hasNext;
-        } while (!stmts.isEmpty());
-        connector.removeStatements(toRemove);
-    }
-
-    protected void mergeList(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
-        final ListIterator<NamedResource> it = iterator(listDescriptor);
-        final ListHandler.MergeResult mergeResult = mergeWithOriginalList(listDescriptor, it);
-        removeObsoletes(it);
-        assert mergeResult.i > 0;
-        assert mergeResult.previous != null;
-        if (mergeResult.i < listDescriptor.getValues().size()) {
-            appendNewNodes(listDescriptor, mergeResult);
-        }
+    @Override
+    IRI hasContent(SimpleListValueDescriptor listValueDescriptor) {
+        return null;
     }
 
-    MergeResult mergeWithOriginalList(SimpleListValueDescriptor listDescriptor, ListIterator<NamedResource> it) throws
-            Rdf4jDriverException {
-        int i = 0;
-        Resource node = null;
-        while (it.hasNext() && i < listDescriptor.getValues().size()) {
-            node = it.nextNode();
-            final NamedResource newNode = listDescriptor.getValues().get(i);
-            if (!node.stringValue().equals(newNode.getIdentifier().toString())) {
-                node = toRdf4jIri(newNode.getIdentifier());
-                it.replaceCurrentWith(newNode);
-            }
-            i++;
+    /**
+     * Nodes of a simple list are its values, so the list is determined by its link statements.
+     * <p>
+     * Links shared by the original and the updated list (i.e., unchanged neighbours) are kept, only links of nodes
+     * which were inserted, removed or moved are replaced.
+     */
+    @Override
+    protected void mergeList(SimpleListValueDescriptor listDescriptor, Model originalList,
+                             Collection<Statement> originalStatements, Collection<Statement> updatedStatements)
+            throws Rdf4jDriverException {
+        final ListIterator<NamedResource> it = new SimpleListIterator(listDescriptor, connector, vf, originalList);
+        final IRI hasNext = hasNext(listDescriptor);
+        Resource previous = owner(listDescriptor);
+        IRI link = hasList(listDescriptor);
+        while (it.hasNext()) {
+            final Resource node = it.nextNode();
+            originalStatements.addAll(originalList.filter(previous, link, node));
+            previous = node;
+            link = hasNext;
         }
-        return new MergeResult(i, node);
-    }
-
-    void appendNewNodes(SimpleListValueDescriptor listDescriptor, MergeResult mergeResult) throws
-            Rdf4jDriverException {
-        int i = mergeResult.i;
-        final Collection<Statement> toAdd = new ArrayList<>(listDescriptor.getValues().size() - i);
-        Resource previous = mergeResult.previous;
-        final IRI nextNode = toRdf4jIri(listDescriptor.getNextNode().getIdentifier());
-        final IRI context = context(listDescriptor);
-        while (i < listDescriptor.getValues().size()) {
-            final Resource newNode = toRdf4jIri(listDescriptor.getValues().get(i).getIdentifier());
-            final Statement stmt = vf.createStatement(previous, nextNode, newNode, context);
-            toAdd.add(stmt);
-            previous = newNode;
-            i++;
+        if (!listDescriptor.getValues().isEmpty()) {
+            final IRI head = createListHead(listDescriptor, updatedStatements);
+            updatedStatements.addAll(createListRest(head, listDescriptor));
         }
-        connector.addStatements(toAdd);
-    }
-
-    private ListIterator<NamedResource> iterator(SimpleListValueDescriptor listDescriptor) throws Rdf4jDriverException {
-        return new SimpleListIterator(listDescriptor, connector, vf);
     }
 }
@@ -26,6 +26,7 @@ import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -46,14 +47,19 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
 
     public SimpleListIterator(SimpleListDescriptor listDescriptor, Connector connector, ValueFactory vf)
             throws Rdf4jDriverException {
-        super(listDescriptor, connector, vf);
+        this(listDescriptor, connector, vf, null);
+    }
+
+    SimpleListIterator(SimpleListDescriptor listDescriptor, Connector connector, ValueFactory vf,
+                       Model listStatements) throws Rdf4jDriverException {
+        super(listDescriptor, connector, vf, listStatements);
         this.listDescriptor = listDescriptor;
         this.currentProperty = hasListProperty;
         init();
     }
 
     private void init() throws Rdf4jDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = findStatements(listOwner, hasListProperty);
     }
 
     @Override
@@ -78,7 +84,7 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
         this.currentProperty = current.getPredicate();
         checkObjectIsResource(current);
         final Resource elem = (Resource) current.getObject();
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = findStatements(elem, hasNextProperty);
     }
 
     @Override
@@ -93,7 +99,7 @@ class SimpleListIterator extends AbstractListIterator<NamedResource> {
         nextInternal();
         assert current.getObject().isResource();
 
-        final Assertion assertion = current.getPredicate() == hasListProperty ? listDescriptor
+        final Assertion assertion = hasListProperty.equals(current.getPredicate()) ? listDescriptor
                 .getListProperty() : listDescriptor.getNextNode();
         return createAxiom(current.getSubject(), assertion, (Resource) current.getObject());
     }
@@ -101,6 +101,29 @@ public class StatementLoader {
     private Collection<Axiom<?>> loadAll(AxiomDescriptor descriptor,
                                          Map<IRI, Assertion> properties) throws Rdf4jDriverException {
         final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
+        return statementsToAxioms(descriptor, properties, statements);
+    }
+
+    /**
+     * Resolves axioms from the specified statements, which have been already loaded from the repository.
+     * <p>
+     * The statements are expected to be all the statements of the subject of this loader (in all contexts), loaded
+     * with the inference setting of this loader. They are filtered in the same way as statements loaded by {@link
+     * #loadAxioms(AxiomDescriptor, Map)}.
+     *
+     * @param descriptor Descriptor of the axioms to load
+     * @param properties Properties whose values to load
+     * @param statements Preloaded statements of the subject
+     * @return Axioms corresponding to the specified descriptor
+     */
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                           Collection<Statement> statements) {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return statementsToAxioms(descriptor, properties, statements);
+    }
+
+    private Collection<Axiom<?>> statementsToAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                                    Collection<Statement> statements) {
         final Collection<Axiom<?>> result = new HashSet<>(statements.size());
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
         for (Statement s : statements) {
@@ -17,6 +17,11 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.query;
 
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -28,6 +33,8 @@ public class QuerySpecification {
 
     private boolean includeInference = true;
 
+    private final Map<String, Value> bindings = new HashMap<>();
+
     private QuerySpecification(String query) {
         this.query = Objects.requireNonNull(query);
     }
@@ -45,6 +52,24 @@ public class QuerySpecification {
         return includeInference;
     }
 
+    /**
+     * Binds the specified value to a variable of the query.
+     * <p>
+     * The binding is applied to the prepared query before its evaluation, the query string itself is not modified.
+     *
+     * @param name  Variable name, without the leading question mark
+     * @param value Value to bind
+     * @return This specification
+     */
+    public QuerySpecification binding(String name, Value value) {
+        bindings.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+        return this;
+    }
+
+    public Map<String, Value> getBindings() {
+        return Collections.unmodifiableMap(bindings);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -54,12 +79,12 @@ public class QuerySpecification {
             return false;
         }
         QuerySpecification that = (QuerySpecification) o;
-        return includeInference == that.includeInference && query.equals(that.query);
+        return includeInference == that.includeInference && query.equals(that.query) && bindings.equals(that.bindings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, includeInference);
+        return Objects.hash(query, includeInference, bindings);
     }
 
     public static QuerySpecification query(String query) {
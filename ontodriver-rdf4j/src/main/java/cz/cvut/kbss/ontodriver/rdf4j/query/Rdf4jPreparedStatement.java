@@ -20,16 +20,54 @@ package cz.cvut.kbss.ontodriver.rdf4j.query;
 import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static cz.cvut.kbss.ontodriver.util.ErrorUtils.getNPXMessageSupplier;
 
+/**
+ * Prepared statement which binds parameter values to the query instead of re-assembling the query string.
+ * <p>
+ * The query string stays the same for all executions of the statement, so it does not have to be re-assembled and its
+ * type is determined only once. Parameter values are bound natively if they are RDF4J values, named resources or strings
+ * representing an IRI (e.g., {@literal <http://example.org>}), a literal (e.g., {@literal "label"@en}) or a
+ * numeric/boolean literal in SPARQL syntax. Other values, as well as all parameters of update statements, are
+ * substituted into the statement string.
+ */
 public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedStatement {
 
+    private static final Pattern IRI_PATTERN = Pattern.compile("^<([^<>\"{}|^`\\\\\\s]+)>$");
+    private static final Pattern LITERAL_PATTERN = Pattern.compile(
+            "^([\"'])((?:(?!\\1)[^\\\\\\n\\r])*)\\1(?:@([a-zA-Z]+(?:-[a-zA-Z0-9]+)*)|\\^\\^<([^<>\"{}|^`\\\\\\s]+)>)?$");
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("^[+-]?\\d+$");
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile("^[+-]?\\d*\\.\\d+$");
+    private static final Pattern DOUBLE_PATTERN = Pattern.compile("^[+-]?(\\d+\\.?\\d*|\\.\\d+)[eE][+-]?\\d+$");
+
+    private final ValueFactory vf = SimpleValueFactory.getInstance();
+
     private final StatementHolder statementHolder;
+    // Whether the statement is an ASK query, null if not determined yet
+    private Boolean askQuery;
+    // Whether parameters of the statement cannot be bound as variables (e.g., they appear in a VALUES block)
+    private boolean bindingUnsupported;
+    private final Map<String, Value> bindings = new HashMap<>();
+    // Parameters whose values cannot be bound and have to be substituted into the statement string
+    private final Set<String> substitutedParameters = new HashSet<>();
 
     public Rdf4jPreparedStatement(StatementExecutor executor, String statement) {
         super(executor);
@@ -45,12 +83,90 @@ public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedSt
         ensureOpen();
         Objects.requireNonNull(value, getNPXMessageSupplier("value"));
         statementHolder.setParameter(binding, value.toString());
+        final Value rdf4jValue = toRdf4jValue(value);
+        if (rdf4jValue != null) {
+            bindings.put(binding, rdf4jValue);
+            substitutedParameters.remove(binding);
+        } else {
+            bindings.remove(binding);
+            substitutedParameters.add(binding);
+        }
+    }
+
+    private Value toRdf4jValue(Object value) {
+        if (value instanceof Value) {
+            return (Value) value;
+        }
+        if (value instanceof NamedResource) {
+            return vf.createIRI(((NamedResource) value).getIdentifier().toString());
+        }
+        try {
+            return parseValue(value.toString());
+        } catch (IllegalArgumentException e) {
+            // E.g., a relative IRI
+            return null;
+        }
+    }
+
+    private Value parseValue(String str) {
+        Matcher m = IRI_PATTERN.matcher(str);
+        if (m.matches()) {
+            return vf.createIRI(m.group(1));
+        }
+        m = LITERAL_PATTERN.matcher(str);
+        if (m.matches()) {
+            if (m.group(3) != null) {
+                return vf.createLiteral(m.group(2), m.group(3));
+            }
+            return m.group(4) != null ? vf.createLiteral(m.group(2), vf.createIRI(m.group(4))) :
+                   vf.createLiteral(m.group(2));
+        }
+        final IRI datatype = numericOrBooleanDatatype(str);
+        return datatype != null ? vf.createLiteral(str, datatype) : null;
+    }
+
+    private static IRI numericOrBooleanDatatype(String str) {
+        if (INTEGER_PATTERN.matcher(str).matches()) {
+            return XSD.INTEGER;
+        } else if (DECIMAL_PATTERN.matcher(str).matches()) {
+            return XSD.DECIMAL;
+        } else if (DOUBLE_PATTERN.matcher(str).matches()) {
+            return XSD.DOUBLE;
+        } else if ("true".equals(str) || "false".equals(str)) {
+            return XSD.BOOLEAN;
+        }
+        return null;
     }
 
     @Override
     public ResultSet executeQuery() throws OntoDriverException {
         ensureOpen();
-        return executeQuery(statementHolder.assembleStatement());
+        if (!substitutedParameters.isEmpty() || !determineQueryType()) {
+            return executeQuery(statementHolder.assembleStatement());
+        }
+        final QuerySpecification query = querySpec(statementHolder.getStatement());
+        bindings.forEach(query::binding);
+        return executeQuery(query, askQuery);
+    }
+
+    /**
+     * Determines the type of the query on the first execution with bindings.
+     * <p>
+     * This is the same parse {@link Rdf4jStatement#executeQuery(String)} does on every execution, here it is done only
+     * once for the lifetime of the statement.
+     *
+     * @return {@code true} if the query can be executed with bound parameter values, {@code false} otherwise
+     */
+    private boolean determineQueryType() {
+        if (askQuery == null && !bindingUnsupported) {
+            try {
+                this.askQuery = isAskQuery(statementHolder.getStatement());
+            } catch (Rdf4jDriverException e) {
+                // Parameters are placed where variables are not allowed, fall back to statement string assembly
+                this.bindingUnsupported = true;
+            }
+        }
+        return !bindingUnsupported;
     }
 
     @Override
@@ -62,5 +178,7 @@ public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedSt
     @Override
     public void clearParameters() {
         statementHolder.clearParameters();
+        bindings.clear();
+        substitutedParameters.clear();
     }
 }
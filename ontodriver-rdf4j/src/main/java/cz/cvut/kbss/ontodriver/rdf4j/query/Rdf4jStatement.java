@@ -49,16 +49,28 @@ public class Rdf4jStatement implements Statement {
     public ResultSet executeQuery(String sparql) throws OntoDriverException {
         ensureOpen();
         validateQueryParams(sparql);
+        return executeQuery(querySpec(sparql), isAskQuery(sparql));
+    }
+
+    /**
+     * Executes the specified query, closing the current result set (if any) first.
+     *
+     * @param query    Query to execute
+     * @param askQuery Whether the query is an ASK query
+     * @return Result set of the query
+     * @throws OntoDriverException If query execution fails
+     */
+    ResultSet executeQuery(QuerySpecification query, boolean askQuery) throws OntoDriverException {
         closeCurrentResultSet();
-        this.resultSet = determineResult(sparql);
+        this.resultSet = determineResult(query, askQuery);
         return resultSet;
     }
 
-    private ResultSet determineResult(String sparql) throws Rdf4jDriverException {
-        if (isAskQuery(sparql)) {
-            return new AskResultSet(queryExecutor.executeBooleanQuery(querySpec(sparql)), this);
+    private ResultSet determineResult(QuerySpecification query, boolean askQuery) throws Rdf4jDriverException {
+        if (askQuery) {
+            return new AskResultSet(queryExecutor.executeBooleanQuery(query), this);
         } else {
-            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(querySpec(sparql));
+            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(query);
             try {
                 return new SelectResultSet(tqr, this);
             } catch (QueryEvaluationException e) {
@@ -71,7 +83,7 @@ public class Rdf4jStatement implements Statement {
         return QuerySpecification.query(sparql).includeInference(!inferenceDisabled);
     }
 
-    private static boolean isAskQuery(String query) throws Rdf4jDriverException {
+    static boolean isAskQuery(String query) throws Rdf4jDriverException {
         try {
             return QueryParserUtil.parseOperation(QueryLanguage.SPARQL, query, null) instanceof ParsedBooleanQuery;
         } catch (MalformedQueryException e) {
@@ -44,6 +44,11 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -446,4 +451,74 @@ class AxiomLoaderTest {
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(value)));
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(valueTwo)));
     }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsSameAxiomsAsLoadingDescriptorsOneByOne() throws Exception {
+        connector.begin();
+        final List<AxiomDescriptor> descriptors = new ArrayList<>();
+        for (String individual : generatedData.individuals.subList(0, 5)) {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+            generatedData.values.get(individual).keySet().forEach(desc::addAssertion);
+            descriptors.add(desc);
+        }
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = axiomLoader.loadAxioms(descriptors);
+        assertEquals(descriptors.size(), result.size());
+        for (AxiomDescriptor desc : descriptors) {
+            final Collection<Axiom<?>> expected = new AxiomLoader(connector, new RuntimeConfiguration(
+                    new DriverConfiguration(TestRepositoryProvider.storageProperties()))).loadAxioms(desc);
+            assertEquals(new HashSet<>(expected), new HashSet<>(result.get(desc.getSubject())));
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsRetrievesStatementsOfAllSubjectsTogether() throws Exception {
+        final Connector spiedConnector = spy(connector);
+        this.axiomLoader = new AxiomLoader(spiedConnector, new RuntimeConfiguration(
+                new DriverConfiguration(TestRepositoryProvider.storageProperties())));
+        spiedConnector.begin();
+        try {
+            final List<AxiomDescriptor> descriptors = new ArrayList<>();
+            for (String individual : generatedData.individuals.subList(0, 3)) {
+                final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+                desc.addAssertion(generatedData.values.get(individual).keySet().iterator().next());
+                descriptors.add(desc);
+            }
+            axiomLoader.loadAxioms(descriptors);
+            verify(spiedConnector).findStatements(anyCollection(), eq(false));
+            verify(spiedConnector, never()).findStatements(any(), any(), any(), anyBoolean(), any());
+        } finally {
+            spiedConnector.close();
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsMapsUnknownSubjectToEmptyCollection() throws Exception {
+        connector.begin();
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final AxiomDescriptor existing = new AxiomDescriptor(NamedResource.create(individual));
+        existing.addAssertion(Assertion.createClassAssertion(false));
+        final AxiomDescriptor unknown = new AxiomDescriptor(NamedResource.create(Generator.generateUri()));
+        unknown.addAssertion(Assertion.createClassAssertion(false));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = axiomLoader.loadAxioms(List.of(existing, unknown));
+        assertFalse(result.get(existing.getSubject()).isEmpty());
+        assertTrue(result.get(unknown.getSubject()).isEmpty());
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsValuesOnlyFromContextSpecifiedForAssertion() throws Exception {
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final Assertion property = generatedData.values.get(individual).keySet().iterator().next();
+        final String context = Generator.generateUri().toString();
+        final Object value = saveValueIntoContext(individual, property, context);
+
+        final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+        desc.addAssertion(property);
+        desc.addAssertionContext(property, URI.create(context));
+        connector.begin();
+        final Collection<Axiom<?>> res = axiomLoader.loadAxioms(List.of(desc)).get(desc.getSubject());
+        assertEquals(1, res.size());
+        assertEquals(value.toString(), res.iterator().next().getValue().getValue().toString());
+    }
 }
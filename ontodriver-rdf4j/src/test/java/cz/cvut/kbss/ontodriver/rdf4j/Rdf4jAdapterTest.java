@@ -18,7 +18,9 @@
 package cz.cvut.kbss.ontodriver.rdf4j;
 
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
@@ -50,6 +52,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -174,6 +177,31 @@ class Rdf4jAdapterTest {
         assertTrue(statementsCorrespondToAxiomDescriptor(ad, res));
     }
 
+    @Test
+    void persistAllAddsStatementsOfAllDescriptorsInSingleCall() throws Exception {
+        final Assertion dataAssertion = Assertion.createDataPropertyAssertion(URI
+                .create("http://krizik.felk.cvut.cz/ontologies/jopa/attributes#A-stringAttribute"), false);
+        final List<AxiomValueDescriptor> descriptors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final AxiomValueDescriptor ad = new AxiomValueDescriptor(NamedResource.create(Generator.generateUri()));
+            ad.addAssertionValue(Assertion.createClassAssertion(false),
+                    new Value<>(URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA")));
+            ad.addAssertionValue(dataAssertion, new Value<>("StringValue" + i));
+            descriptors.add(ad);
+        }
+        adapter.persistAll(descriptors);
+        final ArgumentCaptor<Collection<Statement>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectorMock).addStatements(captor.capture());
+        final Collection<Statement> res = captor.getValue();
+        assertEquals(6, res.size());
+        for (AxiomValueDescriptor ad : descriptors) {
+            final IRI subject = VF.createIRI(ad.getSubject().getIdentifier().toString());
+            assertTrue(statementsCorrespondToAxiomDescriptor(ad, res.stream().filter(st -> st.getSubject()
+                                                                                             .equals(subject))
+                                                                    .collect(Collectors.toList())));
+        }
+    }
+
     private boolean statementsCorrespondToAxiomDescriptor(AxiomValueDescriptor ad,
                                                           Collection<Statement> statements) {
         for (Assertion as : ad.getAssertions()) {
@@ -615,6 +643,24 @@ class Rdf4jAdapterTest {
         assertThrows(IdentifierGenerationException.class, () -> adapter.generateIdentifier(clsUri));
     }
 
+    @Test
+    void generateIdentifierWithTimeBasedStrategySkipsUniquenessCheckInStorage() throws Exception {
+        final OntologyStorageProperties sp = OntologyStorageProperties.driver(Rdf4jDataSource.class.getName())
+                                                                      .physicalUri("memory-store").build();
+        final DriverConfiguration dc = new DriverConfiguration(sp);
+        dc.setProperty(DriverConfigParam.IDENTIFIER_GENERATION_STRATEGY,
+                OntoDriverProperties.IDENTIFIER_GENERATION_TIME_BASED_UUID);
+        this.adapter = new Rdf4jAdapter(connectorMock, new RuntimeConfiguration(dc));
+        final URI clsUri = URI.create("http://someClass.cz/class");
+
+        final URI first = adapter.generateIdentifier(clsUri);
+        final URI second = adapter.generateIdentifier(clsUri);
+        assertTrue(first.toString().startsWith(clsUri + "/instance-"));
+        assertTrue(first.compareTo(second) < 0);
+        verify(connectorMock, never()).containsStatement(any(), any(), any(), anyBoolean(), anySet());
+        verify(connectorMock, never()).begin();
+    }
+
     @Test
     void testRemove() throws Exception {
         final AxiomDescriptor desc = new AxiomDescriptor(SUBJECT);
@@ -694,6 +740,31 @@ class Rdf4jAdapterTest {
         verify(connectorMock).addStatements(inserted);
     }
 
+    @Test
+    void updateAllRemovesOldValuesAndAddsNewValuesOfAllDescriptorsInSingleCall() throws Exception {
+        final URI property = URI.create("http://krizik.felk.cvut.cz/dataProperty");
+        final IRI rdf4jProperty = VF.createIRI(property.toString());
+        final Assertion assertion = Assertion.createDataPropertyAssertion(property, false);
+        final AxiomValueDescriptor first = new AxiomValueDescriptor(SUBJECT);
+        first.addAssertionValue(assertion, new Value<>("firstValue"));
+        final NamedResource otherSubject = NamedResource.create(Generator.generateUri());
+        final IRI otherSubjectIri = VF.createIRI(otherSubject.getIdentifier().toString());
+        final AxiomValueDescriptor second = new AxiomValueDescriptor(otherSubject);
+        second.addAssertionValue(assertion, new Value<>("secondValue"));
+
+        adapter.updateAll(Arrays.asList(first, second));
+        verify(connectorMock).removePropertyValues(
+                Set.of(new SubjectPredicateContext(subjectIri, rdf4jProperty, Collections.emptySet()),
+                        new SubjectPredicateContext(otherSubjectIri, rdf4jProperty, Collections.emptySet())));
+        final ArgumentCaptor<Collection<Statement>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectorMock).addStatements(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().contains(VF.createStatement(subjectIri, rdf4jProperty,
+                VF.createLiteral("firstValue"))));
+        assertTrue(captor.getValue().contains(VF.createStatement(otherSubjectIri, rdf4jProperty,
+                VF.createLiteral("secondValue"))));
+    }
+
     @Test
     void updatesObjectPropertyToNewValue() throws Exception {
         final AxiomValueDescriptor desc = new AxiomValueDescriptor(SUBJECT);
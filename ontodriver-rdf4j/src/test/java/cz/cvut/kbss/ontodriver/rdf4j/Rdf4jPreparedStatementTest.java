@@ -19,17 +19,23 @@ package cz.cvut.kbss.ontodriver.rdf4j;
 
 import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jPreparedStatement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +47,8 @@ public class Rdf4jPreparedStatementTest {
     @Mock
     private TupleQueryResult resultMock;
 
+    private final ValueFactory vf = SimpleValueFactory.getInstance();
+
     private PreparedStatement statement;
 
     @Test
@@ -56,13 +64,80 @@ public class Rdf4jPreparedStatementTest {
     public void testExecuteQuery() throws Exception {
         when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
         final String query = "SELECT ?y WHERE { ?x <http://property> ?y . }";
-        final String expected = "SELECT ?y WHERE { <http://subject> <http://property> ?y . }";
         initStatement(query);
         statement.setObject("x", "<http://subject>");
         statement.executeQuery();
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).binding("x", vf.createIRI("http://subject")));
+    }
+
+    @Test
+    public void executeQueryBindsTypedValuesWithoutModifyingQueryString() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?x WHERE { ?x <http://label> ?label ; <http://count> ?count ; <http://ref> ?ref . }";
+        initStatement(query);
+        statement.setObject("label", "\"Label\"@en");
+        statement.setObject("count", 5);
+        statement.setObject("ref", NamedResource.create("http://reference"));
+        statement.executeQuery();
+        verify(executorMock).executeSelectQuery(QuerySpecification.query(query)
+                                                                   .binding("label", vf.createLiteral("Label", "en"))
+                                                                   .binding("count", vf.createLiteral("5", XSD.INTEGER))
+                                                                   .binding("ref", vf.createIRI("http://reference")));
+    }
+
+    @Test
+    public void executeQueryRepeatedlyUsesSameQueryStringWithDifferentBindings() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?y WHERE { ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("x", vf.createIRI("http://subjectOne"));
+        statement.executeQuery();
+        statement.setObject("x", vf.createIRI("http://subjectTwo"));
+        statement.executeQuery();
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(executorMock, times(2)).executeSelectQuery(captor.capture());
+        assertEquals(query, captor.getAllValues().get(0).getQuery());
+        assertEquals(query, captor.getAllValues().get(1).getQuery());
+        assertEquals(vf.createIRI("http://subjectTwo"), captor.getAllValues().get(1).getBindings().get("x"));
+    }
+
+    @Test
+    public void executeQueryExecutesBooleanQueryWithBindingsForAskQuery() throws Exception {
+        final String query = "ASK { ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("x", "<http://subject>");
+        statement.executeQuery();
+        verify(executorMock).executeBooleanQuery(
+                QuerySpecification.query(query).binding("x", vf.createIRI("http://subject")));
+    }
+
+    @Test
+    public void executeQuerySubstitutesValueWhichCannotBeBound() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "PREFIX ex: <http://example.org/> SELECT ?y WHERE { ?x <http://property> ?y . }";
+        final String expected = "PREFIX ex: <http://example.org/> SELECT ?y WHERE { ex:subject <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("x", "ex:subject");
+        statement.executeQuery();
         verify(executorMock).executeSelectQuery(QuerySpecification.query(expected));
     }
 
+    @Test
+    public void executeQuerySubstitutesValueOfParameterWhichIsNotValidVariable() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?y WHERE { VALUES ?x { ?value } ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("value", "<http://subjectOne>");
+        statement.executeQuery();
+        statement.setObject("value", "<http://subjectTwo>");
+        statement.executeQuery();
+        verify(executorMock).executeSelectQuery(QuerySpecification.query(
+                "SELECT ?y WHERE { VALUES ?x { <http://subjectOne> } ?x <http://property> ?y . }"));
+        verify(executorMock).executeSelectQuery(QuerySpecification.query(
+                "SELECT ?y WHERE { VALUES ?x { <http://subjectTwo> } ?x <http://property> ?y . }"));
+    }
+
     @Test
     public void testExecuteUpdate() throws Exception {
         final String query = "WITH <urn:sparql:tests:update:insert:delete:with>"
@@ -18,13 +18,16 @@
 package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Vocabulary;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -130,4 +133,69 @@ public class LocalModelTest {
 
         assertTrue(sut.getAddedStatements().isEmpty());
     }
+
+    @Test
+    void enhanceStatementsKeepsStatementsWhoseContextDoesNotMatchRemovedSubjectPredicateContext() {
+        final IRI subject = vf.createIRI(Generator.generateUri().toString());
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        final IRI otherContext = vf.createIRI(Generator.generateUri().toString());
+        sut.removePropertyValues(Set.of(new SubjectPredicateContext(subject, property, Set.of(context))));
+        final Statement removed = vf.createStatement(subject, property, vf.createLiteral(117), context);
+        final Statement kept = vf.createStatement(subject, property, vf.createLiteral(117), otherContext);
+
+        final List<Statement> result = sut.enhanceStatements(Stream.of(removed, kept), subject, property, null,
+                Collections.emptySet());
+        assertEquals(Collections.singletonList(kept), result);
+    }
+
+    @Test
+    void removePropertyValuesOfManySubjectsIsReflectedByEnhanceStatementsAndContains() {
+        final int count = 1000;
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final IRI otherProperty = vf.createIRI(Generator.generateUri().toString());
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        final List<Statement> existing = new ArrayList<>();
+        final Set<Statement> expected = new HashSet<>();
+        final Set<SubjectPredicateContext> toRemove = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            final IRI subject = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + i);
+            final Statement value = vf.createStatement(subject, property, vf.createLiteral(i));
+            final Statement inContext = vf.createStatement(subject, property, vf.createLiteral(i), context);
+            final Statement otherValue = vf.createStatement(subject, otherProperty, vf.createLiteral(i));
+            existing.addAll(List.of(value, inContext, otherValue));
+            expected.add(otherValue);
+            if (i % 2 == 0) {
+                toRemove.add(new SubjectPredicateContext(subject, property, Collections.emptySet()));
+            } else if (i % 3 == 0) {
+                toRemove.add(new SubjectPredicateContext(subject, property, Set.of(context)));
+                expected.add(value);
+            } else {
+                expected.addAll(List.of(value, inContext));
+            }
+        }
+        final Statement pending = vf.createStatement(vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + 0), property,
+                vf.createLiteral("pending"));
+        sut.addStatements(Collections.singletonList(pending));
+
+        sut.removePropertyValues(toRemove);
+        final List<Statement> result = sut.enhanceStatements(existing.stream(), null, null, null,
+                Collections.emptySet());
+        assertEquals(expected, new HashSet<>(result));
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < count; i++) {
+            final IRI subject = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + i);
+            if (i % 2 == 0) {
+                assertEquals(LocalModel.Contains.FALSE,
+                        sut.contains(subject, property, null, Collections.emptySet()));
+            } else if (i % 3 == 0) {
+                assertEquals(LocalModel.Contains.FALSE, sut.contains(subject, property, null, Set.of(context)));
+            } else {
+                assertEquals(LocalModel.Contains.UNKNOWN,
+                        sut.contains(subject, property, null, Collections.emptySet()));
+            }
+            assertEquals(LocalModel.Contains.UNKNOWN,
+                    sut.contains(subject, otherProperty, null, Collections.emptySet()));
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * JOPA
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.init.RepositoryConnectorInitializer;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.TestUtils;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test verifying that concurrent transactions do not block each other or readers during commit.
+ */
+class PoolingStorageConnectorConcurrencyTest {
+
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int COMMITS_PER_WRITER = 5;
+    private static final int STATEMENTS_PER_COMMIT = 5000;
+
+    private static final String COUNT_QUERY = "SELECT (COUNT(*) AS ?cnt) WHERE { ?x ?y ?z . }";
+
+    private ConnectorFactory factory;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final DriverConfiguration config = TestUtils.createDriverConfig("test:stress");
+        config.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        final RepositoryConnectorInitializer initializer = new RepositoryConnectorInitializer(config);
+        initializer.initializeRepository();
+        this.factory = new ConnectorFactoryImpl(new StorageConnector(initializer));
+        this.executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        factory.close();
+    }
+
+    @Test
+    void concurrentCommitsArePersistedWhileReadsProceedDuringCommits() throws Exception {
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicInteger readsDuringWrites = new AtomicInteger();
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            writers.add(executor.submit(() -> {
+                final Connector connector = factory.createStorageConnector();
+                for (int j = 0; j < COMMITS_PER_WRITER; j++) {
+                    connector.begin();
+                    connector.addStatements(generateStatements(connector.getValueFactory()));
+                    connector.commit();
+                }
+                connector.close();
+                return null;
+            }));
+        }
+        final List<Future<?>> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(executor.submit(() -> {
+                final Connector connector = factory.createStorageConnector();
+                while (writing.get()) {
+                    countStatements(connector);
+                    readsDuringWrites.incrementAndGet();
+                }
+                connector.close();
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> w : writers) {
+                w.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            writing.set(false);
+        }
+        for (Future<?> r : readers) {
+            r.get(1, TimeUnit.MINUTES);
+        }
+        assertTrue(readsDuringWrites.get() > 0);
+        assertEquals(WRITER_COUNT * COMMITS_PER_WRITER * STATEMENTS_PER_COMMIT,
+                countStatements(factory.createStorageConnector()));
+    }
+
+    private static List<Statement> generateStatements(ValueFactory vf) {
+        final IRI subject = vf.createIRI(Generator.generateUri().toString());
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final List<Statement> statements = new ArrayList<>(STATEMENTS_PER_COMMIT);
+        for (int i = 0; i < STATEMENTS_PER_COMMIT; i++) {
+            statements.add(vf.createStatement(subject, property, vf.createLiteral(i)));
+        }
+        return statements;
+    }
+
+    private static int countStatements(Connector connector) throws Exception {
+        try (final TupleQueryResult result = connector.executeSelectQuery(QuerySpecification.query(COUNT_QUERY))) {
+            return Integer.parseInt(result.next().getValue("cnt").stringValue());
+        }
+    }
+}
@@ -31,36 +31,41 @@ import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.BooleanQuery;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.reflect.Whitebox;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-@PrepareForTest(PoolingStorageConnector.class)
 public class PoolingStorageConnectorTest {
 
     @Mock
     private StorageConnector centralMock;
-    @Mock
-    private Lock readLock;
-    @Mock
-    private Lock writeLock;
 
     private ValueFactory vf;
 
@@ -75,8 +80,6 @@ public class PoolingStorageConnectorTest {
         final Field transactionField = AbstractConnector.class.getDeclaredField("transaction");
         transactionField.setAccessible(true);
         this.transaction = (Transaction) transactionField.get(connector);
-        Whitebox.setInternalState(PoolingStorageConnector.class, "READ", readLock);
-        Whitebox.setInternalState(PoolingStorageConnector.class, "WRITE", writeLock);
     }
 
     @Test
@@ -91,10 +94,7 @@ public class PoolingStorageConnectorTest {
         final String query = "Some query";
         connector.executeSelectQuery(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
-        inOrder.verify(centralMock).executeSelectQuery(QuerySpecification.query(query));
-        inOrder.verify(readLock).unlock();
+        verify(centralMock).executeSelectQuery(QuerySpecification.query(query));
     }
 
     @Test
@@ -112,15 +112,62 @@ public class PoolingStorageConnectorTest {
     }
 
     @Test
-    public void testUnlockWhenExecuteQueryThrowsException() throws Exception {
+    public void repeatedSelectInTransactionReusesPreparedQueryAndReplacesItsBindings() throws Exception {
+        final String query = "SELECT ?y WHERE { ?x ?p ?y . }";
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        final TupleQuery tq = mock(TupleQuery.class);
+        when(tq.evaluate()).thenReturn(mock(TupleQueryResult.class));
+        when(conn.prepareTupleQuery(QueryLanguage.SPARQL, query)).thenReturn(tq);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        final PreparedQueryCache.Statistics statistics = new PreparedQueryCache.Statistics();
+        when(centralMock.getPreparedQueryCache(conn)).thenReturn(new PreparedQueryCache(conn, statistics));
+        connector.begin();
+        final IRI first = vf.createIRI(Generator.generateUri().toString());
+        final IRI second = vf.createIRI(Generator.generateUri().toString());
+        connector.executeSelectQuery(QuerySpecification.query(query).binding("x", first)).close();
+        connector.executeSelectQuery(QuerySpecification.query(query).binding("x", second)).close();
+
+        verify(conn).prepareTupleQuery(QueryLanguage.SPARQL, query);
+        final InOrder inOrder = inOrder(tq);
+        inOrder.verify(tq).setBinding("x", first);
+        inOrder.verify(tq).evaluate();
+        inOrder.verify(tq).clearBindings();
+        inOrder.verify(tq).setBinding("x", second);
+        inOrder.verify(tq).evaluate();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    public void selectInTransactionPreparesFreshQueryWhileResultOfCachedOneIsOpen() throws Exception {
+        final String query = "SELECT ?y WHERE { ?x ?p ?y . }";
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        final TupleQuery tqOne = mock(TupleQuery.class);
+        final TupleQuery tqTwo = mock(TupleQuery.class);
+        when(tqOne.evaluate()).thenReturn(mock(TupleQueryResult.class));
+        when(tqTwo.evaluate()).thenReturn(mock(TupleQueryResult.class));
+        when(conn.prepareTupleQuery(QueryLanguage.SPARQL, query)).thenReturn(tqOne, tqTwo);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        when(centralMock.getPreparedQueryCache(conn)).thenReturn(
+                new PreparedQueryCache(conn, new PreparedQueryCache.Statistics()));
+        connector.begin();
+        final IRI first = vf.createIRI(Generator.generateUri().toString());
+        final IRI second = vf.createIRI(Generator.generateUri().toString());
+        final TupleQueryResult openResult =
+                connector.executeSelectQuery(QuerySpecification.query(query).binding("x", first));
+        connector.executeSelectQuery(QuerySpecification.query(query).binding("x", second)).close();
+
+        verify(conn, times(2)).prepareTupleQuery(QueryLanguage.SPARQL, query);
+        verify(tqOne, never()).setBinding("x", second);
+        verify(tqTwo).setBinding("x", second);
+        openResult.close();
+    }
+
+    @Test
+    public void executeSelectQueryPropagatesExceptionFromCentralConnector() throws Exception {
         final String query = "Some query";
         when(centralMock.executeSelectQuery(any())).thenThrow(new Rdf4jDriverException());
-        try {
-            assertThrows(Rdf4jDriverException.class, () -> connector.executeSelectQuery(QuerySpecification.query(query)));
-        } finally {
-            verify(readLock).lock();
-            verify(readLock).unlock();
-        }
+        assertThrows(Rdf4jDriverException.class, () -> connector.executeSelectQuery(QuerySpecification.query(query)));
     }
 
     @Test
@@ -128,10 +175,7 @@ public class PoolingStorageConnectorTest {
         final String query = "ASK some query";
         connector.executeBooleanQuery(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
-        inOrder.verify(centralMock).executeBooleanQuery(QuerySpecification.query(query));
-        inOrder.verify(readLock).unlock();
+        verify(centralMock).executeBooleanQuery(QuerySpecification.query(query));
     }
 
     @Test
@@ -149,15 +193,11 @@ public class PoolingStorageConnectorTest {
     }
 
     @Test
-    public void unlocksReadLockWhenExecuteBooleanQueryThrowsException() throws Exception {
+    public void executeBooleanQueryPropagatesExceptionFromCentralConnector() throws Exception {
         final String query = "ASK some query";
         when(centralMock.executeBooleanQuery(any())).thenThrow(new Rdf4jDriverException());
 
-        try {
-            assertThrows(Rdf4jDriverException.class, () -> connector.executeBooleanQuery(QuerySpecification.query(query)));
-        } finally {
-            verify(readLock).unlock();
-        }
+        assertThrows(Rdf4jDriverException.class, () -> connector.executeBooleanQuery(QuerySpecification.query(query)));
     }
 
     @Test
@@ -166,61 +206,122 @@ public class PoolingStorageConnectorTest {
         final String query = "Some query";
         connector.executeUpdate(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(writeLock, centralMock);
-        inOrder.verify(writeLock).lock();
-        inOrder.verify(centralMock).executeUpdate(QuerySpecification.query(query));
-        inOrder.verify(writeLock).unlock();
+        verify(centralMock).executeUpdate(QuerySpecification.query(query));
     }
 
     @Test
-    public void testUnlockWhenExecuteUpdateThrowsException() throws Exception {
+    public void executeUpdatePropagatesExceptionFromCentralConnector() throws Exception {
         connector.begin();
         final String query = "Some query";
         doThrow(new Rdf4jDriverException()).when(centralMock).executeUpdate(any());
-        try {
-            assertThrows(Rdf4jDriverException.class, () -> connector.executeUpdate(QuerySpecification.query(query)));
-        } finally {
-            verify(writeLock).unlock();
-        }
+        assertThrows(Rdf4jDriverException.class, () -> connector.executeUpdate(QuerySpecification.query(query)));
     }
 
     @Test
     public void testGetContexts() throws Exception {
         connector.getContexts();
-        verify(readLock).lock();
         verify(centralMock).getContexts();
-        verify(readLock).unlock();
     }
 
     @Test
-    public void testCommit() throws Exception {
+    public void commitWritesChangesInRepositoryTransactionOfConnectorConnection() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
         connector.begin();
         connector.commit();
-        verify(writeLock).lock();
-        verify(centralMock).begin();
-        verify(centralMock).addStatements(anyCollection());
-        verify(centralMock).removeStatements(anyCollection());
-        verify(centralMock).commit();
-        verify(writeLock).unlock();
+        final InOrder inOrder = inOrder(centralMock, conn);
+        inOrder.verify(centralMock).beginTransaction(conn);
+        inOrder.verify(conn).remove(anyCollection());
+        inOrder.verify(conn).add(anyCollection());
+        inOrder.verify(conn).commit();
+        verify(centralMock, never()).begin();
+        verify(centralMock, never()).commit();
         assertFalse(transaction.isActive());
     }
 
     @Test
-    public void testUnlockWhenCommitThrowsException() throws Exception {
-        doThrow(new Rdf4jDriverException()).when(centralMock).commit();
+    public void commitRollsBackRepositoryTransactionWhenCommitThrowsException() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        doThrow(new RepositoryException()).when(conn).commit();
+        when(conn.isActive()).thenReturn(true);
         connector.begin();
         try {
             assertThrows(Rdf4jDriverException.class, () -> connector.commit());
         } finally {
-            verify(centralMock).begin();
-            verify(centralMock).addStatements(anyCollection());
-            verify(centralMock).removeStatements(anyCollection());
-            verify(centralMock).commit();
-            verify(writeLock).unlock();
+            verify(conn).rollback();
+            verify(centralMock).releaseConnection(conn);
             assertEquals(TransactionState.ABORTED, transaction.getState());
         }
     }
 
+    @Test
+    public void readsAreNotBlockedByCommitInProgressWhenRepositoryGuaranteesIsolation() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        when(centralMock.isTransactionIsolationGuaranteed()).thenReturn(true);
+        final CountDownLatch commitStarted = new CountDownLatch(1);
+        final CountDownLatch finishCommit = new CountDownLatch(1);
+        doAnswer(inv -> {
+            commitStarted.countDown();
+            finishCommit.await();
+            return null;
+        }).when(conn).commit();
+        connector.begin();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> commit = executor.submit(() -> {
+                connector.commit();
+                return null;
+            });
+            assertTrue(commitStarted.await(5, TimeUnit.SECONDS));
+            final PoolingStorageConnector reader = new PoolingStorageConnector(centralMock);
+            final Future<?> read = executor.submit(() -> reader.executeSelectQuery(QuerySpecification.query("SELECT")));
+            read.get(5, TimeUnit.SECONDS);
+            verify(centralMock).executeSelectQuery(QuerySpecification.query("SELECT"));
+            assertFalse(commit.isDone());
+            finishCommit.countDown();
+            commit.get(5, TimeUnit.SECONDS);
+        } finally {
+            finishCommit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void readsWaitForCommitInProgressWhenRepositoryDoesNotGuaranteeIsolation() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        when(centralMock.isTransactionIsolationGuaranteed()).thenReturn(false);
+        final CountDownLatch commitStarted = new CountDownLatch(1);
+        final CountDownLatch finishCommit = new CountDownLatch(1);
+        doAnswer(inv -> {
+            commitStarted.countDown();
+            finishCommit.await();
+            return null;
+        }).when(conn).commit();
+        connector.begin();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> commit = executor.submit(() -> {
+                connector.commit();
+                return null;
+            });
+            assertTrue(commitStarted.await(5, TimeUnit.SECONDS));
+            final PoolingStorageConnector reader = new PoolingStorageConnector(centralMock);
+            final Future<?> read = executor.submit(() -> reader.executeSelectQuery(QuerySpecification.query("SELECT")));
+            assertThrows(TimeoutException.class, () -> read.get(200, TimeUnit.MILLISECONDS));
+            verify(centralMock, never()).executeSelectQuery(any());
+            finishCommit.countDown();
+            commit.get(5, TimeUnit.SECONDS);
+            read.get(5, TimeUnit.SECONDS);
+            verify(centralMock).executeSelectQuery(QuerySpecification.query("SELECT"));
+        } finally {
+            finishCommit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testRollback() throws Exception {
         connector.begin();
@@ -318,6 +419,37 @@ public class PoolingStorageConnectorTest {
         }
     }
 
+    @Test
+    public void findStatementsOfMultipleSubjectsUsesTransactionalConnectionAndIncludesLocalChanges() throws Exception {
+        final Repository repository = new SailRepository(new MemoryStore());
+        final Resource resOne = vf.createIRI(Generator.generateUri().toString());
+        final Resource resTwo = vf.createIRI(Generator.generateUri().toString());
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final Statement existing = vf.createStatement(resOne, property, vf.createLiteral(1));
+        final Statement removed = vf.createStatement(resOne, property, vf.createLiteral(2));
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.add(existing);
+            conn.add(removed);
+        }
+        try {
+            final RepositoryConnection conn = spy(repository.getConnection());
+            when(centralMock.acquireConnection()).thenReturn(conn);
+            final Statement added = vf.createStatement(resTwo, property, vf.createLiteral(117));
+            connector.begin();
+            connector.addStatements(Collections.singleton(added));
+            connector.removeStatements(Collections.singleton(removed));
+
+            final Collection<Statement> result = connector.findStatements(List.of(resOne, resTwo), false);
+            assertEquals(Set.of(existing, added), new HashSet<>(result));
+            verify(centralMock).acquireConnection();
+            verify(conn).prepareTupleQuery(eq(QueryLanguage.SPARQL), anyString());
+            verify(conn, never()).getStatements(any(Resource.class), any(), any(), anyBoolean());
+            connector.rollback();
+        } finally {
+            repository.shutDown();
+        }
+    }
+
     @Test
     public void closeReleasesActiveConnection() throws Exception {
         final RepositoryConnection conn = mock(RepositoryConnection.class);
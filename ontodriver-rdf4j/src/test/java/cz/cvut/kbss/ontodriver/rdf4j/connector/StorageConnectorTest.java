@@ -24,12 +24,19 @@ import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.TestUtils;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.RepositoryCreationException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDF4J;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.impl.SimpleDataset;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
@@ -38,6 +45,7 @@ import org.eclipse.rdf4j.repository.manager.RepositoryManager;
 import org.eclipse.rdf4j.repository.manager.RepositoryProvider;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
 import org.eclipse.rdf4j.repository.sail.config.SailRepositoryConfig;
+import org.eclipse.rdf4j.repository.sparql.SPARQLRepository;
 import org.eclipse.rdf4j.sail.config.SailImplConfig;
 import org.eclipse.rdf4j.sail.inferencer.fc.SchemaCachingRDFSInferencer;
 import org.eclipse.rdf4j.sail.lucene.LuceneSail;
@@ -54,8 +62,14 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -63,10 +77,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -311,6 +330,135 @@ class StorageConnectorTest {
         assertThrows(Rdf4jDriverException.class, () -> createConnector(conf));
     }
 
+    @Test
+    void initializationThrowsRdf4jDriverExceptionWhenTransactionIsolationLevelIsUnknown() {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL, "unknown-level");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        assertThrows(Rdf4jDriverException.class, () -> createConnector(conf));
+    }
+
+    @Test
+    void beginTransactionUsesConfiguredTransactionIsolationLevel() throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL, "serializable");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        this.connector = createConnector(conf);
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+
+        connector.beginTransaction(conn);
+        verify(conn).begin(IsolationLevels.SERIALIZABLE);
+    }
+
+    @Test
+    void beginTransactionUsesRepositoryDefaultIsolationLevelWhenNoneIsConfigured() throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        this.connector = createConnector(conf);
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+
+        connector.beginTransaction(conn);
+        verify(conn).begin();
+    }
+
+    @Test
+    void isTransactionIsolationGuaranteedReturnsTrueForInMemoryRepositoryWithDefaultIsolationLevel() throws Exception {
+        createInMemoryConnector();
+        assertTrue(connector.isTransactionIsolationGuaranteed());
+    }
+
+    @Test
+    void isTransactionIsolationGuaranteedReturnsFalseWhenConfiguredIsolationLevelIsNone() throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL, "none");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        this.connector = createConnector(conf);
+        assertFalse(connector.isTransactionIsolationGuaranteed());
+    }
+
+    @Test
+    void isTransactionIsolationGuaranteedReturnsFalseForNonSailRepositoryWithoutConfiguredIsolationLevel()
+            throws Exception {
+        createInMemoryConnector();
+        replaceRepository(mock(Repository.class));
+        assertFalse(connector.isTransactionIsolationGuaranteed());
+    }
+
+    @Test
+    void isTransactionIsolationGuaranteedReturnsTrueForNonSailRepositoryWithConfiguredIsolationLevel()
+            throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL, "snapshot_read");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        this.connector = createConnector(conf);
+        replaceRepository(mock(Repository.class));
+        assertTrue(connector.isTransactionIsolationGuaranteed());
+    }
+
+    @Test
+    void isTransactionIsolationGuaranteedReturnsFalseForSparqlRepositoryRegardlessOfConfiguredIsolationLevel()
+            throws Exception {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("test");
+        conf.setProperty(Rdf4jConfigParam.TRANSACTION_ISOLATION_LEVEL, "serializable");
+        conf.setProperty(Rdf4jConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        this.connector = createConnector(conf);
+        replaceRepository(new SPARQLRepository("http://localhost:8080/sparql"));
+        assertFalse(connector.isTransactionIsolationGuaranteed());
+    }
+
+    private void replaceRepository(Repository repository) throws Exception {
+        final Field repoField = StorageConnector.class.getDeclaredField("repository");
+        repoField.setAccessible(true);
+        ((Repository) repoField.get(connector)).shutDown();
+        repoField.set(connector, repository);
+    }
+
+    @Test
+    void acquireConnectionReusesConnectionReturnedToPool() throws Exception {
+        createInMemoryConnector();
+        final RepositoryConnection conn = connector.acquireConnection();
+        connector.releaseConnection(conn);
+
+        assertSame(conn, connector.acquireConnection());
+        assertTrue(conn.isOpen());
+    }
+
+    @Test
+    void releaseConnectionClosesConnectionWhichIsStillInRepositoryTransaction() throws Exception {
+        createInMemoryConnector();
+        final RepositoryConnection conn = connector.acquireConnection();
+        conn.begin();
+        connector.releaseConnection(conn);
+
+        assertFalse(conn.isOpen());
+        assertNotSame(conn, connector.acquireConnection());
+    }
+
+    @Test
+    void queriesPreparedInTransactionAreReusedBySubsequentTransactions() throws Exception {
+        createInMemoryConnector();
+        final QuerySpecification query = QuerySpecification.query("SELECT ?x WHERE { ?x a ?type . }");
+        for (int i = 0; i < 3; i++) {
+            final PoolingStorageConnector transactional = new PoolingStorageConnector(connector);
+            transactional.begin();
+            transactional.executeSelectQuery(query).close();
+            transactional.commit();
+        }
+
+        assertEquals(1, connector.getPreparedQueryMissCount());
+        assertEquals(2, connector.getPreparedQueryHitCount());
+    }
+
+    @Test
+    void closeClosesPooledConnections() throws Exception {
+        createInMemoryConnector();
+        final RepositoryConnection conn = connector.acquireConnection();
+        connector.releaseConnection(conn);
+        connector.close();
+
+        assertFalse(conn.isOpen());
+    }
+
     @Test
     void getConnectionRetriesOnErrorConfiguredNumberOfTimes() throws Exception {
         final int attempts = 3;
@@ -357,4 +505,63 @@ class StorageConnectorTest {
             connector.rollback();
         }
     }
+
+    @Test
+    void findStatementsOfMultipleSubjectsReturnsStatementsOfAllSubjectsWithTheirContexts() throws Exception {
+        createInMemoryConnector();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        final List<IRI> subjects = new ArrayList<>();
+        final Set<Statement> expected = new HashSet<>();
+        try (final RepositoryConnection conn = connector.unwrap(Repository.class).getConnection()) {
+            conn.begin();
+            // More subjects than fit into one query
+            for (int i = 0; i < SubjectStatementsFinder.CHUNK_SIZE + 1; i++) {
+                final IRI subject = vf.createIRI(Generator.generateUri().toString());
+                subjects.add(subject);
+                final Statement statement = vf.createStatement(subject, property, vf.createLiteral(i),
+                        i % 2 == 0 ? context : null);
+                expected.add(statement);
+                conn.add(statement);
+            }
+            conn.add(vf.createIRI(Generator.generateUri().toString()), property, vf.createLiteral(117));
+            conn.commit();
+        }
+
+        final Collection<Statement> result = connector.findStatements(subjects, false);
+        assertEquals(expected.size(), result.size());
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    @Test
+    void findStatementsOfMultipleSubjectsReturnsStatementsFromNamedGraphsWhenDefaultGraphIsNotTheirUnion()
+            throws Exception {
+        createInMemoryConnector();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final IRI subject = vf.createIRI(Generator.generateUri().toString());
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final IRI context = vf.createIRI(Generator.generateUri().toString());
+        final Statement inNamedGraph = vf.createStatement(subject, property, vf.createLiteral(1), context);
+        final Statement inDefaultGraph = vf.createStatement(subject, property, vf.createLiteral(2));
+        try (final RepositoryConnection conn = connector.unwrap(Repository.class).getConnection()) {
+            conn.add(inNamedGraph);
+            conn.add(inDefaultGraph);
+            // Make the default graph contain only statements without context, as e.g. in a SPARQL endpoint
+            final SimpleDataset dataset = new SimpleDataset();
+            dataset.addDefaultGraph(RDF4J.NIL);
+            dataset.addNamedGraph(context);
+            final RepositoryConnection connSpy = spy(conn);
+            doAnswer(inv -> {
+                final TupleQuery query = (TupleQuery) inv.callRealMethod();
+                query.setDataset(dataset);
+                return query;
+            }).when(connSpy).prepareTupleQuery(any(QueryLanguage.class), anyString());
+
+            final Map<Resource, Collection<Statement>> result =
+                    new SubjectStatementsFinder(Collections.singleton(subject)).find(connSpy, false);
+            assertEquals(new HashSet<>(Arrays.asList(inNamedGraph, inDefaultGraph)),
+                    new HashSet<>(result.get(subject)));
+        }
+    }
 }
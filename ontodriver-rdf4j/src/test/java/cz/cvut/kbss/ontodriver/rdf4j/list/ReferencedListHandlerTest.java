@@ -68,9 +68,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyCollection;
+import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -118,6 +120,9 @@ public class ReferencedListHandlerTest {
             removed.addAll(arg);
             return null;
         }).when(connector).removeStatements(anyCollection());
+        // Load lists node by node using the mocked findStatements
+        lenient().when(connector.findListStatements(any(), any(), any(), any(), anyBoolean(), anySet()))
+                 .thenCallRealMethod();
     }
 
     @Test
@@ -30,7 +30,10 @@ import org.junit.jupiter.api.Test;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -144,12 +147,44 @@ public class ReferencedListHandlerWithStorageTest extends ListHandlerWithStorage
         updateAndCheck(updated);
     }
 
+    /**
+     * List nodes may be reused by the update, so only the list content is checked.
+     */
     void updateAndCheck(ReferencedListValueDescriptor<NamedResource> descriptor) throws Exception {
-        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
         handler.updateList(descriptor);
         connector.commit();
         connector.begin();
-        verifyListContent(axioms, handler.loadList(descriptor));
+        assertEquals(descriptor.getValues(), handler.loadList(descriptor).stream().map(ax -> ax.getValue().getValue())
+                                                    .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void updateKeepsNodesOfRetainedElementsWhenElementIsPrepended() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> original = persistOriginalList();
+        final List<Axiom<?>> originalAxioms = handler.loadList(original);
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initValues(0);
+        updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Prepended"));
+        original.getValues().forEach(updated::addValue);
+        updateAndCheck(updated);
+        final List<Axiom<?>> result = handler.loadList(updated);
+        assertEquals(originalAxioms, result.subList(1, result.size()));
+    }
+
+    @Test
+    public void loadListReflectsUncommittedChangesOfTheList() throws Exception {
+        final ReferencedListValueDescriptor<NamedResource> original = persistOriginalList();
+
+        final ReferencedListValueDescriptor<NamedResource> updated = initValues(0);
+        for (int i = 0; i < original.getValues().size(); i++) {
+            updated.addValue(i != 3 ? original.getValues().get(i) :
+                             NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Replaced"));
+        }
+        for (int i = 0; i < 3; i++) {
+            updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Appended_" + i));
+        }
+        handler.updateList(updated);
+        verifyListContent(generateAxiomsForList(updated), handler.loadList(updated));
     }
 
     @Test
@@ -61,10 +61,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -117,6 +120,10 @@ public class SimpleListHandlerTest {
             return null;
         }).when(connector).removeStatements(anyCollection());
 
+        // Load lists node by node using the mocked findStatements
+        lenient().when(connector.findListStatements(any(), any(), any(), any(), anyBoolean(), anySet()))
+                 .thenCallRealMethod();
+
         this.handler = new SimpleListHandler(connector, vf);
     }
 
@@ -145,6 +152,29 @@ public class SimpleListHandlerTest {
         }
     }
 
+    @Test
+    public void loadListRetrievesStatementsOfWholeListInSingleConnectorCall() throws Exception {
+        final List<NamedResource> simpleList = generateList();
+        final List<Statement> statements = new ArrayList<>();
+        Resource subject = owner;
+        for (NamedResource elem : simpleList) {
+            final Resource value = vf.createIRI(elem.toString());
+            statements.add(vf.createStatement(subject, subject == owner ? hasListProperty : nextNodeProperty, value));
+            subject = value;
+        }
+        Collections.shuffle(statements);
+        doReturn(statements).when(connector)
+                            .findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                                    Collections.emptySet());
+
+        final List<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
+        assertEquals(simpleList.size(), res.size());
+        for (int i = 0; i < simpleList.size(); i++) {
+            assertEquals(simpleList.get(i), res.get(i).getValue().getValue());
+        }
+        verify(connector, never()).findStatements(any(Resource.class), any(), any(), anyBoolean(), anySet());
+    }
+
     private List<Statement> initStatementsForList(List<NamedResource> simpleList)
             throws Rdf4jDriverException {
         Resource subject = owner;
@@ -164,8 +194,8 @@ public class SimpleListHandlerTest {
     @Test
     public void throwsICViolationExceptionWhenMultipleHasListValuesFound() throws Exception {
         final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
+        stmts.add(vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "one")));
+        stmts.add(vf.createStatement(owner, hasListProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "two")));
         when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet())).thenReturn(stmts);
 
         assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(listDescriptor));
@@ -176,10 +206,10 @@ public class SimpleListHandlerTest {
 
     @Test
     public void throwsICViolationExceptionWhenMultipleNodeSuccessorsAreFound() throws Exception {
-        final Collection<Statement> stmts = new HashSet<>();
-        stmts.add(mock(Statement.class));
-        stmts.add(mock(Statement.class));
         final Resource firstElem = vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "firstElem");
+        final Collection<Statement> stmts = new HashSet<>();
+        stmts.add(vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "one")));
+        stmts.add(vf.createStatement(firstElem, nextNodeProperty, vf.createIRI(Vocabulary.INDIVIDUAL_IRI_BASE + "two")));
         final Statement firstStmt = vf.createStatement(owner, hasListProperty, firstElem);
 
         when(connector.findStatements(owner, hasListProperty, null, false, Collections.emptySet()))
@@ -270,7 +300,10 @@ public class SimpleListHandlerTest {
     @Test
     public void updateListAddsNewValuesToTheEnd() throws Exception {
         final SimpleListValueDescriptor descriptor = initValues(0);
-        final SimpleListValueDescriptor tempDesc = initValues(8);
+        final SimpleListValueDescriptor tempDesc = initValues(0);
+        for (int i = 0; i < 8; i++) {
+            tempDesc.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "appended" + i));
+        }
         final List<NamedResource> simpleList = generateList();
         initStatementsForList(simpleList);
         // The original items
@@ -343,4 +376,22 @@ public class SimpleListHandlerTest {
             }
         }
     }
+
+    @Test
+    public void updateListWithPrependedElementReplacesOnlyListHeadInSingleBatch() throws Exception {
+        final SimpleListValueDescriptor descriptor = initValues(0);
+        final List<NamedResource> simpleList = generateList();
+        final List<Statement> original = initStatementsForList(simpleList);
+        final NamedResource prepended = NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "prepended");
+        descriptor.addValue(prepended);
+        simpleList.forEach(descriptor::addValue);
+
+        handler.updateList(descriptor);
+        final IRI prependedIri = vf.createIRI(prepended.getIdentifier().toString());
+        verify(connector).removeStatements(anyCollection());
+        verify(connector).addStatements(anyCollection());
+        assertEquals(Collections.singletonList(original.get(0)), removed);
+        assertEquals(List.of(vf.createStatement(owner, hasListProperty, prependedIri),
+                vf.createStatement(prependedIri, nextNodeProperty, original.get(0).getObject())), added);
+    }
 }
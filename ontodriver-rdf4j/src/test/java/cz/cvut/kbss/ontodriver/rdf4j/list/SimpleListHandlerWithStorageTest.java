@@ -150,6 +150,20 @@ public class SimpleListHandlerWithStorageTest extends ListHandlerWithStorageTest
         verifyListContent(axioms, sut.loadList(descriptor));
     }
 
+    @Test
+    public void loadListReflectsUncommittedChangesOfTheList() throws Exception {
+        final SimpleListValueDescriptor original = persistOriginalList();
+
+        final SimpleListValueDescriptor updated = initValues(0);
+        updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Prepended"));
+        for (int i = 0; i < original.getValues().size(); i += 2) {
+            updated.addValue(original.getValues().get(i));
+        }
+        updated.addValue(NamedResource.create(Vocabulary.INDIVIDUAL_IRI_BASE + "Appended"));
+        sut.updateList(updated);
+        verifyListContent(generateAxiomsForList(updated), sut.loadList(updated));
+    }
+
     @Test
     public void updatesListByRemovingSeveralValuesFromTheEnd() throws Exception {
         final SimpleListValueDescriptor original = persistOriginalList();